@@ -1,11 +1,14 @@
 package ua.foxminded.schoolapp.cli;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.CourseSummary;
 import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.GroupStudentsCount;
+import ua.foxminded.schoolapp.dto.GroupSummary;
+import ua.foxminded.schoolapp.dto.StudentCoursesSummary;
 import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.dto.StudentSummary;
 
 /**
  * The SchoolView interface defines the contract for displaying information and
@@ -75,37 +78,37 @@ public interface SchoolView {
     /**
      * Displays groups to the console.
      *
-     * @param groups a list of group objects to be displayed
+     * @param groups a list of group summaries to be displayed
      */
-    void displayGroups(List<GroupDto> groups);
+    void displayGroups(List<GroupSummary> groups);
 
     /**
      * Displays groups with their corresponding number of students.
      *
-     * @param groupsWithTheirNumberOfStudents a map of groups with their number of
-     *                                        students
+     * @param groupsWithTheirNumberOfStudents a list of groups with their number
+     *                                        of students
      */
-    void displayGroupsWithTheirNumberOfStudents(Map<GroupDto, Integer> groupsWithTheirNumberOfStudents);
+    void displayGroupsWithTheirNumberOfStudents(List<GroupStudentsCount> groupsWithTheirNumberOfStudents);
 
     /**
      * Displays students with their groups.
      *
-     * @param studentsWithTheirGroups a map of students with their groups
+     * @param studentsWithTheirGroups a list of students with their groups
      */
-    void displayStudentsWithTheirGroups(Map<StudentDto, GroupDto> studentsWithTheirGroups);
+    void displayStudentsWithTheirGroups(List<StudentSummary> studentsWithTheirGroups);
 
     /**
      * Displays students with their corresponding courses.
      *
-     * @param studentsWithTheirCourses a map of students with their courses
+     * @param studentsWithTheirCourses a list of students with their courses
      */
-    void displayStudentsWithTheirCourses(Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses);
+    void displayStudentsWithTheirCourses(List<StudentCoursesSummary> studentsWithTheirCourses);
 
     /**
      * Displays a list of courses.
      *
-     * @param courses a list of courses
+     * @param courses a list of course summaries
      */
-    void displayCourses(List<CourseDto> courses);
+    void displayCourses(List<CourseSummary> courses);
 
 }
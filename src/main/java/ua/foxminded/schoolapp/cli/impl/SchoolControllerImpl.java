@@ -1,13 +1,18 @@
 package ua.foxminded.schoolapp.cli.impl;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
-import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import org.springframework.stereotype.Controller;
 import ua.foxminded.schoolapp.cli.SchoolController;
 import ua.foxminded.schoolapp.cli.SchoolView;
 import ua.foxminded.schoolapp.dto.CourseDto;
 import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.GroupStudentsCount;
+import ua.foxminded.schoolapp.dto.KeysetPage;
+import ua.foxminded.schoolapp.dto.KeysetPageRequest;
+import ua.foxminded.schoolapp.dto.StudentCoursesSummary;
 import ua.foxminded.schoolapp.dto.StudentDto;
 import ua.foxminded.schoolapp.service.logic.ServiceFacade;
 
@@ -29,6 +34,10 @@ import ua.foxminded.schoolapp.service.logic.ServiceFacade;
  * students, adding or deleting students, managing courses, and more. The user
  * can input their choice by entering a corresponding number, and the
  * application will perform the requested action accordingly.
+ * <p>
+ * Students, groups and courses are listed one page of {@value #PAGE_SIZE}
+ * items at a time, and the user can move to the next or the previous page
+ * before entering the data of the selected action.
  *
  * @author Serhii Bohdan
  */
@@ -45,6 +54,21 @@ public class SchoolControllerImpl implements SchoolController {
      */
     private static final String NON_BREAKING_SPACE = "\u00A0";
 
+    /**
+     * The number of items shown on one page of a listing.
+     */
+    private static final int PAGE_SIZE = 20;
+
+    /**
+     * The answer of the user that opens the next page of a listing.
+     */
+    private static final String NEXT_PAGE = "N";
+
+    /**
+     * The answer of the user that opens the previous page of a listing.
+     */
+    private static final String PREVIOUS_PAGE = "P";
+
     private final ServiceFacade serviceFacade;
     private final SchoolView view;
 
@@ -107,7 +131,7 @@ public class SchoolControllerImpl implements SchoolController {
     private void findAllGroupsWithLessOrEqualStudentsNumber() {
         view.printMessage(NEW_LINE + "You want to know groups with a given and smaller number of students.");
         int numberOfStudents = view.getIntNumberFromUser(NEW_LINE + "Enter the number of students:" + NON_BREAKING_SPACE);
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = serviceFacade.getGroupsWithGivenNumberOfStudents(numberOfStudents);
+        List<GroupStudentsCount> groupsWithTheirNumberOfStudents = serviceFacade.getGroupsWithGivenNumberOfStudents(numberOfStudents);
 
         if (Objects.isNull(groupsWithTheirNumberOfStudents)) {
             view.printMessage("""
@@ -122,9 +146,9 @@ public class SchoolControllerImpl implements SchoolController {
 
     private void findAllStudentsRelatedToCourseWithGivenName() {
         view.printMessage(NEW_LINE + "You want to know the list of students related to the course. All available courses:");
-        view.displayCourses(serviceFacade.getAllCourses());
+        browsePages(serviceFacade::getCoursesPage, view::displayCourses);
         String courseName = view.getSentenceFromUser(NEW_LINE + "Enter the name of the course:" + NON_BREAKING_SPACE);
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = serviceFacade.getStudentsWithCoursesByCourseName(courseName);
+        List<StudentCoursesSummary> studentsWithTheirCourses = serviceFacade.getStudentsWithCoursesByCourseName(courseName);
 
         if (Objects.isNull(studentsWithTheirCourses)) {
             view.printMessage("A course with that name does not exist." + NEW_LINE);
@@ -137,7 +161,7 @@ public class SchoolControllerImpl implements SchoolController {
 
     private void addStudentToCourse() {
         view.printMessage(NEW_LINE + "You want to add a student (from the list) to the course." + NEW_LINE);
-        view.displayStudentsWithTheirCourses(serviceFacade.getAllStudentsWithTheirCourses());
+        browsePages(serviceFacade::getStudentsWithTheirCoursesPage, view::displayStudentsWithTheirCourses);
         String firstName = view.getSentenceFromUser(NEW_LINE + "Enter the student's first name:" + NON_BREAKING_SPACE);
         String lastName = view.getSentenceFromUser("Enter the student's last name:" + NON_BREAKING_SPACE);
         String courseName = view.getSentenceFromUser("Enter the name of the course:" + NON_BREAKING_SPACE);
@@ -156,7 +180,7 @@ public class SchoolControllerImpl implements SchoolController {
 
     private void deleteStudentFromOneOfTheirCourses() {
         view.printMessage(NEW_LINE + "You want to delete a student from a course." + NEW_LINE);
-        view.displayStudentsWithTheirCourses(serviceFacade.getAllStudentsWithTheirCourses());
+        browsePages(serviceFacade::getStudentsWithTheirCoursesPage, view::displayStudentsWithTheirCourses);
         String firstName = view.getSentenceFromUser(NEW_LINE + "Enter the student's first name:" + NON_BREAKING_SPACE);
         String lastName = view.getSentenceFromUser("Enter the student's last name:" + NON_BREAKING_SPACE);
         String courseName = view.getSentenceFromUser("Enter the name of the course:" + NON_BREAKING_SPACE);
@@ -175,7 +199,7 @@ public class SchoolControllerImpl implements SchoolController {
 
     private void addNewGroup() {
         view.printMessage(NEW_LINE + "You want to add a new group. All available groups:");
-        view.displayGroups(serviceFacade.getAllGroups());
+        browsePages(serviceFacade::getGroupsPage, view::displayGroups);
         String groupName = view.getSentenceFromUser(NEW_LINE + "Enter a name for the new group:" + NON_BREAKING_SPACE);
         boolean groupIsAdded = serviceFacade.addNewGroup(groupName);
 
@@ -191,7 +215,7 @@ public class SchoolControllerImpl implements SchoolController {
 
     private void updateGroupInfo() {
         view.printMessage(NEW_LINE + "You want to update the group information. All available groups:");
-        view.displayGroups(serviceFacade.getAllGroups());
+        browsePages(serviceFacade::getGroupsPage, view::displayGroups);
         String groupNameToUpdate = view
                 .getSentenceFromUser(NEW_LINE + "Enter the name of the group you want to update:" + NON_BREAKING_SPACE);
         String newGroupName = view.getSentenceFromUser("Enter a new group name:" + NON_BREAKING_SPACE);
@@ -210,7 +234,7 @@ public class SchoolControllerImpl implements SchoolController {
 
     private void deleteGroup() {
         view.printMessage(NEW_LINE + "You want to delete a group by its name. All available groups:");
-        view.displayGroups(serviceFacade.getAllGroups());
+        browsePages(serviceFacade::getGroupsPage, view::displayGroups);
         String groupName = view.getSentenceFromUser(NEW_LINE + "Enter the name of the group you want to delete:" + NON_BREAKING_SPACE);
         GroupDto group = serviceFacade.getGroupByName(groupName);
 
@@ -233,7 +257,7 @@ public class SchoolControllerImpl implements SchoolController {
 
     private void addNewStudent() {
         view.printMessage(NEW_LINE + "You want to add a new student. All available groups:");
-        view.displayGroups(serviceFacade.getAllGroups());
+        browsePages(serviceFacade::getGroupsPage, view::displayGroups);
         String firstName = view.getSentenceFromUser(NEW_LINE + "Enter the student's first name:" + NON_BREAKING_SPACE);
         String lastName = view.getSentenceFromUser("Enter the student's last name:" + NON_BREAKING_SPACE);
         String groupName = view.getSentenceFromUser(
@@ -253,8 +277,7 @@ public class SchoolControllerImpl implements SchoolController {
 
     private void updateStudentInfo() {
         view.printMessage(NEW_LINE + "You want to update the student information. All available students with their groups:");
-        Map<StudentDto, GroupDto> studentsWithTheirGroups = serviceFacade.getAllStudentsWithTheirGroups();
-        view.displayStudentsWithTheirGroups(studentsWithTheirGroups);
+        browsePages(serviceFacade::getStudentsWithTheirGroupsPage, view::displayStudentsWithTheirGroups);
         String studentFirstNameToUpdate = view.getSentenceFromUser(NEW_LINE
                 + "Enter the fitst name of the student whose information you want to update:" + NON_BREAKING_SPACE);
         String studentLastNameToUpdate = view.getSentenceFromUser(
@@ -301,7 +324,7 @@ public class SchoolControllerImpl implements SchoolController {
 
     private void addNewCourse() {
         view.printMessage(NEW_LINE + "You want to add a new course. All available courses:");
-        view.displayCourses(serviceFacade.getAllCourses());
+        browsePages(serviceFacade::getCoursesPage, view::displayCourses);
         String courseName = view.getSentenceFromUser(NEW_LINE + "Enter a name for the new course:" + NON_BREAKING_SPACE);
         String description = view.getSentenceFromUser("Enter a description for the new course:" + NON_BREAKING_SPACE);
         boolean newCourseIsAdded = serviceFacade.addNewCourse(courseName, description);
@@ -318,7 +341,7 @@ public class SchoolControllerImpl implements SchoolController {
 
     private void updateCourseInfo() {
         view.printMessage(NEW_LINE + "You want to update the course information. All available courses:");
-        view.displayCourses(serviceFacade.getAllCourses());
+        browsePages(serviceFacade::getCoursesPage, view::displayCourses);
         String courseNameToUpdate = view.getSentenceFromUser(NEW_LINE + "Enter the name of the course you want to update:" + NON_BREAKING_SPACE);
         String newCourseName = view.getSentenceFromUser("Enter a new course name:" + NON_BREAKING_SPACE);
         String newDescription = view.getSentenceFromUser("Enter a new course description:" + NON_BREAKING_SPACE);
@@ -337,7 +360,7 @@ public class SchoolControllerImpl implements SchoolController {
 
     private void deleteCourseByName() {
         view.printMessage(NEW_LINE + "You want to delete the course by its name. All available courses:");
-        view.displayCourses(serviceFacade.getAllCourses());
+        browsePages(serviceFacade::getCoursesPage, view::displayCourses);
         String courseName = view.getSentenceFromUser(
                 NEW_LINE + "Enter the name of the course you want to delete:" + NON_BREAKING_SPACE);
         CourseDto course = serviceFacade.getCourseByName(courseName);
@@ -359,4 +382,26 @@ public class SchoolControllerImpl implements SchoolController {
         }
     }
 
+    private <T> void browsePages(Function<KeysetPageRequest, KeysetPage<T>> pageLoader,
+            Consumer<List<T>> pageDisplay) {
+        KeysetPage<T> page = pageLoader.apply(KeysetPageRequest.first(PAGE_SIZE));
+        pageDisplay.accept(page.items());
+        boolean isBrowsing = page.hasPrevious() || page.hasNext();
+
+        while (isBrowsing) {
+            String answer = view.getSentenceFromUser(NEW_LINE + "Enter " + NEXT_PAGE + " for the next page, "
+                    + PREVIOUS_PAGE + " for the previous page or anything else to continue:" + NON_BREAKING_SPACE);
+
+            if (NEXT_PAGE.equalsIgnoreCase(answer) && page.hasNext()) {
+                page = pageLoader.apply(page.nextPageRequest());
+                pageDisplay.accept(page.items());
+            } else if (PREVIOUS_PAGE.equalsIgnoreCase(answer) && page.hasPrevious()) {
+                page = pageLoader.apply(page.previousPageRequest());
+                pageDisplay.accept(page.items());
+            } else {
+                isBrowsing = false;
+            }
+        }
+    }
+
 }
@@ -1,18 +1,21 @@
 package ua.foxminded.schoolapp.cli.impl;
 
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.springframework.stereotype.Component;
 import java.util.ArrayList;
 import java.util.Comparator;
 import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.CourseSummary;
 import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.GroupStudentsCount;
+import ua.foxminded.schoolapp.dto.GroupSummary;
+import ua.foxminded.schoolapp.dto.StudentCoursesSummary;
 import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.dto.StudentSummary;
 import ua.foxminded.schoolapp.cli.SchoolView;
 
 /**
@@ -144,12 +147,12 @@ public class SchoolViewImpl implements SchoolView {
      * {@inheritDoc}
      */
     @Override
-    public void displayGroups(List<GroupDto> groups) {
+    public void displayGroups(List<GroupSummary> groups) {
         StringBuilder formattedGroups = new StringBuilder();
         String lineBetweenRows = "";
 
-        for (GroupDto group : groups) {
-            String tableRow = String.format("| %s |", group.getGroupName());
+        for (GroupSummary group : groups) {
+            String tableRow = String.format("| %s |", group.groupName());
             String lineBetweenRowsWithoutPluses = makeCharacterSequence(tableRow.length(), '-');
             lineBetweenRows = formatLineWithPluses(lineBetweenRowsWithoutPluses, 0);
             tableRow = String.format(NEW_LINE + "%-23s%s", "", tableRow);
@@ -166,15 +169,15 @@ public class SchoolViewImpl implements SchoolView {
      * {@inheritDoc}
      */
     @Override
-    public void displayGroupsWithTheirNumberOfStudents(Map<GroupDto, Integer> groupsWithTheirNumberOfStudents) {
+    public void displayGroupsWithTheirNumberOfStudents(List<GroupStudentsCount> groupsWithTheirNumberOfStudents) {
         StringBuilder formattedGroups = new StringBuilder("Groups with their number of students:");
         List<String> groupNames = new ArrayList<>();
         List<String> numberOfStudentsInGroups = new ArrayList<>();
         String lineBetweenRows = "";
 
-        for (Map.Entry<GroupDto, Integer> entry : groupsWithTheirNumberOfStudents.entrySet()) {
-            groupNames.add(entry.getKey().getGroupName());
-            numberOfStudentsInGroups.add(entry.getValue().toString());
+        for (GroupStudentsCount groupStudentsCount : groupsWithTheirNumberOfStudents) {
+            groupNames.add(groupStudentsCount.groupName());
+            numberOfStudentsInGroups.add(String.valueOf(groupStudentsCount.studentsCount()));
         }
 
         String maxStudentsNumber = getStringWithMaxLength(numberOfStudentsInGroups);
@@ -201,15 +204,15 @@ public class SchoolViewImpl implements SchoolView {
      * {@inheritDoc}
      */
     @Override
-    public void displayStudentsWithTheirGroups(Map<StudentDto, GroupDto> studentsWithTheirGroups) {
+    public void displayStudentsWithTheirGroups(List<StudentSummary> studentsWithTheirGroups) {
         StringBuilder formattedStudentsWithGroups = new StringBuilder();
         List<String> studentsFullNames = new ArrayList<>();
         List<String> groupNames = new ArrayList<>();
         String lineBetweenRows = "";
 
-        for (Map.Entry<StudentDto, GroupDto> entry : studentsWithTheirGroups.entrySet()) {
-            studentsFullNames.add(getStudentFullName(entry.getKey()));
-            groupNames.add(entry.getValue().getGroupName());
+        for (StudentSummary student : studentsWithTheirGroups) {
+            studentsFullNames.add(getStudentFullName(student.firstName(), student.lastName()));
+            groupNames.add(student.groupName());
         }
 
         String maxStudentFullName = getStringWithMaxLength(studentsFullNames);
@@ -236,15 +239,15 @@ public class SchoolViewImpl implements SchoolView {
      * {@inheritDoc}
      */
     @Override
-    public void displayStudentsWithTheirCourses(Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses) {
+    public void displayStudentsWithTheirCourses(List<StudentCoursesSummary> studentsWithTheirCourses) {
         StringBuilder formattedStudents = new StringBuilder("Students with their courses:");
         List<String> studentsFullNames = new ArrayList<>();
         List<String> coursesNamesEnumerationForEachStudent = new ArrayList<>();
         String lineBetweenRows = "";
 
-        for (Map.Entry<StudentDto, Set<CourseDto>> entry : studentsWithTheirCourses.entrySet()) {
-            studentsFullNames.add(getStudentFullName(entry.getKey()));
-            coursesNamesEnumerationForEachStudent.add(getCoursesEnumeration(entry.getValue()));
+        for (StudentCoursesSummary student : studentsWithTheirCourses) {
+            studentsFullNames.add(getStudentFullName(student.firstName(), student.lastName()));
+            coursesNamesEnumerationForEachStudent.add(getCoursesEnumeration(student.courses()));
         }
 
         String maxStudentFullName = getStringWithMaxLength(studentsFullNames);
@@ -274,19 +277,19 @@ public class SchoolViewImpl implements SchoolView {
      * {@inheritDoc}
      */
     @Override
-    public void displayCourses(List<CourseDto> coursesDtos) {
+    public void displayCourses(List<CourseSummary> courses) {
         StringBuilder formattedCourses = new StringBuilder();
         String lineBetweenRows = "";
-        String maxCourseName = getMaxCousrse("Name", coursesDtos);
-        String maxCourseDescription = getMaxCousrse("Description", coursesDtos);
+        String maxCourseName = getMaxCousrse("Name", courses);
+        String maxCourseDescription = getMaxCousrse("Description", courses);
 
-        for (CourseDto courseDto : coursesDtos) {
+        for (CourseSummary course : courses) {
             String spacesAfterCourseName = makeCharacterSequence(
-                    maxCourseName.length() - courseDto.getCourseName().length(), ' ');
+                    maxCourseName.length() - course.courseName().length(), ' ');
             String spacesAfterCourseDescription = makeCharacterSequence(
-                    maxCourseDescription.length() - courseDto.getDescription().length(), ' ');
-            String tableRow = String.format(NEW_LINE + "| %s%s | %s%s |", courseDto.getCourseName(),
-                    spacesAfterCourseName, courseDto.getDescription(), spacesAfterCourseDescription);
+                    maxCourseDescription.length() - course.description().length(), ' ');
+            String tableRow = String.format(NEW_LINE + "| %s%s | %s%s |", course.courseName(),
+                    spacesAfterCourseName, course.description(), spacesAfterCourseDescription);
             String lineBetweenRowsWithoutPluses = makeCharacterSequence(tableRow.length() - 1, '-');
             lineBetweenRows = NEW_LINE + formatLineWithPluses(lineBetweenRowsWithoutPluses, 3 + maxCourseName.length());
             formattedCourses.append(tableRow);
@@ -322,13 +325,13 @@ public class SchoolViewImpl implements SchoolView {
         return String.valueOf(character).repeat(Math.max(0, count));
     }
 
-    private String getStudentFullName(StudentDto studentDto) {
-        return studentDto.getFirstName() + " " + studentDto.getLastName();
+    private String getStudentFullName(String firstName, String lastName) {
+        return firstName + " " + lastName;
     }
 
-    private String getCoursesEnumeration(Set<CourseDto> coursesForStudent) {
+    private String getCoursesEnumeration(List<CourseSummary> coursesForStudent) {
         return coursesForStudent.stream()
-                .map(CourseDto::getCourseName)
+                .map(CourseSummary::courseName)
                 .collect(Collectors.joining(", "));
     }
 
@@ -338,15 +341,15 @@ public class SchoolViewImpl implements SchoolView {
                 .orElse("");
     }
 
-    private String getMaxCousrse(String identifier, List<CourseDto> coursesDtos) {
+    private String getMaxCousrse(String identifier, List<CourseSummary> courses) {
         Stream<String> coursesNamesOrDescriptions = null;
 
         if ("Name".equals(identifier)) {
-            coursesNamesOrDescriptions = coursesDtos.stream()
-                    .map(CourseDto::getCourseName);
+            coursesNamesOrDescriptions = courses.stream()
+                    .map(CourseSummary::courseName);
         } else if ("Description".equals(identifier)) {
-            coursesNamesOrDescriptions = coursesDtos.stream()
-                    .map(CourseDto::getDescription);
+            coursesNamesOrDescriptions = courses.stream()
+                    .map(CourseSummary::description);
         } else {
             throw new RuntimeException("An instance of the Course type does not contain this field: " + identifier);
         }
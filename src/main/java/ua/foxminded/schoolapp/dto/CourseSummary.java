@@ -0,0 +1,15 @@
+package ua.foxminded.schoolapp.dto;
+
+/**
+ * The CourseSummary record is a flat, read-only view of a course for listings.
+ * Unlike {@link CourseDto}, it holds no references to entities, so it keeps no
+ * students reachable and cannot trigger lazy loading after the transaction
+ * ends.
+ *
+ * @param id          the ID of the course
+ * @param courseName  the name of the course
+ * @param description the description of the course
+ * @author Serhii Bohdan
+ */
+public record CourseSummary(Integer id, String courseName, String description) {
+}
@@ -0,0 +1,12 @@
+package ua.foxminded.schoolapp.dto;
+
+/**
+ * The Enrollment record is a row of the students_courses table, the enrollment
+ * of a student in a course by their IDs.
+ *
+ * @param studentId the ID of the student
+ * @param courseId  the ID of the course
+ * @author Serhii Bohdan
+ */
+public record Enrollment(Integer studentId, Integer courseId) {
+}
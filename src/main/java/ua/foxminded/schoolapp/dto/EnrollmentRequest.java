@@ -0,0 +1,24 @@
+package ua.foxminded.schoolapp.dto;
+
+/**
+ * The EnrollmentRequest record is one item of a command that adds many
+ * students to courses at once. The student and the course are given by their
+ * names.
+ *
+ * @param firstName  the first name of the student
+ * @param lastName   the last name of the student
+ * @param courseName the name of the course to add the student to
+ * @author Serhii Bohdan
+ */
+public record EnrollmentRequest(String firstName, String lastName, String courseName) {
+
+    /**
+     * Returns the full name of the student.
+     *
+     * @return the full name of the student
+     */
+    public StudentName studentName() {
+        return new StudentName(firstName, lastName);
+    }
+
+}
@@ -0,0 +1,59 @@
+package ua.foxminded.schoolapp.dto;
+
+/**
+ * The EnrollmentValidation record holds the result of validating a command that
+ * adds a student to a course or deletes them from it. All of its rules depend
+ * on the database and are checked by a single query, which finds the IDs of the
+ * student and the course by their names and whether the student is enrolled in
+ * the course.
+ *
+ * @param studentId       the ID of the student with the given full name, or
+ *                        {@code null} if there is no such student
+ * @param courseId        the ID of the course with the given name, or
+ *                        {@code null} if there is no such course
+ * @param studentOnCourse whether the student is enrolled in the course
+ * @author Serhii Bohdan
+ */
+public record EnrollmentValidation(Integer studentId, Integer courseId, boolean studentOnCourse) {
+
+    /**
+     * Checks whether a student with the given full name exists.
+     *
+     * @return {@code true} if the student exists, {@code false} otherwise
+     */
+    public boolean studentExists() {
+        return studentId != null;
+    }
+
+    /**
+     * Checks whether a course with the given name exists.
+     *
+     * @return {@code true} if the course exists, {@code false} otherwise
+     */
+    public boolean courseExists() {
+        return courseId != null;
+    }
+
+    /**
+     * Checks whether the student can be added to the course, that is whether both
+     * exist and the student is not enrolled in the course yet.
+     *
+     * @return {@code true} if the student can be added to the course,
+     *         {@code false} otherwise
+     */
+    public boolean canAddStudentToCourse() {
+        return studentExists() && courseExists() && !studentOnCourse;
+    }
+
+    /**
+     * Checks whether the student can be deleted from the course, that is whether
+     * both exist and the student is enrolled in the course.
+     *
+     * @return {@code true} if the student can be deleted from the course,
+     *         {@code false} otherwise
+     */
+    public boolean canDeleteStudentFromCourse() {
+        return studentExists() && courseExists() && studentOnCourse;
+    }
+
+}
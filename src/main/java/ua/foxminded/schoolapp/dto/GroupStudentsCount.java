@@ -0,0 +1,14 @@
+package ua.foxminded.schoolapp.dto;
+
+/**
+ * The GroupStudentsCount record is a read-only projection of a group together
+ * with the number of students in it. It is filled directly by an aggregate
+ * query, so neither the group entity nor its students are loaded.
+ *
+ * @param id            the ID of the group
+ * @param groupName     the name of the group
+ * @param studentsCount the number of students in the group
+ * @author Serhii Bohdan
+ */
+public record GroupStudentsCount(Integer id, String groupName, long studentsCount) {
+}
@@ -0,0 +1,14 @@
+package ua.foxminded.schoolapp.dto;
+
+/**
+ * The GroupSummary record is a flat, read-only view of a group for listings.
+ * Unlike {@link GroupDto}, it holds no references to entities, so it keeps no
+ * students reachable and cannot trigger lazy loading after the transaction
+ * ends.
+ *
+ * @param id        the ID of the group
+ * @param groupName the name of the group
+ * @author Serhii Bohdan
+ */
+public record GroupSummary(Integer id, String groupName) {
+}
@@ -0,0 +1,48 @@
+package ua.foxminded.schoolapp.dto;
+
+import java.util.List;
+
+/**
+ * The KeysetPage record is one page of items ordered by their ID, such as
+ * students with their group, students with their courses, groups or courses.
+ *
+ * @param <T>         the type of the items of the page
+ * @param items       the items of the page, in the order of their IDs
+ * @param request     the request the page was loaded with
+ * @param firstId     the ID of the first item of the page, or {@code null} if
+ *                    the page is empty
+ * @param lastId      the ID of the last item of the page, or {@code null} if
+ *                    the page is empty
+ * @param hasPrevious whether there are items before the page
+ * @param hasNext     whether there are items after the page
+ * @author Serhii Bohdan
+ */
+public record KeysetPage<T>(List<T> items, KeysetPageRequest request, Integer firstId, Integer lastId,
+        boolean hasPrevious, boolean hasNext) {
+
+    /**
+     * Constructs a KeysetPage with an unmodifiable copy of the given items.
+     */
+    public KeysetPage {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * Creates a request for the page that follows this page.
+     *
+     * @return the request for the next page
+     */
+    public KeysetPageRequest nextPageRequest() {
+        return new KeysetPageRequest(lastId != null ? lastId : request.id(), false, request.size());
+    }
+
+    /**
+     * Creates a request for the page that precedes this page.
+     *
+     * @return the request for the previous page
+     */
+    public KeysetPageRequest previousPageRequest() {
+        return new KeysetPageRequest(firstId != null ? firstId : request.id(), true, request.size());
+    }
+
+}
@@ -0,0 +1,40 @@
+package ua.foxminded.schoolapp.dto;
+
+/**
+ * The KeysetPageRequest record describes a page of items to load with keyset
+ * pagination. Items are ordered by their ID, and a page is located relative to
+ * the ID of an item instead of an offset, so loading any page costs the same
+ * no matter how many items come before it.
+ *
+ * @param id       the ID of the item the page starts after, or ends before
+ *                 when the request is backward; {@code null} for the first
+ *                 page, or for the last page when the request is backward
+ * @param backward {@code true} to load the items before the given ID,
+ *                 {@code false} to load the items after it
+ * @param size     the maximum number of items on the page
+ * @author Serhii Bohdan
+ */
+public record KeysetPageRequest(Integer id, boolean backward, int size) {
+
+    /**
+     * Constructs a KeysetPageRequest and checks the page size.
+     *
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public KeysetPageRequest {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The page size must be positive, but was " + size + ".");
+        }
+    }
+
+    /**
+     * Creates a request for the first page of items.
+     *
+     * @param size the maximum number of items on the page
+     * @return the request for the first page
+     */
+    public static KeysetPageRequest first(int size) {
+        return new KeysetPageRequest(null, false, size);
+    }
+
+}
@@ -0,0 +1,26 @@
+package ua.foxminded.schoolapp.dto;
+
+import java.util.List;
+
+/**
+ * The StudentCoursesSummary record is a flat, read-only view of a student with
+ * their courses. Unlike {@link StudentDto}, it holds no references to
+ * entities, so it cannot trigger lazy loading after the transaction ends.
+ *
+ * @param id        the ID of the student
+ * @param firstName the first name of the student
+ * @param lastName  the last name of the student
+ * @param courses   the courses of the student, ordered by their names
+ * @author Serhii Bohdan
+ */
+public record StudentCoursesSummary(Integer id, String firstName, String lastName, List<CourseSummary> courses) {
+
+    /**
+     * Constructs a StudentCoursesSummary with an unmodifiable copy of the given
+     * courses.
+     */
+    public StudentCoursesSummary {
+        courses = List.copyOf(courses);
+    }
+
+}
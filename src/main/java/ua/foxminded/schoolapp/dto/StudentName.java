@@ -0,0 +1,13 @@
+package ua.foxminded.schoolapp.dto;
+
+/**
+ * The StudentName record holds the full name of a student, which identifies
+ * the student among all others. It is used as a key when many students are
+ * looked up by their names at once.
+ *
+ * @param firstName the first name of the student
+ * @param lastName  the last name of the student
+ * @author Serhii Bohdan
+ */
+public record StudentName(String firstName, String lastName) {
+}
@@ -0,0 +1,23 @@
+package ua.foxminded.schoolapp.dto;
+
+/**
+ * The StudentRequest record is one item of a command that adds many new
+ * students at once.
+ *
+ * @param firstName the first name of the new student
+ * @param lastName  the last name of the new student
+ * @param groupName the name of the group of the new student
+ * @author Serhii Bohdan
+ */
+public record StudentRequest(String firstName, String lastName, String groupName) {
+
+    /**
+     * Returns the full name of the new student.
+     *
+     * @return the full name of the new student
+     */
+    public StudentName studentName() {
+        return new StudentName(firstName, lastName);
+    }
+
+}
@@ -0,0 +1,19 @@
+package ua.foxminded.schoolapp.dto;
+
+/**
+ * The StudentSummary record is a flat, read-only view of a student with the ID
+ * and the name of their group. Unlike {@link StudentDto}, it holds no
+ * references to entities, so it cannot trigger lazy loading after the
+ * transaction ends.
+ *
+ * @param id        the ID of the student
+ * @param firstName the first name of the student
+ * @param lastName  the last name of the student
+ * @param groupId   the ID of the group of the student, or {@code null} if the
+ *                  student has no group
+ * @param groupName the name of the group of the student, or {@code null} if
+ *                  the student has no group
+ * @author Serhii Bohdan
+ */
+public record StudentSummary(Integer id, String firstName, String lastName, Integer groupId, String groupName) {
+}
@@ -0,0 +1,39 @@
+package ua.foxminded.schoolapp.dto;
+
+import ua.foxminded.schoolapp.model.Group;
+
+/**
+ * The StudentValidation record holds the result of validating a command that
+ * adds or updates a student. The lengths of the names are checked in memory,
+ * and the group is looked up by its name through the natural ID cache, which is
+ * the only rule that may reach the database. Whether the full name is taken is
+ * left to the unique constraint of the students table.
+ *
+ * @param firstNameLengthIsValid whether the length of the first name is valid
+ * @param lastNameLengthIsValid  whether the length of the last name is valid
+ * @param group                  the group with the given name, or {@code null}
+ *                               if there is no such group
+ * @author Serhii Bohdan
+ */
+public record StudentValidation(boolean firstNameLengthIsValid, boolean lastNameLengthIsValid, Group group) {
+
+    /**
+     * Checks whether a group with the given name exists.
+     *
+     * @return {@code true} if the group exists, {@code false} otherwise
+     */
+    public boolean groupExists() {
+        return group != null;
+    }
+
+    /**
+     * Checks whether all rules of the validation passed.
+     *
+     * @return {@code true} if the student can be added or updated, {@code false}
+     *         otherwise
+     */
+    public boolean isValid() {
+        return firstNameLengthIsValid && lastNameLengthIsValid && groupExists();
+    }
+
+}
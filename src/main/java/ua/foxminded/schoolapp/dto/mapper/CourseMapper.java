@@ -1,21 +1,20 @@
 package ua.foxminded.schoolapp.dto.mapper;
 
-import org.modelmapper.ModelMapper;
 import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.CourseSummary;
 import ua.foxminded.schoolapp.model.Course;
 
 /**
  * The CourseMapper class is responsible for mapping between {@link Course} and
- * {@link CourseDto} objects. It uses the {@link ModelMapper} library to perform
- * the mapping.
+ * {@link CourseDto} objects. The fields are copied by plain getter and setter
+ * calls, without any reflection, and the students of a course are passed by
+ * reference, so a lazy collection is not loaded by the mapping.
  * </p>
  *
  * @author Serhii Bohdan
  */
 public class CourseMapper {
 
-    private static final ModelMapper MODEL_MAPPER = new ModelMapper();
-
     private CourseMapper() {
     }
 
@@ -24,9 +23,14 @@ public class CourseMapper {
      *
      * @param course the Course object to map
      * @return the mapped CourseDto object
+     * @throws IllegalArgumentException if the course is null
      */
     public static CourseDto mapCourseToDto(Course course) {
-        return MODEL_MAPPER.map(course, CourseDto.class);
+        checkSource(course);
+        CourseDto courseDto = new CourseDto(course.getCourseName(), course.getDescription());
+        courseDto.setId(course.getId());
+        courseDto.setStudents(course.getStudents());
+        return courseDto;
     }
 
     /**
@@ -34,9 +38,32 @@ public class CourseMapper {
      *
      * @param courseDto the CourseDto object to map
      * @return the mapped Course object
+     * @throws IllegalArgumentException if the course Dto is null
      */
     public static Course mapDtoToCourse(CourseDto courseDto) {
-        return MODEL_MAPPER.map(courseDto, Course.class);
+        checkSource(courseDto);
+        Course course = new Course(courseDto.getCourseName(), courseDto.getDescription());
+        course.setId(courseDto.getId());
+        return course;
+    }
+
+    /**
+     * Maps a {@link Course} object to a flat {@link CourseSummary} record. The
+     * students of the course are not read, so they are not loaded.
+     *
+     * @param course the Course object to map
+     * @return the mapped CourseSummary record
+     * @throws IllegalArgumentException if the course is null
+     */
+    public static CourseSummary mapCourseToSummary(Course course) {
+        checkSource(course);
+        return new CourseSummary(course.getId(), course.getCourseName(), course.getDescription());
+    }
+
+    private static void checkSource(Object source) {
+        if (source == null) {
+            throw new IllegalArgumentException("The course to map must not be null.");
+        }
     }
 
 }
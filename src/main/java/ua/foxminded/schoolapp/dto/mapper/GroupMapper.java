@@ -1,21 +1,20 @@
 package ua.foxminded.schoolapp.dto.mapper;
 
-import org.modelmapper.ModelMapper;
 import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.GroupSummary;
 import ua.foxminded.schoolapp.model.Group;
 
 /**
  * The GroupMapper class is responsible for mapping between {@link Group} and
- * {@link GroupDto} objects. It uses the {@link ModelMapper} library to perform
- * the mapping.
+ * {@link GroupDto} objects. The fields are copied by plain getter and setter
+ * calls, without any reflection, and the students of a group are passed by
+ * reference, so a lazy collection is not loaded by the mapping.
  * </p>
  *
  * @author Serhii Bohdan
  */
 public class GroupMapper {
 
-    private static final ModelMapper MODEL_MAPPER = new ModelMapper();
-
     private GroupMapper() {
     }
 
@@ -24,9 +23,14 @@ public class GroupMapper {
      *
      * @param group the Group object to map
      * @return the mapped GroupDto object
+     * @throws IllegalArgumentException if the group is null
      */
     public static GroupDto mapGroupToDto(Group group) {
-        return MODEL_MAPPER.map(group, GroupDto.class);
+        checkSource(group);
+        GroupDto groupDto = new GroupDto(group.getGroupName());
+        groupDto.setId(group.getId());
+        groupDto.setStudents(group.getStudents());
+        return groupDto;
     }
 
     /**
@@ -34,9 +38,32 @@ public class GroupMapper {
      *
      * @param groupDto the GroupDto object to map
      * @return the mapped Group object
+     * @throws IllegalArgumentException if the group Dto is null
      */
     public static Group mapDtoToGroup(GroupDto groupDto) {
-        return MODEL_MAPPER.map(groupDto, Group.class);
+        checkSource(groupDto);
+        Group group = new Group(groupDto.getGroupName());
+        group.setId(groupDto.getId());
+        return group;
+    }
+
+    /**
+     * Maps a {@link Group} object to a flat {@link GroupSummary} record. Only the
+     * ID and the name of the group are read, so its students are not loaded.
+     *
+     * @param group the Group object to map
+     * @return the mapped GroupSummary record
+     * @throws IllegalArgumentException if the group is null
+     */
+    public static GroupSummary mapGroupToSummary(Group group) {
+        checkSource(group);
+        return new GroupSummary(group.getId(), group.getGroupName());
+    }
+
+    private static void checkSource(Object source) {
+        if (source == null) {
+            throw new IllegalArgumentException("The group to map must not be null.");
+        }
     }
 
 }
@@ -1,21 +1,26 @@
 package ua.foxminded.schoolapp.dto.mapper;
 
-import org.modelmapper.ModelMapper;
+import java.util.Comparator;
+import java.util.List;
+import ua.foxminded.schoolapp.dto.CourseSummary;
+import ua.foxminded.schoolapp.dto.StudentCoursesSummary;
 import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.dto.StudentSummary;
+import ua.foxminded.schoolapp.model.Group;
 import ua.foxminded.schoolapp.model.Student;
 
 /**
  * The StudentMapper class is responsible for mapping between {@link Student}
- * and {@link StudentDto} objects. It uses the {@link ModelMapper} library to
- * perform the mapping.
+ * and {@link StudentDto} objects. The fields are copied by plain getter and
+ * setter calls, without any reflection, and the group and the courses of a
+ * student are passed by reference, so lazy associations are not loaded by the
+ * mapping.
  * </p>
  *
  * @author Serhii Bohdan
  */
 public class StudentMapper {
 
-    private static final ModelMapper MODEL_MAPPER = new ModelMapper();
-
     private StudentMapper() {
     }
 
@@ -24,9 +29,14 @@ public class StudentMapper {
      *
      * @param student the Student object to map
      * @return the mapped StudentDto object
+     * @throws IllegalArgumentException if the student is null
      */
     public static StudentDto mapStudentToDto(Student student) {
-        return MODEL_MAPPER.map(student, StudentDto.class);
+        checkSource(student);
+        StudentDto studentDto = new StudentDto(student.getFirstName(), student.getLastName(), student.getGroup());
+        studentDto.setId(student.getId());
+        studentDto.setCourses(student.getCourses());
+        return studentDto;
     }
 
     /**
@@ -34,9 +44,59 @@ public class StudentMapper {
      *
      * @param studentDto the StudentDto object to map
      * @return the mapped Student object
+     * @throws IllegalArgumentException if the student Dto is null
      */
     public static Student mapDtoToStudent(StudentDto studentDto) {
-        return MODEL_MAPPER.map(studentDto, Student.class);
+        checkSource(studentDto);
+        Student student = new Student(studentDto.getFirstName(), studentDto.getLastName(), studentDto.getGroup());
+        student.setId(studentDto.getId());
+        return student;
+    }
+
+    /**
+     * Maps a {@link Student} object to a flat {@link StudentSummary} record with
+     * the ID and the name of the group of the student. The group must be fetched
+     * together with the student, otherwise reading its name loads it.
+     *
+     * @param student the Student object to map
+     * @return the mapped StudentSummary record
+     * @throws IllegalArgumentException if the student is null
+     */
+    public static StudentSummary mapStudentToSummary(Student student) {
+        checkSource(student);
+        Group group = student.getGroup();
+
+        if (group == null) {
+            return new StudentSummary(student.getId(), student.getFirstName(), student.getLastName(), null, null);
+        }
+
+        return new StudentSummary(student.getId(), student.getFirstName(), student.getLastName(), group.getId(),
+                group.getGroupName());
+    }
+
+    /**
+     * Maps a {@link Student} object to a flat {@link StudentCoursesSummary} record
+     * with the courses of the student ordered by their names. The courses must be
+     * fetched together with the student, otherwise reading them loads them.
+     *
+     * @param student the Student object to map
+     * @return the mapped StudentCoursesSummary record
+     * @throws IllegalArgumentException if the student is null
+     */
+    public static StudentCoursesSummary mapStudentToCoursesSummary(Student student) {
+        checkSource(student);
+        List<CourseSummary> courses = student.getCourses().stream()
+                .map(CourseMapper::mapCourseToSummary)
+                .sorted(Comparator.comparing(CourseSummary::courseName,
+                        Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+        return new StudentCoursesSummary(student.getId(), student.getFirstName(), student.getLastName(), courses);
+    }
+
+    private static void checkSource(Object source) {
+        if (source == null) {
+            throw new IllegalArgumentException("The student to map must not be null.");
+        }
     }
 
 }
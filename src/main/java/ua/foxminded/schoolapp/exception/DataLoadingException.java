@@ -0,0 +1,33 @@
+package ua.foxminded.schoolapp.exception;
+
+/**
+ * Exception thrown when there is an error during bulk loading of data into the
+ * database. Extends the {@link RuntimeException} class.
+ *
+ * @author Serhii Bohdan
+ */
+public class DataLoadingException extends RuntimeException {
+
+    private static final long serialVersionUID = -2217460412286951078L;
+
+    /**
+     * Constructs a new DataLoadingException with the specified error message.
+     *
+     * @param message the detail message
+     */
+    public DataLoadingException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new DataLoadingException with the specified error message and
+     * cause.
+     *
+     * @param message the detail message
+     * @param cause   the cause of the exception
+     */
+    public DataLoadingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -5,6 +5,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -12,6 +16,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 /**
@@ -23,20 +28,30 @@ import jakarta.persistence.Table;
  * information about the course's ID, name, description, and associated
  * students.
  * </p>
+ * <p>
+ * Courses change rarely, so they are kept in the "courses" region of the
+ * second-level cache. The name of a course is its natural ID, and the
+ * resolution of names to IDs is cached in the "courses-by-name" region, so a
+ * repeated lookup by name does not reach the database.
+ * </p>
  *
  * @author Serhii Bohdan
  */
 @Entity
 @Table(name = "courses")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "courses")
+@NaturalIdCache(region = "courses-by-name")
 public class Course implements Serializable {
 
     private static final long serialVersionUID = -7353839263354063173L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_id_generator")
+    @SequenceGenerator(name = "courses_id_generator", sequenceName = "courses_course_id_seq", allocationSize = 50)
     @Column(name = "course_id")
     private Integer id;
 
+    @NaturalId(mutable = true)
     @Column(name = "course_name")
     private String courseName;
 
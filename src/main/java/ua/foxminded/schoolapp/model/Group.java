@@ -5,6 +5,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,6 +17,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 /**
@@ -23,20 +28,29 @@ import jakarta.persistence.Table;
  * {@link Serializable} interface to allow for serialization. It contains
  * information about the group's ID and name.
  * </p>
+ * <p>
+ * Groups are kept in the "groups" region of the second-level cache. The group
+ * name is a mutable natural ID whose resolution to the group ID is cached in
+ * the "groups-by-name" region.
+ * </p>
  *
  * @author Serhii Bohdan
  */
 @Entity
 @Table(name = "groups")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "groups")
+@NaturalIdCache(region = "groups-by-name")
 public class Group implements Serializable {
 
     private static final long serialVersionUID = -533798781066983776L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "groups_id_generator")
+    @SequenceGenerator(name = "groups_id_generator", sequenceName = "groups_group_id_seq", allocationSize = 50)
     @Column(name = "group_id")
     private Integer id;
 
+    @NaturalId(mutable = true)
     @Column(name = "group_name")
     private String groupName;
 
@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import org.hibernate.annotations.NaturalId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -15,6 +16,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 /**
@@ -26,6 +28,10 @@ import jakarta.persistence.Table;
  * information about the student's ID, first name, last name, group, and
  * courses.
  * </p>
+ * <p>
+ * The first name and the last name together form the natural ID of a student,
+ * which is backed by a unique constraint in the database.
+ * </p>
  *
  * @author Serhii Bohdan
  */
@@ -36,13 +42,16 @@ public class Student implements Serializable {
     private static final long serialVersionUID = -4502594183161233658L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_id_generator")
+    @SequenceGenerator(name = "students_id_generator", sequenceName = "students_student_id_seq", allocationSize = 50)
     @Column(name = "student_id")
     private Integer id;
 
+    @NaturalId(mutable = true)
     @Column(name = "first_name")
     private String firstName;
 
+    @NaturalId(mutable = true)
     @Column(name = "last_name")
     private String lastName;
 
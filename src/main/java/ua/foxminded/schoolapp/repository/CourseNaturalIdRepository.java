@@ -0,0 +1,38 @@
+package ua.foxminded.schoolapp.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import ua.foxminded.schoolapp.model.Course;
+
+/**
+ * The CourseNaturalIdRepository interface is a fragment of the
+ * {@link CourseRepository} that looks courses up by their natural ID, the
+ * course name. Such lookups go through the second-level cache, so a repeated
+ * lookup of the same name does not reach the database.
+ *
+ * @author Serhii Bohdan
+ */
+public interface CourseNaturalIdRepository {
+
+    /**
+     * Finds a course by its name, resolving the name through the natural ID
+     * cache first.
+     *
+     * @param courseName the name of the course to find
+     * @return an {@link Optional} containing the found course, or empty if not
+     *         found or if the name is {@code null}
+     */
+    Optional<Course> findByCourseName(String courseName);
+
+    /**
+     * Finds the courses with the given names. The names whose courses are in the
+     * natural ID cache are resolved there, and the rest are loaded together with
+     * a single query.
+     *
+     * @param courseNames the names of the courses to find
+     * @return the found courses; the names without a course are skipped
+     */
+    List<Course> findAllByCourseNames(Collection<String> courseNames);
+
+}
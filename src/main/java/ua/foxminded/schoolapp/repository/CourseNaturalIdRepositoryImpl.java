@@ -0,0 +1,66 @@
+package ua.foxminded.schoolapp.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
+import ua.foxminded.schoolapp.model.Course;
+
+/**
+ * The CourseNaturalIdRepositoryImpl class is the implementation of the
+ * {@link CourseNaturalIdRepository} fragment. It loads courses with the
+ * Hibernate natural ID API, which first checks the natural ID cache and the
+ * entity cache, and queries the database only when the course is not cached.
+ *
+ * @author Serhii Bohdan
+ */
+@Transactional(readOnly = true)
+class CourseNaturalIdRepositoryImpl implements CourseNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Constructs a new CourseNaturalIdRepositoryImpl with the shared entity
+     * manager.
+     *
+     * @param entityManager the entity manager bound to the current transaction
+     */
+    CourseNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Course> findByCourseName(String courseName) {
+        if (courseName == null) {
+            return Optional.empty();
+        }
+
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Course.class)
+                .loadOptional(courseName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Course> findAllByCourseNames(Collection<String> courseNames) {
+        if (courseNames.isEmpty()) {
+            return List.of();
+        }
+
+        return entityManager.unwrap(Session.class)
+                .byMultipleNaturalId(Course.class)
+                .multiLoad(List.copyOf(courseNames))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+}
@@ -1,8 +1,14 @@
 package ua.foxminded.schoolapp.repository;
 
-import java.util.Optional;
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ua.foxminded.schoolapp.dto.CourseSummary;
 import ua.foxminded.schoolapp.model.Course;
 
 /**
@@ -10,20 +16,105 @@ import ua.foxminded.schoolapp.model.Course;
  * manipulating Course entities. It extends the Spring Data
  * {@link JpaRepository} interface, allowing for easy interaction with the
  * database. This repository is annotated with {@code @Repository}, indicating
- * that it is a Spring bean responsible for database access.
+ * that it is a Spring bean responsible for database access. Lookups by course
+ * name come from the {@link CourseNaturalIdRepository} fragment.
  *
  * @author Serhii Bohdan
  */
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Integer> {
+public interface CourseRepository extends JpaRepository<Course, Integer>, CourseNaturalIdRepository {
 
     /**
-     * Finds a course in the database by its name.
+     * Checks whether a course with the given name exists in the database.
      *
-     * @param courseName the name of the course to find
-     * @return an {@link Optional} containing the found course, or empty if not
-     *         found
+     * @param courseName the name of the course to check
+     * @return {@code true} if a course with the given name exists, {@code false}
+     *         otherwise
      */
-    Optional<Course> findByCourseName(String courseName);
+    boolean existsByCourseName(String courseName);
+
+    /**
+     * Checks whether at least one course exists in the database. Only the first row
+     * of the table is probed, so the cost of the query does not depend on the
+     * size of the table.
+     *
+     * @return {@code true} if the courses table is not empty, {@code false}
+     *         otherwise
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM courses)", nativeQuery = true)
+    boolean existsAnyCourse();
+
+    /**
+     * Finds the IDs, names and descriptions of all courses, ordered by their IDs.
+     * No entities are created, so the courses are not kept in the persistence
+     * context.
+     *
+     * @return the summaries of all courses
+     */
+    @Query("""
+            SELECT new ua.foxminded.schoolapp.dto.CourseSummary(c.id, c.courseName, c.description)
+            FROM Course c ORDER BY c.id""")
+    List<CourseSummary> findAllSummaries();
+
+    /**
+     * Finds the summaries of the courses whose ID is greater than the given ID,
+     * in the ascending order of their IDs.
+     *
+     * @param id    the ID after which the courses are found
+     * @param limit the maximum number of courses to find
+     * @return the found course summaries in the ascending order of their IDs
+     */
+    @Query("""
+            SELECT new ua.foxminded.schoolapp.dto.CourseSummary(c.id, c.courseName, c.description)
+            FROM Course c
+            WHERE c.id > :id
+            ORDER BY c.id ASC""")
+    List<CourseSummary> findSummariesByIdGreaterThan(@Param("id") Integer id, Limit limit);
+
+    /**
+     * Finds the summaries of the courses whose ID is less than the given ID, in
+     * the descending order of their IDs.
+     *
+     * @param id    the ID before which the courses are found
+     * @param limit the maximum number of courses to find
+     * @return the found course summaries in the descending order of their IDs
+     */
+    @Query("""
+            SELECT new ua.foxminded.schoolapp.dto.CourseSummary(c.id, c.courseName, c.description)
+            FROM Course c
+            WHERE c.id < :id
+            ORDER BY c.id DESC""")
+    List<CourseSummary> findSummariesByIdLessThan(@Param("id") Integer id, Limit limit);
+
+    /**
+     * Changes the name and the description of the course with the given name with
+     * a single bulk statement, without loading the course. Hibernate evicts the
+     * course regions of the second-level cache after the statement.
+     *
+     * @param courseName     the current name of the course
+     * @param newCourseName  the new name of the course
+     * @param newDescription the new description of the course
+     * @return the number of updated courses
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Course c SET c.courseName = :newCourseName, c.description = :newDescription
+            WHERE c.courseName = :courseName""")
+    int updateByCourseName(@Param("courseName") String courseName, @Param("newCourseName") String newCourseName,
+            @Param("newDescription") String newDescription);
+
+    /**
+     * Deletes the course with the given name with a single bulk statement. The
+     * enrollments in the course are removed by the database through the ON DELETE
+     * CASCADE foreign key of the students_courses table.
+     *
+     * @param courseName the name of the course to delete
+     * @return the number of deleted courses
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Course c WHERE c.courseName = :courseName")
+    int deleteByCourseName(@Param("courseName") String courseName);
 
 }
@@ -0,0 +1,38 @@
+package ua.foxminded.schoolapp.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import ua.foxminded.schoolapp.model.Group;
+
+/**
+ * The GroupNaturalIdRepository interface is a fragment of the
+ * {@link GroupRepository} that looks groups up by their natural ID, the
+ * group name. Such lookups go through the second-level cache, so a repeated
+ * lookup of the same name does not reach the database.
+ *
+ * @author Serhii Bohdan
+ */
+public interface GroupNaturalIdRepository {
+
+    /**
+     * Finds a group by its name, resolving the name through the natural ID
+     * cache first.
+     *
+     * @param groupName the name of the group to find
+     * @return an {@link Optional} containing the found group, or empty if not
+     *         found or if the name is {@code null}
+     */
+    Optional<Group> findByGroupName(String groupName);
+
+    /**
+     * Finds the groups with the given names. The names whose groups are in the
+     * natural ID cache are resolved there, and the rest are loaded together with
+     * a single query.
+     *
+     * @param groupNames the names of the groups to find
+     * @return the found groups; the names without a group are skipped
+     */
+    List<Group> findAllByGroupNames(Collection<String> groupNames);
+
+}
@@ -0,0 +1,66 @@
+package ua.foxminded.schoolapp.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
+import ua.foxminded.schoolapp.model.Group;
+
+/**
+ * The GroupNaturalIdRepositoryImpl class is the implementation of the
+ * {@link GroupNaturalIdRepository} fragment. Groups are loaded with the
+ * Hibernate natural ID API, so the database is queried only for names whose
+ * groups are not in the second-level cache yet.
+ *
+ * @author Serhii Bohdan
+ */
+@Transactional(readOnly = true)
+class GroupNaturalIdRepositoryImpl implements GroupNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Constructs a new GroupNaturalIdRepositoryImpl with the shared entity
+     * manager.
+     *
+     * @param entityManager the entity manager bound to the current transaction
+     */
+    GroupNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Group> findByGroupName(String groupName) {
+        if (groupName == null) {
+            return Optional.empty();
+        }
+
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Group.class)
+                .loadOptional(groupName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Group> findAllByGroupNames(Collection<String> groupNames) {
+        if (groupNames.isEmpty()) {
+            return List.of();
+        }
+
+        return entityManager.unwrap(Session.class)
+                .byMultipleNaturalId(Group.class)
+                .multiLoad(List.copyOf(groupNames))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+}
@@ -1,8 +1,15 @@
 package ua.foxminded.schoolapp.repository;
 
-import java.util.Optional;
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ua.foxminded.schoolapp.dto.GroupStudentsCount;
+import ua.foxminded.schoolapp.dto.GroupSummary;
 import ua.foxminded.schoolapp.model.Group;
 
 /**
@@ -10,19 +17,116 @@ import ua.foxminded.schoolapp.model.Group;
  * manipulating Group entities. It extends the Spring Data {@link JpaRepository}
  * interface, which enables easy interaction with the database. This repository
  * is annotated with {@code @Repository}, indicating that it is a Spring bean
- * responsible for database access.
+ * responsible for database access. Groups are found by name through the
+ * {@link GroupNaturalIdRepository} fragment.
  *
  * @author Serhii Bohdan
  */
 @Repository
-public interface GroupRepository extends JpaRepository<Group, Integer> {
+public interface GroupRepository extends JpaRepository<Group, Integer>, GroupNaturalIdRepository {
 
     /**
-     * Finds a group in the database by its name.
+     * Checks whether a group with the given name exists in the database.
      *
-     * @param groupName the name of the group to find
-     * @return an {@link Optional} containing the found group, or empty if not found
+     * @param groupName the name of the group to check
+     * @return {@code true} if a group with the given name exists, {@code false}
+     *         otherwise
      */
-    Optional<Group> findByGroupName(String groupName);
+    boolean existsByGroupName(String groupName);
+
+    /**
+     * Checks whether at least one group exists in the database. Only the first row
+     * of the table is probed, so the cost of the query does not depend on the
+     * size of the table.
+     *
+     * @return {@code true} if the groups table is not empty, {@code false}
+     *         otherwise
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM groups)", nativeQuery = true)
+    boolean existsAnyGroup();
+
+    /**
+     * Finds the groups that have the given number of students or fewer, together
+     * with their number of students. The students are counted in the database
+     * with a single aggregate query, and groups without students are included.
+     *
+     * @param amountOfStudents the maximum number of students in a group
+     * @return the found groups with their number of students, ordered by the
+     *         group name
+     */
+    @Query("""
+            SELECT new ua.foxminded.schoolapp.dto.GroupStudentsCount(g.id, g.groupName, COUNT(s))
+            FROM Group g LEFT JOIN g.students s
+            GROUP BY g.id, g.groupName
+            HAVING COUNT(s) <= :amountOfStudents
+            ORDER BY g.groupName""")
+    List<GroupStudentsCount> findGroupsWithStudentsCountAtMost(@Param("amountOfStudents") long amountOfStudents);
+
+    /**
+     * Finds the IDs and names of all groups, ordered by their IDs. Only these two
+     * columns are selected and no entities are created, so the groups are not
+     * kept in the persistence context.
+     *
+     * @return the summaries of all groups
+     */
+    @Query("SELECT new ua.foxminded.schoolapp.dto.GroupSummary(g.id, g.groupName) FROM Group g ORDER BY g.id")
+    List<GroupSummary> findAllSummaries();
+
+    /**
+     * Finds the summaries of the groups whose ID is greater than the given ID,
+     * in the ascending order of their IDs.
+     *
+     * @param id    the ID after which the groups are found
+     * @param limit the maximum number of groups to find
+     * @return the found group summaries in the ascending order of their IDs
+     */
+    @Query("""
+            SELECT new ua.foxminded.schoolapp.dto.GroupSummary(g.id, g.groupName) FROM Group g
+            WHERE g.id > :id
+            ORDER BY g.id ASC""")
+    List<GroupSummary> findSummariesByIdGreaterThan(@Param("id") Integer id, Limit limit);
+
+    /**
+     * Finds the summaries of the groups whose ID is less than the given ID, in
+     * the descending order of their IDs.
+     *
+     * @param id    the ID before which the groups are found
+     * @param limit the maximum number of groups to find
+     * @return the found group summaries in the descending order of their IDs
+     */
+    @Query("""
+            SELECT new ua.foxminded.schoolapp.dto.GroupSummary(g.id, g.groupName) FROM Group g
+            WHERE g.id < :id
+            ORDER BY g.id DESC""")
+    List<GroupSummary> findSummariesByIdLessThan(@Param("id") Integer id, Limit limit);
+
+    /**
+     * Deletes the group with the given name with a single bulk statement. Its
+     * students and their course enrollments are removed by the database through
+     * the ON DELETE CASCADE foreign keys, so none of them is loaded. Hibernate
+     * evicts the group regions of the second-level cache after the statement,
+     * and the persistence context is cleared so it keeps no deleted entities.
+     *
+     * @param groupName the name of the group to delete
+     * @return the number of deleted groups
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Group g WHERE g.groupName = :groupName")
+    int deleteByGroupName(@Param("groupName") String groupName);
+
+    /**
+     * Renames the group with the given name with a single bulk statement, without
+     * loading the group. Hibernate evicts the group regions of the second-level
+     * cache after the statement.
+     *
+     * @param groupName    the current name of the group
+     * @param newGroupName the new name of the group
+     * @return the number of updated groups
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Group g SET g.groupName = :newGroupName WHERE g.groupName = :groupName")
+    int updateGroupName(@Param("groupName") String groupName, @Param("newGroupName") String newGroupName);
 
 }
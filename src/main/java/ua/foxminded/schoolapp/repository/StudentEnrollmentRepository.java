@@ -0,0 +1,72 @@
+package ua.foxminded.schoolapp.repository;
+
+import java.util.Collection;
+import java.util.List;
+import ua.foxminded.schoolapp.dto.Enrollment;
+import ua.foxminded.schoolapp.dto.EnrollmentValidation;
+
+/**
+ * The StudentEnrollmentRepository interface is a fragment of the
+ * {@link StudentRepository} that works with the enrollments of students in
+ * courses directly in the students_courses table, without loading the students,
+ * the courses or the course collections of the students.
+ *
+ * @author Serhii Bohdan
+ */
+public interface StudentEnrollmentRepository {
+
+    /**
+     * Validates an enrollment command with a single query. The query finds the
+     * student by the full name, the course by its name, and whether the student
+     * is enrolled in the course.
+     *
+     * @param firstName  the first name of the student
+     * @param lastName   the last name of the student
+     * @param courseName the name of the course
+     * @return the result of the validation
+     */
+    EnrollmentValidation validateEnrollment(String firstName, String lastName, String courseName);
+
+    /**
+     * Enrolls the student with the given ID in the course with the given ID. If
+     * the student is already enrolled in the course, for example by a concurrent
+     * command that passed the same validation, nothing is inserted.
+     *
+     * @param studentId the ID of the student
+     * @param courseId  the ID of the course
+     * @return the number of inserted enrollments, {@code 0} if the enrollment
+     *         already exists
+     */
+    int addEnrollment(Integer studentId, Integer courseId);
+
+    /**
+     * Deletes the enrollment of the student with the given ID in the course with
+     * the given ID.
+     *
+     * @param studentId the ID of the student
+     * @param courseId  the ID of the course
+     * @return the number of deleted enrollments
+     */
+    int deleteEnrollment(Integer studentId, Integer courseId);
+
+    /**
+     * Finds the enrollments of the students with the given IDs in the courses
+     * with the given IDs with a single query. The IDs are bound as two arrays,
+     * so any number of them fits into the query.
+     *
+     * @param studentIds the IDs of the students
+     * @param courseIds  the IDs of the courses
+     * @return the found enrollments
+     */
+    List<Enrollment> findEnrollments(Collection<Integer> studentIds, Collection<Integer> courseIds);
+
+    /**
+     * Inserts the given enrollments with a single statement on the connection of
+     * the current transaction. The enrollments that already exist are skipped.
+     *
+     * @param enrollments the enrollments to insert
+     * @return the enrollments that are actually inserted by this statement
+     */
+    List<Enrollment> addEnrollments(Collection<Enrollment> enrollments);
+
+}
@@ -0,0 +1,164 @@
+package ua.foxminded.schoolapp.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
+import ua.foxminded.schoolapp.dto.Enrollment;
+import ua.foxminded.schoolapp.dto.EnrollmentValidation;
+
+/**
+ * The StudentEnrollmentRepositoryImpl class is the implementation of the
+ * {@link StudentEnrollmentRepository} fragment. Its statements are native, and
+ * the modifying ones declare the students_courses table as their only query
+ * space, so Hibernate invalidates only the cached data of that table instead of
+ * the whole second-level cache. Many enrollments are found and inserted with
+ * single statements that bind the IDs as two SQL arrays on the connection of
+ * the session, so the number of bind parameters does not grow with the number
+ * of enrollments, and the rows are written in the transaction of the caller.
+ *
+ * @author Serhii Bohdan
+ */
+@Transactional(readOnly = true)
+class StudentEnrollmentRepositoryImpl implements StudentEnrollmentRepository {
+
+    private static final String ENROLLMENTS_TABLE = "students_courses";
+
+    private static final String VALIDATE_ENROLLMENT_QUERY = """
+            SELECT s.student_id, c.course_id,
+                   EXISTS (SELECT 1 FROM students_courses sc
+                           WHERE sc.student_id = s.student_id AND sc.course_id = c.course_id)
+            FROM (VALUES (1)) AS command (id)
+            LEFT JOIN students s ON s.first_name = :firstName AND s.last_name = :lastName
+            LEFT JOIN courses c ON c.course_name = :courseName""";
+
+    private static final String ADD_ENROLLMENT_QUERY = """
+            INSERT INTO students_courses (student_id, course_id)
+            VALUES (:studentId, :courseId)
+            ON CONFLICT DO NOTHING""";
+
+    private static final String DELETE_ENROLLMENT_QUERY = """
+            DELETE FROM students_courses
+            WHERE student_id = :studentId AND course_id = :courseId""";
+
+    private static final String FIND_ENROLLMENTS_QUERY = """
+            SELECT student_id, course_id FROM students_courses
+            WHERE student_id = ANY(?) AND course_id = ANY(?)""";
+
+    private static final String INSERT_ENROLLMENTS = """
+            INSERT INTO students_courses (student_id, course_id)
+            SELECT * FROM unnest(?, ?)
+            ON CONFLICT DO NOTHING
+            RETURNING student_id, course_id""";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Constructs a new StudentEnrollmentRepositoryImpl with the shared entity
+     * manager.
+     *
+     * @param entityManager the entity manager bound to the current transaction
+     */
+    StudentEnrollmentRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EnrollmentValidation validateEnrollment(String firstName, String lastName, String courseName) {
+        Object[] row = (Object[]) entityManager.createNativeQuery(VALIDATE_ENROLLMENT_QUERY)
+                .setParameter("firstName", firstName)
+                .setParameter("lastName", lastName)
+                .setParameter("courseName", courseName)
+                .getSingleResult();
+
+        return new EnrollmentValidation(toId(row[0]), toId(row[1]), Boolean.TRUE.equals(row[2]));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public int addEnrollment(Integer studentId, Integer courseId) {
+        return executeOnEnrollments(ADD_ENROLLMENT_QUERY, studentId, courseId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public int deleteEnrollment(Integer studentId, Integer courseId) {
+        return executeOnEnrollments(DELETE_ENROLLMENT_QUERY, studentId, courseId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Enrollment> findEnrollments(Collection<Integer> studentIds, Collection<Integer> courseIds) {
+        if (studentIds.isEmpty() || courseIds.isEmpty()) {
+            return List.of();
+        }
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> queryEnrollments(connection,
+                FIND_ENROLLMENTS_QUERY, studentIds.toArray(Integer[]::new), courseIds.toArray(Integer[]::new)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<Enrollment> addEnrollments(Collection<Enrollment> enrollments) {
+        if (enrollments.isEmpty()) {
+            return List.of();
+        }
+
+        Integer[] studentIds = enrollments.stream().map(Enrollment::studentId).toArray(Integer[]::new);
+        Integer[] courseIds = enrollments.stream().map(Enrollment::courseId).toArray(Integer[]::new);
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> queryEnrollments(connection,
+                INSERT_ENROLLMENTS, studentIds, courseIds));
+    }
+
+    private List<Enrollment> queryEnrollments(Connection connection, String query, Integer[] studentIds,
+            Integer[] courseIds) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setArray(1, connection.createArrayOf("integer", studentIds));
+            statement.setArray(2, connection.createArrayOf("integer", courseIds));
+            List<Enrollment> enrollments = new ArrayList<>();
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    enrollments.add(new Enrollment(resultSet.getInt(1), resultSet.getInt(2)));
+                }
+            }
+
+            return enrollments;
+        }
+    }
+
+    private int executeOnEnrollments(String query, Integer studentId, Integer courseId) {
+        return entityManager.createNativeQuery(query)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(ENROLLMENTS_TABLE)
+                .setParameter("studentId", studentId)
+                .setParameter("courseId", courseId)
+                .executeUpdate();
+    }
+
+    private Integer toId(Object column) {
+        return column == null ? null : ((Number) column).intValue();
+    }
+
+}
@@ -0,0 +1,42 @@
+package ua.foxminded.schoolapp.repository;
+
+import java.util.Collection;
+import java.util.List;
+import ua.foxminded.schoolapp.dto.StudentName;
+import ua.foxminded.schoolapp.dto.StudentRequest;
+import ua.foxminded.schoolapp.model.Student;
+
+/**
+ * The StudentNaturalIdRepository interface is a fragment of the
+ * {@link StudentRepository} that looks students up and inserts them by their
+ * natural ID, the full name.
+ *
+ * @author Serhii Bohdan
+ */
+public interface StudentNaturalIdRepository {
+
+    /**
+     * Finds the students with the given full names. All of them are loaded with
+     * a single query that probes the unique index of the full names once for
+     * every name.
+     *
+     * @param studentNames the full names of the students to find
+     * @return the found students; the names without a student are skipped
+     */
+    List<Student> findAllByFullNames(Collection<StudentName> studentNames);
+
+    /**
+     * Inserts the given new students with a single statement on the connection
+     * of the current transaction. The groups of the students are looked up by
+     * their names in the same statement. The students whose full name is already
+     * taken and the students whose group does not exist are skipped, even when
+     * another transaction has added the name or deleted the group after they
+     * were validated.
+     *
+     * @param newStudents the new students to insert
+     * @return the full names of the students that are actually inserted by this
+     *         statement
+     */
+    List<StudentName> addStudents(Collection<StudentRequest> newStudents);
+
+}
@@ -0,0 +1,114 @@
+package ua.foxminded.schoolapp.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
+import ua.foxminded.schoolapp.dto.StudentName;
+import ua.foxminded.schoolapp.dto.StudentRequest;
+import ua.foxminded.schoolapp.model.Student;
+
+/**
+ * The StudentNaturalIdRepositoryImpl class is the implementation of the
+ * {@link StudentNaturalIdRepository} fragment. Students are loaded with the
+ * Hibernate natural ID API, and every full name is passed to it as a map of
+ * the first and last names. New students are inserted with a single
+ * native statement that binds every column as an SQL array and skips the full
+ * names that are taken, so a concurrent insert of the same name never fails
+ * the whole batch.
+ *
+ * @author Serhii Bohdan
+ */
+@Transactional(readOnly = true)
+class StudentNaturalIdRepositoryImpl implements StudentNaturalIdRepository {
+
+    /**
+     * The number of full names loaded with one query. The natural ID of a
+     * student is compound, so Hibernate binds two parameters for every name,
+     * and longer lists are split into queries that stay below the limit of
+     * 32,767 bind parameters of PostgreSQL.
+     */
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final String INSERT_STUDENTS = """
+            INSERT INTO students (first_name, last_name, group_id)
+            SELECT s.first_name, s.last_name, g.group_id
+            FROM unnest(?, ?, ?) AS s (first_name, last_name, group_name)
+            JOIN groups g ON g.group_name = s.group_name
+            ON CONFLICT DO NOTHING
+            RETURNING first_name, last_name""";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Constructs a new StudentNaturalIdRepositoryImpl with the shared entity
+     * manager.
+     *
+     * @param entityManager the entity manager bound to the current transaction
+     */
+    StudentNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Student> findAllByFullNames(Collection<StudentName> studentNames) {
+        if (studentNames.isEmpty()) {
+            return List.of();
+        }
+
+        List<?> naturalIds = studentNames.stream()
+                .map(studentName -> Map.of("firstName", studentName.firstName(), "lastName",
+                        studentName.lastName()))
+                .toList();
+
+        return entityManager.unwrap(Session.class)
+                .byMultipleNaturalId(Student.class)
+                .withBatchSize(BATCH_SIZE)
+                .multiLoad(naturalIds)
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<StudentName> addStudents(Collection<StudentRequest> newStudents) {
+        if (newStudents.isEmpty()) {
+            return List.of();
+        }
+
+        String[] firstNames = newStudents.stream().map(StudentRequest::firstName).toArray(String[]::new);
+        String[] lastNames = newStudents.stream().map(StudentRequest::lastName).toArray(String[]::new);
+        String[] groupNames = newStudents.stream().map(StudentRequest::groupName).toArray(String[]::new);
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_STUDENTS)) {
+                statement.setArray(1, connection.createArrayOf("text", firstNames));
+                statement.setArray(2, connection.createArrayOf("text", lastNames));
+                statement.setArray(3, connection.createArrayOf("text", groupNames));
+                List<StudentName> addedNames = new ArrayList<>();
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        addedNames.add(new StudentName(resultSet.getString(1), resultSet.getString(2)));
+                    }
+                }
+
+                return addedNames;
+            }
+        });
+    }
+
+}
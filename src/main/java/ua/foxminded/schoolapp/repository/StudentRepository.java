@@ -1,8 +1,17 @@
 package ua.foxminded.schoolapp.repository;
 
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ua.foxminded.schoolapp.dto.StudentSummary;
+import ua.foxminded.schoolapp.model.Group;
 import ua.foxminded.schoolapp.model.Student;
 
 /**
@@ -10,12 +19,17 @@ import ua.foxminded.schoolapp.model.Student;
  * manipulating Student entities. It extends the Spring Data
  * {@link JpaRepository} interface, which enables easy interaction with the
  * database. This repository is annotated with {@code @Repository}, indicating
- * that it is a Spring bean responsible for database access.
+ * that it is a Spring bean responsible for database access. Many students are
+ * found by their full names at once through the
+ * {@link StudentNaturalIdRepository} fragment, and enrollments of students in
+ * courses are validated and changed through the
+ * {@link StudentEnrollmentRepository} fragment.
  *
  * @author Serhii Bohdan
  */
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Integer> {
+public interface StudentRepository
+        extends JpaRepository<Student, Integer>, StudentNaturalIdRepository, StudentEnrollmentRepository {
 
     /**
      * Finds a student by their first name and last name.
@@ -27,4 +41,171 @@ public interface StudentRepository extends JpaRepository<Student, Integer> {
      */
     Optional<Student> findByFirstNameAndLastName(String firstName, String lastName);
 
+    /**
+     * Checks whether a student with the given first name and last name exists in
+     * the database.
+     *
+     * @param firstName the first name of the student
+     * @param lastName  the last name of the student
+     * @return {@code true} if such a student exists, {@code false} otherwise
+     */
+    boolean existsByFirstNameAndLastName(String firstName, String lastName);
+
+    /**
+     * Checks whether at least one student exists in the database. Only the first row
+     * of the table is probed, so the cost of the query does not depend on the
+     * size of the table.
+     *
+     * @return {@code true} if the students table is not empty, {@code false}
+     *         otherwise
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM students)", nativeQuery = true)
+    boolean existsAnyStudent();
+
+    /**
+     * Checks whether the student with the given first name and last name is
+     * enrolled in the course with the given name. Only the single matching row
+     * of the students_courses table is probed, so neither the student, the course
+     * nor the courses of the student are loaded.
+     *
+     * @param firstName  the first name of the student
+     * @param lastName   the last name of the student
+     * @param courseName the name of the course
+     * @return {@code true} if the student is enrolled in the course, {@code false}
+     *         otherwise
+     */
+    @Query(value = """
+            SELECT EXISTS (
+                SELECT 1 FROM students_courses sc
+                JOIN students s ON s.student_id = sc.student_id
+                JOIN courses c ON c.course_id = sc.course_id
+                WHERE s.first_name = :firstName AND s.last_name = :lastName AND c.course_name = :courseName)""",
+            nativeQuery = true)
+    boolean existsOnCourse(@Param("firstName") String firstName, @Param("lastName") String lastName,
+            @Param("courseName") String courseName);
+
+    /**
+     * Finds all students together with their groups and courses. The groups and
+     * courses are fetched in the same query, so reading them afterwards does not
+     * hit the database again.
+     *
+     * @return a list of all students with initialized groups and courses
+     */
+    @EntityGraph(attributePaths = { "group", "courses" })
+    @Query("SELECT s FROM Student s")
+    List<Student> findAllWithGroupAndCourses();
+
+    /**
+     * Finds the students enrolled in the course with the given name, together
+     * with their groups and all their courses, in a single query.
+     *
+     * @param courseName the name of the course
+     * @return a list of the students of the course with initialized groups and
+     *         courses
+     */
+    @EntityGraph(attributePaths = { "group", "courses" })
+    @Query("""
+            SELECT s FROM Student s
+            WHERE s.id IN (SELECT cs.id FROM Course c JOIN c.students cs WHERE c.courseName = :courseName)""")
+    List<Student> findAllWithGroupAndCoursesByCourseName(@Param("courseName") String courseName);
+
+    /**
+     * Finds the students whose ID is greater than the given ID, together with
+     * their groups, in the ascending order of their IDs. The search starts at
+     * the given ID in the primary key index, so its cost does not depend on the
+     * number of students before it.
+     *
+     * @param id    the ID after which the students are found
+     * @param limit the maximum number of students to find
+     * @return the found students in the ascending order of their IDs
+     */
+    @EntityGraph(attributePaths = "group")
+    List<Student> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limit);
+
+    /**
+     * Finds the students whose ID is less than the given ID, together with their
+     * groups, in the descending order of their IDs.
+     *
+     * @param id    the ID before which the students are found
+     * @param limit the maximum number of students to find
+     * @return the found students in the descending order of their IDs
+     */
+    @EntityGraph(attributePaths = "group")
+    List<Student> findByIdLessThanOrderByIdDesc(Integer id, Limit limit);
+
+    /**
+     * Finds all students with the IDs and names of their groups, ordered by the
+     * IDs of the students. Only the needed columns of the students and groups
+     * tables are selected and no entities are created.
+     *
+     * @return the summaries of all students
+     */
+    @Query("""
+            SELECT new ua.foxminded.schoolapp.dto.StudentSummary(s.id, s.firstName, s.lastName, g.id, g.groupName)
+            FROM Student s LEFT JOIN s.group g
+            ORDER BY s.id""")
+    List<StudentSummary> findAllSummaries();
+
+    /**
+     * Finds the summaries of the students whose ID is greater than the given ID,
+     * in the ascending order of their IDs.
+     *
+     * @param id    the ID after which the students are found
+     * @param limit the maximum number of students to find
+     * @return the found student summaries in the ascending order of their IDs
+     */
+    @Query("""
+            SELECT new ua.foxminded.schoolapp.dto.StudentSummary(s.id, s.firstName, s.lastName, g.id, g.groupName)
+            FROM Student s LEFT JOIN s.group g
+            WHERE s.id > :id
+            ORDER BY s.id ASC""")
+    List<StudentSummary> findSummariesByIdGreaterThan(@Param("id") Integer id, Limit limit);
+
+    /**
+     * Finds the summaries of the students whose ID is less than the given ID, in
+     * the descending order of their IDs.
+     *
+     * @param id    the ID before which the students are found
+     * @param limit the maximum number of students to find
+     * @return the found student summaries in the descending order of their IDs
+     */
+    @Query("""
+            SELECT new ua.foxminded.schoolapp.dto.StudentSummary(s.id, s.firstName, s.lastName, g.id, g.groupName)
+            FROM Student s LEFT JOIN s.group g
+            WHERE s.id < :id
+            ORDER BY s.id DESC""")
+    List<StudentSummary> findSummariesByIdLessThan(@Param("id") Integer id, Limit limit);
+
+    /**
+     * Changes the name and the group of the student with the given full name with
+     * a single bulk statement, without loading the student.
+     *
+     * @param firstName    the current first name of the student
+     * @param lastName     the current last name of the student
+     * @param newFirstName the new first name of the student
+     * @param newLastName  the new last name of the student
+     * @param newGroup     the new group of the student
+     * @return the number of updated students
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Student s SET s.firstName = :newFirstName, s.lastName = :newLastName, s.group = :newGroup
+            WHERE s.firstName = :firstName AND s.lastName = :lastName""")
+    int updateByFullName(@Param("firstName") String firstName, @Param("lastName") String lastName,
+            @Param("newFirstName") String newFirstName, @Param("newLastName") String newLastName,
+            @Param("newGroup") Group newGroup);
+
+    /**
+     * Deletes the student with the given ID with a single bulk statement. The
+     * course enrollments of the student are removed together with the student.
+     *
+     * @param studentId the ID of the student to delete
+     * @return the number of deleted students
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Student s WHERE s.id = :studentId")
+    int deleteStudentById(@Param("studentId") Integer studentId);
+
 }
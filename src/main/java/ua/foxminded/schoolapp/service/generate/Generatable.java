@@ -1,20 +1,36 @@
 package ua.foxminded.schoolapp.service.generate;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interface for generating data of a specific type.
+ * <p>
+ * Implementations produce their data lazily through
+ * {@link #toGenerateStream()}, so large data sets never have to be kept in
+ * memory as a whole. The returned stream should report its exact size, which
+ * allows consumers to plan their work before the first element is generated.
  *
  * @param <T> the type of data to generate.
  * @author Serhii Bohdan
  */
 public interface Generatable<T> {
 
+    /**
+     * Generates a stream of data objects. The objects are created lazily while
+     * the stream is consumed.
+     *
+     * @return a stream of generated data objects.
+     */
+    Stream<T> toGenerateStream();
+
     /**
      * Generates a list of data objects.
      *
      * @return a list of generated data objects.
      */
-    List<T> toGenerate();
+    default List<T> toGenerate() {
+        return toGenerateStream().toList();
+    }
 
 }
@@ -0,0 +1,64 @@
+package ua.foxminded.schoolapp.service.generate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The GenerationChunks class splits a stream of generated data into
+ * fixed-size chunks, so that consumers can persist the data chunk by chunk and
+ * keep memory usage constant regardless of the size of the data set.
+ *
+ * @author Serhii Bohdan
+ */
+public final class GenerationChunks {
+
+    /**
+     * The default number of generated objects in one chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    private GenerationChunks() {
+    }
+
+    /**
+     * Passes the elements of the given stream to the consumer in chunks of the
+     * given size. The last chunk may contain fewer elements.
+     *
+     * @param <T>           the type of the elements
+     * @param elements      the stream of elements to split
+     * @param chunkSize     the maximum number of elements in one chunk
+     * @param chunkConsumer the consumer of every chunk
+     * @return the total number of consumed elements
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    public static <T> long forEachChunk(Stream<T> elements, int chunkSize, Consumer<List<T>> chunkConsumer) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive, but was " + chunkSize + ".");
+        }
+
+        long consumedElements = 0;
+        List<T> chunk = new ArrayList<>(chunkSize);
+        Iterator<T> iterator = elements.iterator();
+
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+
+            if (chunk.size() == chunkSize) {
+                chunkConsumer.accept(chunk);
+                consumedElements += chunk.size();
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(chunk);
+            consumedElements += chunk.size();
+        }
+
+        return consumedElements;
+    }
+
+}
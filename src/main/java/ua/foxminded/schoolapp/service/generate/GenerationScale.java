@@ -0,0 +1,155 @@
+package ua.foxminded.schoolapp.service.generate;
+
+import java.util.function.IntUnaryOperator;
+import java.util.random.RandomGenerator;
+import ua.foxminded.schoolapp.exception.DataGenerationException;
+
+/**
+ * The GenerationScale class derives the size of generated data sets from a
+ * scale factor, similar to the scale factors of TPC benchmarks.
+ * <p>
+ * A scale factor of {@value #FIXTURE_SCALE_FACTOR} keeps the small fixture
+ * data set that the generators have always produced. Any scale factor from
+ * {@value #MIN_SCALE_FACTOR} to {@value #MAX_SCALE_FACTOR} produces
+ * {@value #STUDENTS_PER_SCALE_FACTOR} students per unit of scale, so the
+ * number of students ranges from 10^3 to 10^7. The numbers of groups and
+ * courses grow with the number of students.
+ * <p>
+ * The class also provides a random permutation of indexes, which the
+ * generators use to turn a counter into unique but randomly ordered values
+ * without keeping already generated values in memory.
+ *
+ * @author Serhii Bohdan
+ */
+public final class GenerationScale {
+
+    /**
+     * The scale factor that selects the fixed-size fixture data set.
+     */
+    public static final int FIXTURE_SCALE_FACTOR = 0;
+
+    /**
+     * The smallest supported scale factor.
+     */
+    public static final int MIN_SCALE_FACTOR = 1;
+
+    /**
+     * The largest supported scale factor.
+     */
+    public static final int MAX_SCALE_FACTOR = 10_000;
+
+    /**
+     * The number of students generated per unit of scale.
+     */
+    public static final int STUDENTS_PER_SCALE_FACTOR = 1_000;
+
+    /**
+     * The average number of students in a generated group.
+     */
+    public static final int AVERAGE_GROUP_SIZE = 20;
+
+    /**
+     * The number of distinct group names matching the "XX-00" pattern.
+     */
+    public static final int MAX_NUMBER_OF_GROUPS = 26 * 26 * 100;
+
+    /**
+     * The number of courses generated at the smallest scale factor.
+     */
+    public static final int BASE_NUMBER_OF_COURSES = 10;
+
+    private GenerationScale() {
+    }
+
+    /**
+     * Checks whether the given scale factor selects the fixture data set.
+     *
+     * @param scaleFactor the scale factor to check
+     * @return {@code true} if the fixture data set should be generated,
+     *         {@code false} otherwise
+     */
+    public static boolean isFixture(int scaleFactor) {
+        return scaleFactor == FIXTURE_SCALE_FACTOR;
+    }
+
+    /**
+     * Calculates the number of students for the given scale factor.
+     *
+     * @param scaleFactor the scale factor
+     * @return the number of students to generate
+     * @throws DataGenerationException if the scale factor is out of range
+     */
+    public static int getNumberOfStudents(int scaleFactor) {
+        checkScaleFactor(scaleFactor);
+        return scaleFactor * STUDENTS_PER_SCALE_FACTOR;
+    }
+
+    /**
+     * Calculates the number of groups for the given scale factor. The number of
+     * groups is limited by the number of distinct group names.
+     *
+     * @param scaleFactor the scale factor
+     * @return the number of groups to generate
+     * @throws DataGenerationException if the scale factor is out of range
+     */
+    public static int getNumberOfGroups(int scaleFactor) {
+        int numberOfGroups = (getNumberOfStudents(scaleFactor) + AVERAGE_GROUP_SIZE - 1) / AVERAGE_GROUP_SIZE;
+        return Math.min(numberOfGroups, MAX_NUMBER_OF_GROUPS);
+    }
+
+    /**
+     * Calculates the number of courses for the given scale factor. Ten courses
+     * are added for every tenfold increase of the scale factor.
+     *
+     * @param scaleFactor the scale factor
+     * @return the number of courses to generate
+     * @throws DataGenerationException if the scale factor is out of range
+     */
+    public static int getNumberOfCourses(int scaleFactor) {
+        checkScaleFactor(scaleFactor);
+        return BASE_NUMBER_OF_COURSES * (1 + (int) Math.log10(scaleFactor));
+    }
+
+    /**
+     * Maps an index to its position in a random permutation of
+     * {@code [0, size)}. The permutation is an affine map with a multiplier
+     * coprime to {@code size}, so every index maps to a distinct position.
+     *
+     * @param size   the number of permuted indexes
+     * @param random the source of randomness used to choose the permutation
+     * @return a function from an index to its permuted position
+     */
+    public static IntUnaryOperator getRandomPermutation(int size, RandomGenerator random) {
+        if (size <= 1) {
+            return index -> index;
+        }
+
+        long multiplier = random.nextLong(1, size);
+
+        while (gcd(multiplier, size) != 1) {
+            multiplier = random.nextLong(1, size);
+        }
+
+        long offset = random.nextLong(size);
+        long finalMultiplier = multiplier;
+        return index -> (int) ((finalMultiplier * index + offset) % size);
+    }
+
+    private static void checkScaleFactor(int scaleFactor) {
+        if (scaleFactor < MIN_SCALE_FACTOR || scaleFactor > MAX_SCALE_FACTOR) {
+            throw new DataGenerationException("The scale factor must be between " + MIN_SCALE_FACTOR + " and "
+                    + MAX_SCALE_FACTOR + ", but was " + scaleFactor + ".");
+        }
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+
+        return a;
+    }
+
+}
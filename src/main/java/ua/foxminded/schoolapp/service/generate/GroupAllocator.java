@@ -0,0 +1,150 @@
+package ua.foxminded.schoolapp.service.generate;
+
+import java.util.random.RandomGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ua.foxminded.schoolapp.exception.DataGenerationException;
+
+/**
+ * The GroupAllocator class assigns generated students to random groups while
+ * respecting the minimum and maximum group size.
+ * <p>
+ * The allocator keeps a counter of students for every group in an
+ * {@code int[]}, together with the groups that are not full yet and the groups
+ * that have not reached the minimum size yet. Each call of
+ * {@link #nextGroupIndex()} takes constant time, and the memory used depends
+ * only on the number of groups. A student is placed in a random group that is
+ * not full, unless the remaining students are just enough to bring the small
+ * groups up to the minimum size; then a random small group is chosen.
+ * <p>
+ * If there are too few students to fill every group up to the minimum size, the
+ * students are spread over the small groups. If there are more students than
+ * the groups can hold, the maximum size is raised so that every student gets a
+ * group.
+ *
+ * @author Serhii Bohdan
+ */
+public final class GroupAllocator {
+
+    /**
+     * The logger for logging events and messages in the {@link GroupAllocator}
+     * class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(GroupAllocator.class);
+
+    private final RandomGenerator random;
+    private final int minGroupSize;
+    private final int maxGroupSize;
+    private final int[] studentsInGroups;
+    private final int[] openGroups;
+    private final int[] openGroupsPositions;
+    private final int[] smallGroups;
+    private final int[] smallGroupsPositions;
+    private int openGroupsNumber;
+    private int smallGroupsNumber;
+    private long missingStudents;
+    private long remainingStudents;
+
+    /**
+     * Constructs a GroupAllocator for the given numbers of groups and students.
+     *
+     * @param groupsNumber   the number of groups
+     * @param studentsNumber the number of students to allocate
+     * @param minGroupSize   the minimum number of students in a group
+     * @param maxGroupSize   the maximum number of students in a group
+     * @param random         the source of random values
+     * @throws DataGenerationException if there are students but no groups, or if
+     *                                 the group sizes are invalid
+     */
+    public GroupAllocator(int groupsNumber, long studentsNumber, int minGroupSize, int maxGroupSize,
+            RandomGenerator random) {
+        if (minGroupSize < 0 || maxGroupSize <= 0 || minGroupSize > maxGroupSize) {
+            throw new DataGenerationException("The group sizes must satisfy 0 <= min <= max and max > 0, but were "
+                    + minGroupSize + " and " + maxGroupSize + ".");
+        }
+
+        if (groupsNumber <= 0 && studentsNumber > 0) {
+            throw new DataGenerationException("Students cannot be allocated without groups.");
+        }
+
+        this.random = random;
+        this.minGroupSize = minGroupSize;
+        this.maxGroupSize = getMaxGroupSize(groupsNumber, studentsNumber, maxGroupSize);
+        this.studentsInGroups = new int[groupsNumber];
+        this.openGroups = new int[groupsNumber];
+        this.openGroupsPositions = new int[groupsNumber];
+        this.smallGroups = new int[groupsNumber];
+        this.smallGroupsPositions = new int[groupsNumber];
+        this.remainingStudents = studentsNumber;
+
+        for (int group = 0; group < groupsNumber; group++) {
+            openGroups[group] = group;
+            openGroupsPositions[group] = group;
+            smallGroups[group] = group;
+            smallGroupsPositions[group] = group;
+        }
+
+        this.openGroupsNumber = groupsNumber;
+        this.smallGroupsNumber = minGroupSize > 0 ? groupsNumber : 0;
+        this.missingStudents = (long) minGroupSize * smallGroupsNumber;
+    }
+
+    /**
+     * Chooses the group of the next student.
+     *
+     * @return the index of the group of the next student
+     * @throws DataGenerationException if all students are already allocated
+     */
+    public int nextGroupIndex() {
+        if (remainingStudents <= 0) {
+            throw new DataGenerationException("All students have already been allocated to groups.");
+        }
+
+        int group;
+
+        if (smallGroupsNumber > 0 && remainingStudents <= missingStudents) {
+            group = smallGroups[random.nextInt(smallGroupsNumber)];
+        } else {
+            group = openGroups[random.nextInt(openGroupsNumber)];
+        }
+
+        int studentsInGroup = ++studentsInGroups[group];
+        remainingStudents--;
+
+        if (studentsInGroup <= minGroupSize) {
+            missingStudents--;
+
+            if (studentsInGroup == minGroupSize) {
+                smallGroupsNumber = remove(smallGroups, smallGroupsPositions, smallGroupsNumber, group);
+            }
+        }
+
+        if (studentsInGroup == maxGroupSize) {
+            openGroupsNumber = remove(openGroups, openGroupsPositions, openGroupsNumber, group);
+        }
+
+        return group;
+    }
+
+    private int getMaxGroupSize(int groupsNumber, long studentsNumber, int maxGroupSize) {
+        if (groupsNumber > 0 && studentsNumber > (long) groupsNumber * maxGroupSize) {
+            int raisedMaxGroupSize = (int) ((studentsNumber + groupsNumber - 1) / groupsNumber);
+            LOGGER.warn("{} students do not fit into {} groups of at most {} students, the maximum group size is "
+                    + "raised to {}", studentsNumber, groupsNumber, maxGroupSize, raisedMaxGroupSize);
+            return raisedMaxGroupSize;
+        }
+
+        return maxGroupSize;
+    }
+
+    private int remove(int[] groups, int[] positions, int groupsNumber, int group) {
+        int position = positions[group];
+        int lastGroup = groups[groupsNumber - 1];
+        groups[position] = lastGroup;
+        positions[lastGroup] = position;
+        groups[groupsNumber - 1] = group;
+        positions[group] = groupsNumber - 1;
+        return groupsNumber - 1;
+    }
+
+}
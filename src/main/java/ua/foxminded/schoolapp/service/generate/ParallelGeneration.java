@@ -0,0 +1,218 @@
+package ua.foxminded.schoolapp.service.generate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The ParallelGeneration class generates large data sets in parallel on the
+ * common fork/join pool while keeping the result reproducible.
+ * <p>
+ * The indexes of a data set are divided into segments of a fixed size. Every
+ * segment receives its own {@link SplittableRandom}, split from the root random
+ * in the order of the segments, and prepares a function that maps an index of
+ * the segment to a generated element. Since every element depends only on its
+ * index and on the random of its segment, the same seed always produces the
+ * same data set, no matter how many cores share the work or whether the work is
+ * done in parallel at all.
+ * <p>
+ * Elements are produced in batches of at most {@link #BATCH_SIZE} elements, so
+ * only one batch is kept in memory while the returned stream is consumed.
+ *
+ * @author Serhii Bohdan
+ */
+public final class ParallelGeneration {
+
+    /**
+     * The maximum number of elements generated at once.
+     */
+    public static final int BATCH_SIZE = 64 * 1024;
+
+    /**
+     * The number of elements below which a fork/join task is not split further.
+     */
+    private static final int TASK_THRESHOLD = 4 * 1024;
+
+    private ParallelGeneration() {
+    }
+
+    /**
+     * Prepares the generation of one segment of a data set.
+     *
+     * @param <T> the type of generated elements
+     */
+    @FunctionalInterface
+    public interface SegmentGenerator<T> {
+
+        /**
+         * Prepares a function that generates the elements of the given segment.
+         * The returned function must not modify shared state, because it may be
+         * called from several threads at once.
+         *
+         * @param segmentIndex the index of the segment
+         * @param random       the random reserved for the segment
+         * @return a function from the index of an element in the whole data set to
+         *         the generated element
+         */
+        IntFunction<T> prepareSegment(int segmentIndex, SplittableRandom random);
+
+    }
+
+    /**
+     * Resolves the seed of a generation. If no seed is given, a random one is
+     * chosen.
+     *
+     * @param seed the seed of the generation, or {@code null}
+     * @return the seed that should be used for the generation
+     */
+    public static long resolveSeed(Long seed) {
+        return seed != null ? seed : new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Generates a data set of the given size lazily, batch by batch.
+     *
+     * @param <T>              the type of generated elements
+     * @param size             the number of elements to generate
+     * @param segmentSize      the number of elements in one segment
+     * @param random           the root random, from which the random of every
+     *                         segment is split
+     * @param parallel         {@code true} to generate every batch on the common
+     *                         fork/join pool, {@code false} to generate it in the
+     *                         calling thread
+     * @param segmentGenerator the generator of segments
+     * @return a sized, ordered stream of generated elements
+     * @throws IllegalArgumentException if the size is negative or the segment
+     *                                  size is not positive
+     */
+    public static <T> Stream<T> generate(int size, int segmentSize, SplittableRandom random, boolean parallel,
+            SegmentGenerator<T> segmentGenerator) {
+        if (size < 0 || segmentSize <= 0) {
+            throw new IllegalArgumentException("The size must not be negative and the segment size must be "
+                    + "positive, but were " + size + " and " + segmentSize + ".");
+        }
+
+        Iterator<T> batches = new BatchIterator<>(size, segmentSize, random, parallel, segmentGenerator);
+        return StreamSupport.stream(Spliterators.spliterator(batches, size,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    private static final class BatchIterator<T> implements Iterator<T> {
+
+        private final int size;
+        private final int segmentSize;
+        private final SplittableRandom random;
+        private final boolean parallel;
+        private final SegmentGenerator<T> segmentGenerator;
+        private final List<IntFunction<T>> segments = new ArrayList<>();
+        private int firstSegmentIndex;
+        private int nextIndex;
+        private Object[] batch = new Object[0];
+        private int positionInBatch;
+
+        private BatchIterator(int size, int segmentSize, SplittableRandom random, boolean parallel,
+                SegmentGenerator<T> segmentGenerator) {
+            this.size = size;
+            this.segmentSize = segmentSize;
+            this.random = random;
+            this.parallel = parallel;
+            this.segmentGenerator = segmentGenerator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return positionInBatch < batch.length || nextIndex < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            if (positionInBatch == batch.length) {
+                generateNextBatch();
+            }
+
+            return (T) batch[positionInBatch++];
+        }
+
+        private void generateNextBatch() {
+            int from = nextIndex;
+            int to = (int) Math.min((long) from + BATCH_SIZE, size);
+            prepareSegments(from, to);
+
+            batch = new Object[to - from];
+            positionInBatch = 0;
+            BatchTask batchTask = new BatchTask(from, to, from);
+
+            if (parallel) {
+                ForkJoinPool.commonPool().invoke(batchTask);
+            } else {
+                batchTask.fill(from, to);
+            }
+
+            nextIndex = to;
+        }
+
+        private void prepareSegments(int from, int to) {
+            int firstSegment = from / segmentSize;
+            int lastSegment = (to - 1) / segmentSize;
+            int preparedSegments = firstSegmentIndex + segments.size();
+
+            if (!segments.isEmpty() && firstSegment > firstSegmentIndex) {
+                int segmentsToDrop = Math.min(firstSegment - firstSegmentIndex, segments.size());
+                segments.subList(0, segmentsToDrop).clear();
+                firstSegmentIndex += segmentsToDrop;
+            }
+
+            for (int segment = preparedSegments; segment <= lastSegment; segment++) {
+                segments.add(segmentGenerator.prepareSegment(segment, random.split()));
+            }
+        }
+
+        private final class BatchTask extends RecursiveAction {
+
+            private static final long serialVersionUID = 1L;
+
+            private final int from;
+            private final int to;
+            private final int batchStart;
+
+            private BatchTask(int from, int to, int batchStart) {
+                this.from = from;
+                this.to = to;
+                this.batchStart = batchStart;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from <= TASK_THRESHOLD) {
+                    fill(from, to);
+                } else {
+                    int middle = (from + to) >>> 1;
+                    invokeAll(new BatchTask(from, middle, batchStart), new BatchTask(middle, to, batchStart));
+                }
+            }
+
+            private void fill(int fillFrom, int fillTo) {
+                for (int index = fillFrom; index < fillTo; index++) {
+                    batch[index - batchStart] = segments.get(index / segmentSize - firstSegmentIndex).apply(index);
+                }
+            }
+
+        }
+
+    }
+
+}
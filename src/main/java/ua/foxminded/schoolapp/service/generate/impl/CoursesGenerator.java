@@ -2,12 +2,15 @@ package ua.foxminded.schoolapp.service.generate.impl;
 
 import java.util.List;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import ua.foxminded.schoolapp.dto.CourseDto;
 import ua.foxminded.schoolapp.exception.DataGenerationException;
 import ua.foxminded.schoolapp.service.generate.Generatable;
+import ua.foxminded.schoolapp.service.generate.GenerationScale;
 import ua.foxminded.schoolapp.service.generate.Reader;
 
 /**
@@ -20,6 +23,11 @@ import ua.foxminded.schoolapp.service.generate.Reader;
  * bean in the Spring context. The CoursesGenerator uses a {@link Reader} to
  * read course names and descriptions from files, and then generates a list of
  * {@link CourseDto} objects based on the read data.
+ * <p>
+ * When the {@code school.generation.scale-factor} property is greater than
+ * zero, the number of courses is taken from {@link GenerationScale}. If it
+ * exceeds the number of course names in the file, the names are reused with a
+ * part number appended, so every course name stays unique.
  *
  * @author Serhii Bohdan
  */
@@ -38,36 +46,43 @@ public class CoursesGenerator implements Generatable<CourseDto> {
     private static final Logger LOGGER = LoggerFactory.getLogger(CoursesGenerator.class);
 
     private final Reader reader;
+    private final int scaleFactor;
 
     /**
      * Constructs a CoursesGenerator object with the specified reader.
      *
-     * @param reader the reader used to read course names and descriptions.
+     * @param reader      the reader used to read course names and descriptions.
+     * @param scaleFactor the scale factor of the generated data set, zero for
+     *                    the fixture data set.
      */
-    public CoursesGenerator(Reader reader) {
+    public CoursesGenerator(Reader reader,
+            @Value("${school.generation.scale-factor:" + GenerationScale.FIXTURE_SCALE_FACTOR + "}") int scaleFactor) {
         this.reader = reader;
+        this.scaleFactor = scaleFactor;
     }
 
     /**
-     * Generates a list of course Dto objects with readed from files names and
+     * Generates a stream of course Dto objects with readed from files names and
      * descriptions.
      *
-     * @return a list of course Dto objects.
+     * @return a sized stream of course Dto objects.
      */
     @Override
-    public List<CourseDto> toGenerate() {
+    public Stream<CourseDto> toGenerateStream() {
         LOGGER.info("Generating courses started...");
         List<String> coursesNames = reader.readFileAndPopulateListWithLines("courses/courses.txt");
         List<String> coursesDescriptions = reader.readFileAndPopulateListWithLines("courses/descriptions.txt");
 
         if (coursesNames.size() >= NUMBER_OF_COURSES && coursesNames.size() == coursesDescriptions.size()) {
-            List<CourseDto> generatedCourses = IntStream.rangeClosed(0, NUMBER_OF_COURSES - 1)
-                    .mapToObj(i -> new CourseDto(coursesNames.get(i), coursesDescriptions.get(i)))
+            int numberOfCourses = GenerationScale.isFixture(scaleFactor) ? NUMBER_OF_COURSES
+                    : GenerationScale.getNumberOfCourses(scaleFactor);
+            List<CourseDto> generatedCourses = IntStream.range(0, numberOfCourses)
+                    .mapToObj(i -> getCourseByIndex(i, coursesNames, coursesDescriptions))
                     .toList();
 
             LOGGER.info("Generated {} courses.", generatedCourses.size());
             LOGGER.debug("Generated courses: {}", generatedCourses);
-            return generatedCourses;
+            return generatedCourses.stream();
         } else {
             LOGGER.error("Error generating courses. The number of course names must be equal to or greater than ten.");
             throw new DataGenerationException("Error generating courses. The number of course names must be"
@@ -76,4 +91,16 @@ public class CoursesGenerator implements Generatable<CourseDto> {
         }
     }
 
+    private CourseDto getCourseByIndex(int index, List<String> coursesNames, List<String> coursesDescriptions) {
+        int part = index / coursesNames.size();
+        String courseName = coursesNames.get(index % coursesNames.size());
+        String description = coursesDescriptions.get(index % coursesNames.size());
+
+        if (part == 0) {
+            return new CourseDto(courseName, description);
+        }
+
+        return new CourseDto(courseName + " " + (part + 1), description + " Part " + (part + 1) + ".");
+    }
+
 }
@@ -1,13 +1,18 @@
 package ua.foxminded.schoolapp.service.generate.impl;
 
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.IntUnaryOperator;
+import java.util.random.RandomGenerator;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import ua.foxminded.schoolapp.dto.GroupDto;
 import ua.foxminded.schoolapp.service.generate.Generatable;
+import ua.foxminded.schoolapp.service.generate.GenerationScale;
+import ua.foxminded.schoolapp.service.generate.ParallelGeneration;
 
 /**
  * Generates a list of randomly generated group Dto objects. The GroupsGenerator
@@ -19,6 +24,17 @@ import ua.foxminded.schoolapp.service.generate.Generatable;
  * {@link GroupDto} objects, where each group has a randomly generated name
  * consisting of two uppercase letters as initials and two random digits,
  * separated by a {@link #SEPARATOR}.
+ * <p>
+ * When the {@code school.generation.scale-factor} property is greater than
+ * zero, the number of groups is taken from {@link GenerationScale}. Each group
+ * name is then decoded from a randomly permuted counter, so the names are
+ * unique without being collected into a set. The groups are generated with
+ * {@link ParallelGeneration}, in parallel if the
+ * {@code school.generation.parallel} property is set.
+ * <p>
+ * All random choices are made with a {@link SplittableRandom} created from the
+ * {@code school.generation.seed} property, so the same seed always produces the
+ * same groups. If no seed is set, a random one is chosen and logged.
  *
  * @author Serhii Bohdan
  */
@@ -42,21 +58,47 @@ public class GroupsGenerator implements Generatable<GroupDto> {
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(GroupsGenerator.class);
 
+    private final int scaleFactor;
+    private final Long seed;
+    private final boolean parallel;
+
     /**
-     * The Random object used for generating random values.
+     * Constructs a GroupsGenerator object with the specified scale factor.
+     *
+     * @param scaleFactor the scale factor of the generated data set, zero for
+     *                    the fixture data set.
+     * @param seed        the seed of the random values, or {@code null} for a
+     *                    random seed.
+     * @param parallel    whether groups are generated in parallel.
      */
-    private static final Random RANDOM = new Random();
+    public GroupsGenerator(
+            @Value("${school.generation.scale-factor:" + GenerationScale.FIXTURE_SCALE_FACTOR + "}") int scaleFactor,
+            @Value("${school.generation.seed:#{null}}") Long seed,
+            @Value("${school.generation.parallel:false}") boolean parallel) {
+        this.scaleFactor = scaleFactor;
+        this.seed = seed;
+        this.parallel = parallel;
+    }
 
     /**
-     * Generates a list of randomly generated GroupDto objects.
+     * Generates a stream of randomly generated GroupDto objects. With a scale
+     * factor greater than zero the groups are created lazily while the stream is
+     * consumed.
      *
-     * @return a list of randomly generated GroupDto objects.
+     * @return a sized stream of randomly generated GroupDto objects.
      */
     @Override
-    public List<GroupDto> toGenerate() {
-        LOGGER.info("Generating groups started...");
+    public Stream<GroupDto> toGenerateStream() {
+        long generationSeed = ParallelGeneration.resolveSeed(seed);
+        LOGGER.info("Generating groups started with seed {}...", generationSeed);
+        SplittableRandom random = new SplittableRandom(generationSeed);
+
+        if (!GenerationScale.isFixture(scaleFactor)) {
+            return generateAtScale(random);
+        }
 
-        List<GroupDto> generatedGroups = Stream.generate(() -> getRandomInitials() + SEPARATOR + getTwoRandomDigits())
+        List<GroupDto> generatedGroups = Stream.generate(() -> getRandomInitials(random) + SEPARATOR
+                        + getTwoRandomDigits(random))
                 .distinct()
                 .limit(NUMBER_OF_GROUPS)
                 .map(GroupDto::new)
@@ -64,20 +106,43 @@ public class GroupsGenerator implements Generatable<GroupDto> {
 
         LOGGER.info("Generated {} groups.", generatedGroups.size());
         LOGGER.debug("Generated groups: {}", generatedGroups);
-        return generatedGroups;
+        return generatedGroups.stream();
+    }
+
+    private Stream<GroupDto> generateAtScale(SplittableRandom random) {
+        int numberOfGroups = GenerationScale.getNumberOfGroups(scaleFactor);
+
+        LOGGER.info("Generating {} groups with scale factor {}.", numberOfGroups, scaleFactor);
+        return ParallelGeneration.generate(numberOfGroups, GenerationScale.MAX_NUMBER_OF_GROUPS, random, parallel,
+                (segment, segmentRandom) -> {
+                    IntUnaryOperator permutation = GenerationScale
+                            .getRandomPermutation(GenerationScale.MAX_NUMBER_OF_GROUPS, segmentRandom);
+                    return index -> new GroupDto(getGroupNameByCounter(permutation.applyAsInt(index)));
+                });
+    }
+
+    private String getGroupNameByCounter(int counter) {
+        int initialsIndex = counter / 100;
+        StringBuilder groupName = new StringBuilder();
+        groupName.append((char) (initialsIndex / 26 + 'A'));
+        groupName.append((char) (initialsIndex % 26 + 'A'));
+        groupName.append(SEPARATOR);
+        groupName.append(counter % 100 / 10);
+        groupName.append(counter % 10);
+        return groupName.toString();
     }
 
-    private String getRandomInitials() {
+    private String getRandomInitials(RandomGenerator random) {
         StringBuilder initials = new StringBuilder();
-        initials.append((char) (RANDOM.nextInt(26) + 'A'));
-        initials.append((char) (RANDOM.nextInt(26) + 'A'));
+        initials.append((char) (random.nextInt(26) + 'A'));
+        initials.append((char) (random.nextInt(26) + 'A'));
         return initials.toString();
     }
 
-    private String getTwoRandomDigits() {
+    private String getTwoRandomDigits(RandomGenerator random) {
         StringBuilder twoRandomDigits = new StringBuilder();
-        twoRandomDigits.append(RANDOM.nextInt(10));
-        twoRandomDigits.append(RANDOM.nextInt(10));
+        twoRandomDigits.append(random.nextInt(10));
+        twoRandomDigits.append(random.nextInt(10));
         return twoRandomDigits.toString();
     }
 
@@ -1,13 +1,19 @@
 package ua.foxminded.schoolapp.service.generate.impl;
 
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.random.RandomGenerator;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import ua.foxminded.schoolapp.service.generate.Generatable;
+import ua.foxminded.schoolapp.service.generate.GenerationScale;
+import ua.foxminded.schoolapp.service.generate.ParallelGeneration;
 import ua.foxminded.schoolapp.service.generate.Reader;
 import ua.foxminded.schoolapp.dto.StudentDto;
 import ua.foxminded.schoolapp.exception.DataGenerationException;
@@ -25,6 +31,20 @@ import ua.foxminded.schoolapp.exception.DataGenerationException;
  * files specified by the file paths "students/first_names.txt" and
  * "students/last_names.txt" respectively, and they must have at least 20
  * entries each.
+ * <p>
+ * When the {@code school.generation.scale-factor} property is greater than
+ * zero, the number of students is taken from {@link GenerationScale}. Each
+ * student then gets a unique full name: every round of students uses each
+ * combination of a first name and a last name from the files exactly once, and
+ * the number of the round is appended to the last name after a
+ * {@link #ROUND_SEPARATOR}. The combinations of every round are shuffled with
+ * their own random permutation, so no set of already generated names has to be
+ * kept in memory. The rounds are generated with {@link ParallelGeneration}, in
+ * parallel if the {@code school.generation.parallel} property is set.
+ * <p>
+ * All random choices are made with a {@link SplittableRandom} created from the
+ * {@code school.generation.seed} property, so the same seed always produces the
+ * same students. If no seed is set, a random one is chosen and logged.
  *
  * @author Serhii Bohdan
  */
@@ -42,35 +62,59 @@ public class StudentsGenerator implements Generatable<StudentDto> {
     private static final int MIN_NUMBER_OF_STUDENT_NAMES = 20;
 
     /**
-     * The logger for logging events and messages in the {@link StudentsGenerator}
-     * class.
+     * The separator between a last name and the number of the round of names
+     * combinations.
      */
-    private static final Logger LOGGER = LoggerFactory.getLogger(StudentsGenerator.class);
+    private static final String ROUND_SEPARATOR = "-";
 
     /**
-     * The Random object used for generating random values.
+     * The logger for logging events and messages in the {@link StudentsGenerator}
+     * class.
      */
-    private static final Random RANDOM = new Random();
+    private static final Logger LOGGER = LoggerFactory.getLogger(StudentsGenerator.class);
 
     private final Reader reader;
+    private final int scaleFactor;
+    private final Long seed;
+    private final boolean parallel;
 
     /**
      * Constructs a StudentsGenerator object with the specified Reader.
      *
-     * @param reader the Reader object used to read data.
+     * @param reader      the Reader object used to read data.
+     * @param scaleFactor the scale factor of the generated data set, zero for
+     *                    the fixture data set.
+     * @param seed        the seed of the random values, or {@code null} for a
+     *                    random seed.
+     * @param parallel    whether students are generated in parallel.
      */
-    public StudentsGenerator(Reader reader) {
+    public StudentsGenerator(Reader reader,
+            @Value("${school.generation.scale-factor:" + GenerationScale.FIXTURE_SCALE_FACTOR + "}") int scaleFactor,
+            @Value("${school.generation.seed:#{null}}") Long seed, @Value("${school.generation.parallel:false}") boolean parallel) {
         this.reader = reader;
+        this.scaleFactor = scaleFactor;
+        this.seed = seed;
+        this.parallel = parallel;
     }
 
     /**
-     * Generates a list of randomly generated Student Dto objects.
+     * Generates a stream of randomly generated Student Dto objects. With a scale
+     * factor greater than zero the students are created lazily while the stream
+     * is consumed.
      *
-     * @return a list of randomly generated Student Dto objects.
+     * @return a sized stream of randomly generated Student Dto objects.
      */
-    public List<StudentDto> toGenerate() {
-        LOGGER.info("Generating students started...");
-        List<String[]> studentsNames = getStudentsFullName();
+    @Override
+    public Stream<StudentDto> toGenerateStream() {
+        long generationSeed = ParallelGeneration.resolveSeed(seed);
+        LOGGER.info("Generating students started with seed {}...", generationSeed);
+        SplittableRandom random = new SplittableRandom(generationSeed);
+
+        if (!GenerationScale.isFixture(scaleFactor)) {
+            return generateAtScale(random);
+        }
+
+        List<String[]> studentsNames = getStudentsFullName(random);
 
         List<StudentDto> generatedStudents = IntStream.rangeClosed(0, NUMBER_OF_STUDENTS - 1)
                 .mapToObj(i -> {
@@ -83,17 +127,55 @@ public class StudentsGenerator implements Generatable<StudentDto> {
 
         LOGGER.info("Generated {} students.", generatedStudents.size());
         LOGGER.debug("Generated students: {}", generatedStudents);
-        return generatedStudents;
+        return generatedStudents.stream();
+    }
+
+    private Stream<StudentDto> generateAtScale(SplittableRandom random) {
+        int numberOfStudents = GenerationScale.getNumberOfStudents(scaleFactor);
+        List<String> firstNames = reader.readFileAndPopulateListWithLines("students/first_names.txt");
+        List<String> lastNames = reader.readFileAndPopulateListWithLines("students/last_names.txt");
+        checkStudentsNames(firstNames, lastNames);
+        int namesCombinationsNumber = firstNames.size() * lastNames.size();
+
+        LOGGER.info("Generating {} students with scale factor {}.", numberOfStudents, scaleFactor);
+        return ParallelGeneration.generate(numberOfStudents, namesCombinationsNumber, random, parallel,
+                (round, roundRandom) -> prepareRound(round, roundRandom, firstNames, lastNames));
+    }
+
+    private IntFunction<StudentDto> prepareRound(int round, SplittableRandom roundRandom, List<String> firstNames,
+            List<String> lastNames) {
+        int namesCombinationsNumber = firstNames.size() * lastNames.size();
+        IntUnaryOperator permutation = GenerationScale.getRandomPermutation(namesCombinationsNumber, roundRandom);
+        long roundStart = (long) round * namesCombinationsNumber;
+
+        return index -> getStudentByCombination(round, permutation.applyAsInt((int) (index - roundStart)), firstNames,
+                lastNames);
+    }
+
+    private StudentDto getStudentByCombination(int round, int combination, List<String> firstNames,
+            List<String> lastNames) {
+        String firstName = firstNames.get(combination % firstNames.size());
+        String lastName = lastNames.get(combination / firstNames.size());
+
+        return new StudentDto(firstName, round == 0 ? lastName : lastName + ROUND_SEPARATOR + round);
+    }
+
+    private void checkStudentsNames(List<String> firstNames, List<String> lastNames) {
+        if (firstNames.size() < MIN_NUMBER_OF_STUDENT_NAMES || firstNames.size() != lastNames.size()) {
+            LOGGER.error("An error occurred during students' names generation.");
+            throw new DataGenerationException("An error occurred during the generation of Students data. The number of "
+                    + "names and surnames in the files must be equal and not less than twenty.");
+        }
     }
 
-    private List<String[]> getStudentsFullName() {
+    private List<String[]> getStudentsFullName(RandomGenerator random) {
         LOGGER.debug("Getting students' full names");
         List<String> firstNames = reader.readFileAndPopulateListWithLines("students/first_names.txt");
         List<String> lastNames = reader.readFileAndPopulateListWithLines("students/last_names.txt");
 
         if (firstNames.size() >= MIN_NUMBER_OF_STUDENT_NAMES && firstNames.size() == lastNames.size()) {
-            return Stream.generate(() -> firstNames.get(RANDOM.nextInt(MIN_NUMBER_OF_STUDENT_NAMES)) + " "
-                            + lastNames.get(RANDOM.nextInt(MIN_NUMBER_OF_STUDENT_NAMES)))
+            return Stream.generate(() -> firstNames.get(random.nextInt(MIN_NUMBER_OF_STUDENT_NAMES)) + " "
+                            + lastNames.get(random.nextInt(MIN_NUMBER_OF_STUDENT_NAMES)))
                     .distinct()
                     .limit(NUMBER_OF_STUDENTS)
                     .map(fullName -> fullName.split(" "))
@@ -0,0 +1,19 @@
+package ua.foxminded.schoolapp.service.load;
+
+/**
+ * Interface for loading large amounts of generated data into the database,
+ * bypassing the persistence context.
+ *
+ * @author Serhii Bohdan
+ */
+public interface BulkLoader {
+
+    /**
+     * Generates groups, students, courses and student-course relations and
+     * writes them into the corresponding database tables.
+     *
+     * @return the total number of rows written to all tables.
+     */
+    long loadSchema();
+
+}
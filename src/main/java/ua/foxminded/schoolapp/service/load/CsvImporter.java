@@ -0,0 +1,66 @@
+package ua.foxminded.schoolapp.service.load;
+
+import java.nio.file.Path;
+
+/**
+ * Interface for importing groups, students, courses and enrollments from CSV
+ * files into the database, bypassing the persistence context.
+ * <p>
+ * The first row of every file is a header and is skipped. The columns of the
+ * files are:
+ * <ul>
+ * <li>groups: {@code group_name}</li>
+ * <li>courses: {@code course_name,course_description}</li>
+ * <li>students: {@code first_name,last_name,group_name}</li>
+ * <li>enrollments: {@code first_name,last_name,course_name}</li>
+ * </ul>
+ * Rows that break the validation rules of the application, refer to missing
+ * groups, students or courses, or repeat stored rows are skipped.
+ *
+ * @author Serhii Bohdan
+ */
+public interface CsvImporter {
+
+    /**
+     * Imports the groups, courses, students and enrollments files of the
+     * configured import directory, in this order. Missing files are skipped.
+     *
+     * @return the total number of rows written to all tables.
+     */
+    long importSchema();
+
+    /**
+     * Imports groups from the given CSV file.
+     *
+     * @param file the CSV file of groups
+     * @return the number of written groups.
+     */
+    long importGroups(Path file);
+
+    /**
+     * Imports courses from the given CSV file.
+     *
+     * @param file the CSV file of courses
+     * @return the number of written courses.
+     */
+    long importCourses(Path file);
+
+    /**
+     * Imports students from the given CSV file. The groups of the students are
+     * found by their names.
+     *
+     * @param file the CSV file of students
+     * @return the number of written students.
+     */
+    long importStudents(Path file);
+
+    /**
+     * Imports enrollments of students in courses from the given CSV file. The
+     * students are found by their full names and the courses by their names.
+     *
+     * @param file the CSV file of enrollments
+     * @return the number of written enrollments.
+     */
+    long importEnrollments(Path file);
+
+}
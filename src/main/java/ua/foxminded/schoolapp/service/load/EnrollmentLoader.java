@@ -0,0 +1,20 @@
+package ua.foxminded.schoolapp.service.load;
+
+/**
+ * Interface for enrolling generated students in generated courses directly in
+ * the database, bypassing the persistence context.
+ *
+ * @author Serhii Bohdan
+ */
+public interface EnrollmentLoader {
+
+    /**
+     * Enrolls every student stored in the database in a random set of the stored
+     * courses and writes the enrollments into the {@code students_courses}
+     * table.
+     *
+     * @return the number of written enrollments.
+     */
+    long enrollStudents();
+
+}
@@ -0,0 +1,246 @@
+package ua.foxminded.schoolapp.service.load.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.exception.DataGenerationException;
+import ua.foxminded.schoolapp.exception.DataLoadingException;
+import ua.foxminded.schoolapp.service.generate.Generatable;
+import ua.foxminded.schoolapp.service.generate.GroupAllocator;
+import ua.foxminded.schoolapp.service.generate.ParallelGeneration;
+import ua.foxminded.schoolapp.service.load.BulkLoader;
+
+/**
+ * The CopyBulkLoader class is an implementation of the {@link BulkLoader}
+ * interface that streams generated rows into PostgreSQL with the
+ * {@code COPY ... FROM STDIN} command of the PgJDBC {@link CopyManager}.
+ * <p>
+ * This class is annotated with {@code @Component} to indicate that it is a
+ * Spring component, and it can be automatically discovered and registered as a
+ * bean in the Spring context. Rows are encoded as CSV and sent to the server in
+ * chunks of {@link #COPY_BUFFER_SIZE} characters, so only one chunk is kept in
+ * memory at a time. The connection bound to the current transaction is used, so
+ * the loaded data is committed or rolled back together with the caller's
+ * transaction. Throughput in rows per second is logged for every table.
+ * <p>
+ * Students are assigned to groups by a {@link GroupAllocator}, which keeps the
+ * group sizes between the {@code school.generation.group-size} limits, and
+ * their courses are chosen by a {@link RandomCourseChooser}. Both draw from
+ * {@link SplittableRandom} instances created from the
+ * {@code school.generation.seed} property, exactly like the JPA seeding, so both
+ * loaders produce the same distribution of students and enrollments.
+ * <p>
+ * Rows are copied without IDs, so each of them takes the next value of its ID
+ * sequence. The sequences are incremented by 50 for the pooled ID generators
+ * of Hibernate, so the IDs of the loaded rows are 50 apart, as the V1.2
+ * migration describes.
+ *
+ * @author Serhii Bohdan
+ */
+@Component
+public class CopyBulkLoader implements BulkLoader {
+
+    /**
+     * The number of characters collected before they are sent to the server.
+     */
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The logger for logging events and messages in the {@link CopyBulkLoader}
+     * class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CopyBulkLoader.class);
+
+    private final DataSource dataSource;
+    private final Generatable<GroupDto> groupsGenerator;
+    private final Generatable<StudentDto> studentsGenerator;
+    private final Generatable<CourseDto> coursesGenerator;
+    private final int minGroupSize;
+    private final int maxGroupSize;
+    private final Long seed;
+
+    /**
+     * Constructs a CopyBulkLoader with the specified data source, generators and
+     * generation settings.
+     *
+     * @param dataSource        the data source used to obtain a PostgreSQL
+     *                          connection
+     * @param groupsGenerator   the generator of groups to load
+     * @param studentsGenerator the generator of students to load
+     * @param coursesGenerator  the generator of courses to load
+     * @param minGroupSize      the minimum number of students in a group
+     * @param maxGroupSize      the maximum number of students in a group
+     * @param seed              the seed of the random values, or {@code null}
+     *                          for a random seed
+     */
+    public CopyBulkLoader(DataSource dataSource, Generatable<GroupDto> groupsGenerator,
+            Generatable<StudentDto> studentsGenerator, Generatable<CourseDto> coursesGenerator,
+            @Value("${school.generation.group-size.min:10}") int minGroupSize,
+            @Value("${school.generation.group-size.max:30}") int maxGroupSize,
+            @Value("${school.generation.seed:#{null}}") Long seed) {
+        this.dataSource = dataSource;
+        this.groupsGenerator = groupsGenerator;
+        this.studentsGenerator = studentsGenerator;
+        this.coursesGenerator = coursesGenerator;
+        this.minGroupSize = minGroupSize;
+        this.maxGroupSize = maxGroupSize;
+        this.seed = seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long loadSchema() {
+        LOGGER.info("Bulk loading generated data with COPY");
+        long startTime = System.nanoTime();
+        long generationSeed = ParallelGeneration.resolveSeed(seed);
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+
+        try {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            long rows = copyRows(copyManager, "groups (group_name)",
+                    groupsGenerator.toGenerateStream()
+                            .map(group -> toCsvLine(group.getGroupName())));
+
+            int[] groupIds = selectIds(connection, "SELECT group_id FROM groups ORDER BY group_id");
+            rows += copyRows(copyManager, "students (first_name, last_name, group_id)",
+                    toStudentCsvLines(groupIds, generationSeed));
+
+            rows += copyRows(copyManager, "courses (course_name, course_description)",
+                    coursesGenerator.toGenerateStream()
+                            .map(course -> toCsvLine(course.getCourseName(), course.getDescription())));
+
+            int[] studentIds = selectIds(connection, "SELECT student_id FROM students ORDER BY student_id");
+            int[] courseIds = selectIds(connection, "SELECT course_id FROM courses ORDER BY course_id");
+            rows += copyRows(copyManager, "students_courses (student_id, course_id)",
+                    toEnrollmentCsvLines(studentIds, courseIds, generationSeed));
+
+            logThroughput("all tables", rows, startTime);
+            return rows;
+        } catch (SQLException e) {
+            LOGGER.error("Bulk loading of generated data failed", e);
+            throw new DataLoadingException("Bulk loading of generated data failed: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private long copyRows(CopyManager copyManager, String target, Stream<String> csvLines) throws SQLException {
+        long startTime = System.nanoTime();
+        CopyIn copyIn = copyManager.copyIn("COPY " + target + " FROM STDIN WITH (FORMAT csv)");
+
+        try {
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+            Iterator<String> lines = csvLines.iterator();
+
+            while (lines.hasNext()) {
+                buffer.append(lines.next());
+
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    writeToCopy(copyIn, buffer);
+                }
+            }
+
+            writeToCopy(copyIn, buffer);
+            long rows = copyIn.endCopy();
+            logThroughput(target, rows, startTime);
+            return rows;
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private void writeToCopy(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (!buffer.isEmpty()) {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+
+    private int[] selectIds(Connection connection, String query) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(query)) {
+            IntStream.Builder ids = IntStream.builder();
+
+            while (resultSet.next()) {
+                ids.add(resultSet.getInt(1));
+            }
+
+            return ids.build().toArray();
+        }
+    }
+
+    private Stream<String> toStudentCsvLines(int[] groupIds, long generationSeed) {
+        Spliterator<StudentDto> generatedStudents = studentsGenerator.toGenerateStream().spliterator();
+        long studentsNumber = generatedStudents.getExactSizeIfKnown();
+
+        if (studentsNumber < 0) {
+            LOGGER.error("The students generator did not report the number of students");
+            throw new DataGenerationException("The students generator must report the exact number of students.");
+        }
+
+        if (groupIds.length == 0) {
+            LOGGER.warn("There are no groups for {} generated students", studentsNumber);
+            return Stream.empty();
+        }
+
+        GroupAllocator groupAllocator = new GroupAllocator(groupIds.length, studentsNumber, minGroupSize,
+                maxGroupSize, new SplittableRandom(generationSeed));
+        return StreamSupport.stream(generatedStudents, false)
+                .map(student -> toCsvLine(student.getFirstName(), student.getLastName(),
+                        String.valueOf(groupIds[groupAllocator.nextGroupIndex()])));
+    }
+
+    private Stream<String> toEnrollmentCsvLines(int[] studentIds, int[] courseIds, long generationSeed) {
+        if (courseIds.length == 0) {
+            LOGGER.warn("There are no courses to enroll students in");
+            return Stream.empty();
+        }
+
+        RandomCourseChooser courseChooser = new RandomCourseChooser(courseIds, new SplittableRandom(generationSeed));
+        int[] studentCourses = new int[RandomCourseChooser.MAX_COURSES_PER_STUDENT];
+        return Arrays.stream(studentIds).boxed()
+                .flatMap(studentId -> Arrays.stream(studentCourses, 0, courseChooser.chooseCourses(studentCourses))
+                        .mapToObj(courseId -> toCsvLine(String.valueOf(studentId), String.valueOf(courseId))));
+    }
+
+    private String toCsvLine(String... values) {
+        List<String> quotedValues = Arrays.stream(values)
+                .map(value -> '"' + value.replace("\"", "\"\"") + '"')
+                .toList();
+        return String.join(",", quotedValues) + "\n";
+    }
+
+    private void logThroughput(String target, long rows, long startTime) {
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        LOGGER.info("Copied {} rows into {} in {} ms ({} rows/s)", rows, target, elapsedMillis,
+                rows * 1000 / elapsedMillis);
+    }
+
+}
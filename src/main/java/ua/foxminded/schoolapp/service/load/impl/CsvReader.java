@@ -0,0 +1,186 @@
+package ua.foxminded.schoolapp.service.load.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import ua.foxminded.schoolapp.exception.DataLoadingException;
+
+/**
+ * The CsvReader class reads the rows of a UTF-8 CSV file one by one. The file
+ * is read through a {@link FileChannel} into a direct byte buffer and decoded
+ * into a char buffer of the same size, so only these two buffers and the
+ * current row are kept in memory, whatever the size of the file.
+ * <p>
+ * The rows are split into fields by a single pass over the characters, without
+ * regular expressions. Fields may be quoted with double quotes, and a quoted
+ * field may contain commas, line breaks and doubled quotes. Lines end with LF
+ * or CRLF, and empty lines are skipped.
+ *
+ * @author Serhii Bohdan
+ */
+final class CsvReader implements Closeable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final int END_OF_FILE = -1;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ByteBuffer bytes;
+    private final CharBuffer chars;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+    private final StringBuilder field = new StringBuilder();
+    private boolean channelIsRead;
+
+    /**
+     * Opens the given CSV file for reading.
+     *
+     * @param file       the CSV file to read
+     * @param bufferSize the size of the byte and char buffers
+     * @throws IOException if the file cannot be opened
+     */
+    CsvReader(Path file, int bufferSize) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.bytes = ByteBuffer.allocateDirect(bufferSize);
+        this.chars = CharBuffer.allocate(bufferSize);
+        this.chars.flip();
+    }
+
+    /**
+     * Reads the next row of the file.
+     *
+     * @param fields the list that is cleared and filled with the fields of the
+     *               row
+     * @return {@code true} if a row is read, {@code false} if the end of the file
+     *         is reached
+     * @throws IOException if the file cannot be read or is not valid UTF-8
+     */
+    boolean readRow(List<String> fields) throws IOException {
+        fields.clear();
+        field.setLength(0);
+        boolean rowIsStarted = false;
+        boolean insideQuotes = false;
+        int character;
+
+        while ((character = nextChar()) != END_OF_FILE) {
+            if (insideQuotes) {
+                if (character != QUOTE) {
+                    field.append((char) character);
+                } else if (peekChar() == QUOTE) {
+                    field.append((char) nextChar());
+                } else {
+                    insideQuotes = false;
+                }
+            } else if (character == QUOTE) {
+                insideQuotes = true;
+                rowIsStarted = true;
+            } else if (character == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+                rowIsStarted = true;
+            } else if (character == LINE_FEED || character == CARRIAGE_RETURN) {
+                if (character == CARRIAGE_RETURN && peekChar() == LINE_FEED) {
+                    nextChar();
+                }
+
+                if (rowIsStarted || !field.isEmpty()) {
+                    fields.add(field.toString());
+                    return true;
+                }
+            } else {
+                field.append((char) character);
+                rowIsStarted = true;
+            }
+        }
+
+        if (insideQuotes) {
+            throw new DataLoadingException("The last quoted field of the file " + file + " is not closed");
+        }
+
+        if (rowIsStarted || !field.isEmpty()) {
+            fields.add(field.toString());
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the number of bytes of the file read so far.
+     *
+     * @return the number of read bytes
+     * @throws IOException if the position of the channel cannot be read
+     */
+    long position() throws IOException {
+        return channel.position();
+    }
+
+    /**
+     * Returns the size of the file in bytes.
+     *
+     * @return the size of the file
+     * @throws IOException if the size of the file cannot be read
+     */
+    long size() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Closes the channel of the file.
+     *
+     * @throws IOException if the channel cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int nextChar() throws IOException {
+        return fillChars() ? chars.get() : END_OF_FILE;
+    }
+
+    private int peekChar() throws IOException {
+        return fillChars() ? chars.get(chars.position()) : END_OF_FILE;
+    }
+
+    private boolean fillChars() throws IOException {
+        while (!chars.hasRemaining()) {
+            if (channelIsRead) {
+                return false;
+            }
+
+            chars.clear();
+            channelIsRead = channel.read(bytes) == END_OF_FILE;
+            bytes.flip();
+            CoderResult result = decoder.decode(bytes, chars, channelIsRead);
+
+            if (result.isError()) {
+                result.throwException();
+            }
+
+            if (channelIsRead) {
+                decoder.flush(chars);
+            }
+
+            bytes.compact();
+            chars.flip();
+        }
+
+        return true;
+    }
+
+}
@@ -0,0 +1,280 @@
+package ua.foxminded.schoolapp.service.load.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import ua.foxminded.schoolapp.exception.DataLoadingException;
+import ua.foxminded.schoolapp.service.load.CsvImporter;
+import ua.foxminded.schoolapp.service.logic.UserInputValidator;
+
+/**
+ * The JdbcCsvImporter class is an implementation of the {@link CsvImporter}
+ * interface that streams CSV files into the database with one insert statement
+ * per batch of rows.
+ * <p>
+ * This class is annotated with {@code @Component} to indicate that it is a
+ * Spring component, and it can be automatically discovered and registered as a
+ * bean in the Spring context. Files are read row by row with a
+ * {@link CsvReader}, and the rows are collected into batches of
+ * {@code school.import.batch-size} rows. Every batch is checked with the batch
+ * rules of the {@link UserInputValidator}, and its valid rows are inserted with
+ * a single statement that binds every column as one SQL array and unnests it
+ * into rows. The row count of that statement is exactly the number of written
+ * rows, whatever the batching settings of the driver, and the number of bind
+ * parameters does not grow with the size of a batch. The groups, students and
+ * courses that rows refer to by name are looked up by the insert statements
+ * themselves, so neither entities nor lookup maps are kept in memory. Only the
+ * buffers of the reader and one batch are held at a time, whatever the size of
+ * the file. Progress and throughput in rows per second are logged at most every
+ * {@link #PROGRESS_LOG_INTERVAL_NANOS} nanoseconds and once more at the end of
+ * every file.
+ * <p>
+ * Imported groups, courses and students get their IDs from the column
+ * defaults, one sequence value per row. The sequences step by 50 because
+ * Hibernate reserves its IDs in blocks of that size, so consecutive imported
+ * rows have IDs 50 apart.
+ *
+ * @author Serhii Bohdan
+ */
+@Component
+public class JdbcCsvImporter implements CsvImporter {
+
+    /**
+     * The minimum time between two progress messages of a file.
+     */
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = 1_000_000_000L;
+
+    private static final String GROUPS_FILE = "groups.csv";
+    private static final String COURSES_FILE = "courses.csv";
+    private static final String STUDENTS_FILE = "students.csv";
+    private static final String ENROLLMENTS_FILE = "enrollments.csv";
+
+    private static final String INSERT_GROUPS = """
+            INSERT INTO groups (group_name)
+            SELECT * FROM unnest(?)
+            ON CONFLICT DO NOTHING""";
+
+    private static final String INSERT_COURSES = """
+            INSERT INTO courses (course_name, course_description)
+            SELECT * FROM unnest(?, ?)
+            ON CONFLICT DO NOTHING""";
+
+    private static final String INSERT_STUDENTS = """
+            INSERT INTO students (first_name, last_name, group_id)
+            SELECT r.first_name, r.last_name, g.group_id
+            FROM unnest(?, ?, ?) AS r (first_name, last_name, group_name)
+            JOIN groups g ON g.group_name = r.group_name
+            ON CONFLICT DO NOTHING""";
+
+    private static final String INSERT_ENROLLMENTS = """
+            INSERT INTO students_courses (student_id, course_id)
+            SELECT s.student_id, c.course_id
+            FROM unnest(?, ?, ?) AS r (first_name, last_name, course_name)
+            JOIN students s ON s.first_name = r.first_name AND s.last_name = r.last_name
+            JOIN courses c ON c.course_name = r.course_name
+            ON CONFLICT DO NOTHING""";
+
+    /**
+     * The logger for logging events and messages in the {@link JdbcCsvImporter}
+     * class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdbcCsvImporter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserInputValidator validator;
+    private final Path importDirectory;
+    private final int batchSize;
+    private final int bufferSize;
+
+    /**
+     * Constructs a JdbcCsvImporter with the specified data source, validator and
+     * import settings.
+     *
+     * @param dataSource      the data source of the imported tables
+     * @param validator       the validator whose batch rules check the rows
+     * @param importDirectory the directory with the CSV files imported by
+     *                        {@link #importSchema()}
+     * @param batchSize       the number of rows inserted with one batch
+     * @param bufferSize      the size of the buffers of the CSV reader
+     */
+    public JdbcCsvImporter(DataSource dataSource, UserInputValidator validator,
+            @Value("${school.import.directory:import}") String importDirectory,
+            @Value("${school.import.batch-size:1000}") int batchSize,
+            @Value("${school.import.buffer-size:65536}") int bufferSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.validator = validator;
+        this.importDirectory = Path.of(importDirectory);
+        this.batchSize = batchSize;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long importSchema() {
+        LOGGER.info("Importing CSV files from {}", importDirectory.toAbsolutePath());
+        long rows = importIfExists(GROUPS_FILE, this::importGroups)
+                + importIfExists(COURSES_FILE, this::importCourses)
+                + importIfExists(STUDENTS_FILE, this::importStudents)
+                + importIfExists(ENROLLMENTS_FILE, this::importEnrollments);
+
+        LOGGER.info("Imported {} rows from {}", rows, importDirectory.toAbsolutePath());
+        return rows;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long importGroups(Path file) {
+        return importFile(file, 1, rows -> insertValidRows(INSERT_GROUPS, rows,
+                validator.validateGroupNamePatterns(getColumn(rows, 0))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long importCourses(Path file) {
+        return importFile(file, 2, rows -> insertValidRows(INSERT_COURSES, rows,
+                validator.validateNameLengths(getColumn(rows, 0))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long importStudents(Path file) {
+        return importFile(file, 3, rows -> insertValidRows(INSERT_STUDENTS, rows,
+                and(validator.validateNameLengths(getColumn(rows, 0)),
+                        validator.validateNameLengths(getColumn(rows, 1)),
+                        validator.validateGroupNamePatterns(getColumn(rows, 2)))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long importEnrollments(Path file) {
+        return importFile(file, 3, rows -> insertValidRows(INSERT_ENROLLMENTS, rows,
+                and(validator.validateNameLengths(getColumn(rows, 0)),
+                        validator.validateNameLengths(getColumn(rows, 1)),
+                        validator.validateNameLengths(getColumn(rows, 2)))));
+    }
+
+    private long importIfExists(String fileName, ToLongFunction<Path> fileImporter) {
+        Path file = importDirectory.resolve(fileName);
+
+        if (!Files.isRegularFile(file)) {
+            LOGGER.warn("There is no file {} to import", file);
+            return 0;
+        }
+
+        return fileImporter.applyAsLong(file);
+    }
+
+    private long importFile(Path file, int columns, ToIntFunction<List<String[]>> batchWriter) {
+        LOGGER.info("Importing {} in batches of {} rows", file, batchSize);
+        long startTime = System.nanoTime();
+        long lastProgressTime = startTime;
+        long readRows = 0;
+        long writtenRows = 0;
+
+        try (CsvReader reader = new CsvReader(file, bufferSize)) {
+            List<String> fields = new ArrayList<>(columns);
+            List<String[]> batch = new ArrayList<>(batchSize);
+            reader.readRow(fields);
+
+            while (reader.readRow(fields)) {
+                readRows++;
+
+                if (fields.size() == columns) {
+                    batch.add(fields.toArray(String[]::new));
+                } else {
+                    LOGGER.debug("Skipped row {} of {} with {} fields instead of {}", readRows, file, fields.size(),
+                            columns);
+                }
+
+                if (batch.size() == batchSize) {
+                    writtenRows += batchWriter.applyAsInt(batch);
+                    batch.clear();
+
+                    if (System.nanoTime() - lastProgressTime >= PROGRESS_LOG_INTERVAL_NANOS) {
+                        lastProgressTime = System.nanoTime();
+                        LOGGER.info("Importing {}: {}% read, {} rows read, {} rows written ({} rows/s)",
+                                file.getFileName(), reader.position() * 100 / Math.max(1, reader.size()), readRows,
+                                writtenRows, getRowsPerSecond(readRows, startTime));
+                    }
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                writtenRows += batchWriter.applyAsInt(batch);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Import of {} failed", file, e);
+            throw new DataLoadingException("Import of " + file + " failed: " + e.getMessage(), e);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        LOGGER.info("Imported {} of {} rows from {} in {} ms ({} rows/s)", writtenRows, readRows, file,
+                elapsedMillis, getRowsPerSecond(readRows, startTime));
+        return writtenRows;
+    }
+
+    private int insertValidRows(String insert, List<String[]> rows, boolean[] rowsAreValid) {
+        List<String[]> validRows = new ArrayList<>(rows.size());
+
+        for (int i = 0; i < rowsAreValid.length; i++) {
+            if (rowsAreValid[i]) {
+                validRows.add(rows.get(i));
+            }
+        }
+
+        if (validRows.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update(insert, statement -> {
+            for (int column = 0; column < validRows.get(0).length; column++) {
+                statement.setArray(column + 1, statement.getConnection()
+                        .createArrayOf("text", getColumn(validRows, column).toArray()));
+            }
+        });
+    }
+
+    private List<String> getColumn(List<String[]> rows, int column) {
+        return rows.stream()
+                .map(row -> row[column])
+                .toList();
+    }
+
+    private boolean[] and(boolean[] firstRules, boolean[]... otherRules) {
+        boolean[] rulesPass = firstRules.clone();
+
+        for (boolean[] rules : otherRules) {
+            for (int i = 0; i < rulesPass.length; i++) {
+                rulesPass[i] &= rules[i];
+            }
+        }
+
+        return rulesPass;
+    }
+
+    private long getRowsPerSecond(long rows, long startTime) {
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        return rows * 1000 / elapsedMillis;
+    }
+
+}
@@ -0,0 +1,145 @@
+package ua.foxminded.schoolapp.service.load.impl;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import ua.foxminded.schoolapp.service.generate.ParallelGeneration;
+import ua.foxminded.schoolapp.service.load.EnrollmentLoader;
+
+/**
+ * The JdbcEnrollmentLoader class is an implementation of the
+ * {@link EnrollmentLoader} interface that writes enrollments with batched JDBC
+ * inserts.
+ * <p>
+ * This class is annotated with {@code @Component} to indicate that it is a
+ * Spring component, and it can be automatically discovered and registered as a
+ * bean in the Spring context. The identifiers of all courses are read once, and
+ * the identifiers of students are streamed from the database with a fetch size
+ * of {@link #FETCH_SIZE}. The courses of every student are chosen by a
+ * {@link RandomCourseChooser}, and the enrollments are inserted in batches of
+ * {@link #BATCH_SIZE} rows. Random values are taken from a
+ * {@link SplittableRandom} created from the {@code school.generation.seed}
+ * property.
+ *
+ * @author Serhii Bohdan
+ */
+@Component
+public class JdbcEnrollmentLoader implements EnrollmentLoader {
+
+    /**
+     * The number of enrollments inserted with one batch.
+     */
+    private static final int BATCH_SIZE = 1_000;
+
+    /**
+     * The number of student identifiers fetched from the database at once.
+     */
+    private static final int FETCH_SIZE = 10_000;
+
+    /**
+     * The statement that inserts one enrollment.
+     */
+    private static final String INSERT_ENROLLMENT = "INSERT INTO students_courses (student_id, course_id) "
+            + "VALUES (?, ?)";
+
+    /**
+     * The logger for logging events and messages in the
+     * {@link JdbcEnrollmentLoader} class.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdbcEnrollmentLoader.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Long seed;
+
+    /**
+     * Constructs a JdbcEnrollmentLoader with the specified data source.
+     *
+     * @param dataSource the data source of the students, courses and
+     *                   enrollments
+     * @param seed       the seed of the random values, or {@code null} for a
+     *                   random seed
+     */
+    public JdbcEnrollmentLoader(DataSource dataSource, @Value("${school.generation.seed:#{null}}") Long seed) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.seed = seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long enrollStudents() {
+        LOGGER.info("Enrolling students in courses with batched inserts");
+        long startTime = System.nanoTime();
+        int[] courseIds = jdbcTemplate.queryForList("SELECT course_id FROM courses ORDER BY course_id", Integer.class)
+                .stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        if (courseIds.length == 0) {
+            LOGGER.warn("There are no courses to enroll students in");
+            return 0;
+        }
+
+        EnrollmentWriter enrollmentWriter = new EnrollmentWriter(new RandomCourseChooser(courseIds,
+                new SplittableRandom(ParallelGeneration.resolveSeed(seed))));
+        jdbcTemplate.query("SELECT student_id FROM students ORDER BY student_id", enrollmentWriter);
+        long enrollments = enrollmentWriter.finish();
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        LOGGER.info("Inserted {} enrollments in {} ms ({} rows/s)", enrollments, elapsedMillis,
+                enrollments * 1000 / elapsedMillis);
+        return enrollments;
+    }
+
+    private final class EnrollmentWriter implements RowCallbackHandler {
+
+        private final RandomCourseChooser courseChooser;
+        private final int[] studentCourses = new int[RandomCourseChooser.MAX_COURSES_PER_STUDENT];
+        private List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        private long writtenEnrollments;
+
+        private EnrollmentWriter(RandomCourseChooser courseChooser) {
+            this.courseChooser = courseChooser;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            int studentId = resultSet.getInt(1);
+            int coursesNumber = courseChooser.chooseCourses(studentCourses);
+
+            for (int i = 0; i < coursesNumber; i++) {
+                batch.add(new Object[] { studentId, studentCourses[i] });
+
+                if (batch.size() == BATCH_SIZE) {
+                    writeBatch();
+                }
+            }
+        }
+
+        private long finish() {
+            writeBatch();
+            return writtenEnrollments;
+        }
+
+        private void writeBatch() {
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_ENROLLMENT, batch);
+                writtenEnrollments += batch.size();
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+
+    }
+
+}
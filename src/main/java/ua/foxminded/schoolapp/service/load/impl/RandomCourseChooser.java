@@ -0,0 +1,68 @@
+package ua.foxminded.schoolapp.service.load.impl;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The RandomCourseChooser class chooses the courses a generated student is
+ * enrolled in. Every student gets one to {@link #MAX_COURSES_PER_STUDENT}
+ * distinct courses drawn uniformly from the given course identifiers, so every
+ * loader that enrolls generated students produces the same distribution of
+ * enrollments for the same random values.
+ *
+ * @author Serhii Bohdan
+ */
+final class RandomCourseChooser {
+
+    /**
+     * The maximum number of courses a student can be enrolled in.
+     */
+    static final int MAX_COURSES_PER_STUDENT = 3;
+
+    private final int[] courseIds;
+    private final RandomGenerator random;
+
+    /**
+     * Constructs a RandomCourseChooser for the given courses.
+     *
+     * @param courseIds the identifiers of the courses to choose from, not empty
+     * @param random    the source of random values
+     */
+    RandomCourseChooser(int[] courseIds, RandomGenerator random) {
+        this.courseIds = courseIds;
+        this.random = random;
+    }
+
+    /**
+     * Chooses the courses of the next student.
+     *
+     * @param studentCourses the array of at least
+     *                       {@link #MAX_COURSES_PER_STUDENT} elements that is
+     *                       filled with the identifiers of the chosen courses
+     * @return the number of chosen courses
+     */
+    int chooseCourses(int[] studentCourses) {
+        int coursesNumber = Math.min(random.nextInt(MAX_COURSES_PER_STUDENT) + 1, courseIds.length);
+
+        for (int i = 0; i < coursesNumber; i++) {
+            studentCourses[i] = getNewRandomCourseId(studentCourses, i);
+        }
+
+        return coursesNumber;
+    }
+
+    private int getNewRandomCourseId(int[] studentCourses, int chosenCoursesNumber) {
+        while (true) {
+            int courseId = courseIds[random.nextInt(courseIds.length)];
+            boolean alreadyChosen = false;
+
+            for (int i = 0; i < chosenCoursesNumber; i++) {
+                alreadyChosen |= studentCourses[i] == courseId;
+            }
+
+            if (!alreadyChosen) {
+                return courseId;
+            }
+        }
+    }
+
+}
@@ -2,7 +2,9 @@ package ua.foxminded.schoolapp.service.logic;
 
 import java.util.List;
 import java.util.Optional;
+import org.springframework.dao.DataIntegrityViolationException;
 import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.CourseSummary;
 import ua.foxminded.schoolapp.model.Course;
 
 /**
@@ -21,11 +23,14 @@ public interface CourseService {
     void initCourses();
 
     /**
-     * Adds a new course using the provided {@link CourseDto}.
+     * Adds a new course using the provided {@link CourseDto}. The course is
+     * inserted immediately, so a violated constraint is reported by this method.
      *
      * @param newCourse the {@link CourseDto} representing the new course to add
      * @return an {@link Optional} containing the added course if the operation was
      *         successful, or an empty {@link Optional} if not
+     * @throws DataIntegrityViolationException if a course with the same name or
+     *                                         description already exists
      */
     Optional<Course> addCourse(CourseDto newCourse);
 
@@ -55,19 +60,65 @@ public interface CourseService {
     List<Course> getAllCourses();
 
     /**
-     * Updates the information of an existing course.
+     * Retrieves the summaries of all courses, selecting only the columns the
+     * summaries need.
      *
-     * @param updatedCourse the updated course object
-     * @return an {@link Optional} containing the updated course if successful,
-     *         empty otherwise
+     * @return the summaries of all courses in the ascending order of their IDs
      */
-    Optional<Course> updateCourse(Course updatedCourse);
+    List<CourseSummary> getAllCourseSummaries();
 
     /**
-     * Deletes a course by its name.
+     * Retrieves the summaries of at most the given number of courses whose ID is
+     * greater than the given ID.
+     *
+     * @param courseId the ID after which the courses are retrieved, or
+     *                 {@code null} to start with the first course
+     * @param limit    the maximum number of courses to retrieve
+     * @return the summaries in the ascending order of the course IDs
+     */
+    List<CourseSummary> getCourseSummariesAfter(Integer courseId, int limit);
+
+    /**
+     * Retrieves the summaries of at most the given number of courses whose ID is
+     * less than the given ID and closest to it.
+     *
+     * @param courseId the ID before which the courses are retrieved, or
+     *                 {@code null} to end with the last course
+     * @param limit    the maximum number of courses to retrieve
+     * @return the summaries in the ascending order of the course IDs
+     */
+    List<CourseSummary> getCourseSummariesBefore(Integer courseId, int limit);
+
+    /**
+     * Checks whether at least one course exists, without loading any courses.
+     *
+     * @return {@code true} if there is at least one course, {@code false}
+     *         otherwise
+     */
+    boolean hasCourses();
+
+    /**
+     * Changes the name and the description of an existing course in a single
+     * statement, without loading it.
+     *
+     * @param courseName     the current name of the course
+     * @param newCourseName  the new name of the course
+     * @param newDescription the new description of the course
+     * @return {@code true} if a course with the given name was updated,
+     *         {@code false} otherwise
+     * @throws DataIntegrityViolationException if another course already has the
+     *                                         new name or description
+     */
+    boolean updateCourse(String courseName, String newCourseName, String newDescription);
+
+    /**
+     * Deletes a course by its name, together with the enrollments in it, in a
+     * single statement.
      *
      * @param courseName the name of the course to delete
+     * @return {@code true} if a course with the given name was deleted,
+     *         {@code false} otherwise
      */
-    void deleteCourseByName(String courseName);
+    boolean deleteCourseByName(String courseName);
 
 }
@@ -2,7 +2,10 @@ package ua.foxminded.schoolapp.service.logic;
 
 import java.util.List;
 import java.util.Optional;
+import org.springframework.dao.DataIntegrityViolationException;
 import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.GroupStudentsCount;
+import ua.foxminded.schoolapp.dto.GroupSummary;
 import ua.foxminded.schoolapp.model.Group;
 
 /**
@@ -21,12 +24,15 @@ public interface GroupService {
     void initGroups();
 
     /**
-     * Adds a new group using the provided {@link GroupDto} object.
+     * Adds a new group using the provided {@link GroupDto} object. The group is
+     * flushed to the database before this method returns.
      *
      * @param newGroup the {@link GroupDto} object representing the new group to add
      * @return An {@link Optional} containing the added group if the operation was
      *         successful, or an empty {@link Optional} if the operation was
      *         unsuccessful
+     * @throws DataIntegrityViolationException if a group with the same name
+     *                                         already exists
      */
     Optional<Group> addGroup(GroupDto newGroup);
 
@@ -47,28 +53,74 @@ public interface GroupService {
     List<Group> getAllGroups();
 
     /**
-     * Updates the information of an existing group.
+     * Retrieves the summaries of all groups, selecting only the columns the
+     * summaries need.
      *
-     * @param updatedGroup the updated group object
-     * @return an {@link Optional} containing the updated group if successful, empty
+     * @return the summaries of all groups in the ascending order of their IDs
+     */
+    List<GroupSummary> getAllGroupSummaries();
+
+    /**
+     * Retrieves the summaries of at most the given number of groups whose ID is
+     * greater than the given ID.
+     *
+     * @param groupId the ID after which the groups are retrieved, or
+     *                {@code null} to start with the first group
+     * @param limit   the maximum number of groups to retrieve
+     * @return the summaries in the ascending order of the group IDs
+     */
+    List<GroupSummary> getGroupSummariesAfter(Integer groupId, int limit);
+
+    /**
+     * Retrieves the summaries of at most the given number of groups whose ID is
+     * less than the given ID and closest to it.
+     *
+     * @param groupId the ID before which the groups are retrieved, or
+     *                {@code null} to end with the last group
+     * @param limit   the maximum number of groups to retrieve
+     * @return the summaries in the ascending order of the group IDs
+     */
+    List<GroupSummary> getGroupSummariesBefore(Integer groupId, int limit);
+
+    /**
+     * Checks whether at least one group exists, without loading any groups.
+     *
+     * @return {@code true} if there is at least one group, {@code false}
      *         otherwise
      */
-    Optional<Group> updateGroup(Group updatedGroup);
+    boolean hasGroups();
+
+    /**
+     * Renames an existing group in a single statement, without loading it.
+     *
+     * @param groupName    the current name of the group
+     * @param newGroupName the new name of the group
+     * @return {@code true} if a group with the given name was renamed,
+     *         {@code false} otherwise
+     * @throws DataIntegrityViolationException if a group with the new name
+     *                                         already exists
+     */
+    boolean updateGroup(String groupName, String newGroupName);
 
     /**
-     * Deletes a group by its name.
+     * Deletes a group by its name, together with its students and their course
+     * enrollments. The students are not loaded to be deleted.
      *
      * @param groupName the name of the group to delete
+     * @return {@code true} if a group with the given name was deleted,
+     *         {@code false} otherwise
      */
-    void deleteGroupByName(String groupName);
+    boolean deleteGroupByName(String groupName);
 
     /**
-     * Retrieves a list of groups with a given number of students or fewer.
+     * Retrieves a list of groups with a given number of students or fewer,
+     * together with their number of students.
      *
      * @param amountOfStudents the number of students for which to retrieve the
      *                         groups
-     * @return a list of groups with the given number of students or fewer
+     * @return a list of groups with the given number of students or fewer and
+     *         their number of students
      */
-    List<Group> getGroupsWithGivenNumberOfStudents(Integer amountOfStudents);
+    List<GroupStudentsCount> getGroupsWithGivenNumberOfStudents(Integer amountOfStudents);
 
 }
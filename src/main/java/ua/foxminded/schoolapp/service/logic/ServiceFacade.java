@@ -1,11 +1,18 @@
 package ua.foxminded.schoolapp.service.logic;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.CourseSummary;
+import ua.foxminded.schoolapp.dto.EnrollmentRequest;
 import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.GroupStudentsCount;
+import ua.foxminded.schoolapp.dto.GroupSummary;
+import ua.foxminded.schoolapp.dto.KeysetPage;
+import ua.foxminded.schoolapp.dto.KeysetPageRequest;
+import ua.foxminded.schoolapp.dto.StudentCoursesSummary;
 import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.dto.StudentRequest;
+import ua.foxminded.schoolapp.dto.StudentSummary;
 
 /**
  * The ServiceFacade interface provides methods for accessing the school
@@ -47,9 +54,18 @@ public interface ServiceFacade {
     /**
      * Retrieves a list of all groups in the school application.
      *
-     * @return a list of all groups
+     * @return a list of flat summaries of all groups
      */
-    List<GroupDto> getAllGroups();
+    List<GroupSummary> getAllGroups();
+
+    /**
+     * Retrieves one page of groups. The page is located by the ID of a group, so
+     * it is loaded in the same time no matter how many groups come before it.
+     *
+     * @param pageRequest the request describing the page to retrieve
+     * @return the page of flat summaries of groups
+     */
+    KeysetPage<GroupSummary> getGroupsPage(KeysetPageRequest pageRequest);
 
     /**
      * Updates the name of an existing group.
@@ -135,9 +151,19 @@ public interface ServiceFacade {
     /**
      * Retrieves a list of all courses in the school application.
      *
-     * @return a list of all courses
+     * @return a list of flat summaries of all courses
+     */
+    List<CourseSummary> getAllCourses();
+
+    /**
+     * Retrieves one page of courses. The page is located by the ID of a course,
+     * so it is loaded in the same time no matter how many courses come before
+     * it.
+     *
+     * @param pageRequest the request describing the page to retrieve
+     * @return the page of flat summaries of courses
      */
-    List<CourseDto> getAllCourses();
+    KeysetPage<CourseSummary> getCoursesPage(KeysetPageRequest pageRequest);
 
     /**
      * Updates the information of an existing course.
@@ -163,24 +189,36 @@ public interface ServiceFacade {
      * Retrieves groups with the given number of students.
      *
      * @param amountOfStudents the number of students for which to retrieve groups
-     * @return a map of groups and their number of students
+     * @return a list of groups with their number of students, ordered by the
+     *         group names, or {@code null} if the number is not valid
      */
-    Map<GroupDto, Integer> getGroupsWithGivenNumberOfStudents(Integer amountOfStudents);
+    List<GroupStudentsCount> getGroupsWithGivenNumberOfStudents(Integer amountOfStudents);
 
     /**
      * Retrieves students with their courses based on the given course name.
      *
      * @param courseName the name of the course for which to retrieve students
-     * @return a map of students and their courses
+     * @return a list of flat summaries of students with their courses, or
+     *         {@code null} if the course does not exist
      */
-    Map<StudentDto, Set<CourseDto>> getStudentsWithCoursesByCourseName(String courseName);
+    List<StudentCoursesSummary> getStudentsWithCoursesByCourseName(String courseName);
 
     /**
      * Retrieves all students with their groups.
      *
-     * @return a map of students and their groups
+     * @return a list of flat summaries of students with their groups
+     */
+    List<StudentSummary> getAllStudentsWithTheirGroups();
+
+    /**
+     * Retrieves one page of students with their groups. The page is located by
+     * the ID of a student, so it is loaded in the same time no matter how many
+     * students come before it.
+     *
+     * @param pageRequest the request describing the page to retrieve
+     * @return the page of students and their groups
      */
-    Map<StudentDto, GroupDto> getAllStudentsWithTheirGroups();
+    KeysetPage<StudentSummary> getStudentsWithTheirGroupsPage(KeysetPageRequest pageRequest);
 
     /**
      * Adds a student to a course with the given information.
@@ -204,11 +242,49 @@ public interface ServiceFacade {
      */
     boolean deleteStudentFromCourse(String firstName, String lastName, String courseName);
 
+    /**
+     * Adds many new students at once. Every item is checked by the rules of
+     * {@link #addNewStudent(String, String, String)}, and an item whose full name
+     * is taken, by an existing student or by an earlier item, is not added. The
+     * valid items are inserted together in a single transaction.
+     *
+     * @param newStudents the new students to add
+     * @return for every item, in the same order, {@code true} if the student is
+     *         added by this call, {@code false} otherwise, including when a
+     *         concurrent command has added a student with the same full name
+     *         first
+     */
+    List<Boolean> addNewStudents(List<StudentRequest> newStudents);
+
+    /**
+     * Adds many students to courses at once. Every item is checked by the rules
+     * of {@link #addStudentToCourse(String, String, String)}, and an item that
+     * repeats an earlier one is not added again. The valid items are inserted
+     * together in a single transaction.
+     *
+     * @param enrollments the students and the courses to add them to
+     * @return for every item, in the same order, {@code true} if the student is
+     *         added to the course by this call, {@code false} otherwise,
+     *         including when a concurrent command has enrolled the student
+     *         first
+     */
+    List<Boolean> addStudentsToCourses(List<EnrollmentRequest> enrollments);
+
     /**
      * Retrieves all students with their courses.
      *
-     * @return a map of students and their courses
+     * @return a list of flat summaries of students with their courses
+     */
+    List<StudentCoursesSummary> getAllStudentsWithTheirCourses();
+
+    /**
+     * Retrieves one page of students with their courses. The page is located by
+     * the ID of a student, so it is loaded in the same time no matter how many
+     * students come before it.
+     *
+     * @param pageRequest the request describing the page to retrieve
+     * @return the page of students and their courses
      */
-    Map<StudentDto, Set<CourseDto>> getAllStudentsWithTheirCourses();
+    KeysetPage<StudentCoursesSummary> getStudentsWithTheirCoursesPage(KeysetPageRequest pageRequest);
 
 }
@@ -1,8 +1,14 @@
 package ua.foxminded.schoolapp.service.logic;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.dao.DataIntegrityViolationException;
+import ua.foxminded.schoolapp.dto.Enrollment;
 import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.dto.StudentName;
+import ua.foxminded.schoolapp.dto.StudentRequest;
+import ua.foxminded.schoolapp.dto.StudentSummary;
 import ua.foxminded.schoolapp.model.Group;
 import ua.foxminded.schoolapp.model.Student;
 
@@ -24,12 +30,14 @@ public interface StudentService {
 
     /**
      * Adds a new student with the information provided in the {@code newStudent}
-     * parameter.
+     * parameter. The student is inserted before this method returns.
      *
      * @param newStudent the {@link StudentDto} containing the details of the new
      *                   student
      * @return an {@link Optional} containing the added student if the addition was
      *         successful, empty otherwise
+     * @throws DataIntegrityViolationException if a student with the same full
+     *                                         name already exists
      */
     Optional<Student> addStudent(StudentDto newStudent);
 
@@ -60,19 +68,147 @@ public interface StudentService {
     List<Student> getAllStudents();
 
     /**
-     * Updates student information.
+     * Retrieves the summaries of all students with the names of their groups,
+     * selecting only the columns the summaries need.
      *
-     * @param updatedStudent the updated student object
-     * @return an {@link Optional} containing the updated student, or empty if the
-     *         update was unsuccessful
+     * @return the summaries of all students in the ascending order of their IDs
      */
-    Optional<Student> updateStudent(Student updatedStudent);
+    List<StudentSummary> getAllStudentSummaries();
 
     /**
-     * Deletes the student with the specified ID.
+     * Retrieves a list of all students with their groups and courses loaded.
+     *
+     * @return a list of all students with their groups and courses
+     */
+    List<Student> getAllStudentsWithCourses();
+
+    /**
+     * Retrieves the students enrolled in the course with the given name, with
+     * their groups and courses loaded.
+     *
+     * @param courseName the name of the course
+     * @return a list of the students of the course with their groups and courses
+     */
+    List<Student> getStudentsWithCoursesByCourseName(String courseName);
+
+    /**
+     * Retrieves at most the given number of students whose ID is greater than
+     * the given ID, with their groups loaded.
+     *
+     * @param studentId the ID after which the students are retrieved, or
+     *                  {@code null} to start with the first student
+     * @param limit     the maximum number of students to retrieve
+     * @return the students in the ascending order of their IDs
+     */
+    List<Student> getStudentsAfter(Integer studentId, int limit);
+
+    /**
+     * Retrieves at most the given number of students whose ID is less than the
+     * given ID and closest to it, with their groups loaded.
+     *
+     * @param studentId the ID before which the students are retrieved, or
+     *                  {@code null} to end with the last student
+     * @param limit     the maximum number of students to retrieve
+     * @return the students in the ascending order of their IDs
+     */
+    List<Student> getStudentsBefore(Integer studentId, int limit);
+
+    /**
+     * Retrieves the summaries of at most the given number of students whose ID
+     * is greater than the given ID.
+     *
+     * @param studentId the ID after which the students are retrieved, or
+     *                  {@code null} to start with the first student
+     * @param limit     the maximum number of students to retrieve
+     * @return the summaries in the ascending order of the student IDs
+     */
+    List<StudentSummary> getStudentSummariesAfter(Integer studentId, int limit);
+
+    /**
+     * Retrieves the summaries of at most the given number of students whose ID
+     * is less than the given ID and closest to it.
+     *
+     * @param studentId the ID before which the students are retrieved, or
+     *                  {@code null} to end with the last student
+     * @param limit     the maximum number of students to retrieve
+     * @return the summaries in the ascending order of the student IDs
+     */
+    List<StudentSummary> getStudentSummariesBefore(Integer studentId, int limit);
+
+    /**
+     * Checks whether at least one student exists, without loading any students.
+     *
+     * @return {@code true} if there is at least one student, {@code false}
+     *         otherwise
+     */
+    boolean hasStudents();
+
+    /**
+     * Changes the name and the group of the student with the given full name in a
+     * single statement, without loading the student.
+     *
+     * @param firstName    the current first name of the student
+     * @param lastName     the current last name of the student
+     * @param newFirstName the new first name of the student
+     * @param newLastName  the new last name of the student
+     * @param newGroup     the new group of the student
+     * @return {@code true} if a student with the given full name was updated,
+     *         {@code false} otherwise
+     * @throws DataIntegrityViolationException if another student already has the
+     *                                         new full name
+     */
+    boolean updateStudent(String firstName, String lastName, String newFirstName, String newLastName,
+            Group newGroup);
+
+    /**
+     * Deletes the student with the specified ID, together with their course
+     * enrollments, in a single statement.
      *
      * @param studentId the ID of the student to delete
+     * @return {@code true} if a student with the given ID was deleted,
+     *         {@code false} otherwise
+     */
+    boolean deleteStudentById(Integer studentId);
+
+    /**
+     * Enrolls the student with the given ID in the course with the given ID,
+     * without loading either of them.
+     *
+     * @param studentId the ID of the student
+     * @param courseId  the ID of the course
+     * @return {@code true} if the enrollment was added, {@code false} if it
+     *         already exists
+     */
+    boolean addStudentToCourse(Integer studentId, Integer courseId);
+
+    /**
+     * Deletes the enrollment of the student with the given ID in the course with
+     * the given ID, without loading either of them.
+     *
+     * @param studentId the ID of the student
+     * @param courseId  the ID of the course
+     * @return {@code true} if the enrollment was deleted, {@code false} otherwise
+     */
+    boolean deleteStudentFromCourse(Integer studentId, Integer courseId);
+
+    /**
+     * Adds the given new students with a single statement, which looks up their
+     * groups by name. The students whose full name is taken or whose group does
+     * not exist are skipped.
+     *
+     * @param newStudents the new students to add
+     * @return the full names of the students that are actually added
+     */
+    List<StudentName> addStudents(Collection<StudentRequest> newStudents);
+
+    /**
+     * Enrolls students in courses by their IDs with a single statement, without
+     * loading the students or the courses. The enrollments that already exist
+     * are skipped.
+     *
+     * @param enrollments the enrollments to add
+     * @return the enrollments that are actually added
      */
-    void deleteStudentById(Integer studentId);
+    List<Enrollment> addStudentsToCourses(Collection<Enrollment> enrollments);
 
 }
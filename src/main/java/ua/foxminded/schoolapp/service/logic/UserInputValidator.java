@@ -1,5 +1,11 @@
 package ua.foxminded.schoolapp.service.logic;
 
+import java.util.List;
+import ua.foxminded.schoolapp.dto.EnrollmentRequest;
+import ua.foxminded.schoolapp.dto.EnrollmentValidation;
+import ua.foxminded.schoolapp.dto.StudentRequest;
+import ua.foxminded.schoolapp.dto.StudentValidation;
+
 /**
  * The UserInputValidator interface provides methods for validating user input
  * in the school application.
@@ -51,15 +57,6 @@ public interface UserInputValidator {
      */
     boolean validateCourseName(String courseName);
 
-    /**
-     * Validates the course description.
-     *
-     * @param courseDescription the course description to validate
-     * @return {@code true} if the course description is valid, {@code false}
-     *         otherwise
-     */
-    boolean validateDescription(String courseDescription);
-
     /**
      * Validates the student ID.
      *
@@ -97,4 +94,68 @@ public interface UserInputValidator {
      */
     boolean validateNameLength(String name);
 
+    /**
+     * Validates many group names against the pattern of
+     * {@link #validateGroupNamePattern(String)} at once.
+     *
+     * @param groupNames the group names to validate
+     * @return for every group name, in the same order, whether it matches the
+     *         pattern
+     */
+    boolean[] validateGroupNamePatterns(List<String> groupNames);
+
+    /**
+     * Validates the lengths of many names by the rule of
+     * {@link #validateNameLength(String)} at once.
+     *
+     * @param names the names to validate
+     * @return for every name, in the same order, whether its length is valid
+     */
+    boolean[] validateNameLengths(List<String> names);
+
+    /**
+     * Validates a command that adds or updates a student. The lengths of the
+     * names are checked in memory, and the group is looked up by its name with at
+     * most one query.
+     *
+     * @param firstName the first name of the student
+     * @param lastName  the last name of the student
+     * @param groupName the name of the group of the student
+     * @return the result of the validation with a flag for every rule
+     */
+    StudentValidation validateStudent(String firstName, String lastName, String groupName);
+
+    /**
+     * Validates a command that adds a student to a course or deletes them from it.
+     * All rules of the command are checked by a single query.
+     *
+     * @param firstName  the first name of the student
+     * @param lastName   the last name of the student
+     * @param courseName the name of the course
+     * @return the result of the validation with a flag for every rule
+     */
+    EnrollmentValidation validateEnrollment(String firstName, String lastName, String courseName);
+
+    /**
+     * Validates the items of a command that adds many students at once by the
+     * same rules as {@link #validateStudent(String, String, String)}. The groups
+     * of all items are looked up together with at most one query.
+     *
+     * @param newStudents the items of the command
+     * @return the results of the validation in the order of the items
+     */
+    List<StudentValidation> validateStudents(List<StudentRequest> newStudents);
+
+    /**
+     * Validates the items of a command that adds many students to courses at
+     * once by the same rules as
+     * {@link #validateEnrollment(String, String, String)}. The students, the
+     * courses and the enrollments between them are found with one query each,
+     * whatever the number of items.
+     *
+     * @param enrollments the items of the command
+     * @return the results of the validation in the order of the items
+     */
+    List<EnrollmentValidation> validateEnrollments(List<EnrollmentRequest> enrollments);
+
 }
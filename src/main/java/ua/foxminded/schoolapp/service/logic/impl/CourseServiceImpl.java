@@ -1,16 +1,23 @@
 package ua.foxminded.schoolapp.service.logic.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
 import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.CourseSummary;
 import ua.foxminded.schoolapp.dto.mapper.CourseMapper;
 import ua.foxminded.schoolapp.model.Course;
 import ua.foxminded.schoolapp.repository.CourseRepository;
 import ua.foxminded.schoolapp.service.generate.Generatable;
+import ua.foxminded.schoolapp.service.generate.GenerationChunks;
 import ua.foxminded.schoolapp.service.logic.CourseService;
 
 /**
@@ -23,7 +30,9 @@ import ua.foxminded.schoolapp.service.logic.CourseService;
  * service, and it can be automatically discovered and registered as a bean in
  * the Spring context. The CourseServiceImpl requires a {@link Generatable}
  * object to generate courses Dto and a {@link CourseRepository} object to
- * access the course data.
+ * access the course data. Generated courses are saved in chunks, and the
+ * persistence context is cleared after every chunk. Methods that only read
+ * courses run in read-only transactions.
  * 
  * @author Serhii Bohdan
  */
@@ -39,19 +48,24 @@ public class CourseServiceImpl implements CourseService {
 
     private final Generatable<CourseDto> coursesGenerator;
     private final CourseRepository courseRepository;
+    private final EntityManager entityManager;
 
     /**
-     * Constructs a new CourseServiceImpl with the specified courses generator and
-     * course repository.
+     * Constructs a new CourseServiceImpl with the specified courses generator,
+     * course repository and entity manager.
      *
      * @param coursesGenerator an instance of {@link Generatable} for generating
      *                         courses
      * @param courseRepository an instance of {@link CourseRepository} for accessing
      *                         and managing course data
+     * @param entityManager    the entity manager whose persistence context is
+     *                         cleared between chunks of generated courses
      */
-    public CourseServiceImpl(Generatable<CourseDto> coursesGenerator, CourseRepository courseRepository) {
+    public CourseServiceImpl(Generatable<CourseDto> coursesGenerator, CourseRepository courseRepository,
+            EntityManager entityManager) {
         this.coursesGenerator = coursesGenerator;
         this.courseRepository = courseRepository;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -60,9 +74,16 @@ public class CourseServiceImpl implements CourseService {
     @Override
     public void initCourses() {
         LOGGER.info("Filling with generated courses");
-        coursesGenerator.toGenerate().stream()
-                .map(CourseMapper::mapDtoToCourse)
-                .forEach(courseRepository::save);
+        long savedCourses = GenerationChunks.forEachChunk(
+                coursesGenerator.toGenerateStream().map(CourseMapper::mapDtoToCourse),
+                GenerationChunks.DEFAULT_CHUNK_SIZE, this::saveChunk);
+        LOGGER.info("Saved {} generated courses", savedCourses);
+    }
+
+    private void saveChunk(List<Course> courses) {
+        courseRepository.saveAll(courses);
+        courseRepository.flush();
+        entityManager.clear();
     }
 
     /**
@@ -73,13 +94,14 @@ public class CourseServiceImpl implements CourseService {
         Course course = CourseMapper.mapDtoToCourse(newCourse);
         LOGGER.debug("Adding a new course: {}", course);
 
-        return Optional.ofNullable(courseRepository.save(course));
+        return Optional.ofNullable(courseRepository.saveAndFlush(course));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<Course> getCourseById(Integer courseId) {
         Optional<Course> course = courseRepository.findById(courseId);
         LOGGER.debug("Search course by ID {}: {}", courseId, course);
@@ -91,6 +113,7 @@ public class CourseServiceImpl implements CourseService {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<Course> getCourseByName(String courseName) {
         Optional<Course> course = courseRepository.findByCourseName(courseName);
         LOGGER.debug("Search course by name {}: {}", courseName, course);
@@ -102,6 +125,7 @@ public class CourseServiceImpl implements CourseService {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Course> getAllCourses() {
         List<Course> allCourses = courseRepository.findAll();
         LOGGER.debug("All received courses: {}", allCourses);
@@ -113,24 +137,74 @@ public class CourseServiceImpl implements CourseService {
      * {@inheritDoc}
      */
     @Override
-    public Optional<Course> updateCourse(Course updatedCourse) {
-        LOGGER.debug("Updating course data: {}", updatedCourse);
-        Course course = courseRepository.save(updatedCourse);
+    @Transactional(readOnly = true)
+    public List<CourseSummary> getAllCourseSummaries() {
+        List<CourseSummary> allCourses = courseRepository.findAllSummaries();
+        LOGGER.debug("All received course summaries: {}", allCourses);
+
+        return allCourses;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CourseSummary> getCourseSummariesAfter(Integer courseId, int limit) {
+        List<CourseSummary> courses = courseRepository.findSummariesByIdGreaterThan(
+                Objects.requireNonNullElse(courseId, 0), Limit.of(limit));
+        LOGGER.debug("Received {} course summaries after course ID {}", courses.size(), courseId);
+
+        return courses;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CourseSummary> getCourseSummariesBefore(Integer courseId, int limit) {
+        List<CourseSummary> courses = new ArrayList<>(courseRepository.findSummariesByIdLessThan(
+                Objects.requireNonNullElse(courseId, Integer.MAX_VALUE), Limit.of(limit)));
+        Collections.reverse(courses);
+        LOGGER.debug("Received {} course summaries before course ID {}", courses.size(), courseId);
+
+        return courses;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasCourses() {
+        boolean coursesExist = courseRepository.existsAnyCourse();
+        LOGGER.debug("Courses exist: {}", coursesExist);
+
+        return coursesExist;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean updateCourse(String courseName, String newCourseName, String newDescription) {
+        boolean courseIsUpdated = courseRepository.updateByCourseName(courseName, newCourseName, newDescription) > 0;
+        LOGGER.debug("Updated course {} to name {} and description {}: {}", courseName, newCourseName,
+                newDescription, courseIsUpdated);
 
-        return Optional.ofNullable(course);
+        return courseIsUpdated;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void deleteCourseByName(String courseName) {
-        Optional<Course> course = getCourseByName(courseName);
+    public boolean deleteCourseByName(String courseName) {
+        boolean courseIsDeleted = courseRepository.deleteByCourseName(courseName) > 0;
+        LOGGER.debug("Deleted course with name {}: {}", courseName, courseIsDeleted);
 
-        if (course.isPresent()) {
-            LOGGER.debug("Deleting course: {}", course);
-            courseRepository.delete(course.get());
-        }
+        return courseIsDeleted;
     }
 
 }
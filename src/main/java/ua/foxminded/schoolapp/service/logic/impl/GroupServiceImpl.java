@@ -1,16 +1,24 @@
 package ua.foxminded.schoolapp.service.logic.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
 import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.GroupStudentsCount;
+import ua.foxminded.schoolapp.dto.GroupSummary;
 import ua.foxminded.schoolapp.dto.mapper.GroupMapper;
 import ua.foxminded.schoolapp.model.Group;
 import ua.foxminded.schoolapp.repository.GroupRepository;
 import ua.foxminded.schoolapp.service.generate.Generatable;
+import ua.foxminded.schoolapp.service.generate.GenerationChunks;
 import ua.foxminded.schoolapp.service.logic.GroupService;
 
 /**
@@ -23,7 +31,9 @@ import ua.foxminded.schoolapp.service.logic.GroupService;
  * service, and it can be automatically discovered and registered as a bean in
  * the Spring context. The GroupServiceImpl requires a {@link Generatable}
  * object to generate groups Dto and a {@link GroupRepository} object to access
- * the group data.
+ * the group data. Generated groups are saved in chunks, and the persistence
+ * context is cleared after every chunk. Group queries run in read-only
+ * transactions, so Hibernate neither snapshots nor flushes what they load.
  *
  * @author Serhii Bohdan
  */
@@ -39,19 +49,24 @@ public class GroupServiceImpl implements GroupService {
 
     private final Generatable<GroupDto> groupsGenerator;
     private final GroupRepository groupRepository;
+    private final EntityManager entityManager;
 
     /**
-     * Constructs a new GroupServiceImpl with the specified groups generator and
-     * group repository.
+     * Constructs a new GroupServiceImpl with the specified groups generator,
+     * group repository and entity manager.
      *
      * @param groupsGenerator an instance of {@link Generatable} for generating
      *                        groups
      * @param groupRepository an instance of {@link GroupRepository} for accessing
      *                        and managing group data
+     * @param entityManager   the entity manager whose persistence context is
+     *                        cleared between chunks of generated groups
      */
-    public GroupServiceImpl(Generatable<GroupDto> groupsGenerator, GroupRepository groupRepository) {
+    public GroupServiceImpl(Generatable<GroupDto> groupsGenerator, GroupRepository groupRepository,
+            EntityManager entityManager) {
         this.groupsGenerator = groupsGenerator;
         this.groupRepository = groupRepository;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -60,9 +75,16 @@ public class GroupServiceImpl implements GroupService {
     @Override
     public void initGroups() {
         LOGGER.info("Filling with generated groups");
-        groupsGenerator.toGenerate().stream()
-                .map(GroupMapper::mapDtoToGroup)
-                .forEach(groupRepository::save);
+        long savedGroups = GenerationChunks.forEachChunk(
+                groupsGenerator.toGenerateStream().map(GroupMapper::mapDtoToGroup),
+                GenerationChunks.DEFAULT_CHUNK_SIZE, this::saveChunk);
+        LOGGER.info("Saved {} generated groups", savedGroups);
+    }
+
+    private void saveChunk(List<Group> groups) {
+        groupRepository.saveAll(groups);
+        groupRepository.flush();
+        entityManager.clear();
     }
 
     /**
@@ -73,13 +95,14 @@ public class GroupServiceImpl implements GroupService {
         Group group = GroupMapper.mapDtoToGroup(newGroup);
         LOGGER.debug("Adding a new group: {}", group);
 
-        return Optional.ofNullable(groupRepository.save(group));
+        return Optional.ofNullable(groupRepository.saveAndFlush(group));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<Group> getGroupByName(String groupName) {
         Optional<Group> group = groupRepository.findByGroupName(groupName);
         LOGGER.debug("Search group by name {}: {}", groupName, group);
@@ -91,6 +114,7 @@ public class GroupServiceImpl implements GroupService {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Group> getAllGroups() {
         List<Group> allGroups = groupRepository.findAll();
         LOGGER.debug("Search for all groups. All received groups: {}", allGroups);
@@ -102,34 +126,83 @@ public class GroupServiceImpl implements GroupService {
      * {@inheritDoc}
      */
     @Override
-    public Optional<Group> updateGroup(Group updatedGroup) {
-        LOGGER.debug("Updating group data. Updated group: {}", updatedGroup);
-        Group group = groupRepository.save(updatedGroup);
+    @Transactional(readOnly = true)
+    public List<GroupSummary> getAllGroupSummaries() {
+        List<GroupSummary> allGroups = groupRepository.findAllSummaries();
+        LOGGER.debug("All received group summaries: {}", allGroups);
+
+        return allGroups;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<GroupSummary> getGroupSummariesAfter(Integer groupId, int limit) {
+        List<GroupSummary> groups = groupRepository.findSummariesByIdGreaterThan(
+                Objects.requireNonNullElse(groupId, 0), Limit.of(limit));
+        LOGGER.debug("Received {} group summaries after group ID {}", groups.size(), groupId);
+
+        return groups;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<GroupSummary> getGroupSummariesBefore(Integer groupId, int limit) {
+        List<GroupSummary> groups = new ArrayList<>(groupRepository.findSummariesByIdLessThan(
+                Objects.requireNonNullElse(groupId, Integer.MAX_VALUE), Limit.of(limit)));
+        Collections.reverse(groups);
+        LOGGER.debug("Received {} group summaries before group ID {}", groups.size(), groupId);
+
+        return groups;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasGroups() {
+        boolean groupsExist = groupRepository.existsAnyGroup();
+        LOGGER.debug("Groups exist: {}", groupsExist);
+
+        return groupsExist;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean updateGroup(String groupName, String newGroupName) {
+        boolean groupIsUpdated = groupRepository.updateGroupName(groupName, newGroupName) > 0;
+        LOGGER.debug("Renamed group {} to {}: {}", groupName, newGroupName, groupIsUpdated);
 
-        return Optional.ofNullable(group);
+        return groupIsUpdated;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void deleteGroupByName(String groupName) {
-        Optional<Group> group = getGroupByName(groupName);
+    public boolean deleteGroupByName(String groupName) {
+        boolean groupIsDeleted = groupRepository.deleteByGroupName(groupName) > 0;
+        LOGGER.debug("Deleted group with name {}: {}", groupName, groupIsDeleted);
 
-        if (group.isPresent()) {
-            LOGGER.debug("Deleting group: {}", group);
-            groupRepository.delete(group.get());
-        }
+        return groupIsDeleted;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<Group> getGroupsWithGivenNumberOfStudents(Integer amountOfStudents) {
-        List<Group> groupsWithGivenNumberOfStudents = groupRepository.findAll().stream()
-                .filter(group -> group.getStudents().size() <= amountOfStudents)
-                .toList();
+    @Transactional(readOnly = true)
+    public List<GroupStudentsCount> getGroupsWithGivenNumberOfStudents(Integer amountOfStudents) {
+        List<GroupStudentsCount> groupsWithGivenNumberOfStudents = groupRepository
+                .findGroupsWithStudentsCountAtMost(amountOfStudents);
 
         LOGGER.debug("Obtained groups with the number of students {}: {}", amountOfStudents,
                 groupsWithGivenNumberOfStudents);
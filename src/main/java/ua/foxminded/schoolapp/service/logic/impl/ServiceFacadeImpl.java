@@ -1,25 +1,45 @@
 package ua.foxminded.schoolapp.service.logic.impl;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Random;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.CourseSummary;
+import ua.foxminded.schoolapp.dto.Enrollment;
+import ua.foxminded.schoolapp.dto.EnrollmentRequest;
+import ua.foxminded.schoolapp.dto.EnrollmentValidation;
 import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.GroupStudentsCount;
+import ua.foxminded.schoolapp.dto.GroupSummary;
+import ua.foxminded.schoolapp.dto.KeysetPage;
+import ua.foxminded.schoolapp.dto.KeysetPageRequest;
+import ua.foxminded.schoolapp.dto.StudentCoursesSummary;
 import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.dto.StudentName;
+import ua.foxminded.schoolapp.dto.StudentRequest;
+import ua.foxminded.schoolapp.dto.StudentSummary;
+import ua.foxminded.schoolapp.dto.StudentValidation;
 import ua.foxminded.schoolapp.dto.mapper.CourseMapper;
 import ua.foxminded.schoolapp.dto.mapper.GroupMapper;
 import ua.foxminded.schoolapp.dto.mapper.StudentMapper;
 import ua.foxminded.schoolapp.model.Course;
 import ua.foxminded.schoolapp.model.Group;
 import ua.foxminded.schoolapp.model.Student;
+import ua.foxminded.schoolapp.service.load.BulkLoader;
+import ua.foxminded.schoolapp.service.load.CsvImporter;
+import ua.foxminded.schoolapp.service.load.EnrollmentLoader;
 import ua.foxminded.schoolapp.service.logic.CourseService;
 import ua.foxminded.schoolapp.service.logic.GroupService;
 import ua.foxminded.schoolapp.service.logic.ServiceFacade;
@@ -37,6 +57,33 @@ import ua.foxminded.schoolapp.service.logic.UserInputValidator;
  * the Spring context. The ServiceFacadeImpl requires instances of
  * {@link GroupService}, {@link StudentService}, {@link CourseService}, and
  * {@link UserInputValidator} to perform its operations.
+ * <p>
+ * Listings are returned as flat summary records, such as
+ * {@link StudentSummary} and {@link StudentCoursesSummary}, which are filled
+ * inside the transaction and hold no entities, so using them later never loads
+ * lazy associations. The group, course and students-with-groups listings are
+ * selected directly as summaries by the repositories, so no entities are
+ * loaded or tracked for them at all. The listing and lookup methods run in
+ * read-only transactions, while the methods that change data keep the
+ * read-write transaction of the class.
+ * <p>
+ * New groups, students and courses are inserted optimistically, without
+ * checking first whether their names are taken. The unique constraints of the
+ * database reject duplicates, and the rejection is returned as {@code false}.
+ * These methods run without a transaction of their own, so the failed insert
+ * rolls back only the transaction of the service that made it. Updates and
+ * deletions work the same way: each is a single statement by name or ID, and
+ * its row count tells whether the group, student or course existed. The rules
+ * of a command that depend on the database are checked together, by a single
+ * lookup or query of the {@link UserInputValidator}, which returns a result
+ * with a flag for every rule.
+ * <p>
+ * Batch commands, which add many students or enrollments at once, look up the
+ * groups, students and courses of all their items with one query per table and
+ * check every item in memory. The valid items are inserted with a single
+ * statement that skips the full names and enrollments that are already taken,
+ * even by a concurrent command, and returns the rows it has actually inserted,
+ * so only those items are reported as added.
  *
  * @author Serhii Bohdan
  */
@@ -50,26 +97,57 @@ public class ServiceFacadeImpl implements ServiceFacade {
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(ServiceFacadeImpl.class);
 
+    /**
+     * The value of the {@code school.seeding.loader} property that selects
+     * seeding with the {@link BulkLoader}.
+     */
+    private static final String COPY_SEEDING_LOADER = "copy";
+
+    /**
+     * The value of the {@code school.seeding.loader} property that selects
+     * seeding with the {@link CsvImporter}.
+     */
+    private static final String CSV_SEEDING_LOADER = "csv";
+
     private final GroupService groupService;
     private final StudentService studentService;
     private final CourseService courseService;
     private final UserInputValidator validator;
+    private final BulkLoader bulkLoader;
+    private final EnrollmentLoader enrollmentLoader;
+    private final CsvImporter csvImporter;
+    private final String seedingLoader;
 
     /**
      * Constructs a new ServiceFacadeImpl with the specified group service, student
-     * service, course service, and user input validator.
+     * service, course service, user input validator, bulk loader, enrollment
+     * loader and CSV importer.
      *
-     * @param groupService   the group service to use
-     * @param studentService the student service to use
-     * @param courseService  the course service to use
-     * @param validator      the user input validator to use
+     * @param groupService     the group service to use
+     * @param studentService   the student service to use
+     * @param courseService    the course service to use
+     * @param validator        the user input validator to use
+     * @param bulkLoader       the bulk loader used to seed the schema when the
+     *                         {@code school.seeding.loader} property is set to
+     *                         {@value #COPY_SEEDING_LOADER}
+     * @param enrollmentLoader the enrollment loader used to enroll generated
+     *                         students in generated courses
+     * @param csvImporter      the CSV importer used to seed the schema when the
+     *                         {@code school.seeding.loader} property is set to
+     *                         {@value #CSV_SEEDING_LOADER}
+     * @param seedingLoader    the name of the loader used to seed empty tables
      */
     public ServiceFacadeImpl(GroupService groupService, StudentService studentService, CourseService courseService,
-            UserInputValidator validator) {
+            UserInputValidator validator, BulkLoader bulkLoader, EnrollmentLoader enrollmentLoader,
+            CsvImporter csvImporter, @Value("${school.seeding.loader:jpa}") String seedingLoader) {
         this.groupService = groupService;
         this.studentService = studentService;
         this.courseService = courseService;
         this.validator = validator;
+        this.bulkLoader = bulkLoader;
+        this.enrollmentLoader = enrollmentLoader;
+        this.csvImporter = csvImporter;
+        this.seedingLoader = seedingLoader;
     }
 
     /**
@@ -77,16 +155,23 @@ public class ServiceFacadeImpl implements ServiceFacade {
      */
     @Override
     public void initSchema() {
-        boolean groupsTableIsEmpty = groupService.getAllGroups().isEmpty();
-        boolean studentsTableIsEmpty = studentService.getAllStudents().isEmpty();
-        boolean coursesTableIsEmpty = courseService.getAllCourses().isEmpty();
-
-        if (groupsTableIsEmpty && studentsTableIsEmpty && coursesTableIsEmpty) {
-            LOGGER.info("Filling database tables with generated data");
-            groupService.initGroups();
-            studentService.initStudents(groupService.getAllGroups());
-            courseService.initCourses();
-            addStudentsToCourses();
+        boolean tablesAreEmpty = !groupService.hasGroups() && !studentService.hasStudents()
+                && !courseService.hasCourses();
+
+        if (tablesAreEmpty) {
+            LOGGER.info("Filling database tables with generated data using the {} loader", seedingLoader);
+
+            if (COPY_SEEDING_LOADER.equals(seedingLoader)) {
+                bulkLoader.loadSchema();
+            } else if (CSV_SEEDING_LOADER.equals(seedingLoader)) {
+                csvImporter.importSchema();
+            } else {
+                groupService.initGroups();
+                studentService.initStudents(groupService.getAllGroups());
+                courseService.initCourses();
+                enrollmentLoader.enrollStudents();
+            }
+
         } else {
             LOGGER.info("The database tables are already full");
         }
@@ -96,16 +181,15 @@ public class ServiceFacadeImpl implements ServiceFacade {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean addNewGroup(String groupName) {
-        boolean groupNameNotExist = !validator.validateGroupNameExistence(groupName);
         boolean groupNameMatchesPattern = validator.validateGroupNamePattern(groupName);
         boolean newGroupAdded = false;
 
-        if (groupNameNotExist && groupNameMatchesPattern) {
+        if (groupNameMatchesPattern) {
             GroupDto newGroup = new GroupDto(groupName);
             LOGGER.debug("Adding new group {}", newGroup);
-            groupService.addGroup(newGroup);
-            newGroupAdded = true;
+            newGroupAdded = changeUnlessDuplicate(() -> groupService.addGroup(newGroup).isPresent());
         }
 
         return newGroupAdded;
@@ -115,6 +199,7 @@ public class ServiceFacadeImpl implements ServiceFacade {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public GroupDto getGroupByName(String groupName) {
         boolean groupNameExist = validator.validateGroupNameExistence(groupName);
         GroupDto groupDto = null;
@@ -132,28 +217,33 @@ public class ServiceFacadeImpl implements ServiceFacade {
      * {@inheritDoc}
      */
     @Override
-    public List<GroupDto> getAllGroups() {
-        return groupService.getAllGroups().stream()
-                .map(GroupMapper::mapGroupToDto)
-                .toList();
+    @Transactional(readOnly = true)
+    public List<GroupSummary> getAllGroups() {
+        return groupService.getAllGroupSummaries();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<GroupSummary> getGroupsPage(KeysetPageRequest pageRequest) {
+        return getPage(pageRequest, groupService::getGroupSummariesAfter, groupService::getGroupSummariesBefore,
+                GroupSummary::id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean updateGroup(String groupNameToUpdate, String newGroupName) {
-        Optional<Group> groupOptional = groupService.getGroupByName(groupNameToUpdate);
-        boolean newGroupNameNotExist = !validator.validateGroupNameExistence(newGroupName);
         boolean newGroupNameMatchesPattern = validator.validateGroupNamePattern(newGroupName);
         boolean groupIsUpdated = false;
 
-        if (groupOptional.isPresent() && newGroupNameNotExist && newGroupNameMatchesPattern) {
-            Group groupToUpdate = groupOptional.get();
-            groupToUpdate.setGroupName(newGroupName);
-            LOGGER.debug("Group updating. Updated group: {}", groupToUpdate);
-            groupService.updateGroup(groupToUpdate);
-            groupIsUpdated = true;
+        if (newGroupNameMatchesPattern) {
+            LOGGER.debug("Group updating. Renaming group {} to {}", groupNameToUpdate, newGroupName);
+            groupIsUpdated = changeUnlessDuplicate(() -> groupService.updateGroup(groupNameToUpdate, newGroupName));
         }
 
         return groupIsUpdated;
@@ -164,35 +254,23 @@ public class ServiceFacadeImpl implements ServiceFacade {
      */
     @Override
     public boolean deleteGroupByName(String groupName) {
-        boolean groupNameExist = validator.validateGroupNameExistence(groupName);
-        boolean groupIsDeleted = false;
-
-        if (groupNameExist) {
-            LOGGER.debug("Deleting group with name: {}", groupName);
-            groupService.deleteGroupByName(groupName);
-            groupIsDeleted = true;
-        }
-
-        return groupIsDeleted;
+        LOGGER.debug("Deleting group with name: {}", groupName);
+        return groupService.deleteGroupByName(groupName);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean addNewStudent(String firstName, String lastName, String groupName) {
-        boolean studentIsNotExists = !validator.validateStudentFullName(firstName, lastName);
-        boolean firstNameLengthIsValid = validator.validateNameLength(firstName);
-        boolean lastNameLengthIsValid = validator.validateNameLength(lastName);
-        boolean groupIsExists = validator.validateGroupNameExistence(groupName);
+        StudentValidation validation = validator.validateStudent(firstName, lastName, groupName);
         boolean newStudentIsAdded = false;
 
-        if (studentIsNotExists && firstNameLengthIsValid && lastNameLengthIsValid && groupIsExists) {
-            Group group = groupService.getGroupByName(groupName).get();
-            StudentDto newStudent = new StudentDto(firstName, lastName, group);
+        if (validation.isValid()) {
+            StudentDto newStudent = new StudentDto(firstName, lastName, validation.group());
             LOGGER.debug("Adding new student: {}", newStudent);
-            studentService.addStudent(newStudent);
-            newStudentIsAdded = true;
+            newStudentIsAdded = changeUnlessDuplicate(() -> studentService.addStudent(newStudent).isPresent());
         }
 
         return newStudentIsAdded;
@@ -202,6 +280,7 @@ public class ServiceFacadeImpl implements ServiceFacade {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public StudentDto getStudentById(Integer studentId) {
         boolean studentIdExist = validator.validateStudentId(studentId);
         StudentDto studentDto = null;
@@ -219,30 +298,18 @@ public class ServiceFacadeImpl implements ServiceFacade {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean updateStudent(String studentFirstNameToUpdate, String studentLastNameToUpdate, String newFirstName,
             String newLastName, String newGroupName) {
-        Optional<Student> studentOptional = studentService.getStudentByFullName(studentFirstNameToUpdate,
-                studentLastNameToUpdate);
-        boolean newStudentFullNameNotExist = !validator.validateStudentFullName(newFirstName, newLastName);
-        boolean newFirstNameLengthIsValid = validator.validateNameLength(newFirstName);
-        boolean newLastNameLengthIsValid = validator.validateNameLength(newLastName);
-        Optional<Group> groupOptional = groupService.getGroupByName(newGroupName);
+        StudentValidation validation = validator.validateStudent(newFirstName, newLastName, newGroupName);
         boolean studentIsUpdated = false;
 
-        if (studentFirstNameToUpdate.equals(newFirstName) && studentLastNameToUpdate.equals(newLastName)) {
-            newStudentFullNameNotExist = !newStudentFullNameNotExist;
-        }
-
-        if (studentOptional.isPresent() && newStudentFullNameNotExist && newFirstNameLengthIsValid
-                && newLastNameLengthIsValid && groupOptional.isPresent()) {
-            Student updatedStudent = studentOptional.get();
-            Group group = groupOptional.get();
-            updatedStudent.setFirstName(newFirstName);
-            updatedStudent.setLastName(newLastName);
-            updatedStudent.setGroup(group);
-            LOGGER.debug("Student updating. Updated student: {}", updatedStudent);
-            studentService.updateStudent(updatedStudent);
-            studentIsUpdated = true;
+        if (validation.isValid()) {
+            Group group = validation.group();
+            LOGGER.debug("Student updating. Updating student {} {} to {} {} in group {}", studentFirstNameToUpdate,
+                    studentLastNameToUpdate, newFirstName, newLastName, group);
+            studentIsUpdated = changeUnlessDuplicate(() -> studentService.updateStudent(studentFirstNameToUpdate,
+                    studentLastNameToUpdate, newFirstName, newLastName, group));
         }
 
         return studentIsUpdated;
@@ -253,13 +320,7 @@ public class ServiceFacadeImpl implements ServiceFacade {
      */
     @Override
     public boolean deleteStudentById(Integer studentId) {
-        boolean studentIdExist = validator.validateStudentId(studentId);
-        boolean studentIsdDeleted = false;
-
-        if (studentIdExist) {
-            studentService.deleteStudentById(studentId);
-            studentIsdDeleted = true;
-        }
+        boolean studentIsdDeleted = studentService.deleteStudentById(studentId);
 
         LOGGER.debug("Student with ID {} is deleted: {}", studentId, studentIsdDeleted);
         return studentIsdDeleted;
@@ -269,17 +330,15 @@ public class ServiceFacadeImpl implements ServiceFacade {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean addNewCourse(String courseName, String description) {
-        boolean courseNameNotExist = !validator.validateCourseName(courseName);
         boolean courseNameLengthIsValid = validator.validateNameLength(courseName);
-        boolean descriptionNotExist = !validator.validateDescription(description);
         boolean newCourseIsAdded = false;
 
-        if (courseNameNotExist && courseNameLengthIsValid && descriptionNotExist) {
+        if (courseNameLengthIsValid) {
             CourseDto newCourse = new CourseDto(courseName, description);
             LOGGER.debug("Adding new course {}", newCourse);
-            courseService.addCourse(newCourse);
-            newCourseIsAdded = true;
+            newCourseIsAdded = changeUnlessDuplicate(() -> courseService.addCourse(newCourse).isPresent());
         }
 
         return newCourseIsAdded;
@@ -289,6 +348,7 @@ public class ServiceFacadeImpl implements ServiceFacade {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public CourseDto getCourseByName(String courseName) {
         boolean courseNameExist = validator.validateCourseName(courseName);
         CourseDto courseDto = null;
@@ -306,39 +366,35 @@ public class ServiceFacadeImpl implements ServiceFacade {
      * {@inheritDoc}
      */
     @Override
-    public List<CourseDto> getAllCourses() {
-        return courseService.getAllCourses().stream()
-                .map(CourseMapper::mapCourseToDto)
-                .toList();
+    @Transactional(readOnly = true)
+    public List<CourseSummary> getAllCourses() {
+        return courseService.getAllCourseSummaries();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<CourseSummary> getCoursesPage(KeysetPageRequest pageRequest) {
+        return getPage(pageRequest, courseService::getCourseSummariesAfter, courseService::getCourseSummariesBefore,
+                CourseSummary::id);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean updateCourse(String courseNameToUpdate, String newCourseName, String newDescription) {
-        Optional<Course> courseOptional = courseService.getCourseByName(courseNameToUpdate);
-        boolean courseIsPresent = courseOptional.isPresent();
-        boolean newCourseNameNotExist = !validator.validateCourseName(newCourseName);
         boolean newCourseNameLengthIsValid = validator.validateNameLength(newCourseName);
-        boolean newDescriptionNotExist = !validator.validateDescription(newDescription);
         boolean courseIsUdated = false;
 
-        if (courseIsPresent && newCourseName.equals(courseOptional.get().getCourseName())) {
-            newCourseNameNotExist = !newCourseNameNotExist;
-        }
-
-        if (courseIsPresent && newDescription.equals(courseOptional.get().getDescription())) {
-            newDescriptionNotExist = !newDescriptionNotExist;
-        }
-
-        if (courseIsPresent && newCourseNameNotExist && newCourseNameLengthIsValid && newDescriptionNotExist) {
-            Course course = courseOptional.get();
-            course.setCourseName(newCourseName);
-            course.setDescription(newDescription);
-            LOGGER.debug("Course updating. Updated course: {}", course);
-            courseService.updateCourse(course);
-            courseIsUdated = true;
+        if (newCourseNameLengthIsValid) {
+            LOGGER.debug("Course updating. Updating course {} to name {} and description {}", courseNameToUpdate,
+                    newCourseName, newDescription);
+            courseIsUdated = changeUnlessDuplicate(
+                    () -> courseService.updateCourse(courseNameToUpdate, newCourseName, newDescription));
         }
 
         return courseIsUdated;
@@ -349,13 +405,7 @@ public class ServiceFacadeImpl implements ServiceFacade {
      */
     @Override
     public boolean deleteCourseByName(String courseName) {
-        boolean courseNameExist = validator.validateCourseName(courseName);
-        boolean courseIsDeleted = false;
-
-        if (courseNameExist) {
-            courseService.deleteCourseByName(courseName);
-            courseIsDeleted = true;
-        }
+        boolean courseIsDeleted = courseService.deleteCourseByName(courseName);
 
         LOGGER.debug("Curse with name {} is deleted: {}", courseName, courseIsDeleted);
         return courseIsDeleted;
@@ -365,13 +415,13 @@ public class ServiceFacadeImpl implements ServiceFacade {
      * {@inheritDoc}
      */
     @Override
-    public Map<GroupDto, Integer> getGroupsWithGivenNumberOfStudents(Integer amountOfStudents) {
+    @Transactional(readOnly = true)
+    public List<GroupStudentsCount> getGroupsWithGivenNumberOfStudents(Integer amountOfStudents) {
         boolean amountOfStudentsIsValid = validator.validateAmountOfStudents(amountOfStudents);
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = null;
+        List<GroupStudentsCount> groupsWithTheirNumberOfStudents = null;
 
         if (amountOfStudentsIsValid) {
-            groupsWithTheirNumberOfStudents = groupService.getGroupsWithGivenNumberOfStudents(amountOfStudents).stream()
-                    .collect(Collectors.toMap(GroupMapper::mapGroupToDto, group -> group.getStudents().size()));
+            groupsWithTheirNumberOfStudents = groupService.getGroupsWithGivenNumberOfStudents(amountOfStudents);
         }
 
         LOGGER.debug("Received groups with a given number of students: {}", groupsWithTheirNumberOfStudents);
@@ -382,14 +432,15 @@ public class ServiceFacadeImpl implements ServiceFacade {
      * {@inheritDoc}
      */
     @Override
-    public Map<StudentDto, Set<CourseDto>> getStudentsWithCoursesByCourseName(String courseName) {
+    @Transactional(readOnly = true)
+    public List<StudentCoursesSummary> getStudentsWithCoursesByCourseName(String courseName) {
         boolean courseIsExist = validator.validateCourseName(courseName);
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = null;
+        List<StudentCoursesSummary> studentsWithTheirCourses = null;
 
         if (courseIsExist) {
-            Course course = courseService.getCourseByName(courseName).get();
-            studentsWithTheirCourses = course.getStudents().stream()
-                    .collect(Collectors.toMap(StudentMapper::mapStudentToDto, this::getCoursesDtosForStudent));
+            studentsWithTheirCourses = studentService.getStudentsWithCoursesByCourseName(courseName).stream()
+                    .map(StudentMapper::mapStudentToCoursesSummary)
+                    .toList();
         }
 
         LOGGER.debug("Received students with their courses by course name {}: {}", courseName,
@@ -401,9 +452,9 @@ public class ServiceFacadeImpl implements ServiceFacade {
      * {@inheritDoc}
      */
     @Override
-    public Map<StudentDto, GroupDto> getAllStudentsWithTheirGroups() {
-        return studentService.getAllStudents().stream().collect(Collectors.toMap(StudentMapper::mapStudentToDto,
-                student -> GroupMapper.mapGroupToDto(student.getGroup())));
+    @Transactional(readOnly = true)
+    public List<StudentSummary> getAllStudentsWithTheirGroups() {
+        return studentService.getAllStudentSummaries();
     }
 
     /**
@@ -411,16 +462,12 @@ public class ServiceFacadeImpl implements ServiceFacade {
      */
     @Override
     public boolean addStudentToCourse(String firstName, String lastName, String courseName) {
-        boolean studentExists = validator.validateStudentFullName(firstName, lastName);
-        boolean courseExist = validator.validateCourseName(courseName);
-        boolean studentNotOnCourse = !validator.isStudentOnCourse(firstName, lastName, courseName);
+        EnrollmentValidation validation = validator.validateEnrollment(firstName, lastName, courseName);
         boolean studentIsAddedToCourse = false;
 
-        if (studentExists && courseExist && studentNotOnCourse) {
-            Student student = studentService.getStudentByFullName(firstName, lastName).get();
-            Course course = courseService.getCourseByName(courseName).get();
-            student.addCourse(course);
-            studentIsAddedToCourse = true;
+        if (validation.canAddStudentToCourse()) {
+            studentIsAddedToCourse = studentService.addStudentToCourse(validation.studentId(),
+                    validation.courseId());
         }
 
         LOGGER.debug("Added student with name {} {} to course {}: {}", firstName, lastName, courseName,
@@ -433,16 +480,12 @@ public class ServiceFacadeImpl implements ServiceFacade {
      */
     @Override
     public boolean deleteStudentFromCourse(String firstName, String lastName, String courseName) {
-        boolean studentExists = validator.validateStudentFullName(firstName, lastName);
-        boolean coursesExist = validator.validateCourseName(courseName);
-        boolean studentOnCourse = validator.isStudentOnCourse(firstName, lastName, courseName);
+        EnrollmentValidation validation = validator.validateEnrollment(firstName, lastName, courseName);
         boolean studentDeletedFromCourse = false;
 
-        if (studentExists && coursesExist && studentOnCourse) {
-            Student student = studentService.getStudentByFullName(firstName, lastName).get();
-            Course course = courseService.getCourseByName(courseName).get();
-            student.deleteCourse(course);
-            studentDeletedFromCourse = true;
+        if (validation.canDeleteStudentFromCourse()) {
+            studentDeletedFromCourse = studentService.deleteStudentFromCourse(validation.studentId(),
+                    validation.courseId());
         }
 
         LOGGER.debug("Deleted student with name {} {}, from course {}: {}", firstName, lastName, courseName,
@@ -454,41 +497,133 @@ public class ServiceFacadeImpl implements ServiceFacade {
      * {@inheritDoc}
      */
     @Override
-    public Map<StudentDto, Set<CourseDto>> getAllStudentsWithTheirCourses() {
-        Map<StudentDto, Set<CourseDto>> allStudentsWithTheirCourses = studentService.getAllStudents().stream()
-                .collect(Collectors.toMap(StudentMapper::mapStudentToDto, this::getCoursesDtosForStudent));
-        LOGGER.debug("Received all students with their courses: {}", allStudentsWithTheirCourses);
+    public List<Boolean> addNewStudents(List<StudentRequest> newStudents) {
+        List<StudentValidation> validations = validator.validateStudents(newStudents);
+        Set<StudentName> namesToAdd = new HashSet<>();
+        List<StudentRequest> studentsToAdd = new ArrayList<>();
+        List<StudentName> itemNames = new ArrayList<>(newStudents.size());
+
+        for (int i = 0; i < newStudents.size(); i++) {
+            StudentRequest newStudent = newStudents.get(i);
+            boolean studentCanBeAdded = validations.get(i).isValid() && namesToAdd.add(newStudent.studentName());
+
+            if (studentCanBeAdded) {
+                studentsToAdd.add(newStudent);
+            }
 
-        return allStudentsWithTheirCourses;
+            itemNames.add(studentCanBeAdded ? newStudent.studentName() : null);
+        }
+
+        Set<StudentName> addedNames = studentsToAdd.isEmpty()
+                ? Set.of()
+                : new HashSet<>(studentService.addStudents(studentsToAdd));
+        List<Boolean> studentsAreAdded = itemNames.stream()
+                .map(studentName -> studentName != null && addedNames.contains(studentName))
+                .toList();
+
+        LOGGER.debug("Added {} of {} new students", addedNames.size(), newStudents.size());
+        return studentsAreAdded;
     }
 
-    private void addStudentsToCourses() {
-        Random random = new Random();
-        LOGGER.info("Adding students to courses");
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Boolean> addStudentsToCourses(List<EnrollmentRequest> enrollments) {
+        List<EnrollmentValidation> validations = validator.validateEnrollments(enrollments);
+        Set<Enrollment> enrollmentsToAdd = new LinkedHashSet<>();
+        List<Enrollment> itemEnrollments = new ArrayList<>(enrollments.size());
+
+        for (EnrollmentValidation validation : validations) {
+            Enrollment enrollment = new Enrollment(validation.studentId(), validation.courseId());
+            itemEnrollments.add(validation.canAddStudentToCourse() && enrollmentsToAdd.add(enrollment)
+                    ? enrollment
+                    : null);
+        }
 
-        for (Student student : studentService.getAllStudents()) {
-            int coursesNumberForStudent = random.nextInt(3) + 1;
-            Set<Integer> coursesForStudent = new HashSet<>();
+        Set<Enrollment> addedEnrollments = enrollmentsToAdd.isEmpty()
+                ? Set.of()
+                : new HashSet<>(studentService.addStudentsToCourses(enrollmentsToAdd));
+        List<Boolean> studentsAreAdded = itemEnrollments.stream()
+                .map(enrollment -> enrollment != null && addedEnrollments.contains(enrollment))
+                .toList();
 
-            while (coursesForStudent.size() < coursesNumberForStudent) {
-                int courseId = random.nextInt(1, 11);
-                coursesForStudent.add(courseId);
-            }
+        LOGGER.debug("Added {} of {} enrollments", addedEnrollments.size(), enrollments.size());
+        return studentsAreAdded;
+    }
 
-            for (Integer courseId : coursesForStudent) {
-                Course course = courseService.getCourseById(courseId).get();
-                student.addCourse(course);
-                LOGGER.debug("Added student {} to course {}", student, course);
-            }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<StudentSummary> getStudentsWithTheirGroupsPage(KeysetPageRequest pageRequest) {
+        return getPage(pageRequest, studentService::getStudentSummariesAfter,
+                studentService::getStudentSummariesBefore, StudentSummary::id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<StudentCoursesSummary> getStudentsWithTheirCoursesPage(KeysetPageRequest pageRequest) {
+        return getPage(pageRequest,
+                (studentId, limit) -> mapStudentsToCoursesSummaries(studentService.getStudentsAfter(studentId, limit)),
+                (studentId, limit) -> mapStudentsToCoursesSummaries(studentService.getStudentsBefore(studentId, limit)),
+                StudentCoursesSummary::id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentCoursesSummary> getAllStudentsWithTheirCourses() {
+        List<StudentCoursesSummary> allStudentsWithTheirCourses = mapStudentsToCoursesSummaries(
+                studentService.getAllStudentsWithCourses());
+        LOGGER.debug("Received all students with their courses: {}", allStudentsWithTheirCourses);
+
+        return allStudentsWithTheirCourses;
+    }
+
+    private boolean changeUnlessDuplicate(BooleanSupplier change) {
+        try {
+            return change.getAsBoolean();
+        } catch (DataIntegrityViolationException e) {
+            LOGGER.debug("Change rejected by the database: {}", e.getMostSpecificCause().getMessage());
+            return false;
         }
+    }
 
-        LOGGER.info("Students have been added to courses.");
+    private List<StudentCoursesSummary> mapStudentsToCoursesSummaries(List<Student> students) {
+        return students.stream()
+                .map(StudentMapper::mapStudentToCoursesSummary)
+                .toList();
     }
 
-    private Set<CourseDto> getCoursesDtosForStudent(Student student) {
-        return student.getCourses().stream()
-                .map(CourseMapper::mapCourseToDto)
-                .collect(Collectors.toSet());
+    private <T> KeysetPage<T> getPage(KeysetPageRequest pageRequest,
+            BiFunction<Integer, Integer, List<T>> itemsAfter, BiFunction<Integer, Integer, List<T>> itemsBefore,
+            Function<T, Integer> idGetter) {
+        int size = pageRequest.size();
+        boolean backward = pageRequest.backward();
+        List<T> items = backward
+                ? itemsBefore.apply(pageRequest.id(), size + 1)
+                : itemsAfter.apply(pageRequest.id(), size + 1);
+        boolean moreItemsExist = items.size() > size;
+
+        if (moreItemsExist) {
+            items = backward ? items.subList(1, size + 1) : items.subList(0, size);
+        }
+
+        Integer firstId = items.isEmpty() ? null : idGetter.apply(items.get(0));
+        Integer lastId = items.isEmpty() ? null : idGetter.apply(items.get(items.size() - 1));
+        boolean keyGiven = pageRequest.id() != null;
+        KeysetPage<T> page = new KeysetPage<>(items, pageRequest, firstId, lastId,
+                backward ? moreItemsExist : keyGiven, backward ? keyGiven : moreItemsExist);
+
+        LOGGER.debug("Received page {}", page);
+        return page;
     }
 
 }
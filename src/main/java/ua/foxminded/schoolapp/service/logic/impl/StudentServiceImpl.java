@@ -1,20 +1,35 @@
 package ua.foxminded.schoolapp.service.logic.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
+import ua.foxminded.schoolapp.dto.Enrollment;
 import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.dto.StudentName;
+import ua.foxminded.schoolapp.dto.StudentRequest;
+import ua.foxminded.schoolapp.dto.StudentSummary;
 import ua.foxminded.schoolapp.dto.mapper.StudentMapper;
+import ua.foxminded.schoolapp.exception.DataGenerationException;
 import ua.foxminded.schoolapp.model.Group;
 import ua.foxminded.schoolapp.model.Student;
 import ua.foxminded.schoolapp.repository.StudentRepository;
 import ua.foxminded.schoolapp.service.generate.Generatable;
+import ua.foxminded.schoolapp.service.generate.GenerationChunks;
+import ua.foxminded.schoolapp.service.generate.GroupAllocator;
+import ua.foxminded.schoolapp.service.generate.ParallelGeneration;
 import ua.foxminded.schoolapp.service.logic.StudentService;
 
 /**
@@ -28,6 +43,11 @@ import ua.foxminded.schoolapp.service.logic.StudentService;
  * the Spring context. The StudentServiceImpl requires instances of
  * {@link Generatable} for generating students Dto and a
  * {@link StudentRepository} for data access to perform its operations.
+ * Generated students are saved in chunks, and the persistence context is
+ * cleared after every chunk. Every generated student is assigned to a random
+ * group by a {@link GroupAllocator}, which keeps the group sizes between the
+ * configured minimum and maximum. Student queries are marked read-only, which
+ * also makes the JDBC connection read-only for their transactions.
  *
  * @author Serhii Bohdan
  */
@@ -43,19 +63,38 @@ public class StudentServiceImpl implements StudentService {
 
     private final Generatable<StudentDto> studentsGenerator;
     private final StudentRepository studentRepository;
+    private final EntityManager entityManager;
+    private final int minGroupSize;
+    private final int maxGroupSize;
+    private final Long seed;
 
     /**
-     * Constructs a new StudentServiceImpl with the specified students generator and
-     * student repository.
+     * Constructs a new StudentServiceImpl with the specified students generator,
+     * student repository, entity manager and group allocation settings.
      *
      * @param studentsGenerator an instance of {@link Generatable} for generating
      *                          student data
      * @param studentRepository an instance of {@link StudentRepository} for
      *                          accessing and managing student information
+     * @param entityManager     the entity manager whose persistence context is
+     *                          cleared between chunks of generated students
+     * @param minGroupSize      the minimum number of generated students in a
+     *                          group
+     * @param maxGroupSize      the maximum number of generated students in a
+     *                          group
+     * @param seed              the seed of the group allocation, or
+     *                          {@code null} for a random seed
      */
-    public StudentServiceImpl(Generatable<StudentDto> studentsGenerator, StudentRepository studentRepository) {
+    public StudentServiceImpl(Generatable<StudentDto> studentsGenerator, StudentRepository studentRepository,
+            EntityManager entityManager, @Value("${school.generation.group-size.min:10}") int minGroupSize,
+            @Value("${school.generation.group-size.max:30}") int maxGroupSize,
+            @Value("${school.generation.seed:#{null}}") Long seed) {
         this.studentsGenerator = studentsGenerator;
         this.studentRepository = studentRepository;
+        this.entityManager = entityManager;
+        this.minGroupSize = minGroupSize;
+        this.maxGroupSize = maxGroupSize;
+        this.seed = seed;
     }
 
     /**
@@ -64,14 +103,37 @@ public class StudentServiceImpl implements StudentService {
     @Override
     public void initStudents(List<Group> groups) {
         LOGGER.info("Filling with generated students");
-        List<StudentDto> generatedStudents = studentsGenerator.toGenerate();
-        List<Integer> groupsIndexes = getRandomGroupsIndexes(generatedStudents.size(), groups.size());
+        Spliterator<StudentDto> generatedStudents = studentsGenerator.toGenerateStream().spliterator();
+        long studentsNumber = generatedStudents.getExactSizeIfKnown();
 
-        for (int i = 0; i < groupsIndexes.size(); i++) {
-            Student student = StudentMapper.mapDtoToStudent(generatedStudents.get(i));
-            student.setGroup(groups.get(groupsIndexes.get(i)));
-            studentRepository.save(student);
+        if (studentsNumber < 0) {
+            LOGGER.error("The students generator did not report the number of students");
+            throw new DataGenerationException("The students generator must report the exact number of students.");
         }
+
+        if (groups.isEmpty()) {
+            LOGGER.warn("There are no groups for {} generated students", studentsNumber);
+            return;
+        }
+
+        GroupAllocator groupAllocator = new GroupAllocator(groups.size(), studentsNumber, minGroupSize, maxGroupSize,
+                new SplittableRandom(ParallelGeneration.resolveSeed(seed)));
+
+        long savedStudents = GenerationChunks.forEachChunk(
+                StreamSupport.stream(generatedStudents, false)
+                        .map(studentDto -> {
+                            Student student = StudentMapper.mapDtoToStudent(studentDto);
+                            student.setGroup(groups.get(groupAllocator.nextGroupIndex()));
+                            return student;
+                        }),
+                GenerationChunks.DEFAULT_CHUNK_SIZE, this::saveChunk);
+        LOGGER.info("Saved {} generated students", savedStudents);
+    }
+
+    private void saveChunk(List<Student> students) {
+        studentRepository.saveAll(students);
+        studentRepository.flush();
+        entityManager.clear();
     }
 
     /**
@@ -82,13 +144,14 @@ public class StudentServiceImpl implements StudentService {
         Student student = StudentMapper.mapDtoToStudent(newStudent);
         LOGGER.debug("Adding a new student: {}", student);
 
-        return Optional.ofNullable(studentRepository.save(student));
+        return Optional.ofNullable(studentRepository.saveAndFlush(student));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<Student> getStudentById(Integer studentId) {
         Optional<Student> student = studentRepository.findById(studentId);
         LOGGER.debug("Received student by ID {}: {}", studentId, student);
@@ -100,6 +163,7 @@ public class StudentServiceImpl implements StudentService {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<Student> getStudentByFullName(String firstName, String lastName) {
         Optional<Student> student = studentRepository.findByFirstNameAndLastName(firstName, lastName);
         LOGGER.debug("Search student by full name {} {}: {}", firstName, lastName, student);
@@ -111,6 +175,7 @@ public class StudentServiceImpl implements StudentService {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Student> getAllStudents() {
         List<Student> allStudents = studentRepository.findAll();
         LOGGER.debug("All received students: {}", allStudents);
@@ -122,54 +187,168 @@ public class StudentServiceImpl implements StudentService {
      * {@inheritDoc}
      */
     @Override
-    public Optional<Student> updateStudent(Student udatedStudent) {
-        LOGGER.debug("Updating student data: {}", udatedStudent);
-        Student student = studentRepository.save(udatedStudent);
+    @Transactional(readOnly = true)
+    public List<StudentSummary> getAllStudentSummaries() {
+        List<StudentSummary> allStudents = studentRepository.findAllSummaries();
+        LOGGER.debug("Received {} student summaries", allStudents.size());
 
-        return Optional.ofNullable(student);
+        return allStudents;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void deleteStudentById(Integer studentId) {
-        Optional<Student> student = getStudentById(studentId);
+    @Transactional(readOnly = true)
+    public List<Student> getAllStudentsWithCourses() {
+        List<Student> allStudents = studentRepository.findAllWithGroupAndCourses();
+        LOGGER.debug("All received students with their courses: {}", allStudents);
 
-        if (student.isPresent()) {
-            LOGGER.debug("Deleting student with ID {}: {}", studentId, student);
-            studentRepository.delete(student.get());
-        }
+        return allStudents;
     }
 
-    private List<Integer> getRandomGroupsIndexes(Integer studentsNumber, Integer groupsNumber) {
-        LOGGER.debug("Generating random group indexes");
-        Random random = new Random();
-        List<Integer> randomNumbers = new ArrayList<>();
-        int maxCountStudentsInGroup = 30;
-        int minCountStudentsInGroup = 10;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Student> getStudentsWithCoursesByCourseName(String courseName) {
+        List<Student> studentsOfCourse = studentRepository.findAllWithGroupAndCoursesByCourseName(courseName);
+        LOGGER.debug("Received students with their courses by course name {}: {}", courseName, studentsOfCourse);
 
-        if (studentsNumber > 0 && groupsNumber > 0) {
-            Integer maxGroupIndex = groupsNumber - 1;
+        return studentsOfCourse;
+    }
 
-            while (randomNumbers.size() < studentsNumber) {
-                int randomGroupId = random.nextInt(0, 10);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Student> getStudentsAfter(Integer studentId, int limit) {
+        List<Student> students = studentRepository.findByIdGreaterThanOrderByIdAsc(
+                Objects.requireNonNullElse(studentId, 0), Limit.of(limit));
+        LOGGER.debug("Received {} students after student ID {}", students.size(), studentId);
 
-                if ((Collections.frequency(randomNumbers, randomGroupId) < maxCountStudentsInGroup)
-                        && (randomGroupId <= maxGroupIndex)) {
-                    randomNumbers.add(randomGroupId);
-                }
+        return students;
+    }
 
-                if ((Collections.frequency(randomNumbers, randomGroupId) < minCountStudentsInGroup)
-                        && (randomGroupId <= maxGroupIndex) && (randomNumbers.size() < studentsNumber)) {
-                    randomNumbers.add(randomGroupId);
-                }
-            }
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Student> getStudentsBefore(Integer studentId, int limit) {
+        List<Student> students = new ArrayList<>(studentRepository.findByIdLessThanOrderByIdDesc(
+                Objects.requireNonNullElse(studentId, Integer.MAX_VALUE), Limit.of(limit)));
+        Collections.reverse(students);
+        LOGGER.debug("Received {} students before student ID {}", students.size(), studentId);
+
+        return students;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentSummary> getStudentSummariesAfter(Integer studentId, int limit) {
+        List<StudentSummary> students = studentRepository.findSummariesByIdGreaterThan(
+                Objects.requireNonNullElse(studentId, 0), Limit.of(limit));
+        LOGGER.debug("Received {} student summaries after student ID {}", students.size(), studentId);
+
+        return students;
+    }
 
-        Collections.shuffle(randomNumbers);
-        LOGGER.debug("Generated random group indexes: {}", randomNumbers);
-        return randomNumbers;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentSummary> getStudentSummariesBefore(Integer studentId, int limit) {
+        List<StudentSummary> students = new ArrayList<>(studentRepository.findSummariesByIdLessThan(
+                Objects.requireNonNullElse(studentId, Integer.MAX_VALUE), Limit.of(limit)));
+        Collections.reverse(students);
+        LOGGER.debug("Received {} student summaries before student ID {}", students.size(), studentId);
+
+        return students;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasStudents() {
+        boolean studentsExist = studentRepository.existsAnyStudent();
+        LOGGER.debug("Students exist: {}", studentsExist);
+
+        return studentsExist;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean updateStudent(String firstName, String lastName, String newFirstName, String newLastName,
+            Group newGroup) {
+        boolean studentIsUpdated = studentRepository.updateByFullName(firstName, lastName, newFirstName,
+                newLastName, newGroup) > 0;
+        LOGGER.debug("Updated student {} {} to {} {} in group {}: {}", firstName, lastName, newFirstName,
+                newLastName, newGroup, studentIsUpdated);
+
+        return studentIsUpdated;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean deleteStudentById(Integer studentId) {
+        boolean studentIsDeleted = studentRepository.deleteStudentById(studentId) > 0;
+        LOGGER.debug("Deleted student with ID {}: {}", studentId, studentIsDeleted);
+
+        return studentIsDeleted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addStudentToCourse(Integer studentId, Integer courseId) {
+        boolean studentIsAdded = studentRepository.addEnrollment(studentId, courseId) > 0;
+        LOGGER.debug("Added student with ID {} to course with ID {}: {}", studentId, courseId, studentIsAdded);
+
+        return studentIsAdded;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean deleteStudentFromCourse(Integer studentId, Integer courseId) {
+        boolean studentIsDeleted = studentRepository.deleteEnrollment(studentId, courseId) > 0;
+        LOGGER.debug("Deleted student with ID {} from course with ID {}: {}", studentId, courseId,
+                studentIsDeleted);
+
+        return studentIsDeleted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<StudentName> addStudents(Collection<StudentRequest> newStudents) {
+        LOGGER.debug("Adding {} new students", newStudents.size());
+        return studentRepository.addStudents(newStudents);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Enrollment> addStudentsToCourses(Collection<Enrollment> enrollments) {
+        LOGGER.debug("Adding {} enrollments", enrollments.size());
+        return studentRepository.addEnrollments(enrollments);
     }
 
 }
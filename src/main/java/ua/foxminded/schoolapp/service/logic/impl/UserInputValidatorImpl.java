@@ -1,10 +1,24 @@
 package ua.foxminded.schoolapp.service.logic.impl;
 
-import java.util.Optional;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
+import ua.foxminded.schoolapp.dto.Enrollment;
+import ua.foxminded.schoolapp.dto.EnrollmentRequest;
+import ua.foxminded.schoolapp.dto.EnrollmentValidation;
+import ua.foxminded.schoolapp.dto.StudentName;
+import ua.foxminded.schoolapp.dto.StudentRequest;
+import ua.foxminded.schoolapp.dto.StudentValidation;
 import ua.foxminded.schoolapp.model.Course;
 import ua.foxminded.schoolapp.model.Group;
 import ua.foxminded.schoolapp.model.Student;
@@ -24,12 +38,16 @@ import ua.foxminded.schoolapp.service.logic.UserInputValidator;
  * the Spring context. The UserInputValidatorImpl requires instances of
  * {@link GroupRepository}, {@link StudentRepository}, and
  * {@link CourseRepository} for data access to perform its validation
- * operations.
+ * operations. Validation never changes data, so every method runs in a
+ * read-only transaction. The items of batch commands are validated by the same
+ * rules as single commands, but the groups, students, courses and enrollments
+ * of all items are found with one query per table, and the rules are then
+ * checked in memory.
  *
  * @author Serhii Bohdan
  */
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class UserInputValidatorImpl implements UserInputValidator {
 
     /**
@@ -41,7 +59,7 @@ public class UserInputValidatorImpl implements UserInputValidator {
     /**
      * A regular expression pattern for validating group names.
      */
-    private static final String GROUP_NAME_PATTERN = "^[A-Z]{2}-[0-9]{2}$";
+    private static final Pattern GROUP_NAME_PATTERN = Pattern.compile("^[A-Z]{2}-[0-9]{2}$");
 
     /**
      * The maximum length allowed for names of entities.
@@ -88,9 +106,7 @@ public class UserInputValidatorImpl implements UserInputValidator {
     @Override
     public boolean validateGroupId(Integer groupId) {
         LOGGER.debug("Validating group ID: {}", groupId);
-        boolean isValid = groupRepository.findAll().stream()
-                .map(Group::getId)
-                .toList().contains(groupId);
+        boolean isValid = Objects.nonNull(groupId) && groupRepository.existsById(groupId);
 
         LOGGER.debug("Group ID validation result: {}", isValid);
         return isValid;
@@ -102,9 +118,7 @@ public class UserInputValidatorImpl implements UserInputValidator {
     @Override
     public boolean validateGroupNameExistence(String groupName) {
         LOGGER.debug("Validation of the presence of a group named: {}", groupName);
-        boolean groupNameExist = groupRepository.findAll().stream()
-                .map(Group::getGroupName)
-                .toList().contains(groupName);
+        boolean groupNameExist = groupRepository.findByGroupName(groupName).isPresent();
 
         LOGGER.debug("A group named {} exists: {}", groupName, groupNameExist);
         return groupNameExist;
@@ -116,7 +130,7 @@ public class UserInputValidatorImpl implements UserInputValidator {
     @Override
     public boolean validateGroupNamePattern(String groupName) {
         LOGGER.debug("Validation of the group name according to the pattern: {}", GROUP_NAME_PATTERN);
-        boolean groupNameMatchesPattern = groupName.matches(GROUP_NAME_PATTERN);
+        boolean groupNameMatchesPattern = GROUP_NAME_PATTERN.matcher(groupName).matches();
 
         LOGGER.debug("The group name matches the pattern: {}", groupNameMatchesPattern);
         return groupNameMatchesPattern;
@@ -128,37 +142,19 @@ public class UserInputValidatorImpl implements UserInputValidator {
     @Override
     public boolean validateCourseName(String courseName) {
         LOGGER.debug("Validating course name: {}", courseName);
-        boolean isValid = courseRepository.findAll().stream()
-                .map(Course::getCourseName)
-                .toList().contains(courseName);
+        boolean isValid = courseRepository.findByCourseName(courseName).isPresent();
 
         LOGGER.debug("Course name validation result: {}", isValid);
         return isValid;
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean validateDescription(String courseDescription) {
-        LOGGER.debug("Validating course descrition: {}", courseDescription);
-        boolean isValid = courseRepository.findAll().stream()
-                .map(Course::getDescription)
-                .toList().contains(courseDescription);
-
-        LOGGER.debug("Course descrition validation result: {}", isValid);
-        return isValid;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean validateStudentId(Integer studentId) {
         LOGGER.debug("Validating student ID: {}", studentId);
-        boolean isValid = studentRepository.findAll().stream()
-                .map(Student::getId)
-                .toList().contains(studentId);
+        boolean isValid = Objects.nonNull(studentId) && studentRepository.existsById(studentId);
 
         LOGGER.debug("Student ID validation result: {}", isValid);
         return isValid;
@@ -170,9 +166,7 @@ public class UserInputValidatorImpl implements UserInputValidator {
     @Override
     public boolean validateStudentFullName(String firstName, String lastName) {
         LOGGER.debug("Validating student full name: {} {}", firstName, lastName);
-        boolean isValid = studentRepository.findAll().stream()
-                .anyMatch(s -> s.getFirstName().equals(firstName)
-                        && s.getLastName().equals(lastName));
+        boolean isValid = studentRepository.existsByFirstNameAndLastName(firstName, lastName);
 
         LOGGER.debug("Student full name validation result: {}", isValid);
         return isValid;
@@ -184,13 +178,7 @@ public class UserInputValidatorImpl implements UserInputValidator {
     @Override
     public boolean isStudentOnCourse(String firstName, String lastName, String courseName) {
         LOGGER.debug("Checking if student is on course: {} {} - {}", firstName, lastName, courseName);
-        Optional<Student> student = studentRepository.findByFirstNameAndLastName(firstName, lastName);
-        Optional<Course> course = courseRepository.findByCourseName(courseName);
-        boolean isOnCourse = false;
-
-        if (student.isPresent() && course.isPresent()) {
-            isOnCourse = student.get().getCourses().contains(course.get());
-        }
+        boolean isOnCourse = studentRepository.existsOnCourse(firstName, lastName, courseName);
 
         LOGGER.debug("Student on course check result: {}", isOnCourse);
         return isOnCourse;
@@ -208,4 +196,112 @@ public class UserInputValidatorImpl implements UserInputValidator {
         return isValid;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean[] validateGroupNamePatterns(List<String> groupNames) {
+        boolean[] groupNamesMatchPattern = new boolean[groupNames.size()];
+        Matcher matcher = GROUP_NAME_PATTERN.matcher("");
+
+        for (int i = 0; i < groupNamesMatchPattern.length; i++) {
+            groupNamesMatchPattern[i] = matcher.reset(groupNames.get(i)).matches();
+        }
+
+        LOGGER.debug("Validated {} group names according to the pattern: {}", groupNames.size(), GROUP_NAME_PATTERN);
+        return groupNamesMatchPattern;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean[] validateNameLengths(List<String> names) {
+        boolean[] lengthsAreValid = new boolean[names.size()];
+
+        for (int i = 0; i < lengthsAreValid.length; i++) {
+            lengthsAreValid[i] = names.get(i).length() <= MAX_NAME_LENGTH;
+        }
+
+        LOGGER.debug("Validated lengths of {} names", names.size());
+        return lengthsAreValid;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StudentValidation validateStudent(String firstName, String lastName, String groupName) {
+        LOGGER.debug("Validating student {} {} in group {}", firstName, lastName, groupName);
+        Group group = groupRepository.findByGroupName(groupName).orElse(null);
+        StudentValidation validation = new StudentValidation(validateNameLength(firstName),
+                validateNameLength(lastName), group);
+
+        LOGGER.debug("Student validation result: {}", validation);
+        return validation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EnrollmentValidation validateEnrollment(String firstName, String lastName, String courseName) {
+        LOGGER.debug("Validating enrollment of student {} {} in course {}", firstName, lastName, courseName);
+        EnrollmentValidation validation = studentRepository.validateEnrollment(firstName, lastName, courseName);
+
+        LOGGER.debug("Enrollment validation result: {}", validation);
+        return validation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<StudentValidation> validateStudents(List<StudentRequest> newStudents) {
+        LOGGER.debug("Validating {} new students", newStudents.size());
+        Set<String> groupNames = newStudents.stream()
+                .map(StudentRequest::groupName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Group> groups = groupRepository.findAllByGroupNames(groupNames).stream()
+                .collect(Collectors.toMap(Group::getGroupName, Function.identity()));
+
+        return newStudents.stream()
+                .map(newStudent -> new StudentValidation(validateNameLength(newStudent.firstName()),
+                        validateNameLength(newStudent.lastName()), groups.get(newStudent.groupName())))
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<EnrollmentValidation> validateEnrollments(List<EnrollmentRequest> enrollments) {
+        LOGGER.debug("Validating {} enrollments", enrollments.size());
+        Set<StudentName> studentNames = enrollments.stream()
+                .map(EnrollmentRequest::studentName)
+                .filter(studentName -> studentName.firstName() != null && studentName.lastName() != null)
+                .collect(Collectors.toSet());
+        Set<String> courseNames = enrollments.stream()
+                .map(EnrollmentRequest::courseName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<StudentName, Integer> studentIds = studentRepository.findAllByFullNames(studentNames).stream()
+                .collect(Collectors.toMap(student -> new StudentName(student.getFirstName(), student.getLastName()),
+                        Student::getId));
+        Map<String, Integer> courseIds = courseRepository.findAllByCourseNames(courseNames).stream()
+                .collect(Collectors.toMap(Course::getCourseName, Course::getId));
+        Set<Enrollment> existingEnrollments = new HashSet<>(
+                studentRepository.findEnrollments(studentIds.values(), courseIds.values()));
+
+        return enrollments.stream()
+                .map(enrollment -> {
+                    Integer studentId = studentIds.get(enrollment.studentName());
+                    Integer courseId = courseIds.get(enrollment.courseName());
+                    return new EnrollmentValidation(studentId, courseId,
+                            existingEnrollments.contains(new Enrollment(studentId, courseId)));
+                })
+                .toList();
+    }
+
 }
@@ -0,0 +1,7 @@
+CREATE UNIQUE INDEX groups_group_name_idx ON groups (group_name);
+
+CREATE UNIQUE INDEX courses_course_name_idx ON courses (course_name);
+
+CREATE INDEX courses_course_description_idx ON courses USING HASH (course_description);
+
+CREATE UNIQUE INDEX students_full_name_idx ON students (first_name, last_name);
@@ -0,0 +1,9 @@
+ALTER TABLE groups ADD CONSTRAINT groups_group_name_key UNIQUE USING INDEX groups_group_name_idx;
+
+ALTER TABLE courses ADD CONSTRAINT courses_course_name_key UNIQUE USING INDEX courses_course_name_idx;
+
+ALTER TABLE students ADD CONSTRAINT students_full_name_key UNIQUE USING INDEX students_full_name_idx;
+
+CREATE UNIQUE INDEX courses_course_description_md5_idx ON courses (md5(course_description));
+
+DROP INDEX courses_course_description_idx;
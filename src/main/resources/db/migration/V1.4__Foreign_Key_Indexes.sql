@@ -0,0 +1,3 @@
+CREATE INDEX students_group_id_idx ON students (group_id);
+
+CREATE INDEX students_courses_course_id_idx ON students_courses (course_id);
@@ -0,0 +1,4 @@
+ALTER TABLE students DROP CONSTRAINT students_group_id_fkey;
+
+ALTER TABLE students ADD CONSTRAINT students_group_id_fkey
+  FOREIGN KEY (group_id) REFERENCES groups(group_id) ON DELETE CASCADE;
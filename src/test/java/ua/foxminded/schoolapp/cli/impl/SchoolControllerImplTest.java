@@ -1,19 +1,27 @@
 package ua.foxminded.schoolapp.cli.impl;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import ua.foxminded.schoolapp.cli.SchoolView;
 import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.CourseSummary;
 import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.GroupStudentsCount;
+import ua.foxminded.schoolapp.dto.GroupSummary;
+import ua.foxminded.schoolapp.dto.KeysetPage;
+import ua.foxminded.schoolapp.dto.KeysetPageRequest;
+import ua.foxminded.schoolapp.dto.StudentCoursesSummary;
 import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.dto.StudentSummary;
 import ua.foxminded.schoolapp.service.logic.ServiceFacade;
 
 @SpringBootTest(classes = { SchoolControllerImpl.class })
@@ -22,6 +30,8 @@ class SchoolControllerImplTest {
     private static final String NEW_LINE = "\n";
     private static final String NON_BREAKING_SPACE = "\u00A0";
     private static final String SELECTION = "Select an option: ";
+    private static final String PAGE_NAVIGATION = NEW_LINE
+            + "Enter N for the next page, P for the previous page or anything else to continue:" + NON_BREAKING_SPACE;
 
     @MockBean
     private SchoolView viewMock;
@@ -32,6 +42,18 @@ class SchoolControllerImplTest {
     @Autowired
     private SchoolControllerImpl controller;
 
+    @BeforeEach
+    void setUp() {
+        when(serviceFacadeMock.getStudentsWithTheirCoursesPage(any()))
+                .thenReturn(new KeysetPage<>(List.of(), KeysetPageRequest.first(20), null, null, false, false));
+        when(serviceFacadeMock.getStudentsWithTheirGroupsPage(any()))
+                .thenReturn(new KeysetPage<>(List.of(), KeysetPageRequest.first(20), null, null, false, false));
+        when(serviceFacadeMock.getGroupsPage(any()))
+                .thenReturn(new KeysetPage<>(List.of(), KeysetPageRequest.first(20), null, null, false, false));
+        when(serviceFacadeMock.getCoursesPage(any()))
+                .thenReturn(new KeysetPage<>(List.of(), KeysetPageRequest.first(20), null, null, false, false));
+    }
+
     @Test
     void runSchoolApp_shouldPrintedMessageAboutIncorrectnessEnteredNumber_whenSelectedFirstOptionAndMapWithGroupsAndTheirNumberOfStudentsIsNull() {
         Integer numberGreaterThanMaximumStudentsCountInGroup = -10;
@@ -56,7 +78,8 @@ class SchoolControllerImplTest {
         when(viewMock.getIntNumberFromUser(NEW_LINE + SELECTION)).thenReturn(1, 0);
         when(viewMock.getIntNumberFromUser("Enter the number of students:" + NON_BREAKING_SPACE))
                 .thenReturn(verySmallStudentsNumber);
-        when(serviceFacadeMock.getGroupsWithGivenNumberOfStudents(verySmallStudentsNumber)).thenReturn(new HashMap<>());
+        when(serviceFacadeMock.getGroupsWithGivenNumberOfStudents(verySmallStudentsNumber))
+                .thenReturn(new ArrayList<>());
 
         controller.runSchoolApp();
 
@@ -68,9 +91,9 @@ class SchoolControllerImplTest {
     @Test
     void runSchoolApp_shouldDisplayedGroupsNamesWithTheirNumberOfStudents_whenSelectedFirstOptionAndMapWithGroupsAndTheirNumberOfStudentsContainsSomeGroups() {
         Integer studentsNumber = 18;
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = new HashMap<>();
-        groupsWithTheirNumberOfStudents.put(new GroupDto("FG-62"), 17);
-        groupsWithTheirNumberOfStudents.put(new GroupDto("LK-56"), 15);
+        List<GroupStudentsCount> groupsWithTheirNumberOfStudents = new ArrayList<>();
+        groupsWithTheirNumberOfStudents.add(new GroupStudentsCount(1, "FG-62", 17));
+        groupsWithTheirNumberOfStudents.add(new GroupStudentsCount(2, "LK-56", 15));
         when(viewMock.getIntNumberFromUser(NEW_LINE + SELECTION)).thenReturn(1, 0);
         when(viewMock.getIntNumberFromUser(NEW_LINE + "Enter the number of students:" + NON_BREAKING_SPACE))
                 .thenReturn(studentsNumber);
@@ -105,7 +128,7 @@ class SchoolControllerImplTest {
         when(viewMock.getIntNumberFromUser(NEW_LINE + SELECTION)).thenReturn(2, 0);
         when(viewMock.getSentenceFromUser(NEW_LINE + "Enter the name of the course:" + NON_BREAKING_SPACE))
                 .thenReturn(existentCourseName);
-        when(serviceFacadeMock.getStudentsWithCoursesByCourseName(existentCourseName)).thenReturn(new HashMap<>());
+        when(serviceFacadeMock.getStudentsWithCoursesByCourseName(existentCourseName)).thenReturn(new ArrayList<>());
 
         controller.runSchoolApp();
 
@@ -117,14 +140,11 @@ class SchoolControllerImplTest {
     @Test
     void runSchoolApp_shouldDisplayedStudentsNamesWithTheirCourses_whenSelectedSecondOptionAndEnteredExistentCourseName() {
         String existentCourseName = "CourseName_1";
-        Map<StudentDto, Set<CourseDto>> studentWithTheirCourses = new HashMap<>();
-        StudentDto student = new StudentDto("FirstName_1", "LastName_1");
-        CourseDto firstCourse = new CourseDto("CourseName_1", "Description_1");
-        CourseDto secondCourse = new CourseDto("CourseName_2", "Description_2");
-        Set<CourseDto> coursesForStudent = new HashSet<>();
-        coursesForStudent.add(firstCourse);
-        coursesForStudent.add(secondCourse);
-        studentWithTheirCourses.put(student, coursesForStudent);
+        List<StudentCoursesSummary> studentWithTheirCourses = new ArrayList<>();
+        CourseSummary firstCourse = new CourseSummary(1, "CourseName_1", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(2, "CourseName_2", "Description_2");
+        studentWithTheirCourses
+                .add(new StudentCoursesSummary(1, "FirstName_1", "LastName_1", List.of(firstCourse, secondCourse)));
         when(viewMock.getIntNumberFromUser(NEW_LINE + SELECTION)).thenReturn(2, 0);
         when(viewMock.getSentenceFromUser(NEW_LINE + "Enter the name of the course:" + NON_BREAKING_SPACE))
                 .thenReturn(existentCourseName);
@@ -692,4 +712,103 @@ class SchoolControllerImplTest {
         verify(viewMock).printMessage("There is no option that matches this number." + NEW_LINE);
     }
 
+    @Test
+    void runSchoolApp_shouldDisplayedNextPageOfStudents_whenSelectedThirdOptionAndUserEnteredNextPage() {
+        List<StudentCoursesSummary> firstPageStudents = List
+                .of(new StudentCoursesSummary(20, "FirstName_1", "LastName_1", List.of()));
+        List<StudentCoursesSummary> secondPageStudents = List
+                .of(new StudentCoursesSummary(21, "FirstName_2", "LastName_2", List.of()));
+        KeysetPageRequest firstPageRequest = KeysetPageRequest.first(20);
+        KeysetPageRequest secondPageRequest = new KeysetPageRequest(20, false, 20);
+        when(viewMock.getIntNumberFromUser(NEW_LINE + SELECTION)).thenReturn(3, 0);
+        when(viewMock.getSentenceFromUser(PAGE_NAVIGATION)).thenReturn("N", "");
+        when(serviceFacadeMock.getStudentsWithTheirCoursesPage(firstPageRequest))
+                .thenReturn(new KeysetPage<>(firstPageStudents, firstPageRequest, 20, 20, false, true));
+        when(serviceFacadeMock.getStudentsWithTheirCoursesPage(secondPageRequest))
+                .thenReturn(new KeysetPage<>(secondPageStudents, secondPageRequest, 21, 21, true, false));
+
+        controller.runSchoolApp();
+
+        verify(viewMock).displayStudentsWithTheirCourses(firstPageStudents);
+        verify(viewMock).displayStudentsWithTheirCourses(secondPageStudents);
+    }
+
+    @Test
+    void runSchoolApp_shouldDisplayedPreviousPageOfStudents_whenSelectedNinthOptionAndUserEnteredPreviousPage() {
+        List<StudentSummary> firstPageStudents = List
+                .of(new StudentSummary(1, "FirstName_1", "LastName_1", 1, "GH-23"));
+        List<StudentSummary> secondPageStudents = List
+                .of(new StudentSummary(41, "FirstName_2", "LastName_2", 1, "GH-23"));
+        KeysetPageRequest firstPageRequest = KeysetPageRequest.first(20);
+        KeysetPageRequest previousPageRequest = new KeysetPageRequest(41, true, 20);
+        KeysetPageRequest secondPageRequest = new KeysetPageRequest(1, false, 20);
+        when(viewMock.getIntNumberFromUser(NEW_LINE + SELECTION)).thenReturn(9, 0);
+        when(viewMock.getSentenceFromUser(PAGE_NAVIGATION)).thenReturn("N", "P", "");
+        when(serviceFacadeMock.getStudentsWithTheirGroupsPage(firstPageRequest))
+                .thenReturn(new KeysetPage<>(firstPageStudents, firstPageRequest, 1, 1, false, true));
+        when(serviceFacadeMock.getStudentsWithTheirGroupsPage(secondPageRequest))
+                .thenReturn(new KeysetPage<>(secondPageStudents, secondPageRequest, 41, 41, true, false));
+        when(serviceFacadeMock.getStudentsWithTheirGroupsPage(previousPageRequest))
+                .thenReturn(new KeysetPage<>(firstPageStudents, previousPageRequest, 1, 1, false, true));
+
+        controller.runSchoolApp();
+
+        verify(serviceFacadeMock).getStudentsWithTheirGroupsPage(previousPageRequest);
+        verify(serviceFacadeMock, never()).getAllStudentsWithTheirGroups();
+        verify(viewMock).displayStudentsWithTheirGroups(secondPageStudents);
+    }
+
+    @Test
+    void runSchoolApp_shouldDisplayedNextPageOfGroups_whenSelectedFifthOptionAndUserEnteredNextPage() {
+        List<GroupSummary> firstPageGroups = List.of(new GroupSummary(20, "AB-12"));
+        List<GroupSummary> secondPageGroups = List.of(new GroupSummary(21, "CD-34"));
+        KeysetPageRequest firstPageRequest = KeysetPageRequest.first(20);
+        KeysetPageRequest secondPageRequest = new KeysetPageRequest(20, false, 20);
+        when(viewMock.getIntNumberFromUser(NEW_LINE + SELECTION)).thenReturn(5, 0);
+        when(viewMock.getSentenceFromUser(PAGE_NAVIGATION)).thenReturn("N", "");
+        when(serviceFacadeMock.getGroupsPage(firstPageRequest))
+                .thenReturn(new KeysetPage<>(firstPageGroups, firstPageRequest, 20, 20, false, true));
+        when(serviceFacadeMock.getGroupsPage(secondPageRequest))
+                .thenReturn(new KeysetPage<>(secondPageGroups, secondPageRequest, 21, 21, true, false));
+
+        controller.runSchoolApp();
+
+        verify(viewMock).displayGroups(firstPageGroups);
+        verify(viewMock).displayGroups(secondPageGroups);
+        verify(serviceFacadeMock, never()).getAllGroups();
+    }
+
+    @Test
+    void runSchoolApp_shouldDisplayedPreviousPageOfCourses_whenSelectedTwelfthOptionAndUserEnteredPreviousPage() {
+        List<CourseSummary> firstPageCourses = List.of(new CourseSummary(1, "Math", "Numbers"));
+        List<CourseSummary> secondPageCourses = List.of(new CourseSummary(41, "Art", "Drawing"));
+        KeysetPageRequest firstPageRequest = KeysetPageRequest.first(20);
+        KeysetPageRequest previousPageRequest = new KeysetPageRequest(41, true, 20);
+        KeysetPageRequest secondPageRequest = new KeysetPageRequest(1, false, 20);
+        when(viewMock.getIntNumberFromUser(NEW_LINE + SELECTION)).thenReturn(12, 0);
+        when(viewMock.getSentenceFromUser(PAGE_NAVIGATION)).thenReturn("N", "P", "");
+        when(serviceFacadeMock.getCoursesPage(firstPageRequest))
+                .thenReturn(new KeysetPage<>(firstPageCourses, firstPageRequest, 1, 1, false, true));
+        when(serviceFacadeMock.getCoursesPage(secondPageRequest))
+                .thenReturn(new KeysetPage<>(secondPageCourses, secondPageRequest, 41, 41, true, false));
+        when(serviceFacadeMock.getCoursesPage(previousPageRequest))
+                .thenReturn(new KeysetPage<>(firstPageCourses, previousPageRequest, 1, 1, false, true));
+
+        controller.runSchoolApp();
+
+        verify(serviceFacadeMock).getCoursesPage(previousPageRequest);
+        verify(serviceFacadeMock, never()).getAllCourses();
+        verify(viewMock).displayCourses(secondPageCourses);
+    }
+
+    @Test
+    void runSchoolApp_shouldNotAskedAboutPages_whenSelectedFourthOptionAndAllStudentsFitOnOnePage() {
+        when(viewMock.getIntNumberFromUser(NEW_LINE + SELECTION)).thenReturn(4, 0);
+
+        controller.runSchoolApp();
+
+        verify(viewMock, never()).getSentenceFromUser(PAGE_NAVIGATION);
+        verify(serviceFacadeMock, never()).getAllStudentsWithTheirCourses();
+    }
+
 }
@@ -9,13 +9,9 @@ import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
-import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,10 +19,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.CourseSummary;
 import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.GroupStudentsCount;
+import ua.foxminded.schoolapp.dto.GroupSummary;
+import ua.foxminded.schoolapp.dto.StudentCoursesSummary;
 import ua.foxminded.schoolapp.dto.StudentDto;
-import ua.foxminded.schoolapp.model.Course;
-import ua.foxminded.schoolapp.model.Student;
+import ua.foxminded.schoolapp.dto.StudentSummary;
 
 @SpringBootTest(classes = { SchoolViewImpl.class })
 class SchoolViewImplTest {
@@ -372,7 +371,7 @@ class SchoolViewImplTest {
 
     @Test
     void displayGroups_shouldNullPointerException_whenGroupInListIsNull() {
-        List<GroupDto> groupsList = new ArrayList<>();
+        List<GroupSummary> groupsList = new ArrayList<>();
         groupsList.add(null);
 
         assertThrows(NullPointerException.class, () -> view.displayGroups(groupsList));
@@ -380,8 +379,8 @@ class SchoolViewImplTest {
 
     @Test
     void displayGroups_shouldDisplayedGroupNameNull_whenGroupNameInGroupsListIsNull() {
-        GroupDto group = new GroupDto(null);
-        List<GroupDto> groupsList = new ArrayList<>();
+        GroupSummary group = new GroupSummary(null, null);
+        List<GroupSummary> groupsList = new ArrayList<>();
         groupsList.add(group);
         String expectedDisplayedGroups = """
 
@@ -398,7 +397,7 @@ class SchoolViewImplTest {
 
     @Test
     void displayGroups_shouldNothingDisplayed_whenGroupsListIsEmpty() {
-        List<GroupDto> groupsList = new ArrayList<>();
+        List<GroupSummary> groupsList = new ArrayList<>();
         String expectedDisplayedGroups = """
 
                 """;
@@ -411,9 +410,9 @@ class SchoolViewImplTest {
 
     @Test
     void displayGroups_shouldDisplayedGroupNamesTableWithoutNames_whenGroupNamesInGroupsListAreEmpty() {
-        GroupDto firstGroup = new GroupDto("");
-        GroupDto secondGroup = new GroupDto("");
-        List<GroupDto> groupsList = new ArrayList<>();
+        GroupSummary firstGroup = new GroupSummary(null, "");
+        GroupSummary secondGroup = new GroupSummary(null, "");
+        List<GroupSummary> groupsList = new ArrayList<>();
         groupsList.add(firstGroup);
         groupsList.add(secondGroup);
         String expectedDisplayedGroups = """
@@ -433,10 +432,10 @@ class SchoolViewImplTest {
 
     @Test
     void displayGroups_shouldDisplayedStraightGroupNamesTable_whenGroupNamesHaveSameLengthInGroupsList() {
-        GroupDto firstGroup = new GroupDto("HS-22");
-        GroupDto secondGroup = new GroupDto("BV-63");
-        GroupDto thirdGroup = new GroupDto("DT-10");
-        List<GroupDto> groupsList = new ArrayList<>();
+        GroupSummary firstGroup = new GroupSummary(null, "HS-22");
+        GroupSummary secondGroup = new GroupSummary(null, "BV-63");
+        GroupSummary thirdGroup = new GroupSummary(null, "DT-10");
+        List<GroupSummary> groupsList = new ArrayList<>();
         groupsList.add(firstGroup);
         groupsList.add(secondGroup);
         groupsList.add(thirdGroup);
@@ -459,10 +458,10 @@ class SchoolViewImplTest {
 
     @Test
     void displayGroups_shouldDisplayedDistortedGroupNamesTable_whenGroupNamesHaveDifferentLengthInGroupsList() {
-        GroupDto firstGroup = new GroupDto("H-22");
-        GroupDto secondGroup = new GroupDto("BV-633062");
-        GroupDto thirdGroup = new GroupDto("DT--10");
-        List<GroupDto> groupsList = new ArrayList<>();
+        GroupSummary firstGroup = new GroupSummary(null, "H-22");
+        GroupSummary secondGroup = new GroupSummary(null, "BV-633062");
+        GroupSummary thirdGroup = new GroupSummary(null, "DT--10");
+        List<GroupSummary> groupsList = new ArrayList<>();
         groupsList.add(firstGroup);
         groupsList.add(secondGroup);
         groupsList.add(thirdGroup);
@@ -490,17 +489,8 @@ class SchoolViewImplTest {
 
     @Test
     void displayGroupsWithTheirNumberOfStudents_shouldNullPointerException_whenGroupInMapIsNull() {
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = new HashMap<>();
-        groupsWithTheirNumberOfStudents.put(null, 20);
-
-        assertThrows(NullPointerException.class,
-                () -> view.displayGroupsWithTheirNumberOfStudents(groupsWithTheirNumberOfStudents));
-    }
-
-    @Test
-    void displayGroupsWithTheirNumberOfStudents_shouldNullPointerException_whenNumberOfStudentsInMapIsNull() {
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = new HashMap<>();
-        groupsWithTheirNumberOfStudents.put(new GroupDto("LS-43"), null);
+        List<GroupStudentsCount> groupsWithTheirNumberOfStudents = new ArrayList<>();
+        groupsWithTheirNumberOfStudents.add(null);
 
         assertThrows(NullPointerException.class,
                 () -> view.displayGroupsWithTheirNumberOfStudents(groupsWithTheirNumberOfStudents));
@@ -508,19 +498,8 @@ class SchoolViewImplTest {
 
     @Test
     void displayGroupsWithTheirNumberOfStudents_shouldNullPointerException_whenGroupNameInMapIsNull() {
-        GroupDto group = new GroupDto(null);
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = new HashMap<>();
-        groupsWithTheirNumberOfStudents.put(group, 20);
-
-        assertThrows(NullPointerException.class,
-                () -> view.displayGroupsWithTheirNumberOfStudents(groupsWithTheirNumberOfStudents));
-    }
-
-    @Test
-    void displayGroupsWithTheirNumberOfStudents_shouldNullPointerException_whenNumberOfStudentsIsNull() {
-        GroupDto group = new GroupDto("FS-25");
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = new HashMap<>();
-        groupsWithTheirNumberOfStudents.put(group, null);
+        List<GroupStudentsCount> groupsWithTheirNumberOfStudents = new ArrayList<>();
+        groupsWithTheirNumberOfStudents.add(new GroupStudentsCount(null, null, 20));
 
         assertThrows(NullPointerException.class,
                 () -> view.displayGroupsWithTheirNumberOfStudents(groupsWithTheirNumberOfStudents));
@@ -528,7 +507,7 @@ class SchoolViewImplTest {
 
     @Test
     void displayGroupsWithTheirNumberOfStudents_shouldDisplayedOnlySentence_whenGroupsWithTheirNumberOfStudentsMapEmpty() {
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = new HashMap<>();
+        List<GroupStudentsCount> groupsWithTheirNumberOfStudents = new ArrayList<>();
         String expectedDisplayedGroups = "Groups with their number of students:\n";
 
         view.displayGroupsWithTheirNumberOfStudents(groupsWithTheirNumberOfStudents);
@@ -539,13 +518,10 @@ class SchoolViewImplTest {
 
     @Test
     void displayGroupsWithTheirNumberOfStudents_shouldDisplayedDistortedTableGroupsWithTheirNumberOfStudents_whenGroupsInMapHaveNamesWithDifferentLengths() {
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = new HashMap<>();
-        GroupDto firstGroup = new GroupDto("JRJF-84");
-        GroupDto secondGroup = new GroupDto("QFL-03");
-        GroupDto thirdGroup = new GroupDto("VA-72");
-        groupsWithTheirNumberOfStudents.put(firstGroup, 16);
-        groupsWithTheirNumberOfStudents.put(secondGroup, 14);
-        groupsWithTheirNumberOfStudents.put(thirdGroup, 10);
+        List<GroupStudentsCount> groupsWithTheirNumberOfStudents = new ArrayList<>();
+        groupsWithTheirNumberOfStudents.add(new GroupStudentsCount(null, "JRJF-84", 16));
+        groupsWithTheirNumberOfStudents.add(new GroupStudentsCount(null, "QFL-03", 14));
+        groupsWithTheirNumberOfStudents.add(new GroupStudentsCount(null, "VA-72", 10));
         String expectedDisplayedGroups = """
                 Groups with their number of students:
                                        +-------+----+
@@ -565,13 +541,10 @@ class SchoolViewImplTest {
 
     @Test
     void displayGroupsWithTheirNumberOfStudents_shouldDisplayedGroupsWithTheirNumberOfStudents_whenNumberOfStudentsInMapHaveDifferentLengths() {
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = new HashMap<>();
-        GroupDto firstGroup = new GroupDto("JR-84");
-        GroupDto secondGroup = new GroupDto("QF-03");
-        GroupDto thirdGroup = new GroupDto("VA-72");
-        groupsWithTheirNumberOfStudents.put(firstGroup, 6343);
-        groupsWithTheirNumberOfStudents.put(secondGroup, 23);
-        groupsWithTheirNumberOfStudents.put(thirdGroup, 1);
+        List<GroupStudentsCount> groupsWithTheirNumberOfStudents = new ArrayList<>();
+        groupsWithTheirNumberOfStudents.add(new GroupStudentsCount(null, "QF-03", 23));
+        groupsWithTheirNumberOfStudents.add(new GroupStudentsCount(null, "VA-72", 1));
+        groupsWithTheirNumberOfStudents.add(new GroupStudentsCount(null, "JR-84", 6343));
         String expectedDisplayedGroups = """
                 Groups with their number of students:
                                        +-------+------+
@@ -591,13 +564,10 @@ class SchoolViewImplTest {
 
     @Test
     void displayGroupsWithTheirNumberOfStudents_shouldDisplayedGroupsWithTheirNumberOfStudents_whenMapContainsThreeCorrectGroupsWithTheirNumberOfStudents() {
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = new HashMap<>();
-        GroupDto firstGroup = new GroupDto("JR-84");
-        GroupDto secondGroup = new GroupDto("QL-03");
-        GroupDto thirdGroup = new GroupDto("VA-72");
-        groupsWithTheirNumberOfStudents.put(firstGroup, 16);
-        groupsWithTheirNumberOfStudents.put(secondGroup, 14);
-        groupsWithTheirNumberOfStudents.put(thirdGroup, 10);
+        List<GroupStudentsCount> groupsWithTheirNumberOfStudents = new ArrayList<>();
+        groupsWithTheirNumberOfStudents.add(new GroupStudentsCount(null, "QL-03", 14));
+        groupsWithTheirNumberOfStudents.add(new GroupStudentsCount(null, "VA-72", 10));
+        groupsWithTheirNumberOfStudents.add(new GroupStudentsCount(null, "JR-84", 16));
         String expectedDisplayedGroups = """
                 Groups with their number of students:
                                        +-------+----+
@@ -622,30 +592,16 @@ class SchoolViewImplTest {
 
     @Test
     void displayStudentsWithTheirGroups_shouldNullPointerException_whenStudentIsNullInMap() {
-        StudentDto student = null;
-        GroupDto group = new GroupDto("KD-54");
-        Map<StudentDto, GroupDto> studentsWithTheirGroups = new HashMap<>();
-        studentsWithTheirGroups.put(student, group);
-
-        assertThrows(NullPointerException.class, () -> view.displayStudentsWithTheirGroups(studentsWithTheirGroups));
-    }
-
-    @Test
-    void displayStudentsWithTheirGroups_shouldNullPointerException_whenGrouIsNullInMap() {
-        StudentDto student = new StudentDto("FirstName", "LastName");
-        GroupDto group = null;
-        Map<StudentDto, GroupDto> studentsWithTheirGroups = new HashMap<>();
-        studentsWithTheirGroups.put(student, group);
+        List<StudentSummary> studentsWithTheirGroups = new ArrayList<>();
+        studentsWithTheirGroups.add(null);
 
         assertThrows(NullPointerException.class, () -> view.displayStudentsWithTheirGroups(studentsWithTheirGroups));
     }
 
     @Test
     void displayStudentsWithTheirGroups_shouldDisplayedTwoNullsInsteadOfFullStudentNameInTable_whenStudentFirstNameAndLastNameAreNulls() {
-        StudentDto student = new StudentDto(null, null);
-        GroupDto group = new GroupDto("KD-54");
-        Map<StudentDto, GroupDto> studentsWithTheirGroups = new HashMap<>();
-        studentsWithTheirGroups.put(student, group);
+        List<StudentSummary> studentsWithTheirGroups = new ArrayList<>();
+        studentsWithTheirGroups.add(new StudentSummary(null, null, null, null, "KD-54"));
         String expectedDisplayedStudentsWithGroups = """
 
                                   +-----------+-------+
@@ -661,10 +617,8 @@ class SchoolViewImplTest {
 
     @Test
     void displayStudentsWithTheirGroups_shouldDisplayedNullInsteadOfGroupNameInTable_whenGroupNameIsNull() {
-        StudentDto student = new StudentDto("FirstName", "LastName");
-        GroupDto group = new GroupDto(null);
-        Map<StudentDto, GroupDto> studentsWithTheirGroups = new HashMap<>();
-        studentsWithTheirGroups.put(student, group);
+        List<StudentSummary> studentsWithTheirGroups = new ArrayList<>();
+        studentsWithTheirGroups.add(new StudentSummary(null, "FirstName", "LastName", null, null));
         String expectedDisplayedStudentsWithGroups = """
 
                                   +--------------------+------+
@@ -680,7 +634,7 @@ class SchoolViewImplTest {
 
     @Test
     void displayStudentsWithTheirGroups_shouldNothingDisplayed_whenStudentsWithTheirGroupsMapIsEmpty() {
-        Map<StudentDto, GroupDto> studentsWithTheirGroups = new HashMap<>();
+        List<StudentSummary> studentsWithTheirGroups = new ArrayList<>();
         String expectedDisplayedStudentsWithGroups = """
 
                 """;
@@ -693,10 +647,8 @@ class SchoolViewImplTest {
 
     @Test
     void displayStudentsWithTheirGroups_shouldDisplayedEmptyTable_whenStudentFirstNameAndLastNameAreEmptyAndGroupNameAlsoEmpty() {
-        StudentDto student = new StudentDto("", "");
-        GroupDto group = new GroupDto("");
-        Map<StudentDto, GroupDto> studentsWithTheirGroups = new HashMap<>();
-        studentsWithTheirGroups.put(student, group);
+        List<StudentSummary> studentsWithTheirGroups = new ArrayList<>();
+        studentsWithTheirGroups.add(new StudentSummary(null, "", "", null, ""));
         String expectedDisplayedStudentsWithGroups = """
 
                                   +---+--+
@@ -712,16 +664,10 @@ class SchoolViewImplTest {
 
     @Test
     void displayStudentsWithTheirGroups_shouldDisplayedStraightTable_whenStudentFullNamesHaveDifferentLengthsAndGroupNamesHaveSameLengths() {
-        StudentDto firstStudent = new StudentDto("FirstName", "LastName");
-        StudentDto secondStudent = new StudentDto("", "");
-        StudentDto thirdStudent = new StudentDto("               ", "            ");
-        GroupDto firstGroup = new GroupDto("MN-90");
-        GroupDto secondGroup = new GroupDto("SC-87");
-        GroupDto thirdGroup = new GroupDto("KJ-56");
-        Map<StudentDto, GroupDto> studentsWithTheirGroups = new HashMap<>();
-        studentsWithTheirGroups.put(firstStudent, firstGroup);
-        studentsWithTheirGroups.put(secondStudent, secondGroup);
-        studentsWithTheirGroups.put(thirdStudent, thirdGroup);
+        List<StudentSummary> studentsWithTheirGroups = new ArrayList<>();
+        studentsWithTheirGroups.add(new StudentSummary(null, "FirstName", "LastName", null, "MN-90"));
+        studentsWithTheirGroups.add(new StudentSummary(null, "               ", "            ", null, "KJ-56"));
+        studentsWithTheirGroups.add(new StudentSummary(null, "", "", null, "SC-87"));
         String expectedDisplayedStudentsWithGroups = """
 
                                   +------------------------------+-------+
@@ -741,16 +687,10 @@ class SchoolViewImplTest {
 
     @Test
     void displayStudentsWithTheirGroups_shouldDisplayedDistortedTable_whenStudentFullNamesHaveDifferentLengthsAndGroupNamesAlsoHaveDifferentLengths() {
-        StudentDto firstStudent = new StudentDto("FirstName_1", "LastName_1");
-        StudentDto secondStudent = new StudentDto("FirstName____2", "LastName___2");
-        StudentDto thirdStudent = new StudentDto("FirstName__3", "LastName__3");
-        GroupDto firstGroup = new GroupDto("MNJGFV-90453");
-        GroupDto secondGroup = new GroupDto("");
-        GroupDto thirdGroup = new GroupDto("     ");
-        Map<StudentDto, GroupDto> studentsWithTheirGroups = new HashMap<>();
-        studentsWithTheirGroups.put(firstStudent, firstGroup);
-        studentsWithTheirGroups.put(secondStudent, secondGroup);
-        studentsWithTheirGroups.put(thirdStudent, thirdGroup);
+        List<StudentSummary> studentsWithTheirGroups = new ArrayList<>();
+        studentsWithTheirGroups.add(new StudentSummary(null, "FirstName____2", "LastName___2", null, ""));
+        studentsWithTheirGroups.add(new StudentSummary(null, "FirstName__3", "LastName__3", null, "     "));
+        studentsWithTheirGroups.add(new StudentSummary(null, "FirstName_1", "LastName_1", null, "MNJGFV-90453"));
         String expectedDisplayedStudentsWithGroups = """
 
                                   +-----------------------------+--------------+
@@ -775,27 +715,26 @@ class SchoolViewImplTest {
 
     @Test
     void displayStudentsWithTheirCourses_shouldNullPointerException_whenStudentInMapIsNull() {
-        CourseDto firstCourse = new CourseDto("CourseName_1", "Description_1");
-        CourseDto secondCourse = new CourseDto("CourseName_2", "Description_2");
-        Set<CourseDto> coursesForStudent = new HashSet<>();
+        CourseSummary firstCourse = new CourseSummary(null, "CourseName_1", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, "CourseName_2", "Description_2");
+        List<CourseSummary> coursesForStudent = new ArrayList<>();
         coursesForStudent.add(firstCourse);
         coursesForStudent.add(secondCourse);
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = new HashMap<>();
-        studentsWithTheirCourses.put(null, coursesForStudent);
+        List<StudentCoursesSummary> studentsWithTheirCourses = new ArrayList<>();
+        studentsWithTheirCourses.add(null);
 
         assertThrows(NullPointerException.class, () -> view.displayStudentsWithTheirCourses(studentsWithTheirCourses));
     }
 
     @Test
     void displayStudentsWithTheirCourses_shouldDisplayedStudentWithNullFirstName_whenStudentFirstNameInMapIsNull() {
-        StudentDto student = new StudentDto(null, "LastName");
-        CourseDto firstCourse = new CourseDto("CourseName_1", "Description_1");
-        CourseDto secondCourse = new CourseDto("CourseName_2", "Description_2");
-        Set<CourseDto> coursesForStudent = new HashSet<>();
+        CourseSummary firstCourse = new CourseSummary(null, "CourseName_1", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, "CourseName_2", "Description_2");
+        List<CourseSummary> coursesForStudent = new ArrayList<>();
         coursesForStudent.add(firstCourse);
         coursesForStudent.add(secondCourse);
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = new HashMap<>();
-        studentsWithTheirCourses.put(student, coursesForStudent);
+        List<StudentCoursesSummary> studentsWithTheirCourses = new ArrayList<>();
+        studentsWithTheirCourses.add(new StudentCoursesSummary(null, null, "LastName", coursesForStudent));
         String expectedDisplayedStudentsWithCourses = """
                 Students with their courses:
                 +---------------+----------------------------+
@@ -810,39 +749,33 @@ class SchoolViewImplTest {
     }
 
     @Test
-    void displayStudentsWithTheirCourses_shouldNullPointerException_whenCoursesListForStudentInMapIsNull() {
-        StudentDto student = new StudentDto("FirstName", "LastName");
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = new HashMap<>();
-        studentsWithTheirCourses.put(student, null);
-
-        assertThrows(NullPointerException.class, () -> view.displayStudentsWithTheirCourses(studentsWithTheirCourses));
+    void displayStudentsWithTheirCourses_shouldNullPointerException_whenCoursesListForStudentIsNull() {
+        assertThrows(NullPointerException.class, () -> view.displayStudentsWithTheirCourses(
+                List.of(new StudentCoursesSummary(null, "FirstName", "LastName", null))));
     }
 
     @Test
     void displayStudentsWithTheirCourses_shouldNullPointerException_whenCourseInCoursesListForStudentIsNull() {
-        StudentDto student = new StudentDto("FirstName", "LastName");
-        CourseDto firstCourse = new CourseDto("CourseName_1", "Description_1");
-        CourseDto secondCourse = new CourseDto("CourseName_2", "Description_2");
-        Set<CourseDto> coursesForStudent = new HashSet<>();
+        CourseSummary firstCourse = new CourseSummary(null, "CourseName_1", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, "CourseName_2", "Description_2");
+        List<CourseSummary> coursesForStudent = new ArrayList<>();
         coursesForStudent.add(firstCourse);
         coursesForStudent.add(secondCourse);
         coursesForStudent.add(null);
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = new HashMap<>();
-        studentsWithTheirCourses.put(student, coursesForStudent);
 
-        assertThrows(NullPointerException.class, () -> view.displayStudentsWithTheirCourses(studentsWithTheirCourses));
+        assertThrows(NullPointerException.class, () -> view.displayStudentsWithTheirCourses(
+                List.of(new StudentCoursesSummary(null, "FirstName", "LastName", coursesForStudent))));
     }
 
     @Test
     void displayStudentsWithTheirCourses_shouldDisplayedNullCourseName_whenCourseNameInCoursesListForStudentIsNull() {
-        StudentDto student = new StudentDto("FirstName", "LastName");
-        CourseDto firstCourse = new CourseDto("CourseName_1", "Description_1");
-        CourseDto secondCourse = new CourseDto(null, "Description_2");
-        Set<CourseDto> coursesForStudent = new HashSet<>();
-        coursesForStudent.add(firstCourse);
+        CourseSummary firstCourse = new CourseSummary(null, "CourseName_1", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, null, "Description_2");
+        List<CourseSummary> coursesForStudent = new ArrayList<>();
         coursesForStudent.add(secondCourse);
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = new HashMap<>();
-        studentsWithTheirCourses.put(student, coursesForStudent);
+        coursesForStudent.add(firstCourse);
+        List<StudentCoursesSummary> studentsWithTheirCourses = new ArrayList<>();
+        studentsWithTheirCourses.add(new StudentCoursesSummary(null, "FirstName", "LastName", coursesForStudent));
         String expectedDisplayedStudentsWithCourses = """
                 Students with their courses:
                 +--------------------+--------------------+
@@ -858,7 +791,7 @@ class SchoolViewImplTest {
 
     @Test
     void displayStudentsWithTheirCourses_shouldDisplayedOnlySentence_whenStudentsWithTheirCoursesMapEmpty() {
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = new HashMap<>();
+        List<StudentCoursesSummary> studentsWithTheirCourses = new ArrayList<>();
         String expectedDisplayedStudentsWithCourses = """
                 Students with their courses:
                 """;
@@ -871,16 +804,13 @@ class SchoolViewImplTest {
 
     @Test
     void displayStudentsWithTheirCourses_shouldDisplayedCorrectTableWithStudentsAndTheirCourses_whenNamesOfSomeStudentsAreEmpty() {
-        StudentDto firstStudent = new StudentDto("", "");
-        StudentDto secondStudent = new StudentDto("", "LastName_2");
-        StudentDto thirdStudent = new StudentDto("FirstName_3", "");
-        CourseDto firstCourse = new CourseDto("CourseName_1", "Description_1");
-        CourseDto secondCourse = new CourseDto("CourseName_2", "Description_2");
-        CourseDto thirdCourse = new CourseDto("CourseName_3", "Description_3");
-        CourseDto fourthCourse = new CourseDto("CourseName_4", "Description_4");
-        Set<CourseDto> coursesForFirstStudent = new HashSet<>();
-        Set<CourseDto> coursesForSecondStudent = new HashSet<>();
-        Set<CourseDto> coursesForThirdStudent = new HashSet<>();
+        CourseSummary firstCourse = new CourseSummary(null, "CourseName_1", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, "CourseName_2", "Description_2");
+        CourseSummary thirdCourse = new CourseSummary(null, "CourseName_3", "Description_3");
+        CourseSummary fourthCourse = new CourseSummary(null, "CourseName_4", "Description_4");
+        List<CourseSummary> coursesForFirstStudent = new ArrayList<>();
+        List<CourseSummary> coursesForSecondStudent = new ArrayList<>();
+        List<CourseSummary> coursesForThirdStudent = new ArrayList<>();
         coursesForFirstStudent.add(firstCourse);
         coursesForFirstStudent.add(secondCourse);
         coursesForSecondStudent.add(firstCourse);
@@ -890,10 +820,10 @@ class SchoolViewImplTest {
         coursesForThirdStudent.add(secondCourse);
         coursesForThirdStudent.add(thirdCourse);
         coursesForThirdStudent.add(fourthCourse);
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = new HashMap<>();
-        studentsWithTheirCourses.put(firstStudent, coursesForFirstStudent);
-        studentsWithTheirCourses.put(secondStudent, coursesForSecondStudent);
-        studentsWithTheirCourses.put(thirdStudent, coursesForThirdStudent);
+        List<StudentCoursesSummary> studentsWithTheirCourses = new ArrayList<>();
+        studentsWithTheirCourses.add(new StudentCoursesSummary(null, "FirstName_3", "", coursesForThirdStudent));
+        studentsWithTheirCourses.add(new StudentCoursesSummary(null, "", "LastName_2", coursesForSecondStudent));
+        studentsWithTheirCourses.add(new StudentCoursesSummary(null, "", "", coursesForFirstStudent));
         String expectedDisplayedStudentsWithCourses = """
                 Students with their courses:
                 +--------------+--------------------------------------------------------+
@@ -913,16 +843,13 @@ class SchoolViewImplTest {
 
     @Test
     void displayStudentsWithTheirCourses_shouldDisplayedCorrectTableWithStudentsAndTheirCourses_whenNamesOfSomeCoursesAreEmpty() {
-        StudentDto firstStudent = new StudentDto("FirstName_1", "LastName_1");
-        StudentDto secondStudent = new StudentDto("FirstName_2", "LastName_2");
-        StudentDto thirdStudent = new StudentDto("FirstName_3", "LastName_3");
-        CourseDto firstCourse = new CourseDto("", "Description_1");
-        CourseDto secondCourse = new CourseDto("", "Description_2");
-        CourseDto thirdCourse = new CourseDto("CourseName_3", "Description_3");
-        CourseDto fourthCourse = new CourseDto("CourseName_4", "Description_4");
-        Set<CourseDto> coursesForFirstStudent = new HashSet<>();
-        Set<CourseDto> coursesForSecondStudent = new HashSet<>();
-        Set<CourseDto> coursesForThirdStudent = new HashSet<>();
+        CourseSummary firstCourse = new CourseSummary(null, "", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, "", "Description_2");
+        CourseSummary thirdCourse = new CourseSummary(null, "CourseName_3", "Description_3");
+        CourseSummary fourthCourse = new CourseSummary(null, "CourseName_4", "Description_4");
+        List<CourseSummary> coursesForFirstStudent = new ArrayList<>();
+        List<CourseSummary> coursesForSecondStudent = new ArrayList<>();
+        List<CourseSummary> coursesForThirdStudent = new ArrayList<>();
         coursesForFirstStudent.add(firstCourse);
         coursesForFirstStudent.add(secondCourse);
         coursesForSecondStudent.add(firstCourse);
@@ -932,10 +859,13 @@ class SchoolViewImplTest {
         coursesForThirdStudent.add(secondCourse);
         coursesForThirdStudent.add(thirdCourse);
         coursesForThirdStudent.add(fourthCourse);
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = new HashMap<>();
-        studentsWithTheirCourses.put(firstStudent, coursesForFirstStudent);
-        studentsWithTheirCourses.put(secondStudent, coursesForSecondStudent);
-        studentsWithTheirCourses.put(thirdStudent, coursesForThirdStudent);
+        List<StudentCoursesSummary> studentsWithTheirCourses = new ArrayList<>();
+        studentsWithTheirCourses
+                .add(new StudentCoursesSummary(null, "FirstName_2", "LastName_2", coursesForSecondStudent));
+        studentsWithTheirCourses
+                .add(new StudentCoursesSummary(null, "FirstName_3", "LastName_3", coursesForThirdStudent));
+        studentsWithTheirCourses
+                .add(new StudentCoursesSummary(null, "FirstName_1", "LastName_1", coursesForFirstStudent));
         String expectedDisplayedStudentsWithCourses = """
                 Students with their courses:
                 +------------------------+--------------------------------+
@@ -955,29 +885,27 @@ class SchoolViewImplTest {
 
     @Test
     void displayStudentsWithTheirCourses_shouldDisplayedCorrectTableWithStudentsAndTheirCourses_whenMapContainStudentsWithOtherStudentsAndOtherCourses() {
-        StudentDto firstStudent = new StudentDto("FirstName__1", "LastName___1");
-        StudentDto secondStudent = new StudentDto("First_2", "LastName_2");
-        StudentDto thirdStudent = new StudentDto("F", "LastName____3");
-        CourseDto firstCourse = new CourseDto("CourseName__1", "Description_1");
-        CourseDto secondCourse = new CourseDto("CourseName____2", "Description_2");
-        CourseDto thirdCourse = new CourseDto("CourseName___3", "Description_3");
-        CourseDto fourthCourse = new CourseDto("C", "Description_4");
-        Set<CourseDto> coursesForFirstStudent = new HashSet<>();
-        Set<CourseDto> coursesForSecondStudent = new HashSet<>();
-        Set<CourseDto> coursesForThirdStudent = new HashSet<>();
+        CourseSummary firstCourse = new CourseSummary(null, "CourseName__1", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, "CourseName____2", "Description_2");
+        CourseSummary thirdCourse = new CourseSummary(null, "CourseName___3", "Description_3");
+        CourseSummary fourthCourse = new CourseSummary(null, "C", "Description_4");
+        List<CourseSummary> coursesForFirstStudent = new ArrayList<>();
+        List<CourseSummary> coursesForSecondStudent = new ArrayList<>();
+        List<CourseSummary> coursesForThirdStudent = new ArrayList<>();
         coursesForFirstStudent.add(firstCourse);
         coursesForFirstStudent.add(secondCourse);
+        coursesForSecondStudent.add(fourthCourse);
         coursesForSecondStudent.add(firstCourse);
         coursesForSecondStudent.add(thirdCourse);
-        coursesForSecondStudent.add(fourthCourse);
+        coursesForThirdStudent.add(fourthCourse);
         coursesForThirdStudent.add(firstCourse);
-        coursesForThirdStudent.add(secondCourse);
         coursesForThirdStudent.add(thirdCourse);
-        coursesForThirdStudent.add(fourthCourse);
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = new HashMap<>();
-        studentsWithTheirCourses.put(firstStudent, coursesForFirstStudent);
-        studentsWithTheirCourses.put(secondStudent, coursesForSecondStudent);
-        studentsWithTheirCourses.put(thirdStudent, coursesForThirdStudent);
+        coursesForThirdStudent.add(secondCourse);
+        List<StudentCoursesSummary> studentsWithTheirCourses = new ArrayList<>();
+        studentsWithTheirCourses
+                .add(new StudentCoursesSummary(null, "FirstName__1", "LastName___1", coursesForFirstStudent));
+        studentsWithTheirCourses.add(new StudentCoursesSummary(null, "First_2", "LastName_2", coursesForSecondStudent));
+        studentsWithTheirCourses.add(new StudentCoursesSummary(null, "F", "LastName____3", coursesForThirdStudent));
         String expectedDisplayedStudentsWithCourses = """
                 Students with their courses:
                 +---------------------------+---------------------------------------------------+
@@ -1002,7 +930,7 @@ class SchoolViewImplTest {
 
     @Test
     void displayCourses_shouldNullPointerException_whenCourseInCoursesListIsNull() {
-        List<CourseDto> coursesList = new ArrayList<>();
+        List<CourseSummary> coursesList = new ArrayList<>();
         coursesList.add(null);
 
         assertThrows(NullPointerException.class, () -> view.displayCourses(coursesList));
@@ -1010,8 +938,8 @@ class SchoolViewImplTest {
 
     @Test
     void displayCourses_shouldNullPointerException_whenCourseNameInCoursesListIsNull() {
-        CourseDto course = new CourseDto(null, "Description");
-        List<CourseDto> coursesList = new ArrayList<>();
+        CourseSummary course = new CourseSummary(null, null, "Description");
+        List<CourseSummary> coursesList = new ArrayList<>();
         coursesList.add(course);
 
         assertThrows(NullPointerException.class, () -> view.displayCourses(coursesList));
@@ -1019,8 +947,8 @@ class SchoolViewImplTest {
 
     @Test
     void displayCourses_shouldNullPointerException_whenCourseDescriptionInCoursesListIsNull() {
-        CourseDto course = new CourseDto("CourseName", null);
-        List<CourseDto> coursesList = new ArrayList<>();
+        CourseSummary course = new CourseSummary(null, "CourseName", null);
+        List<CourseSummary> coursesList = new ArrayList<>();
         coursesList.add(course);
 
         assertThrows(NullPointerException.class, () -> view.displayCourses(coursesList));
@@ -1028,7 +956,7 @@ class SchoolViewImplTest {
 
     @Test
     void displayCourses_shouldDisplayedOnlySentences_whenCoursesListEmpty() {
-        List<CourseDto> coursesList = new ArrayList<>();
+        List<CourseSummary> coursesList = new ArrayList<>();
         String expectedDisplayedCourses = "\n";
 
         view.displayCourses(coursesList);
@@ -1039,10 +967,10 @@ class SchoolViewImplTest {
 
     @Test
     void displayCourses_shouldDisplayedTableWithCoursesNamesAndDescriptions_whenSomeCoursesNamesAndDescriptionsEmpty() {
-        CourseDto firstCourse = new CourseDto("", "Description_1");
-        CourseDto secondCourse = new CourseDto("CourseName_2", "");
-        CourseDto thirdCourse = new CourseDto("", "");
-        List<CourseDto> coursesList = new ArrayList<>();
+        CourseSummary firstCourse = new CourseSummary(null, "", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, "CourseName_2", "");
+        CourseSummary thirdCourse = new CourseSummary(null, "", "");
+        List<CourseSummary> coursesList = new ArrayList<>();
         coursesList.add(firstCourse);
         coursesList.add(secondCourse);
         coursesList.add(thirdCourse);
@@ -1064,10 +992,10 @@ class SchoolViewImplTest {
 
     @Test
     void displayCourses_shouldDisplayedTableWithCoursesNamesAndDescriptions_whenСoursesWithDifferentNamesAndDescriptionsPresentInCourseList() {
-        CourseDto firstCourse = new CourseDto("CourseName______1", "Description_____1");
-        CourseDto secondCourse = new CourseDto("CourseName_2", "Description__2");
-        CourseDto thirdCourse = new CourseDto("Co", "De");
-        List<CourseDto> coursesList = new ArrayList<>();
+        CourseSummary firstCourse = new CourseSummary(null, "CourseName______1", "Description_____1");
+        CourseSummary secondCourse = new CourseSummary(null, "CourseName_2", "Description__2");
+        CourseSummary thirdCourse = new CourseSummary(null, "Co", "De");
+        List<CourseSummary> coursesList = new ArrayList<>();
         coursesList.add(firstCourse);
         coursesList.add(secondCourse);
         coursesList.add(thirdCourse);
@@ -1150,68 +1078,55 @@ class SchoolViewImplTest {
         assertEquals(expectedCharacterSequence, actualCharacterSequence);
     }
 
-    @Test
-    void getStudentFullName_shouldInvocationTargetException_whenStudentIsNull() throws Exception {
-        Method method = SchoolViewImpl.class.getDeclaredMethod("getStudentFullName", StudentDto.class);
-        method.setAccessible(true);
-        Student student = null;
-
-        assertThrows(InvocationTargetException.class, () -> method.invoke(view, student));
-    }
-
     @Test
     void getStudentFullName_shouldStudentFullNameWhereFirstNameIsNull_whenStudentFirstNameIsNull() throws Exception {
-        Method method = SchoolViewImpl.class.getDeclaredMethod("getStudentFullName", StudentDto.class);
+        Method method = SchoolViewImpl.class.getDeclaredMethod("getStudentFullName", String.class, String.class);
         method.setAccessible(true);
-        StudentDto student = new StudentDto(null, "LastName");
         String expectedStudentFullName = "null LastName";
 
-        String actualStudentFullName = method.invoke(view, student).toString();
+        String actualStudentFullName = method.invoke(view, null, "LastName").toString();
 
         assertEquals(expectedStudentFullName, actualStudentFullName);
     }
 
     @Test
     void getStudentFullName_shouldOneSpace_whenStudentFirstNameAndLastNameAreEmpty() throws Exception {
-        Method method = SchoolViewImpl.class.getDeclaredMethod("getStudentFullName", StudentDto.class);
+        Method method = SchoolViewImpl.class.getDeclaredMethod("getStudentFullName", String.class, String.class);
         method.setAccessible(true);
-        StudentDto student = new StudentDto("", "");
         String expectedStudentFullName = " ";
 
-        String actualStudentFullName = method.invoke(view, student).toString();
+        String actualStudentFullName = method.invoke(view, "", "").toString();
 
         assertEquals(expectedStudentFullName, actualStudentFullName);
     }
 
     @Test
     void getStudentFullName_shouldThreeSpaces_whenStudentFirstNameAndLastNameAreOneSpace() throws Exception {
-        Method method = SchoolViewImpl.class.getDeclaredMethod("getStudentFullName", StudentDto.class);
+        Method method = SchoolViewImpl.class.getDeclaredMethod("getStudentFullName", String.class, String.class);
         method.setAccessible(true);
-        StudentDto student = new StudentDto(" ", " ");
         String expectedStudentFullName = "   ";
 
-        String actualStudentFullName = method.invoke(view, student).toString();
+        String actualStudentFullName = method.invoke(view, " ", " ").toString();
 
         assertEquals(expectedStudentFullName, actualStudentFullName);
     }
 
     @Test
     void getStudentFullName_shouldCorrectFullName_whenStudentFirstNameAndLastNameAreCorrect() throws Exception {
-        Method method = SchoolViewImpl.class.getDeclaredMethod("getStudentFullName", StudentDto.class);
+        Method method = SchoolViewImpl.class.getDeclaredMethod("getStudentFullName", String.class, String.class);
         method.setAccessible(true);
-        StudentDto student = new StudentDto("Firstname", "LastName");
         String expectedStudentFullName = "Firstname LastName";
 
-        String actualStudentFullName = method.invoke(view, student).toString();
+        String actualStudentFullName = method.invoke(view, "Firstname", "LastName").toString();
 
         assertEquals(expectedStudentFullName, actualStudentFullName);
     }
 
     @Test
-    void getCoursesEnumeration_shouldInvocationTargetException_whenCoursesSetIsNull() throws Exception {
-        Method method = SchoolViewImpl.class.getDeclaredMethod("getCoursesEnumeration", Set.class);
+    void getCoursesEnumeration_shouldInvocationTargetException_whenCoursesListIsNull() throws Exception {
+        Method method = SchoolViewImpl.class.getDeclaredMethod("getCoursesEnumeration", List.class);
         method.setAccessible(true);
-        Set<Course> coursesList = null;
+        List<CourseSummary> coursesList = null;
 
         assertThrows(InvocationTargetException.class, () -> method.invoke(view, coursesList));
     }
@@ -1219,13 +1134,13 @@ class SchoolViewImplTest {
     @Test
     void getCoursesEnumeration_shouldCoursesEnumerationWhereSecondCourseNameIsNull_whenSecondCourseNmaeIsNull()
             throws Exception {
-        Method method = SchoolViewImpl.class.getDeclaredMethod("getCoursesEnumeration", Set.class);
+        Method method = SchoolViewImpl.class.getDeclaredMethod("getCoursesEnumeration", List.class);
         method.setAccessible(true);
-        CourseDto firstCourse = new CourseDto("CourseName_1", "Description_1");
-        CourseDto secondCourse = new CourseDto(null, "Description_2");
-        Set<CourseDto> courses = new HashSet<CourseDto>();
-        courses.add(firstCourse);
+        CourseSummary firstCourse = new CourseSummary(null, "CourseName_1", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, null, "Description_2");
+        List<CourseSummary> courses = new ArrayList<>();
         courses.add(secondCourse);
+        courses.add(firstCourse);
         String expectedCoursesEnumeration = "null, CourseName_1";
 
         String actualCoursesEnumeration = method.invoke(view, courses).toString();
@@ -1234,10 +1149,10 @@ class SchoolViewImplTest {
     }
 
     @Test
-    void getCoursesEnumeration_shouldEmptyString_whenCourseSetEmpty() throws Exception {
-        Method method = SchoolViewImpl.class.getDeclaredMethod("getCoursesEnumeration", Set.class);
+    void getCoursesEnumeration_shouldEmptyString_whenCoursesListEmpty() throws Exception {
+        Method method = SchoolViewImpl.class.getDeclaredMethod("getCoursesEnumeration", List.class);
         method.setAccessible(true);
-        Set<Course> courses = new HashSet<Course>();
+        List<CourseSummary> courses = new ArrayList<>();
         String expectedCoursesEnumeration = "";
 
         String actualCoursesEnumeration = method.invoke(view, courses).toString();
@@ -1247,11 +1162,11 @@ class SchoolViewImplTest {
 
     @Test
     void getCoursesEnumeration_shouldCommaWithSpace_whenCoursesNamesAreEmpty() throws Exception {
-        Method method = SchoolViewImpl.class.getDeclaredMethod("getCoursesEnumeration", Set.class);
+        Method method = SchoolViewImpl.class.getDeclaredMethod("getCoursesEnumeration", List.class);
         method.setAccessible(true);
-        CourseDto firstCourse = new CourseDto("", "Description_1");
-        CourseDto secondCourse = new CourseDto("", "Description_2");
-        Set<CourseDto> courses = new HashSet<>();
+        CourseSummary firstCourse = new CourseSummary(null, "", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, "", "Description_2");
+        List<CourseSummary> courses = new ArrayList<>();
         courses.add(firstCourse);
         courses.add(secondCourse);
         String expectedCoursesEnumeration = ", ";
@@ -1263,11 +1178,11 @@ class SchoolViewImplTest {
 
     @Test
     void getCoursesEnumeration_shouldCommaWithSpaces_whenCoursesNamesAreSpaces() throws Exception {
-        Method method = SchoolViewImpl.class.getDeclaredMethod("getCoursesEnumeration", Set.class);
+        Method method = SchoolViewImpl.class.getDeclaredMethod("getCoursesEnumeration", List.class);
         method.setAccessible(true);
-        CourseDto firstCourse = new CourseDto("  ", "Description_1");
-        CourseDto secondCourse = new CourseDto("  ", "Description_2");
-        Set<CourseDto> courses = new HashSet<>();
+        CourseSummary firstCourse = new CourseSummary(null, "  ", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, "  ", "Description_2");
+        List<CourseSummary> courses = new ArrayList<>();
         courses.add(firstCourse);
         courses.add(secondCourse);
         String expectedCoursesEnumeration = "  ,   ";
@@ -1279,11 +1194,11 @@ class SchoolViewImplTest {
 
     @Test
     void getCoursesEnumeration_shouldCorrectCoursesEnumeration_whenCoursesNamesAreCorrect() throws Exception {
-        Method method = SchoolViewImpl.class.getDeclaredMethod("getCoursesEnumeration", Set.class);
+        Method method = SchoolViewImpl.class.getDeclaredMethod("getCoursesEnumeration", List.class);
         method.setAccessible(true);
-        CourseDto firstCourse = new CourseDto("CourseName_1", "Description_1");
-        CourseDto secondCourse = new CourseDto("CourseName_2", "Description_2");
-        Set<CourseDto> courses = new HashSet<>();
+        CourseSummary firstCourse = new CourseSummary(null, "CourseName_1", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, "CourseName_2", "Description_2");
+        List<CourseSummary> courses = new ArrayList<>();
         courses.add(firstCourse);
         courses.add(secondCourse);
         String expectedCoursesEnumeration = "CourseName_1, CourseName_2";
@@ -1357,9 +1272,9 @@ class SchoolViewImplTest {
     void getMaxCousrse_shouldInvocationTargetException_whenIdentifierIsNull() throws Exception {
         Method method = SchoolViewImpl.class.getDeclaredMethod("getMaxCousrse", String.class, List.class);
         method.setAccessible(true);
-        Course firstCourse = new Course("CourseName_1", "Description_1");
-        Course secondCourse = new Course("CourseName_2", "Description_2");
-        List<Course> courses = new ArrayList<>();
+        CourseSummary firstCourse = new CourseSummary(null, "CourseName_1", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, "CourseName_2", "Description_2");
+        List<CourseSummary> courses = new ArrayList<>();
         courses.add(firstCourse);
         courses.add(secondCourse);
 
@@ -1371,9 +1286,9 @@ class SchoolViewImplTest {
         Method method = SchoolViewImpl.class.getDeclaredMethod("getMaxCousrse", String.class, List.class);
         method.setAccessible(true);
         String identifier = "SomeWord";
-        Course firstCourse = new Course("CourseName_1", "Description_1");
-        Course secondCourse = new Course("CourseName_2", "Description_2");
-        List<Course> courses = new ArrayList<>();
+        CourseSummary firstCourse = new CourseSummary(null, "CourseName_1", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, "CourseName_2", "Description_2");
+        List<CourseSummary> courses = new ArrayList<>();
         courses.add(firstCourse);
         courses.add(secondCourse);
 
@@ -1404,9 +1319,9 @@ class SchoolViewImplTest {
         Method method = SchoolViewImpl.class.getDeclaredMethod("getMaxCousrse", String.class, List.class);
         method.setAccessible(true);
         String identifier = "Name";
-        Course firstCourse = new Course("CourseName_1", "Description_1");
-        Course secondCourse = new Course(null, "Description_2");
-        List<Course> courses = new ArrayList<>();
+        CourseSummary firstCourse = new CourseSummary(null, "CourseName_1", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, null, "Description_2");
+        List<CourseSummary> courses = new ArrayList<>();
         courses.add(firstCourse);
         courses.add(secondCourse);
 
@@ -1419,9 +1334,9 @@ class SchoolViewImplTest {
         Method method = SchoolViewImpl.class.getDeclaredMethod("getMaxCousrse", String.class, List.class);
         method.setAccessible(true);
         String identifier = "Description";
-        Course firstCourse = new Course("CourseName_1", "Description_1");
-        Course secondCourse = new Course("CourseName_2", null);
-        List<Course> courses = new ArrayList<>();
+        CourseSummary firstCourse = new CourseSummary(null, "CourseName_1", "Description_1");
+        CourseSummary secondCourse = new CourseSummary(null, "CourseName_2", null);
+        List<CourseSummary> courses = new ArrayList<>();
         courses.add(firstCourse);
         courses.add(secondCourse);
 
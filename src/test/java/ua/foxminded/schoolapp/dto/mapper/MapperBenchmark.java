@@ -0,0 +1,113 @@
+package ua.foxminded.schoolapp.dto.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.model.Course;
+import ua.foxminded.schoolapp.model.Group;
+import ua.foxminded.schoolapp.model.Student;
+
+/**
+ * Compares the reflection-based {@link ModelMapper} mapping, which the mappers
+ * used before, with the hand-written {@link StudentMapper} and
+ * {@link CourseMapper} on the data of a students with courses listing.
+ * <p>
+ * The benchmark is not run by the tests. Run it from the test classpath with
+ * the {@link #main(String[])} method, for example:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=ua.foxminded.schoolapp.dto.mapper.MapperBenchmark
+ * </pre>
+ *
+ * @author Serhii Bohdan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int COURSES_PER_STUDENT = 3;
+
+    @Param({ "200", "10000" })
+    private int numberOfStudents;
+
+    private ModelMapper modelMapper;
+    private List<Student> students;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        students = new ArrayList<>(numberOfStudents);
+        Group group = new Group("AB-12");
+        group.setId(1);
+        List<Course> courses = new ArrayList<>();
+
+        for (int i = 1; i <= 10; i++) {
+            Course course = new Course("CourseName_" + i, "Description_" + i);
+            course.setId(i);
+            courses.add(course);
+        }
+
+        for (int i = 1; i <= numberOfStudents; i++) {
+            Student student = new Student("FirstName_" + i, "LastName_" + i, group);
+            student.setId(i);
+
+            for (int j = 0; j < COURSES_PER_STUDENT; j++) {
+                student.addCourse(courses.get((i + j) % courses.size()));
+            }
+
+            students.add(student);
+        }
+    }
+
+    @Benchmark
+    public void modelMapper(Blackhole blackhole) {
+        for (Student student : students) {
+            blackhole.consume(modelMapper.map(student, StudentDto.class));
+
+            for (Course course : student.getCourses()) {
+                blackhole.consume(modelMapper.map(course, CourseDto.class));
+            }
+        }
+    }
+
+    @Benchmark
+    public void handWrittenMappers(Blackhole blackhole) {
+        for (Student student : students) {
+            blackhole.consume(StudentMapper.mapStudentToDto(student));
+
+            for (Course course : student.getCourses()) {
+                blackhole.consume(CourseMapper.mapCourseToDto(course));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
@@ -12,9 +12,11 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.jdbc.Sql;
 import ua.foxminded.schoolapp.TestApplicationConfig;
+import ua.foxminded.schoolapp.dto.CourseSummary;
 import ua.foxminded.schoolapp.model.Course;
 
 @DataJpaTest(includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
@@ -159,6 +161,16 @@ class CourseRepositoryTest {
         assertTrue(actualCourse.isEmpty());
     }
 
+    @Test
+    void findAllByCourseNames_shouldFoundCoursesWithGivenNames_whenSomeCoursesExist() {
+        List<Course> actualCourses = courseRepository.findAllByCourseNames(
+                List.of("CourseName_1", "CourseName_3", "CourseName_4"));
+
+        assertEquals(List.of("CourseName_1", "CourseName_3"), actualCourses.stream()
+                .map(Course::getCourseName)
+                .toList());
+    }
+
     @Test
     @Sql("/sql/clear_tables.sql")
     void findAll_shouldEmptyCoursesList_whenCoursesTableEmpty() {
@@ -174,6 +186,28 @@ class CourseRepositoryTest {
         assertEquals(3, actualAllAvailableCourses.size());
     }
 
+    @Test
+    void findAllSummaries_shouldSummariesOfAllCoursesOrderedById_whenCoursesTableContainsCourses() {
+        List<CourseSummary> coursesSummaries = courseRepository.findAllSummaries();
+
+        assertEquals(3, coursesSummaries.size());
+        assertEquals(new CourseSummary(1, "CourseName_1", "Description_1"), coursesSummaries.get(0));
+    }
+
+    @Test
+    void findSummariesByIdGreaterThan_shouldSummariesAfterGivenId_whenLimitIsLessThanNumberOfCourses() {
+        List<CourseSummary> courses = courseRepository.findSummariesByIdGreaterThan(1, Limit.of(1));
+
+        assertEquals(List.of(new CourseSummary(2, "CourseName_2", "Description_2")), courses);
+    }
+
+    @Test
+    void findSummariesByIdLessThan_shouldSummariesBeforeGivenIdInDescendingOrder_whenCoursesExist() {
+        List<CourseSummary> courses = courseRepository.findSummariesByIdLessThan(3, Limit.of(5));
+
+        assertEquals(List.of(2, 1), courses.stream().map(CourseSummary::id).toList());
+    }
+
     @Test
     void delete_shouldDeletedCourse_whenCourseWithGivenIdExist() {
         Course course = new Course("CourseName_1", "Description_1");
@@ -205,4 +239,79 @@ class CourseRepositoryTest {
         assertThrows(InvalidDataAccessApiUsageException.class, () -> courseRepository.delete(course));
     }
 
+    @Test
+    void existsByCourseName_shouldTrue_whenCourseWithGivenNameExist() {
+        assertTrue(courseRepository.existsByCourseName("CourseName_2"));
+    }
+
+    @Test
+    void existsByCourseName_shouldFalse_whenNoCourseWithGivenName() {
+        assertFalse(courseRepository.existsByCourseName("NotExistent"));
+    }
+
+    @Test
+    void save_shouldDataIntegrityViolationException_whenCourseWithGivenNameAlreadyExist() {
+        Course course = new Course("CourseName_1", "NewDescription");
+
+        assertThrows(DataIntegrityViolationException.class, () -> courseRepository.saveAndFlush(course));
+    }
+
+    @Test
+    void save_shouldDataIntegrityViolationException_whenCourseWithGivenDescriptionAlreadyExist() {
+        Course course = new Course("NewCourseName", "Description_2");
+
+        assertThrows(DataIntegrityViolationException.class, () -> courseRepository.saveAndFlush(course));
+    }
+
+    @Test
+    void existsAnyCourse_shouldTrue_whenCoursesTableContainsCourses() {
+        assertTrue(courseRepository.existsAnyCourse());
+    }
+
+    @Test
+    @Sql("/sql/clear_tables.sql")
+    void existsAnyCourse_shouldFalse_whenCoursesTableIsEmpty() {
+        assertFalse(courseRepository.existsAnyCourse());
+    }
+
+    @Test
+    void updateByCourseName_shouldUpdatedNameAndDescription_whenCourseWithGivenNameExist() {
+        int updatedCourses = courseRepository.updateByCourseName("CourseName_1", "NewCourseName", "NewDescription");
+
+        Course updatedCourse = entityManager.find(Course.class, 1);
+        assertEquals(1, updatedCourses);
+        assertEquals("NewCourseName", updatedCourse.getCourseName());
+        assertEquals("NewDescription", updatedCourse.getDescription());
+    }
+
+    @Test
+    void updateByCourseName_shouldNothingUpdated_whenNoCourseWithGivenName() {
+        assertEquals(0, courseRepository.updateByCourseName("NotExistent", "NewCourseName", "NewDescription"));
+    }
+
+    @Test
+    void updateByCourseName_shouldDataIntegrityViolationException_whenCourseWithNewNameAlreadyExist() {
+        assertThrows(DataIntegrityViolationException.class,
+                () -> courseRepository.updateByCourseName("CourseName_1", "CourseName_2", "NewDescription"));
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void deleteByCourseName_shouldDeletedCourseWithItsEnrollments_whenCourseWithGivenNameExist() {
+        int deletedCourses = courseRepository.deleteByCourseName("CourseName_1");
+
+        Number enrollmentsCount = (Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT count(*) FROM students_courses")
+                .getSingleResult();
+        assertEquals(1, deletedCourses);
+        assertNull(entityManager.find(Course.class, 1));
+        assertEquals(2, enrollmentsCount.intValue());
+    }
+
+    @Test
+    void deleteByCourseName_shouldNothingDeleted_whenNoCourseWithGivenName() {
+        assertEquals(0, courseRepository.deleteByCourseName("NotExistent"));
+    }
+
 }
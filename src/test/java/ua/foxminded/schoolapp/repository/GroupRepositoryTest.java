@@ -2,8 +2,11 @@ package ua.foxminded.schoolapp.repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -12,9 +15,12 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.jdbc.Sql;
 import ua.foxminded.schoolapp.TestApplicationConfig;
+import ua.foxminded.schoolapp.dto.GroupStudentsCount;
+import ua.foxminded.schoolapp.dto.GroupSummary;
 import ua.foxminded.schoolapp.model.Group;
 
 @DataJpaTest(includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
@@ -133,6 +139,29 @@ class GroupRepositoryTest {
         assertTrue(actualGroup.isEmpty());
     }
 
+    @Test
+    void findAllByGroupNames_shouldFoundGroupsWithGivenNames_whenSomeGroupsExist() {
+        List<Group> actualGroups = groupRepository.findAllByGroupNames(List.of("FD-74", "CZ-03", "OO-00"));
+
+        assertEquals(List.of("FD-74", "CZ-03"), actualGroups.stream()
+                .map(Group::getGroupName)
+                .toList());
+    }
+
+    @Test
+    void findAllByGroupNames_shouldFoundGroups_whenMoreNamesThanBindParametersAreGiven() {
+        List<String> groupNames = IntStream.range(0, 40_000)
+                .mapToObj(i -> "FD-74_" + i)
+                .collect(Collectors.toCollection(ArrayList::new));
+        groupNames.add("FD-74");
+
+        List<Group> actualGroups = groupRepository.findAllByGroupNames(groupNames);
+
+        assertEquals(List.of("FD-74"), actualGroups.stream()
+                .map(Group::getGroupName)
+                .toList());
+    }
+
     @Test
     @Sql("/sql/clear_tables.sql")
     void findAll_shouldEmptyGroupsList_whenGroupsTableIsEmpty() {
@@ -148,6 +177,28 @@ class GroupRepositoryTest {
         assertEquals(3, allAvailableGroups.size());
     }
 
+    @Test
+    void findAllSummaries_shouldSummariesOfAllGroupsOrderedById_whenGroupsTableContainGroups() {
+        List<GroupSummary> groupsSummaries = groupRepository.findAllSummaries();
+
+        assertEquals(List.of(new GroupSummary(1, "FD-74"), new GroupSummary(2, "KL-91"), new GroupSummary(3, "CZ-03")),
+                groupsSummaries);
+    }
+
+    @Test
+    void findSummariesByIdGreaterThan_shouldSummariesAfterGivenId_whenLimitIsLessThanNumberOfGroups() {
+        List<GroupSummary> groups = groupRepository.findSummariesByIdGreaterThan(1, Limit.of(1));
+
+        assertEquals(List.of(new GroupSummary(2, "KL-91")), groups);
+    }
+
+    @Test
+    void findSummariesByIdLessThan_shouldSummariesBeforeGivenIdInDescendingOrder_whenGroupsExist() {
+        List<GroupSummary> groups = groupRepository.findSummariesByIdLessThan(3, Limit.of(5));
+
+        assertEquals(List.of(2, 1), groups.stream().map(GroupSummary::id).toList());
+    }
+
     @Test
     void delete_shouldDeletedGroupWithGivenId_whenGroupWithGivenDataExist() {
         Group groupToDelete = new Group("LS-09");
@@ -178,4 +229,112 @@ class GroupRepositoryTest {
         assertThrows(InvalidDataAccessApiUsageException.class, () -> groupRepository.delete(group));
     }
 
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void deleteByGroupName_shouldDeletedGroupWithItsStudentsAndEnrollments_whenGroupWithGivenNameExist() {
+        int deletedGroups = groupRepository.deleteByGroupName("MQ-90");
+
+        assertEquals(1, deletedGroups);
+        assertNull(entityManager.find(Group.class, 1));
+        assertEquals(0L, countRows("students"));
+        assertEquals(0L, countRows("students_courses"));
+        assertEquals(3L, countRows("courses"));
+    }
+
+    @Test
+    void deleteByGroupName_shouldNothingDeleted_whenNoGroupWithGivenName() {
+        int deletedGroups = groupRepository.deleteByGroupName("NotExistent");
+
+        assertEquals(0, deletedGroups);
+        assertEquals(3L, countRows("groups"));
+    }
+
+    @Test
+    void updateGroupName_shouldRenamedGroup_whenGroupWithGivenNameExist() {
+        int updatedGroups = groupRepository.updateGroupName("KL-91", "AB-12");
+
+        assertEquals(1, updatedGroups);
+        assertEquals("AB-12", entityManager.find(Group.class, 2).getGroupName());
+    }
+
+    @Test
+    void updateGroupName_shouldNothingUpdated_whenNoGroupWithGivenName() {
+        assertEquals(0, groupRepository.updateGroupName("NotExistent", "AB-12"));
+    }
+
+    @Test
+    void updateGroupName_shouldDataIntegrityViolationException_whenGroupWithNewNameAlreadyExist() {
+        assertThrows(DataIntegrityViolationException.class, () -> groupRepository.updateGroupName("KL-91", "FD-74"));
+    }
+
+    @Test
+    void existsByGroupName_shouldTrue_whenGroupWithGivenNameExist() {
+        assertTrue(groupRepository.existsByGroupName("KL-91"));
+    }
+
+    @Test
+    void existsByGroupName_shouldFalse_whenNoGroupWithGivenName() {
+        assertFalse(groupRepository.existsByGroupName("NO-00"));
+    }
+
+    @Test
+    void existsByGroupName_shouldFalse_whenGivenGroupNameIsNull() {
+        assertFalse(groupRepository.existsByGroupName(null));
+    }
+
+    @Test
+    void save_shouldDataIntegrityViolationException_whenGroupWithGivenNameAlreadyExist() {
+        Group group = new Group("KL-91");
+
+        assertThrows(DataIntegrityViolationException.class, () -> groupRepository.saveAndFlush(group));
+    }
+
+    @Test
+    void existsAnyGroup_shouldTrue_whenGroupsTableContainsGroups() {
+        assertTrue(groupRepository.existsAnyGroup());
+    }
+
+    @Test
+    @Sql("/sql/clear_tables.sql")
+    void existsAnyGroup_shouldFalse_whenGroupsTableIsEmpty() {
+        assertFalse(groupRepository.existsAnyGroup());
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql" })
+    void findGroupsWithStudentsCountAtMost_shouldOnlyGroupWithoutStudents_whenGivenNumberLessThanStudentsInGroup() {
+        entityManager.persistAndFlush(new Group("AB-12"));
+
+        List<GroupStudentsCount> groups = groupRepository.findGroupsWithStudentsCountAtMost(2);
+
+        assertEquals(1, groups.size());
+        assertEquals("AB-12", groups.get(0).groupName());
+        assertEquals(0, groups.get(0).studentsCount());
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql" })
+    void findGroupsWithStudentsCountAtMost_shouldAllGroupsWithTheirStudentsCount_whenGivenNumberIsLarge() {
+        entityManager.persistAndFlush(new Group("AB-12"));
+
+        List<GroupStudentsCount> groups = groupRepository.findGroupsWithStudentsCountAtMost(200);
+
+        assertEquals(2, groups.size());
+        assertEquals("AB-12", groups.get(0).groupName());
+        assertEquals(0, groups.get(0).studentsCount());
+        assertEquals(new GroupStudentsCount(1, "MQ-90", 3), groups.get(1));
+    }
+
+    @Test
+    void findGroupsWithStudentsCountAtMost_shouldEmptyList_whenGivenNumberLessThanZero() {
+        assertTrue(groupRepository.findGroupsWithStudentsCountAtMost(-2).isEmpty());
+    }
+
+    private long countRows(String table) {
+        return ((Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT count(*) FROM " + table)
+                .getSingleResult()).longValue();
+    }
+
 }
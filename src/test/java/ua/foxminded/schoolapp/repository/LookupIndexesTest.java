@@ -0,0 +1,123 @@
+package ua.foxminded.schoolapp.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManagerFactory;
+import ua.foxminded.schoolapp.TestApplicationConfig;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "ua.foxminded.schoolapp.repository.LookupIndexesTest$StatementRecorder")
+@ContextConfiguration(classes = TestApplicationConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql(
+        scripts = { "/sql/clear_tables.sql", "/sql/lookup_indexes_test_init.sql" },
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS
+)
+@Sql(scripts = "/sql/clear_tables.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_CLASS)
+class LookupIndexesTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void findByGroupName_shouldUsedGroupNameIndex_whenGroupsTableIsLarge() {
+        String plan = explainIssuedQuery("group_name", () -> groupRepository.findByGroupName("KL-07"), "KL-07");
+
+        assertTrue(plan.contains("groups_group_name_key"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    void findByCourseName_shouldUsedCourseNameIndex_whenCoursesTableIsLarge() {
+        String plan = explainIssuedQuery("course_name", () -> courseRepository.findByCourseName("CourseName_500"),
+                "CourseName_500");
+
+        assertTrue(plan.contains("courses_course_name_key"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    void findByFirstNameAndLastName_shouldUsedFullNameIndex_whenStudentsTableIsLarge() {
+        String plan = explainIssuedQuery("first_name",
+                () -> studentRepository.findByFirstNameAndLastName("FirstName_500", "LastName_500"),
+                "FirstName_500", "LastName_500");
+
+        assertTrue(plan.contains("students_full_name_key"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    void findStudentsOfGroup_shouldUsedGroupIdIndex_whenStudentsTableIsLarge() {
+        String plan = explain("SELECT * FROM students WHERE group_id = 500");
+
+        assertTrue(plan.contains("students_group_id_idx"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    void findStudentsOfCourse_shouldUsedCourseIdIndex_whenEnrollmentsTableIsLarge() {
+        String plan = explain("SELECT student_id FROM students_courses WHERE course_id = 500");
+
+        assertTrue(plan.contains("students_courses_course_id_idx"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    private String explainIssuedQuery(String filteredColumn, Runnable lookup, Object... parameters) {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        StatementRecorder.STATEMENTS.clear();
+        lookup.run();
+
+        String query = StatementRecorder.STATEMENTS.stream()
+                .filter(statement -> statement.contains(" where ")
+                        && statement.substring(statement.indexOf(" where ")).contains(filteredColumn))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No statement filtered by " + filteredColumn + " was issued: "
+                        + StatementRecorder.STATEMENTS));
+        return explain(query, parameters);
+    }
+
+    private String explain(String query, Object... parameters) {
+        List<String> planLines = jdbcTemplate.queryForList("EXPLAIN " + query, String.class, parameters);
+        return String.join(System.lineSeparator(), planLines);
+    }
+
+    public static class StatementRecorder implements StatementInspector {
+
+        private static final long serialVersionUID = 1L;
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+    }
+
+}
@@ -0,0 +1,109 @@
+package ua.foxminded.schoolapp.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Optional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManagerFactory;
+import ua.foxminded.schoolapp.TestApplicationConfig;
+import ua.foxminded.schoolapp.model.Course;
+import ua.foxminded.schoolapp.model.Group;
+
+@DataJpaTest(includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+        classes = { CourseRepository.class, GroupRepository.class }
+), properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider="
+                + "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail"
+})
+@ContextConfiguration(classes = TestApplicationConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql(
+        scripts = { "/sql/clear_tables.sql", "/sql/groups_test_init.sql", "/sql/courses_test_init.sql" },
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD
+)
+class NaturalIdCacheTest {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void clearCacheAndStatistics() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findByCourseName_shouldNotQueriedDatabase_whenCourseWithGivenNameWasFoundBefore() {
+        assertTrue(courseRepository.findByCourseName("CourseName_1").isPresent());
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        Optional<Course> course = courseRepository.findByCourseName("CourseName_1");
+
+        assertEquals("Description_1", course.get().getDescription());
+        assertEquals(statementsAfterFirstLookup, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getNaturalIdCacheHitCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void findByGroupName_shouldNotQueriedDatabase_whenGroupWithGivenNameWasFoundBefore() {
+        assertTrue(groupRepository.findByGroupName("KL-91").isPresent());
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        Optional<Group> group = groupRepository.findByGroupName("KL-91");
+
+        assertEquals(2, group.get().getId());
+        assertEquals(statementsAfterFirstLookup, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getNaturalIdCacheHitCount());
+    }
+
+    @Test
+    void findByGroupName_shouldMissedCache_whenGroupWithGivenNameWasNotFoundBefore() {
+        Optional<Group> group = groupRepository.findByGroupName("CZ-03");
+
+        assertTrue(group.isPresent());
+        assertEquals(0, statistics.getNaturalIdCacheHitCount());
+        assertTrue(statistics.getNaturalIdCacheMissCount() > 0);
+    }
+
+    @Test
+    void findByGroupName_shouldEmptyOptional_whenGroupWasDeletedInBulkAfterItWasFound() {
+        assertTrue(groupRepository.findByGroupName("KL-91").isPresent());
+
+        assertEquals(1, groupRepository.deleteByGroupName("KL-91"));
+
+        assertTrue(groupRepository.findByGroupName("KL-91").isEmpty());
+    }
+
+    @Test
+    void findByGroupName_shouldEmptyOptional_whenGivenGroupNameIsNull() {
+        assertTrue(groupRepository.findByGroupName(null).isEmpty());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+}
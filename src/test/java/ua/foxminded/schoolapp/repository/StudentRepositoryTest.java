@@ -3,11 +3,16 @@ package ua.foxminded.schoolapp.repository;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -15,12 +20,18 @@ import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.jdbc.Sql;
 import ua.foxminded.schoolapp.TestApplicationConfig;
+import ua.foxminded.schoolapp.dto.Enrollment;
+import ua.foxminded.schoolapp.dto.EnrollmentValidation;
+import ua.foxminded.schoolapp.dto.StudentName;
+import ua.foxminded.schoolapp.dto.StudentRequest;
+import ua.foxminded.schoolapp.dto.StudentSummary;
+import ua.foxminded.schoolapp.model.Course;
 import ua.foxminded.schoolapp.model.Group;
 import ua.foxminded.schoolapp.model.Student;
 
 @DataJpaTest(includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
         classes = { StudentRepository.class }
-))
+), properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ContextConfiguration(classes = TestApplicationConfig.class)
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @Sql(
@@ -102,6 +113,15 @@ class StudentRepositoryTest {
         assertThrows(DataIntegrityViolationException.class, () -> studentRepository.save(student));
     }
 
+    @Test
+    void saveAndFlush_shouldDataIntegrityViolationException_whenStudentWithGivenFullNameAlreadyExist() {
+        Group group = new Group("MQ-90");
+        group.setId(1);
+        Student student = new Student("FirstName_2", "LastName_2", group);
+
+        assertThrows(DataIntegrityViolationException.class, () -> studentRepository.saveAndFlush(student));
+    }
+
     @Test
     void save_shouldSavedStudent_whenStudentFirstNameAndLastNameAreEmpty() {
         Group group = new Group("MQ-90");
@@ -282,4 +302,345 @@ class StudentRepositoryTest {
         assertThrows(InvalidDataAccessApiUsageException.class, () -> studentRepository.delete(student));
     }
 
+    @Test
+    void existsByFirstNameAndLastName_shouldTrue_whenStudentWithGivenFullNameExist() {
+        assertTrue(studentRepository.existsByFirstNameAndLastName("FirstName_2", "LastName_2"));
+    }
+
+    @Test
+    void existsByFirstNameAndLastName_shouldFalse_whenNoStudentWithGivenFullName() {
+        assertFalse(studentRepository.existsByFirstNameAndLastName("FirstName_2", "LastName_1"));
+    }
+
+    @Test
+    void existsByFirstNameAndLastName_shouldFalse_whenStudentFirstNameIsNull() {
+        assertFalse(studentRepository.existsByFirstNameAndLastName(null, "LastName_1"));
+    }
+
+    @Test
+    void existsAnyStudent_shouldTrue_whenStudentsTableContainsStudents() {
+        assertTrue(studentRepository.existsAnyStudent());
+    }
+
+    @Test
+    @Sql("/sql/clear_tables.sql")
+    void existsAnyStudent_shouldFalse_whenStudentsTableIsEmpty() {
+        assertFalse(studentRepository.existsAnyStudent());
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void existsOnCourse_shouldTrue_whenStudentIsEnrolledInCourse() {
+        Statistics statistics = getClearedStatistics();
+
+        assertTrue(studentRepository.existsOnCourse("FirstName_1", "LastName_1", "CourseName_2"));
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void existsOnCourse_shouldFalse_whenStudentIsNotEnrolledInCourse() {
+        assertFalse(studentRepository.existsOnCourse("FirstName_2", "LastName_2", "CourseName_2"));
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void existsOnCourse_shouldFalse_whenNoCourseWithGivenName() {
+        assertFalse(studentRepository.existsOnCourse("FirstName_1", "LastName_1", "NotExistent"));
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void findAllWithGroupAndCourses_shouldExecuteOneStatement_whenGroupsAndCoursesOfStudentsAreRead() {
+        Statistics statistics = getClearedStatistics();
+
+        List<Student> students = studentRepository.findAllWithGroupAndCourses();
+        List<String> groupNames = students.stream()
+                .map(student -> student.getGroup().getGroupName())
+                .distinct()
+                .toList();
+        int coursesNumber = students.stream()
+                .mapToInt(student -> student.getCourses().size())
+                .sum();
+
+        assertEquals(3, students.size());
+        assertEquals(List.of("MQ-90"), groupNames);
+        assertEquals(4, coursesNumber);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void findAllWithGroupAndCoursesByCourseName_shouldExecuteOneStatement_whenCoursesOfStudentsAreRead() {
+        Statistics statistics = getClearedStatistics();
+
+        List<Student> students = studentRepository.findAllWithGroupAndCoursesByCourseName("CourseName_1");
+        List<String> firstStudentCourses = students.stream()
+                .filter(student -> student.getId() == 1)
+                .flatMap(student -> student.getCourses().stream())
+                .map(Course::getCourseName)
+                .sorted()
+                .toList();
+
+        assertEquals(2, students.size());
+        assertEquals(List.of("CourseName_1", "CourseName_2"), firstStudentCourses);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql" })
+    void findAllWithGroupAndCoursesByCourseName_shouldEmptyList_whenCourseHasNoStudents() {
+        assertTrue(studentRepository.findAllWithGroupAndCoursesByCourseName("CourseName_1").isEmpty());
+    }
+
+    @Test
+    void findByIdGreaterThanOrderByIdAsc_shouldStudentsAfterGivenId_whenLimitIsLessThanNumberOfStudents() {
+        List<Student> students = studentRepository.findByIdGreaterThanOrderByIdAsc(1, Limit.of(1));
+
+        assertEquals(1, students.size());
+        assertEquals(2, students.get(0).getId());
+    }
+
+    @Test
+    void findByIdLessThanOrderByIdDesc_shouldStudentsBeforeGivenIdInDescendingOrder_whenStudentsExist() {
+        List<Student> students = studentRepository.findByIdLessThanOrderByIdDesc(3, Limit.of(5));
+
+        assertEquals(List.of(2, 1), students.stream().map(Student::getId).toList());
+    }
+
+    @Test
+    void findAllSummaries_shouldSummariesWithGroupNamesWithoutLoadingEntities_whenStudentsExist() {
+        Statistics statistics = getClearedStatistics();
+
+        List<StudentSummary> students = studentRepository.findAllSummaries();
+
+        assertEquals(new StudentSummary(1, "FirstName_1", "LastName_1", 1, "MQ-90"), students.get(0));
+        assertEquals(3, students.size());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findSummariesByIdGreaterThan_shouldSummariesAfterGivenId_whenLimitIsLessThanNumberOfStudents() {
+        List<StudentSummary> students = studentRepository.findSummariesByIdGreaterThan(1, Limit.of(1));
+
+        assertEquals(List.of(2), students.stream().map(StudentSummary::id).toList());
+    }
+
+    @Test
+    void findSummariesByIdLessThan_shouldSummariesBeforeGivenIdInDescendingOrder_whenStudentsExist() {
+        List<StudentSummary> students = studentRepository.findSummariesByIdLessThan(3, Limit.of(5));
+
+        assertEquals(List.of(2, 1), students.stream().map(StudentSummary::id).toList());
+    }
+
+
+    @Test
+    void updateByFullName_shouldUpdatedNameAndGroup_whenStudentWithGivenFullNameExist() {
+        Group newGroup = entityManager.persistAndFlush(new Group("AB-12"));
+
+        int updatedStudents = studentRepository.updateByFullName("FirstName_1", "LastName_1", "NewFirstName",
+                "NewLastName", newGroup);
+
+        Student updatedStudent = entityManager.find(Student.class, 1);
+        assertEquals(1, updatedStudents);
+        assertEquals("NewFirstName", updatedStudent.getFirstName());
+        assertEquals("NewLastName", updatedStudent.getLastName());
+        assertEquals("AB-12", updatedStudent.getGroup().getGroupName());
+    }
+
+    @Test
+    void updateByFullName_shouldNothingUpdated_whenNoStudentWithGivenFullName() {
+        Group group = entityManager.find(Group.class, 1);
+
+        assertEquals(0, studentRepository.updateByFullName("NotExistent", "NotExistent", "NewFirstName",
+                "NewLastName", group));
+    }
+
+    @Test
+    void updateByFullName_shouldDataIntegrityViolationException_whenStudentWithNewFullNameAlreadyExist() {
+        Group group = entityManager.find(Group.class, 1);
+
+        assertThrows(DataIntegrityViolationException.class, () -> studentRepository.updateByFullName("FirstName_1",
+                "LastName_1", "FirstName_2", "LastName_2", group));
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void deleteStudentById_shouldDeletedStudentWithItsEnrollments_whenStudentWithGivenIdExist() {
+        int deletedStudents = studentRepository.deleteStudentById(1);
+
+        Number enrollmentsCount = (Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT count(*) FROM students_courses")
+                .getSingleResult();
+        assertEquals(1, deletedStudents);
+        assertNull(entityManager.find(Student.class, 1));
+        assertEquals(2, enrollmentsCount.intValue());
+    }
+
+    @Test
+    void deleteStudentById_shouldNothingDeleted_whenNoStudentWithGivenId() {
+        assertEquals(0, studentRepository.deleteStudentById(5));
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void validateEnrollment_shouldIdsAndEnrollmentWithOneStatement_whenStudentIsEnrolledInCourse() {
+        Statistics statistics = getClearedStatistics();
+
+        EnrollmentValidation validation = studentRepository.validateEnrollment("FirstName_1", "LastName_1",
+                "CourseName_2");
+
+        assertEquals(new EnrollmentValidation(1, 2, true), validation);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql" })
+    void validateEnrollment_shouldNullIds_whenNoStudentAndNoCourseWithGivenNames() {
+        EnrollmentValidation validation = studentRepository.validateEnrollment("NotExistent", "NotExistent",
+                "NotExistent");
+
+        assertEquals(new EnrollmentValidation(null, null, false), validation);
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void addEnrollment_shouldEnrolledStudent_whenStudentIsNotEnrolledInCourse() {
+        int addedEnrollments = studentRepository.addEnrollment(2, 2);
+
+        assertEquals(1, addedEnrollments);
+        assertTrue(studentRepository.existsOnCourse("FirstName_2", "LastName_2", "CourseName_2"));
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void addEnrollment_shouldNoInsertedEnrollment_whenStudentIsAlreadyEnrolledInCourse() {
+        int addedEnrollments = studentRepository.addEnrollment(1, 2);
+
+        assertEquals(0, addedEnrollments);
+        assertTrue(studentRepository.existsOnCourse("FirstName_1", "LastName_1", "CourseName_2"));
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void deleteEnrollment_shouldDeletedEnrollment_whenStudentIsEnrolledInCourse() {
+        int deletedEnrollments = studentRepository.deleteEnrollment(1, 2);
+
+        assertEquals(1, deletedEnrollments);
+        assertFalse(studentRepository.existsOnCourse("FirstName_1", "LastName_1", "CourseName_2"));
+    }
+
+    @Test
+    void findAllByFullNames_shouldFoundStudentsWithOneStatement_whenSomeStudentsExist() {
+        Statistics statistics = getClearedStatistics();
+
+        List<Student> actualStudents = studentRepository.findAllByFullNames(List.of(
+                new StudentName("FirstName_1", "LastName_1"), new StudentName("FirstName_3", "LastName_3"),
+                new StudentName("FirstName_1", "LastName_3")));
+
+        assertEquals(List.of(1, 3), actualStudents.stream()
+                .map(Student::getId)
+                .toList());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void findEnrollments_shouldEnrollmentsOfGivenStudentsInGivenCourses_whenTheyExist() {
+        List<Enrollment> actualEnrollments = studentRepository.findEnrollments(List.of(1, 2), List.of(1, 3));
+
+        assertEquals(Set.of(new Enrollment(1, 1), new Enrollment(2, 1)), Set.copyOf(actualEnrollments));
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void findEnrollments_shouldEnrollmentsWithOneStatement_whenMoreIdsThanBindParametersAreGiven() {
+        List<Integer> studentIds = IntStream.rangeClosed(1, 40_000).boxed().toList();
+
+        List<Enrollment> actualEnrollments = studentRepository.findEnrollments(studentIds, studentIds);
+
+        assertFalse(actualEnrollments.isEmpty());
+    }
+
+    @Test
+    void findAllByFullNames_shouldFoundStudents_whenMoreNamesThanBindParametersAreGiven() {
+        List<StudentName> studentNames = IntStream.rangeClosed(1, 20_000)
+                .mapToObj(i -> new StudentName("FirstName_" + i, "LastName_" + i))
+                .toList();
+
+        List<Student> actualStudents = studentRepository.findAllByFullNames(studentNames);
+
+        assertEquals(List.of(1, 2, 3), actualStudents.stream()
+                .map(Student::getId)
+                .sorted()
+                .toList());
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void addEnrollments_shouldEnrolledStudentsAndSkippedExistingEnrollments_whenSomeEnrollmentsExist() {
+        List<Enrollment> addedEnrollments = studentRepository.addEnrollments(
+                List.of(new Enrollment(1, 1), new Enrollment(2, 2), new Enrollment(3, 1)));
+
+        assertEquals(Set.of(new Enrollment(2, 2), new Enrollment(3, 1)), Set.copyOf(addedEnrollments));
+        assertEquals(Set.of(new Enrollment(1, 1), new Enrollment(2, 2), new Enrollment(3, 1)),
+                Set.copyOf(studentRepository.findEnrollments(List.of(1, 2, 3), List.of(1, 2))));
+    }
+
+    @Test
+    void addStudents_shouldAddedStudentsAndSkippedTakenNamesAndUnknownGroups_whenSomeStudentsCannotBeAdded() {
+        List<StudentName> addedNames = studentRepository.addStudents(List.of(
+                new StudentRequest("FirstName_1", "LastName_1", "MQ-90"),
+                new StudentRequest("FirstName_4", "LastName_4", "MQ-90"),
+                new StudentRequest("FirstName_4", "LastName_4", "MQ-90"),
+                new StudentRequest("FirstName_5", "LastName_5", "XX-00")));
+
+        assertEquals(List.of(new StudentName("FirstName_4", "LastName_4")), addedNames);
+        assertEquals("MQ-90", studentRepository.findByFirstNameAndLastName("FirstName_4", "LastName_4").get()
+                .getGroup().getGroupName());
+        assertFalse(studentRepository.existsByFirstNameAndLastName("FirstName_5", "LastName_5"));
+    }
+
+    @Test
+    void addStudents_shouldSkippedStudentWithoutException_whenSameNameIsAddedAfterValidation() {
+        List<StudentName> takenNamesAtValidation = studentRepository.findAllByFullNames(
+                List.of(new StudentName("FirstName_4", "LastName_4"))).stream()
+                .map(student -> new StudentName(student.getFirstName(), student.getLastName()))
+                .toList();
+        studentRepository.saveAndFlush(new Student("FirstName_4", "LastName_4",
+                entityManager.find(Group.class, 1)));
+
+        List<StudentName> addedNames = studentRepository.addStudents(List.of(
+                new StudentRequest("FirstName_4", "LastName_4", "MQ-90"),
+                new StudentRequest("FirstName_5", "LastName_5", "MQ-90")));
+
+        assertTrue(takenNamesAtValidation.isEmpty());
+        assertEquals(List.of(new StudentName("FirstName_5", "LastName_5")), addedNames);
+    }
+
+    private Statistics getClearedStatistics() {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
 }
@@ -0,0 +1,40 @@
+package ua.foxminded.schoolapp.service.generate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class GenerationChunksTest {
+
+    @Test
+    void forEachChunk_shouldFixedSizeChunksAndSmallerLastChunk_whenElementsNumberIsNotMultipleOfChunkSize() {
+        List<List<Integer>> chunks = new ArrayList<>();
+
+        long consumedElements = GenerationChunks.forEachChunk(IntStream.range(0, 7).boxed(), 3, chunks::add);
+
+        assertEquals(7, consumedElements);
+        assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6)), chunks);
+    }
+
+    @Test
+    void forEachChunk_shouldNotInvokeConsumer_whenStreamIsEmpty() {
+        List<List<Object>> chunks = new ArrayList<>();
+
+        long consumedElements = GenerationChunks.forEachChunk(Stream.empty(), 3, chunks::add);
+
+        assertEquals(0, consumedElements);
+        assertTrue(chunks.isEmpty());
+    }
+
+    @Test
+    void forEachChunk_shouldIllegalArgumentException_whenChunkSizeIsNotPositive() {
+        Stream<Integer> elements = Stream.of(1, 2, 3);
+
+        assertThrows(IllegalArgumentException.class, () -> GenerationChunks.forEachChunk(elements, 0, chunk -> {
+        }));
+    }
+
+}
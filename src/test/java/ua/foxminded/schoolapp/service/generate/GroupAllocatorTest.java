@@ -0,0 +1,75 @@
+package ua.foxminded.schoolapp.service.generate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import ua.foxminded.schoolapp.exception.DataGenerationException;
+
+class GroupAllocatorTest {
+
+    @Test
+    void nextGroupIndex_shouldGroupSizesBetweenMinAndMax_whenStudentsFitIntoGroups() {
+        int[] groupSizes = allocate(5_000, 100_000, 10, 30);
+
+        assertEquals(100_000, Arrays.stream(groupSizes).sum());
+        assertTrue(Arrays.stream(groupSizes).allMatch(size -> size >= 10 && size <= 30));
+    }
+
+    @Test
+    void nextGroupIndex_shouldEveryGroupReachMinimum_whenStudentsAreJustEnoughForMinimum() {
+        int[] groupSizes = allocate(20, 200, 10, 30);
+
+        assertTrue(Arrays.stream(groupSizes).allMatch(size -> size == 10));
+    }
+
+    @Test
+    void nextGroupIndex_shouldNotExceedMinimum_whenStudentsAreTooFewForMinimum() {
+        int[] groupSizes = allocate(10, 50, 10, 30);
+
+        assertEquals(50, Arrays.stream(groupSizes).sum());
+        assertTrue(Arrays.stream(groupSizes).allMatch(size -> size <= 10));
+    }
+
+    @Test
+    void nextGroupIndex_shouldRaiseMaximum_whenStudentsDoNotFitIntoGroups() {
+        int[] groupSizes = allocate(10, 1_000, 10, 30);
+
+        assertTrue(Arrays.stream(groupSizes).allMatch(size -> size == 100));
+    }
+
+    @Test
+    void nextGroupIndex_shouldDataGenerationException_whenAllStudentsAreAllocated() {
+        GroupAllocator groupAllocator = new GroupAllocator(3, 1, 10, 30, new SplittableRandom(7));
+        groupAllocator.nextGroupIndex();
+
+        assertThrows(DataGenerationException.class, () -> groupAllocator.nextGroupIndex());
+    }
+
+    @Test
+    void constructor_shouldDataGenerationException_whenThereAreStudentsButNoGroups() {
+        SplittableRandom random = new SplittableRandom(7);
+
+        assertThrows(DataGenerationException.class, () -> new GroupAllocator(0, 10, 10, 30, random));
+    }
+
+    @Test
+    void constructor_shouldDataGenerationException_whenMinGroupSizeIsGreaterThanMax() {
+        SplittableRandom random = new SplittableRandom(7);
+
+        assertThrows(DataGenerationException.class, () -> new GroupAllocator(3, 10, 30, 10, random));
+    }
+
+    private int[] allocate(int groupsNumber, int studentsNumber, int minGroupSize, int maxGroupSize) {
+        GroupAllocator groupAllocator = new GroupAllocator(groupsNumber, studentsNumber, minGroupSize, maxGroupSize,
+                new SplittableRandom(7));
+        int[] groupSizes = new int[groupsNumber];
+
+        for (int student = 0; student < studentsNumber; student++) {
+            groupSizes[groupAllocator.nextGroupIndex()]++;
+        }
+
+        return groupSizes;
+    }
+
+}
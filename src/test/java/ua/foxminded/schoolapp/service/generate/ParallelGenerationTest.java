@@ -0,0 +1,63 @@
+package ua.foxminded.schoolapp.service.generate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ParallelGenerationTest {
+
+    private final ParallelGeneration.SegmentGenerator<Long> segmentGenerator = (segment, random) -> {
+        long segmentValue = random.nextLong();
+        return index -> segmentValue + index;
+    };
+
+    @Test
+    void generate_shouldSameElementsInParallelAndSequentially_whenSeedIsSame() {
+        int size = 3 * ParallelGeneration.BATCH_SIZE + 17;
+
+        List<Long> sequentialElements = ParallelGeneration
+                .generate(size, 1000, new SplittableRandom(7), false, segmentGenerator)
+                .toList();
+        List<Long> parallelElements = ParallelGeneration
+                .generate(size, 1000, new SplittableRandom(7), true, segmentGenerator)
+                .toList();
+
+        assertEquals(size, sequentialElements.size());
+        assertEquals(sequentialElements, parallelElements);
+    }
+
+    @Test
+    void generate_shouldSizedStream_whenSizeIsGiven() {
+        long exactSize = ParallelGeneration
+                .generate(10, 3, new SplittableRandom(7), false, segmentGenerator)
+                .spliterator()
+                .getExactSizeIfKnown();
+
+        assertEquals(10, exactSize);
+    }
+
+    @Test
+    void generate_shouldPassEveryIndexToSegmentOfIndex_whenSegmentsCrossBatches() {
+        int segmentSize = ParallelGeneration.BATCH_SIZE / 3 + 1;
+        int size = 2 * ParallelGeneration.BATCH_SIZE;
+
+        List<Integer> segmentsOfIndexes = ParallelGeneration
+                .generate(size, segmentSize, new SplittableRandom(7), true,
+                        (segment, random) -> index -> index / segmentSize == segment ? segment : -1)
+                .toList();
+
+        List<Integer> expectedSegments = IntStream.range(0, size).map(index -> index / segmentSize).boxed().toList();
+        assertEquals(expectedSegments, segmentsOfIndexes);
+    }
+
+    @Test
+    void generate_shouldIllegalArgumentException_whenSegmentSizeIsNotPositive() {
+        SplittableRandom random = new SplittableRandom(7);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelGeneration.generate(10, 0, random, false, segmentGenerator));
+    }
+
+}
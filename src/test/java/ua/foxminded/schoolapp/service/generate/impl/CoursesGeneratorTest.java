@@ -98,4 +98,18 @@ class CoursesGeneratorTest {
         assertThrows(FileReadingException.class, () -> coursesGenerator.toGenerate());
     }
 
+    @Test
+    void toGenerate_shouldUniqueCoursesForScaleFactor_whenScaleFactorNeedsMoreCoursesThanNames() {
+        List<String> coursesNames = helper.getTestListOf("courses_names", 20);
+        List<String> coursesDescriptions = helper.getTestListOf("courses_descriptions", 20);
+        when(readerMock.readFileAndPopulateListWithLines("courses/courses.txt")).thenReturn(coursesNames);
+        when(readerMock.readFileAndPopulateListWithLines("courses/descriptions.txt")).thenReturn(coursesDescriptions);
+        Generatable<CourseDto> scaledGenerator = new CoursesGenerator(readerMock, 1000);
+
+        List<CourseDto> courses = scaledGenerator.toGenerate();
+
+        assertEquals(40, courses.size());
+        assertEquals(40, courses.stream().map(CourseDto::getCourseName).distinct().count());
+    }
+
 }
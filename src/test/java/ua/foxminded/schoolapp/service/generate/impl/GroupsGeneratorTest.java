@@ -8,6 +8,8 @@ import ua.foxminded.schoolapp.dto.GroupDto;
 import ua.foxminded.schoolapp.service.generate.Generatable;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 @SpringBootTest(classes = { GroupsGenerator.class })
 class GroupsGeneratorTest {
@@ -38,10 +40,10 @@ class GroupsGeneratorTest {
     @Test
     void getRandomInitials_shouldRandomInitials_whenInvokeGetRandomInitials() throws Exception {
         String groupNameRegex = "^[A-Z]{2}$";
-        Method method = GroupsGenerator.class.getDeclaredMethod("getRandomInitials");
+        Method method = GroupsGenerator.class.getDeclaredMethod("getRandomInitials", RandomGenerator.class);
         method.setAccessible(true);
 
-        String groupInitials = method.invoke(groupsGenerator).toString();
+        String groupInitials = method.invoke(groupsGenerator, new SplittableRandom()).toString();
 
         assertTrue(groupInitials.matches(groupNameRegex));
     }
@@ -50,12 +52,33 @@ class GroupsGeneratorTest {
     void getTwoRandomDigits_shouldTwoRandomDigitsFromZeroToNineInclusive_whenInvokeGetTwoRandomDigits()
             throws Exception {
         String randomDigitsRegex = "^[0-9]{2}$";
-        Method method = GroupsGenerator.class.getDeclaredMethod("getTwoRandomDigits");
+        Method method = GroupsGenerator.class.getDeclaredMethod("getTwoRandomDigits", RandomGenerator.class);
         method.setAccessible(true);
 
-        String twoRandomDigits = method.invoke(groupsGenerator).toString();
+        String twoRandomDigits = method.invoke(groupsGenerator, new SplittableRandom()).toString();
 
         assertTrue(twoRandomDigits.matches(randomDigitsRegex));
     }
 
+    @Test
+    void toGenerate_shouldUniqueGroupsForScaleFactor_whenScaleFactorIsGreaterThanZero() {
+        String groupNameRegex = "^[A-Z]{2}-[0-9]{2}$";
+        Generatable<GroupDto> scaledGenerator = new GroupsGenerator(100, null, false);
+
+        List<GroupDto> groups = scaledGenerator.toGenerate();
+
+        assertEquals(5000, groups.size());
+        assertEquals(5000, groups.stream().map(GroupDto::getGroupName).distinct().count());
+        assertTrue(groups.stream().allMatch(group -> group.getGroupName().matches(groupNameRegex)));
+    }
+
+    @Test
+    void toGenerate_shouldSameGroups_whenSeedIsSame() {
+        List<GroupDto> firstGroups = new GroupsGenerator(0, 42L, false).toGenerate();
+        List<GroupDto> secondGroups = new GroupsGenerator(0, 42L, false).toGenerate();
+
+        assertEquals(firstGroups.stream().map(GroupDto::getGroupName).toList(),
+                secondGroups.stream().map(GroupDto::getGroupName).toList());
+    }
+
 }
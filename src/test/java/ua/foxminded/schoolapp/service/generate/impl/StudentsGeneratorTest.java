@@ -6,6 +6,8 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -103,7 +105,7 @@ class StudentsGeneratorTest {
 
     @Test
     void getStudentsFullName_shouldGeneratedStudentsFullName_whenReaderReturnTwentyStudentsNames() throws Exception {
-        Method method = StudentsGenerator.class.getDeclaredMethod("getStudentsFullName");
+        Method method = StudentsGenerator.class.getDeclaredMethod("getStudentsFullName", RandomGenerator.class);
         method.setAccessible(true);
         List<String> testFirstNames = helper.getTestListOf("first_names", 20);
         List<String> testLastNames = helper.getTestListOf("last_names", 20);
@@ -111,7 +113,7 @@ class StudentsGeneratorTest {
         when(readerMock.readFileAndPopulateListWithLines("students/last_names.txt")).thenReturn(testLastNames);
 
         @SuppressWarnings("unchecked")
-        List<String[]> studentsFullName = (List<String[]>) method.invoke(studentsGenerator);
+        List<String[]> studentsFullName = (List<String[]>) method.invoke(studentsGenerator, new SplittableRandom());
 
         for (String[] fullName : studentsFullName) {
             assertTrue(testFirstNames.contains(fullName[0]));
@@ -122,7 +124,7 @@ class StudentsGeneratorTest {
     @Test
     void getStudentsFullName_shouldGeneratedStudentsFullName_whenReaderReturnMoreThanTwentyStudentsNames()
             throws Exception {
-        Method method = StudentsGenerator.class.getDeclaredMethod("getStudentsFullName");
+        Method method = StudentsGenerator.class.getDeclaredMethod("getStudentsFullName", RandomGenerator.class);
         method.setAccessible(true);
         List<String> testFirstNames = helper.getTestListOf("first_names", 40);
         List<String> testLastNames = helper.getTestListOf("last_names", 40);
@@ -130,7 +132,7 @@ class StudentsGeneratorTest {
         when(readerMock.readFileAndPopulateListWithLines("students/last_names.txt")).thenReturn(testLastNames);
 
         @SuppressWarnings("unchecked")
-        List<String[]> studentsFullName = (List<String[]>) method.invoke(studentsGenerator);
+        List<String[]> studentsFullName = (List<String[]>) method.invoke(studentsGenerator, new SplittableRandom());
 
         for (String[] fullName : studentsFullName) {
             assertTrue(testFirstNames.contains(fullName[0]));
@@ -142,7 +144,7 @@ class StudentsGeneratorTest {
     void getStudentsFullName_shouldTwoHundredGeneratedStudentsFullName_whenwhenReaderReturnTwentyStudentsNames()
             throws Exception {
         int expectedFullNamesCount = 200;
-        Method method = StudentsGenerator.class.getDeclaredMethod("getStudentsFullName");
+        Method method = StudentsGenerator.class.getDeclaredMethod("getStudentsFullName", RandomGenerator.class);
         method.setAccessible(true);
         List<String> testFirstNames = helper.getTestListOf("first_names", 20);
         List<String> testLastNames = helper.getTestListOf("last_names", 20);
@@ -150,7 +152,7 @@ class StudentsGeneratorTest {
         when(readerMock.readFileAndPopulateListWithLines("students/last_names.txt")).thenReturn(testLastNames);
 
         @SuppressWarnings("unchecked")
-        List<String[]> studentsFullName = (List<String[]>) method.invoke(studentsGenerator);
+        List<String[]> studentsFullName = (List<String[]>) method.invoke(studentsGenerator, new SplittableRandom());
         int actualFullNamesCount = studentsFullName.size();
 
         assertEquals(expectedFullNamesCount, actualFullNamesCount);
@@ -159,27 +161,73 @@ class StudentsGeneratorTest {
     @Test
     void getStudentsFullName_shouldInvocationTargetException_whenReaderReturnsUnequalNumberFirstAndLastNamesStudents()
             throws Exception {
-        Method method = StudentsGenerator.class.getDeclaredMethod("getStudentsFullName");
+        Method method = StudentsGenerator.class.getDeclaredMethod("getStudentsFullName", RandomGenerator.class);
         method.setAccessible(true);
         List<String> testFirstNames = helper.getTestListOf("first_names", 25);
         List<String> testLastNames = helper.getTestListOf("last_names", 20);
         when(readerMock.readFileAndPopulateListWithLines("students/first_names.txt")).thenReturn(testFirstNames);
         when(readerMock.readFileAndPopulateListWithLines("students/last_names.txt")).thenReturn(testLastNames);
 
-        assertThrows(InvocationTargetException.class, () -> method.invoke(studentsGenerator));
+        assertThrows(InvocationTargetException.class, () -> method.invoke(studentsGenerator, new SplittableRandom()));
     }
 
     @Test
     void getStudentsFullName_shouldInvocationTargetException_whenReaderReturnLessThanTwentyStudentsNames()
             throws Exception {
-        Method method = StudentsGenerator.class.getDeclaredMethod("getStudentsFullName");
+        Method method = StudentsGenerator.class.getDeclaredMethod("getStudentsFullName", RandomGenerator.class);
         method.setAccessible(true);
         List<String> testFirstNames = helper.getTestListOf("first_names", 5);
         List<String> testLastNames = helper.getTestListOf("last_names", 5);
         when(readerMock.readFileAndPopulateListWithLines("students/first_names.txt")).thenReturn(testFirstNames);
         when(readerMock.readFileAndPopulateListWithLines("students/last_names.txt")).thenReturn(testLastNames);
 
-        assertThrows(InvocationTargetException.class, () -> method.invoke(studentsGenerator));
+        assertThrows(InvocationTargetException.class, () -> method.invoke(studentsGenerator, new SplittableRandom()));
+    }
+
+    @Test
+    void toGenerate_shouldUniqueStudentsForScaleFactor_whenScaleFactorIsGreaterThanZero() {
+        int scaleFactor = 5;
+        List<String> testFirstNames = helper.getTestListOf("first_names", 20);
+        List<String> testLastNames = helper.getTestListOf("last_names", 20);
+        when(readerMock.readFileAndPopulateListWithLines("students/first_names.txt")).thenReturn(testFirstNames);
+        when(readerMock.readFileAndPopulateListWithLines("students/last_names.txt")).thenReturn(testLastNames);
+        Generatable<StudentDto> scaledGenerator = new StudentsGenerator(readerMock, scaleFactor, null, false);
+
+        List<StudentDto> actualStudents = scaledGenerator.toGenerate();
+
+        long uniqueNamesNumber = actualStudents.stream()
+                .map(student -> student.getFirstName() + " " + student.getLastName())
+                .distinct()
+                .count();
+        assertEquals(5000, actualStudents.size());
+        assertEquals(5000, uniqueNamesNumber);
+    }
+
+    @Test
+    void toGenerate_shouldDataSetUpException_whenScaleFactorIsOutOfRange() {
+        Generatable<StudentDto> scaledGenerator = new StudentsGenerator(readerMock, 10_001, null, false);
+
+        assertThrows(DataGenerationException.class, () -> scaledGenerator.toGenerate());
+    }
+
+    @Test
+    void toGenerate_shouldSameStudentsInParallelAndSequentially_whenSeedIsSame() {
+        List<String> testFirstNames = helper.getTestListOf("first_names", 20);
+        List<String> testLastNames = helper.getTestListOf("last_names", 20);
+        when(readerMock.readFileAndPopulateListWithLines("students/first_names.txt")).thenReturn(testFirstNames);
+        when(readerMock.readFileAndPopulateListWithLines("students/last_names.txt")).thenReturn(testLastNames);
+        Generatable<StudentDto> sequentialGenerator = new StudentsGenerator(readerMock, 100, 42L, false);
+        Generatable<StudentDto> parallelGenerator = new StudentsGenerator(readerMock, 100, 42L, true);
+
+        List<String> sequentialStudents = sequentialGenerator.toGenerateStream()
+                .map(student -> student.getFirstName() + " " + student.getLastName())
+                .toList();
+        List<String> parallelStudents = parallelGenerator.toGenerateStream()
+                .map(student -> student.getFirstName() + " " + student.getLastName())
+                .toList();
+
+        assertEquals(100_000, sequentialStudents.size());
+        assertEquals(sequentialStudents, parallelStudents);
     }
 
 }
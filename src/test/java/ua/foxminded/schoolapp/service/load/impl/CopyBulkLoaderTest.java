@@ -0,0 +1,104 @@
+package ua.foxminded.schoolapp.service.load.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+import ua.foxminded.schoolapp.TestApplicationConfig;
+import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.service.generate.Generatable;
+import ua.foxminded.schoolapp.service.generate.StudentGeneratorTestHelper;
+
+@DataJpaTest(includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+        classes = { CopyBulkLoader.class }
+))
+@ContextConfiguration(classes = TestApplicationConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql(scripts = "/sql/clear_tables.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class CopyBulkLoaderTest {
+
+    private final StudentGeneratorTestHelper helper = new StudentGeneratorTestHelper();
+
+    @MockBean
+    private Generatable<GroupDto> groupsGeneratorMock;
+
+    @MockBean
+    private Generatable<StudentDto> studentsGeneratorMock;
+
+    @MockBean
+    private Generatable<CourseDto> coursesGeneratorMock;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CopyBulkLoader bulkLoader;
+
+    @BeforeEach
+    void setUp() {
+        when(groupsGeneratorMock.toGenerateStream()).thenReturn(Stream.of(new GroupDto("FD-74"), new GroupDto("KL-91")));
+        when(studentsGeneratorMock.toGenerateStream()).thenReturn(helper.getTestListOfStudents(50).stream());
+        when(coursesGeneratorMock.toGenerateStream()).thenReturn(Stream.of(
+                new CourseDto("CourseName_1", "Description, with \"quotes\""),
+                new CourseDto("CourseName_2", "Description_2"),
+                new CourseDto("CourseName_3", "Description_3")));
+    }
+
+    @Test
+    void loadSchema_shouldCopiedAllGeneratedRows_whenTablesAreEmpty() {
+        long copiedRows = bulkLoader.loadSchema();
+
+        Integer groupsCount = jdbcTemplate.queryForObject("SELECT count(*) FROM groups", Integer.class);
+        Integer studentsCount = jdbcTemplate.queryForObject("SELECT count(*) FROM students", Integer.class);
+        Integer coursesCount = jdbcTemplate.queryForObject("SELECT count(*) FROM courses", Integer.class);
+        Integer enrollmentsCount = jdbcTemplate.queryForObject("SELECT count(*) FROM students_courses", Integer.class);
+        assertEquals(2, groupsCount);
+        assertEquals(50, studentsCount);
+        assertEquals(3, coursesCount);
+        assertTrue(enrollmentsCount >= 50 && enrollmentsCount <= 150);
+        assertEquals(groupsCount + studentsCount + coursesCount + enrollmentsCount, copiedRows);
+    }
+
+    @Test
+    void loadSchema_shouldKeptGroupSizesWithinLimits_whenStudentsAreAssignedToGroups() {
+        bulkLoader.loadSchema();
+
+        List<Integer> groupSizes = jdbcTemplate.queryForList(
+                "SELECT count(*) FROM students GROUP BY group_id", Integer.class);
+        assertEquals(2, groupSizes.size());
+        assertTrue(groupSizes.stream().allMatch(groupSize -> groupSize >= 10 && groupSize <= 30));
+    }
+
+    @Test
+    void loadSchema_shouldEnrolledEveryStudentInOneToThreeDistinctCourses_whenCoursesExist() {
+        bulkLoader.loadSchema();
+
+        List<Integer> coursesPerStudent = jdbcTemplate.queryForList(
+                "SELECT count(DISTINCT course_id) FROM students_courses GROUP BY student_id", Integer.class);
+        assertEquals(50, coursesPerStudent.size());
+        assertTrue(coursesPerStudent.stream().allMatch(coursesNumber -> coursesNumber >= 1 && coursesNumber <= 3));
+    }
+
+    @Test
+    void loadSchema_shouldKeptQuotesAndCommas_whenCourseDescriptionContainsThem() {
+        bulkLoader.loadSchema();
+
+        String actualDescription = jdbcTemplate.queryForObject(
+                "SELECT course_description FROM courses WHERE course_name = 'CourseName_1'", String.class);
+        assertEquals("Description, with \"quotes\"", actualDescription);
+    }
+
+}
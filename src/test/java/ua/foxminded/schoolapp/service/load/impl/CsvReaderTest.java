@@ -0,0 +1,106 @@
+package ua.foxminded.schoolapp.service.load.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ua.foxminded.schoolapp.exception.DataLoadingException;
+
+class CsvReaderTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void readRow_shouldSplitRowsIntoFields_whenFieldsAreNotQuoted() throws IOException {
+        Path file = write("first_name,last_name,group_name\nJohn,Smith,AB-12\nJane,,CD-34\n");
+
+        assertEquals(List.of(List.of("first_name", "last_name", "group_name"), List.of("John", "Smith", "AB-12"),
+                List.of("Jane", "", "CD-34")), readAll(file, 64));
+    }
+
+    @Test
+    void readRow_shouldKeepSeparatorsQuotesAndLineBreaks_whenFieldsAreQuoted() throws IOException {
+        Path file = write("Math,\"Numbers, \"\"shapes\"\"\nand more\"\nArt,\"\"\n");
+
+        assertEquals(List.of(List.of("Math", "Numbers, \"shapes\"\nand more"), List.of("Art", "")),
+                readAll(file, 64));
+    }
+
+    @Test
+    void readRow_shouldSkipEmptyLinesAndAcceptCrlf_whenLastLineHasNoLineBreak() throws IOException {
+        Path file = write("AB-12\r\n\r\n\nCD-34\r\nEF-56");
+
+        assertEquals(List.of(List.of("AB-12"), List.of("CD-34"), List.of("EF-56")), readAll(file, 64));
+    }
+
+    @Test
+    void readRow_shouldDecodeMultibyteCharacters_whenTheyCrossBufferBoundaries() throws IOException {
+        Path file = write("Олександр,Шевченко,AB-12\n\"Ярослава\",Ґудзь,CD-34\n");
+
+        assertEquals(List.of(List.of("Олександр", "Шевченко", "AB-12"), List.of("Ярослава", "Ґудзь", "CD-34")),
+                readAll(file, 5));
+    }
+
+    @Test
+    void readRow_shouldNoRows_whenFileIsEmpty() throws IOException {
+        Path file = write("");
+
+        assertTrue(readAll(file, 64).isEmpty());
+    }
+
+    @Test
+    void readRow_shouldDataLoadingException_whenQuotedFieldIsNotClosed() throws IOException {
+        Path file = write("AB-12\n\"CD-34\n");
+
+        assertThrows(DataLoadingException.class, () -> readAll(file, 64));
+    }
+
+    @Test
+    void readRow_shouldCharacterCodingException_whenFileIsNotValidUtf8() throws IOException {
+        Path file = directory.resolve("invalid.csv");
+        Files.write(file, new byte[] { 'A', 'B', (byte) 0xC3, ',', 'C' });
+
+        assertThrows(CharacterCodingException.class, () -> readAll(file, 64));
+    }
+
+    @Test
+    void position_shouldSizeOfFile_whenAllRowsAreRead() throws IOException {
+        Path file = write("AB-12\nCD-34\n");
+
+        try (CsvReader reader = new CsvReader(file, 4)) {
+            List<String> fields = new ArrayList<>();
+
+            while (reader.readRow(fields)) {
+                assertTrue(reader.position() <= reader.size());
+            }
+
+            assertEquals(reader.size(), reader.position());
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(directory.resolve("test.csv"), content, StandardCharsets.UTF_8);
+    }
+
+    private List<List<String>> readAll(Path file, int bufferSize) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+
+        try (CsvReader reader = new CsvReader(file, bufferSize)) {
+            List<String> fields = new ArrayList<>();
+
+            while (reader.readRow(fields)) {
+                rows.add(List.copyOf(fields));
+            }
+        }
+
+        return rows;
+    }
+
+}
@@ -0,0 +1,157 @@
+package ua.foxminded.schoolapp.service.load.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import ua.foxminded.schoolapp.TestApplicationConfig;
+import ua.foxminded.schoolapp.service.logic.UserInputValidator;
+import ua.foxminded.schoolapp.service.logic.impl.UserInputValidatorImpl;
+
+@DataJpaTest(includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+        classes = { UserInputValidatorImpl.class }
+))
+@ContextConfiguration(classes = TestApplicationConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url="
+        + "jdbc:tc:postgresql:15.3:///test?currentSchema=school_db&TC_REUSABLE=true&reWriteBatchedInserts=true")
+@Sql(scripts = "/sql/clear_tables.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class JdbcCsvImporterTest {
+
+    @TempDir
+    private Path directory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserInputValidator validator;
+
+    private JdbcCsvImporter csvImporter;
+
+    @BeforeEach
+    void setUp() {
+        csvImporter = new JdbcCsvImporter(dataSource, validator, directory.toString(), 2, 16);
+    }
+
+    @Test
+    void importGroups_shouldWrittenValidNewGroups_whenSomeGroupsAreInvalidOrRepeated() throws IOException {
+        Path file = write("groups.csv", "group_name\nAB-12\nab-12\nCD-34\nAB-12\nEF-567\n");
+
+        long writtenGroups = csvImporter.importGroups(file);
+
+        assertEquals(2, writtenGroups);
+        assertEquals(List.of("AB-12", "CD-34"), jdbcTemplate.queryForList(
+                "SELECT group_name FROM groups ORDER BY group_name", String.class));
+    }
+
+    @Test
+    void importGroups_shouldCountOnlyWrittenGroups_whenBatchesAreRewrittenByDriver() throws IOException {
+        Path file = write("groups.csv", "group_name\nAB-12\nCD-34\nAB-12\nCD-34\nEF-56\n");
+
+        long writtenGroups = csvImporter.importGroups(file);
+
+        assertEquals(3, writtenGroups);
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT count(*) FROM groups", Integer.class));
+    }
+
+    @Test
+    void importCourses_shouldWrittenCoursesWithQuotedDescriptions_whenCourseNamesAreValid() throws IOException {
+        Path file = write("courses.csv", """
+                course_name,course_description
+                Math,"Numbers, shapes and ""proofs\"\"\"
+                CourseNameThatIsFarTooLongToBeValid,Description
+                Art,Drawing
+                """);
+
+        long writtenCourses = csvImporter.importCourses(file);
+
+        assertEquals(2, writtenCourses);
+        assertEquals("Numbers, shapes and \"proofs\"", jdbcTemplate.queryForObject(
+                "SELECT course_description FROM courses WHERE course_name = 'Math'", String.class));
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/groups_test_init.sql" })
+    void importStudents_shouldWrittenStudentsOfExistingGroups_whenSomeRowsAreInvalid() throws IOException {
+        Path file = write("students.csv", """
+                first_name,last_name,group_name
+                John,Smith,FD-74
+                Jane,Doe,KL-91
+                John,Smith,CZ-03
+                Jack,Black,OO-00
+                Jill,Brown
+                FirstNameThatIsFarTooLongToBeValid,White,FD-74
+                """);
+
+        long writtenStudents = csvImporter.importStudents(file);
+
+        assertEquals(2, writtenStudents);
+        assertEquals(List.of("Jane Doe KL-91", "John Smith FD-74"), jdbcTemplate.queryForList("""
+                SELECT s.first_name || ' ' || s.last_name || ' ' || g.group_name FROM students s
+                JOIN groups g ON g.group_id = s.group_id
+                ORDER BY s.first_name""", String.class));
+    }
+
+    @Test
+    @Sql({ "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+            "/sql/students_courses_test_init.sql" })
+    void importEnrollments_shouldWrittenNewEnrollmentsOfExistingStudentsAndCourses_whenSomeRowsAreInvalid()
+            throws IOException {
+        Path file = write("enrollments.csv", """
+                first_name,last_name,course_name
+                FirstName_2,LastName_2,CourseName_2
+                FirstName_1,LastName_1,CourseName_1
+                FirstName_3,LastName_3,CourseName_1
+                Unknown,Student,CourseName_1
+                FirstName_2,LastName_2,Unknown
+                """);
+
+        long writtenEnrollments = csvImporter.importEnrollments(file);
+
+        assertEquals(2, writtenEnrollments);
+        assertEquals(6, jdbcTemplate.queryForObject("SELECT count(*) FROM students_courses", Integer.class));
+    }
+
+    @Test
+    void importSchema_shouldImportedAllFilesInOrder_whenFilesExistInImportDirectory() throws IOException {
+        write("groups.csv", "group_name\nAB-12\n");
+        write("courses.csv", "course_name,course_description\nMath,Numbers\n");
+        write("students.csv", "first_name,last_name,group_name\nJohn,Smith,AB-12\nJane,Doe,AB-12\n");
+        write("enrollments.csv", "first_name,last_name,course_name\nJohn,Smith,Math\nJane,Doe,Math\n");
+
+        long writtenRows = csvImporter.importSchema();
+
+        assertEquals(6, writtenRows);
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT count(*) FROM students_courses", Integer.class));
+    }
+
+    @Test
+    void importSchema_shouldNoRows_whenImportDirectoryHasNoFiles() {
+        long writtenRows = csvImporter.importSchema();
+
+        assertEquals(0, writtenRows);
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        return Files.writeString(directory.resolve(fileName), content);
+    }
+
+}
@@ -0,0 +1,64 @@
+package ua.foxminded.schoolapp.service.load.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+import ua.foxminded.schoolapp.TestApplicationConfig;
+
+@DataJpaTest(includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+        classes = { JdbcEnrollmentLoader.class }
+))
+@ContextConfiguration(classes = TestApplicationConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql(scripts = { "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql" },
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class JdbcEnrollmentLoaderTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JdbcEnrollmentLoader enrollmentLoader;
+
+    @Test
+    void enrollStudents_shouldEnrolledEveryStudentInOneToThreeDistinctExistingCourses_whenStudentsAndCoursesExist() {
+        long enrollments = enrollmentLoader.enrollStudents();
+
+        List<Map<String, Object>> coursesPerStudent = jdbcTemplate.queryForList("""
+                SELECT s.student_id, count(sc.course_id) AS courses, count(DISTINCT sc.course_id) AS distinct_courses
+                FROM students s
+                LEFT JOIN students_courses sc ON sc.student_id = s.student_id
+                GROUP BY s.student_id""");
+        Integer enrollmentsWithUnknownCourse = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM students_courses sc
+                WHERE NOT EXISTS (SELECT 1 FROM courses c WHERE c.course_id = sc.course_id)""", Integer.class);
+        Integer enrollmentsCount = jdbcTemplate.queryForObject("SELECT count(*) FROM students_courses",
+                Integer.class);
+        assertEquals(enrollmentsCount.longValue(), enrollments);
+        assertEquals(0, enrollmentsWithUnknownCourse);
+
+        for (Map<String, Object> studentCourses : coursesPerStudent) {
+            long courses = ((Number) studentCourses.get("courses")).longValue();
+            assertTrue(courses >= 1 && courses <= 3);
+            assertEquals(courses, ((Number) studentCourses.get("distinct_courses")).longValue());
+        }
+    }
+
+    @Test
+    @Sql(scripts = "/sql/clear_tables.sql")
+    void enrollStudents_shouldNotEnrolledAnyStudent_whenThereAreNoCourses() {
+        long enrollments = enrollmentLoader.enrollStudents();
+
+        assertEquals(0, enrollments);
+    }
+
+}
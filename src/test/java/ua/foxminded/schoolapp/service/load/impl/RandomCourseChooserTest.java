@@ -0,0 +1,53 @@
+package ua.foxminded.schoolapp.service.load.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class RandomCourseChooserTest {
+
+    private final int[] courseIds = { 11, 12, 13, 14, 15, 16, 17, 18, 19, 20 };
+
+    @Test
+    void chooseCourses_shouldOneToThreeDistinctGivenCourses_whenThereAreEnoughCourses() {
+        RandomCourseChooser courseChooser = new RandomCourseChooser(courseIds, new SplittableRandom(42));
+        int[] studentCourses = new int[RandomCourseChooser.MAX_COURSES_PER_STUDENT];
+
+        for (int student = 0; student < 10_000; student++) {
+            int coursesNumber = courseChooser.chooseCourses(studentCourses);
+            int[] chosenCourses = Arrays.copyOf(studentCourses, coursesNumber);
+
+            assertTrue(coursesNumber >= 1 && coursesNumber <= 3);
+            assertEquals(coursesNumber, Arrays.stream(chosenCourses).distinct().count());
+            assertTrue(Arrays.stream(chosenCourses).allMatch(courseId -> courseId >= 11 && courseId <= 20));
+        }
+    }
+
+    @Test
+    void chooseCourses_shouldNoMoreCoursesThanExist_whenThereAreFewerCoursesThanMaximum() {
+        RandomCourseChooser courseChooser = new RandomCourseChooser(new int[] { 7 }, new SplittableRandom(42));
+        int[] studentCourses = new int[RandomCourseChooser.MAX_COURSES_PER_STUDENT];
+
+        for (int student = 0; student < 100; student++) {
+            assertEquals(1, courseChooser.chooseCourses(studentCourses));
+            assertEquals(7, studentCourses[0]);
+        }
+    }
+
+    @Test
+    void chooseCourses_shouldSameCourses_whenRandomsHaveSameSeed() {
+        RandomCourseChooser firstChooser = new RandomCourseChooser(courseIds, new SplittableRandom(7));
+        RandomCourseChooser secondChooser = new RandomCourseChooser(courseIds, new SplittableRandom(7));
+        int[] firstCourses = new int[RandomCourseChooser.MAX_COURSES_PER_STUDENT];
+        int[] secondCourses = new int[RandomCourseChooser.MAX_COURSES_PER_STUDENT];
+
+        for (int student = 0; student < 1_000; student++) {
+            int coursesNumber = firstChooser.chooseCourses(firstCourses);
+
+            assertEquals(coursesNumber, secondChooser.chooseCourses(secondCourses));
+            assertArrayEquals(Arrays.copyOf(firstCourses, coursesNumber), Arrays.copyOf(secondCourses, coursesNumber));
+        }
+    }
+
+}
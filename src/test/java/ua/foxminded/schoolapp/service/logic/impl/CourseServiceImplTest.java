@@ -2,6 +2,8 @@ package ua.foxminded.schoolapp.service.logic.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -13,7 +15,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.EntityManager;
 import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.CourseSummary;
 import ua.foxminded.schoolapp.dto.mapper.CourseMapper;
 import ua.foxminded.schoolapp.model.Course;
 import ua.foxminded.schoolapp.repository.CourseRepository;
@@ -28,6 +33,9 @@ class CourseServiceImplTest {
     @MockBean
     private CourseRepository courseRepositoryMock;
 
+    @MockBean
+    private EntityManager entityManagerMock;
+
     @Autowired
     private CourseServiceImpl courseService;
 
@@ -37,23 +45,23 @@ class CourseServiceImplTest {
         generatedCourses.add(new CourseDto());
         generatedCourses.add(new CourseDto());
         generatedCourses.add(new CourseDto());
-        when(coursesGeneratorMock.toGenerate()).thenReturn(generatedCourses);
+        when(coursesGeneratorMock.toGenerateStream()).thenReturn(generatedCourses.stream());
 
         courseService.initCourses();
 
-        verify(coursesGeneratorMock, times(1)).toGenerate();
-        verify(courseRepositoryMock, times(3)).save(any(Course.class));
+        verify(coursesGeneratorMock, times(1)).toGenerateStream();
+        verify(courseRepositoryMock, times(1)).saveAll(argThat((List<Course> courses) -> courses.size() == 3));
     }
 
     @Test
     void initCourses_shouldNotSaveAnyCourse_whenCoursesGeneratorReturnsEmptyCoursesList() {
         List<CourseDto> generatedCourses = new ArrayList<>();
-        when(coursesGeneratorMock.toGenerate()).thenReturn(generatedCourses);
+        when(coursesGeneratorMock.toGenerateStream()).thenReturn(generatedCourses.stream());
 
         courseService.initCourses();
 
-        verify(coursesGeneratorMock, times(1)).toGenerate();
-        verify(courseRepositoryMock, never()).save(any(Course.class));
+        verify(coursesGeneratorMock, times(1)).toGenerateStream();
+        verify(courseRepositoryMock, never()).saveAll(anyList());
     }
 
     @Test
@@ -67,11 +75,11 @@ class CourseServiceImplTest {
     void addCourse_shouldAddedNewCourseAndReturnedCourseOptional_whenCourseRepositorySuccessfulSaveNewCourse() {
         CourseDto courseDto = new CourseDto("CourseName", "Description");
         Course expectedCourse = CourseMapper.mapDtoToCourse(courseDto);
-        when(courseRepositoryMock.save(expectedCourse)).thenReturn(expectedCourse);
+        when(courseRepositoryMock.saveAndFlush(expectedCourse)).thenReturn(expectedCourse);
 
         Optional<Course> actualCourse = courseService.addCourse(courseDto);
 
-        verify(courseRepositoryMock, times(1)).save(expectedCourse);
+        verify(courseRepositoryMock, times(1)).saveAndFlush(expectedCourse);
         assertTrue(actualCourse.isPresent());
         assertEquals(expectedCourse, actualCourse.get());
     }
@@ -163,40 +171,91 @@ class CourseServiceImplTest {
     }
 
     @Test
-    void updateCourse_shouldReturnedUpdatedCourseOptioanal_whenCourseRepositorySuccessfulUpdateCourse() {
-        Course updatedCourse = new Course("CourseName", "Description");
-        updatedCourse.setId(1);
-        when(courseRepositoryMock.save(updatedCourse)).thenReturn(updatedCourse);
+    void getAllCourseSummaries_shouldCoursesSummariesList_whenCourseRepositoryFoundCoursesSummaries() {
+        List<CourseSummary> expectedCourses = List.of(new CourseSummary(1, "Mathematics", "Mathematics course"),
+                new CourseSummary(2, "Biology", "Biology course"));
+        when(courseRepositoryMock.findAllSummaries()).thenReturn(expectedCourses);
 
-        Optional<Course> actualCourse = courseService.updateCourse(updatedCourse);
+        List<CourseSummary> actualCourses = courseService.getAllCourseSummaries();
 
-        verify(courseRepositoryMock, times(1)).save(updatedCourse);
-        assertTrue(actualCourse.isPresent());
-        assertEquals(updatedCourse, actualCourse.get());
+        verify(courseRepositoryMock, times(1)).findAllSummaries();
+        verify(courseRepositoryMock, never()).findAll();
+        assertEquals(expectedCourses, actualCourses);
+    }
+
+    @Test
+    void getCourseSummariesAfter_shouldSummariesFromFirstCourse_whenCourseIdIsNull() {
+        List<CourseSummary> expectedCourses = List.of(new CourseSummary(1, "Mathematics", "Mathematics course"));
+        when(courseRepositoryMock.findSummariesByIdGreaterThan(0, Limit.of(21))).thenReturn(expectedCourses);
+
+        List<CourseSummary> actualCourses = courseService.getCourseSummariesAfter(null, 21);
+
+        verify(courseRepositoryMock, never()).findAllSummaries();
+        assertEquals(expectedCourses, actualCourses);
+    }
+
+    @Test
+    void getCourseSummariesBefore_shouldSummariesInAscendingOrderOfIds_whenCourseRepositoryReturnsDescendingOrder() {
+        CourseSummary firstCourse = new CourseSummary(1, "Mathematics", "Mathematics course");
+        CourseSummary secondCourse = new CourseSummary(2, "Biology", "Biology course");
+        when(courseRepositoryMock.findSummariesByIdLessThan(3, Limit.of(2)))
+                .thenReturn(List.of(secondCourse, firstCourse));
+
+        List<CourseSummary> actualCourses = courseService.getCourseSummariesBefore(3, 2);
+
+        assertEquals(List.of(firstCourse, secondCourse), actualCourses);
+    }
+
+    @Test
+    void updateCourse_shouldTrue_whenCourseRepositoryUpdatedCourse() {
+        when(courseRepositoryMock.updateByCourseName("CourseName", "NewCourseName", "NewDescription")).thenReturn(1);
+
+        boolean courseIsUpdated = courseService.updateCourse("CourseName", "NewCourseName", "NewDescription");
+
+        assertTrue(courseIsUpdated);
+        verify(courseRepositoryMock, never()).save(any(Course.class));
+    }
+
+    @Test
+    void updateCourse_shouldFalse_whenNoCourseWithGivenName() {
+        when(courseRepositoryMock.updateByCourseName("NotExistent", "NewCourseName", "NewDescription")).thenReturn(0);
+
+        assertFalse(courseService.updateCourse("NotExistent", "NewCourseName", "NewDescription"));
     }
 
     @Test
     void deleteCourseByName_shouldDeletedCourse_whenCourseWithGivenNameIsExist() {
-        Integer courseId = 1;
         String courseName = "CourseName";
-        String description = "Description";
-        Course courseToDelete = new Course(courseName, description);
-        courseToDelete.setId(courseId);
-        when(courseService.getCourseByName(courseName)).thenReturn(Optional.of(courseToDelete));
+        when(courseRepositoryMock.deleteByCourseName(courseName)).thenReturn(1);
 
-        courseService.deleteCourseByName(courseName);
+        boolean courseIsDeleted = courseService.deleteCourseByName(courseName);
 
-        verify(courseRepositoryMock, times(1)).delete(courseToDelete);
+        assertTrue(courseIsDeleted);
+        verify(courseRepositoryMock, never()).findByCourseName(courseName);
+        verify(courseRepositoryMock, never()).delete(any(Course.class));
     }
 
     @Test
     void deleteCourseByName_shouldNothingDeleted_whenNoCourseWithGivenName() {
         String courseName = "NotExistent";
-        when(courseService.getCourseByName(courseName)).thenReturn(Optional.empty());
+        when(courseRepositoryMock.deleteByCourseName(courseName)).thenReturn(0);
 
-        courseService.deleteCourseByName(courseName);
+        assertFalse(courseService.deleteCourseByName(courseName));
+    }
 
-        verify(courseRepositoryMock, never()).delete(any(Course.class));
+    @Test
+    void hasCourses_shouldTrue_whenCourseRepositoryFindsAnyCourse() {
+        when(courseRepositoryMock.existsAnyCourse()).thenReturn(true);
+
+        assertTrue(courseService.hasCourses());
+        verify(courseRepositoryMock, never()).findAll();
+    }
+
+    @Test
+    void hasCourses_shouldFalse_whenCourseRepositoryFindsNoCourses() {
+        when(courseRepositoryMock.existsAnyCourse()).thenReturn(false);
+
+        assertFalse(courseService.hasCourses());
     }
 
 }
@@ -2,6 +2,9 @@ package ua.foxminded.schoolapp.service.logic.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -13,10 +16,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.EntityManager;
 import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.GroupStudentsCount;
+import ua.foxminded.schoolapp.dto.GroupSummary;
 import ua.foxminded.schoolapp.dto.mapper.GroupMapper;
 import ua.foxminded.schoolapp.model.Group;
-import ua.foxminded.schoolapp.model.Student;
 import ua.foxminded.schoolapp.repository.GroupRepository;
 import ua.foxminded.schoolapp.service.generate.Generatable;
 
@@ -29,6 +35,9 @@ class GroupServiceImplTest {
     @MockBean
     private GroupRepository groupRepositoryMock;
 
+    @MockBean
+    private EntityManager entityManagerMock;
+
     @Autowired
     private GroupServiceImpl groupService;
 
@@ -38,23 +47,23 @@ class GroupServiceImplTest {
         generatedGroups.add(new GroupDto());
         generatedGroups.add(new GroupDto());
         generatedGroups.add(new GroupDto());
-        when(groupsGeneratorMock.toGenerate()).thenReturn(generatedGroups);
+        when(groupsGeneratorMock.toGenerateStream()).thenReturn(generatedGroups.stream());
 
         groupService.initGroups();
 
-        verify(groupsGeneratorMock, times(1)).toGenerate();
-        verify(groupRepositoryMock, times(3)).save(any(Group.class));
+        verify(groupsGeneratorMock, times(1)).toGenerateStream();
+        verify(groupRepositoryMock, times(1)).saveAll(argThat((List<Group> groups) -> groups.size() == 3));
     }
 
     @Test
     void initGroups_shouldNotSaveAnyGroup_whenGroupsGeneratorReturnsEmptyGroupsList() {
         List<GroupDto> generatedGroups = new ArrayList<>();
-        when(groupsGeneratorMock.toGenerate()).thenReturn(generatedGroups);
+        when(groupsGeneratorMock.toGenerateStream()).thenReturn(generatedGroups.stream());
 
         groupService.initGroups();
 
-        verify(groupsGeneratorMock, times(1)).toGenerate();
-        verify(groupRepositoryMock, never()).save(any(Group.class));
+        verify(groupsGeneratorMock, times(1)).toGenerateStream();
+        verify(groupRepositoryMock, never()).saveAll(anyList());
     }
 
     @Test
@@ -69,11 +78,11 @@ class GroupServiceImplTest {
         String newGroupName = "LK-33";
         GroupDto newGroupDto = new GroupDto(newGroupName);
         Group newGroup = GroupMapper.mapDtoToGroup(newGroupDto);
-        when(groupRepositoryMock.save(newGroup)).thenReturn(newGroup);
+        when(groupRepositoryMock.saveAndFlush(newGroup)).thenReturn(newGroup);
 
         Optional<Group> newReturnedGroup = groupService.addGroup(newGroupDto);
 
-        verify(groupRepositoryMock, times(1)).save(newGroup);
+        verify(groupRepositoryMock, times(1)).saveAndFlush(newGroup);
         assertTrue(newReturnedGroup.isPresent());
         assertEquals(newGroup, newReturnedGroup.get());
     }
@@ -137,131 +146,101 @@ class GroupServiceImplTest {
     }
 
     @Test
-    void updateGroup_shouldReturnedUpdatedGroup_whenGroupRepositoryReturnUpdatedGroup() {
-        Group uapdatedGroup = new Group("AS-84");
-        uapdatedGroup.setId(1);
-        when(groupRepositoryMock.save(uapdatedGroup)).thenReturn(uapdatedGroup);
+    void getAllGroupSummaries_shouldGroupsSummariesList_whenGroupRepositoryReturnsGroupsSummaries() {
+        List<GroupSummary> expectedGroups = List.of(new GroupSummary(1, "GH-23"), new GroupSummary(2, "KL-91"));
+        when(groupRepositoryMock.findAllSummaries()).thenReturn(expectedGroups);
 
-        Optional<Group> actualUpdatedGroup = groupService.updateGroup(uapdatedGroup);
+        List<GroupSummary> actualGroups = groupService.getAllGroupSummaries();
 
-        verify(groupRepositoryMock, times(1)).save(uapdatedGroup);
-        assertTrue(actualUpdatedGroup.isPresent());
-        assertEquals(uapdatedGroup, actualUpdatedGroup.get());
+        verify(groupRepositoryMock, times(1)).findAllSummaries();
+        verify(groupRepositoryMock, never()).findAll();
+        assertEquals(expectedGroups, actualGroups);
     }
 
     @Test
-    void deleteGroupByName_shouldDeletedGroup_whenGroupWithGivenNameIsExist() {
-        Integer groupId = 1;
-        String groupName = "AS-84";
-        Group groupToDelete = new Group(groupName);
-        groupToDelete.setId(groupId);
-        when(groupService.getGroupByName(groupName)).thenReturn(Optional.of(groupToDelete));
+    void getGroupSummariesAfter_shouldSummariesFromFirstGroup_whenGroupIdIsNull() {
+        List<GroupSummary> expectedGroups = List.of(new GroupSummary(1, "GH-23"));
+        when(groupRepositoryMock.findSummariesByIdGreaterThan(0, Limit.of(21))).thenReturn(expectedGroups);
 
-        groupService.deleteGroupByName(groupName);
+        List<GroupSummary> actualGroups = groupService.getGroupSummariesAfter(null, 21);
 
-        verify(groupRepositoryMock, times(1)).delete(groupToDelete);
+        verify(groupRepositoryMock, never()).findAllSummaries();
+        assertEquals(expectedGroups, actualGroups);
     }
 
     @Test
-    void deleteGroupByName_shouldNothingDeleted_whenNoGroupWithGivenName() {
-        String groupName = null;
-        when(groupService.getGroupByName(groupName)).thenReturn(Optional.empty());
+    void getGroupSummariesBefore_shouldSummariesInAscendingOrderOfIds_whenGroupRepositoryReturnsDescendingOrder() {
+        GroupSummary firstGroup = new GroupSummary(1, "GH-23");
+        GroupSummary secondGroup = new GroupSummary(2, "KL-91");
+        when(groupRepositoryMock.findSummariesByIdLessThan(3, Limit.of(2)))
+                .thenReturn(List.of(secondGroup, firstGroup));
 
-        groupService.deleteGroupByName(groupName);
+        List<GroupSummary> actualGroups = groupService.getGroupSummariesBefore(3, 2);
 
-        verify(groupRepositoryMock, never()).delete(any(Group.class));
+        assertEquals(List.of(firstGroup, secondGroup), actualGroups);
     }
 
     @Test
-    void getGroupsWithGivenNumberOfStudents_shouldGroupsListInWhichNumberOfStudentsLessThanAndEqualToGivenNumber_whenGroupsWithGivenNumberOfStudentsAreExist() {
-        Integer numberOfStudents = 2;
-        Group firstGroup = new Group("GD-43");
-        firstGroup.addStudent(new Student("FirstName_1", "LastName_1", firstGroup));
-        firstGroup.addStudent(new Student("FirstName_2", "LastName_2", firstGroup));
-        Group secondGroup = new Group("JF-96");
-        secondGroup.addStudent(new Student("FirstName_3", "LastName_3", secondGroup));
-        secondGroup.addStudent(new Student("FirstName_4", "LastName_4", secondGroup));
-        secondGroup.addStudent(new Student("FirstName_5", "LastName_5", secondGroup));
-        Group thirdGroup = new Group("BV-83");
-        List<Group> allGroups = new ArrayList<Group>();
-        allGroups.add(firstGroup);
-        allGroups.add(secondGroup);
-        allGroups.add(thirdGroup);
-        when(groupRepositoryMock.findAll()).thenReturn(allGroups);
-
-        List<Group> groupsThatHaveGivenNumberOfStudents = groupService
-                .getGroupsWithGivenNumberOfStudents(numberOfStudents);
+    void updateGroup_shouldTrue_whenGroupRepositoryRenamedGroup() {
+        when(groupRepositoryMock.updateGroupName("AS-84", "AS-85")).thenReturn(1);
+
+        boolean groupIsUpdated = groupService.updateGroup("AS-84", "AS-85");
 
-        assertTrue(groupsThatHaveGivenNumberOfStudents.contains(firstGroup));
-        assertTrue(groupsThatHaveGivenNumberOfStudents.contains(thirdGroup));
+        assertTrue(groupIsUpdated);
+        verify(groupRepositoryMock, never()).save(any(Group.class));
     }
 
     @Test
-    void getGroupsWithGivenNumberOfStudents_shouldGroupsListInWhichNumberOfStudentsLessThanAndEqualToGivenNumber_whenGivenNumberMuchLargerThanNumberOfStudentsInGroups() {
-        Integer numberOfStudents = 200;
-        Group firstGroup = new Group("GD-43");
-        firstGroup.addStudent(new Student("FirstName_1", "LastName_1", firstGroup));
-        firstGroup.addStudent(new Student("FirstName_2", "LastName_2", firstGroup));
-        Group secondGroup = new Group("JF-96");
-        secondGroup.addStudent(new Student("FirstName_3", "LastName_3", secondGroup));
-        secondGroup.addStudent(new Student("FirstName_4", "LastName_4", secondGroup));
-        secondGroup.addStudent(new Student("FirstName_5", "LastName_5", secondGroup));
-        Group thirdGroup = new Group("BV-83");
-        List<Group> allGroups = new ArrayList<Group>();
-        allGroups.add(firstGroup);
-        allGroups.add(secondGroup);
-        allGroups.add(thirdGroup);
-        when(groupRepositoryMock.findAll()).thenReturn(allGroups);
-
-        List<Group> groupsThatHaveGivenNumberOfStudents = groupService
-                .getGroupsWithGivenNumberOfStudents(numberOfStudents);
+    void updateGroup_shouldFalse_whenNoGroupWithGivenName() {
+        when(groupRepositoryMock.updateGroupName("NotExistent", "AS-85")).thenReturn(0);
 
-        assertTrue(groupsThatHaveGivenNumberOfStudents.contains(firstGroup));
-        assertTrue(groupsThatHaveGivenNumberOfStudents.contains(secondGroup));
-        assertTrue(groupsThatHaveGivenNumberOfStudents.contains(thirdGroup));
+        assertFalse(groupService.updateGroup("NotExistent", "AS-85"));
     }
 
     @Test
-    void getGroupsWithGivenNumberOfStudents_shouldGroupWhichNotHaveStudents_whenGivenNumberIsZero() {
-        Integer numberOfStudents = 0;
-        Group firstGroup = new Group("GD-43");
-        firstGroup.addStudent(new Student("FirstName_1", "LastName_1", firstGroup));
-        firstGroup.addStudent(new Student("FirstName_2", "LastName_2", firstGroup));
-        Group secondGroup = new Group("JF-96");
-        secondGroup.addStudent(new Student("FirstName_3", "LastName_3", secondGroup));
-        secondGroup.addStudent(new Student("FirstName_4", "LastName_4", secondGroup));
-        secondGroup.addStudent(new Student("FirstName_5", "LastName_5", secondGroup));
-        Group thirdGroup = new Group("BV-83");
-        List<Group> allGroups = new ArrayList<Group>();
-        allGroups.add(firstGroup);
-        allGroups.add(secondGroup);
-        allGroups.add(thirdGroup);
-        when(groupRepositoryMock.findAll()).thenReturn(allGroups);
-
-        List<Group> groupsThatHaveGivenNumberOfStudents = groupService
+    void deleteGroupByName_shouldDeletedGroup_whenGroupWithGivenNameIsExist() {
+        String groupName = "AS-84";
+        when(groupRepositoryMock.deleteByGroupName(groupName)).thenReturn(1);
+
+        boolean groupIsDeleted = groupService.deleteGroupByName(groupName);
+
+        assertTrue(groupIsDeleted);
+        verify(groupRepositoryMock, never()).findByGroupName(groupName);
+        verify(groupRepositoryMock, never()).delete(any(Group.class));
+    }
+
+    @Test
+    void deleteGroupByName_shouldNothingDeleted_whenNoGroupWithGivenName() {
+        String groupName = null;
+        when(groupRepositoryMock.deleteByGroupName(groupName)).thenReturn(0);
+
+        boolean groupIsDeleted = groupService.deleteGroupByName(groupName);
+
+        assertFalse(groupIsDeleted);
+    }
+
+    @Test
+    void getGroupsWithGivenNumberOfStudents_shouldGroupsWithTheirNumberOfStudents_whenGroupRepositoryFindsGroups() {
+        Integer numberOfStudents = 2;
+        List<GroupStudentsCount> expectedGroups = List.of(new GroupStudentsCount(3, "BV-83", 0),
+                new GroupStudentsCount(1, "GD-43", 2));
+        when(groupRepositoryMock.findGroupsWithStudentsCountAtMost(numberOfStudents)).thenReturn(expectedGroups);
+
+        List<GroupStudentsCount> groupsThatHaveGivenNumberOfStudents = groupService
                 .getGroupsWithGivenNumberOfStudents(numberOfStudents);
 
-        assertTrue(groupsThatHaveGivenNumberOfStudents.contains(thirdGroup));
+        verify(groupRepositoryMock, times(1)).findGroupsWithStudentsCountAtMost(numberOfStudents);
+        verify(groupRepositoryMock, never()).findAll();
+        assertEquals(expectedGroups, groupsThatHaveGivenNumberOfStudents);
     }
 
     @Test
-    void getGroupsWithGivenNumberOfStudents_shouldEmptyGroupsList_whenGivenNumberLessThanZero() {
-        Integer numberOfStudents = -2;
-        Group firstGroup = new Group("GD-43");
-        firstGroup.addStudent(new Student("FirstName_1", "LastName_1", firstGroup));
-        firstGroup.addStudent(new Student("FirstName_2", "LastName_2", firstGroup));
-        Group secondGroup = new Group("JF-96");
-        secondGroup.addStudent(new Student("FirstName_3", "LastName_3", secondGroup));
-        secondGroup.addStudent(new Student("FirstName_4", "LastName_4", secondGroup));
-        secondGroup.addStudent(new Student("FirstName_5", "LastName_5", secondGroup));
-        Group thirdGroup = new Group("BV-83");
-        List<Group> allGroups = new ArrayList<Group>();
-        allGroups.add(firstGroup);
-        allGroups.add(secondGroup);
-        allGroups.add(thirdGroup);
-        when(groupRepositoryMock.findAll()).thenReturn(allGroups);
-
-        List<Group> groupsThatHaveGivenNumberOfStudents = groupService
+    void getGroupsWithGivenNumberOfStudents_shouldEmptyList_whenGroupRepositoryFindsNoGroups() {
+        Integer numberOfStudents = 0;
+        when(groupRepositoryMock.findGroupsWithStudentsCountAtMost(numberOfStudents))
+                .thenReturn(new ArrayList<GroupStudentsCount>());
+
+        List<GroupStudentsCount> groupsThatHaveGivenNumberOfStudents = groupService
                 .getGroupsWithGivenNumberOfStudents(numberOfStudents);
 
         assertTrue(groupsThatHaveGivenNumberOfStudents.isEmpty());
@@ -270,22 +249,25 @@ class GroupServiceImplTest {
     @Test
     void getGroupsWithGivenNumberOfStudents_shouldNullPointerException_whenGivenNumberIsNull() {
         Integer numberOfStudents = null;
-        Group firstGroup = new Group("GD-43");
-        firstGroup.addStudent(new Student("FirstName_1", "LastName_1", firstGroup));
-        firstGroup.addStudent(new Student("FirstName_2", "LastName_2", firstGroup));
-        Group secondGroup = new Group("JF-96");
-        secondGroup.addStudent(new Student("FirstName_3", "LastName_3", secondGroup));
-        secondGroup.addStudent(new Student("FirstName_4", "LastName_4", secondGroup));
-        secondGroup.addStudent(new Student("FirstName_5", "LastName_5", secondGroup));
-        Group thirdGroup = new Group("BV-83");
-        List<Group> allGroups = new ArrayList<Group>();
-        allGroups.add(firstGroup);
-        allGroups.add(secondGroup);
-        allGroups.add(thirdGroup);
-        when(groupRepositoryMock.findAll()).thenReturn(allGroups);
 
         assertThrows(NullPointerException.class,
                 () -> groupService.getGroupsWithGivenNumberOfStudents(numberOfStudents));
+        verify(groupRepositoryMock, never()).findGroupsWithStudentsCountAtMost(anyLong());
+    }
+
+    @Test
+    void hasGroups_shouldTrue_whenGroupRepositoryFindsAnyGroup() {
+        when(groupRepositoryMock.existsAnyGroup()).thenReturn(true);
+
+        assertTrue(groupService.hasGroups());
+        verify(groupRepositoryMock, never()).findAll();
+    }
+
+    @Test
+    void hasGroups_shouldFalse_whenGroupRepositoryFindsNoGroups() {
+        when(groupRepositoryMock.existsAnyGroup()).thenReturn(false);
+
+        assertFalse(groupService.hasGroups());
     }
 
 }
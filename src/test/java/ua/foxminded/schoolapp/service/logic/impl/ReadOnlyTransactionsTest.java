@@ -0,0 +1,91 @@
+package ua.foxminded.schoolapp.service.logic.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.persistence.EntityManagerFactory;
+import ua.foxminded.schoolapp.TestApplicationConfig;
+import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.repository.StudentRepository;
+import ua.foxminded.schoolapp.service.generate.Generatable;
+import ua.foxminded.schoolapp.service.logic.StudentService;
+import ua.foxminded.schoolapp.service.logic.UserInputValidator;
+
+@DataJpaTest(includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+        classes = { StudentServiceImpl.class, UserInputValidatorImpl.class }
+), properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ContextConfiguration(classes = TestApplicationConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql(
+        scripts = { "/sql/clear_tables.sql", "/sql/students_test_init.sql", "/sql/courses_test_init.sql",
+                "/sql/students_courses_test_init.sql" },
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD
+)
+class ReadOnlyTransactionsTest {
+
+    @MockBean
+    private Generatable<StudentDto> studentsGeneratorMock;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private UserInputValidator validator;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllStudentsWithCourses_shouldNotFlushed_whenStudentsWithCoursesLoaded() {
+        assertEquals(3, studentService.getAllStudentsWithCourses().size());
+        assertTrue(studentService.getStudentById(1).isPresent());
+
+        assertTrue(statistics.getEntityLoadCount() > 0);
+        assertEquals(0, statistics.getFlushCount());
+    }
+
+    @Test
+    void isStudentOnCourse_shouldNotFlushed_whenStudentAndCourseLoadedForValidation() {
+        assertTrue(validator.validateStudentFullName("FirstName_1", "LastName_1"));
+        assertTrue(validator.isStudentOnCourse("FirstName_1", "LastName_1", "CourseName_1"));
+
+        assertEquals(0, statistics.getFlushCount());
+    }
+
+    @Test
+    void findAll_shouldFlushedOnCommit_whenStudentsLoadedInReadWriteTransaction() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> studentRepository.findAll());
+
+        assertEquals(1, statistics.getFlushCount());
+    }
+
+}
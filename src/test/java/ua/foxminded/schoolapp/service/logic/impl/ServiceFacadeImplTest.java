@@ -1,32 +1,45 @@
 package ua.foxminded.schoolapp.service.logic.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.mockito.ArgumentMatchers.anyInt;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import ua.foxminded.schoolapp.dto.CourseDto;
+import ua.foxminded.schoolapp.dto.CourseSummary;
+import ua.foxminded.schoolapp.dto.Enrollment;
+import ua.foxminded.schoolapp.dto.EnrollmentRequest;
+import ua.foxminded.schoolapp.dto.EnrollmentValidation;
 import ua.foxminded.schoolapp.dto.GroupDto;
+import ua.foxminded.schoolapp.dto.GroupStudentsCount;
+import ua.foxminded.schoolapp.dto.GroupSummary;
+import ua.foxminded.schoolapp.dto.KeysetPage;
+import ua.foxminded.schoolapp.dto.KeysetPageRequest;
+import ua.foxminded.schoolapp.dto.StudentCoursesSummary;
 import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.dto.StudentName;
+import ua.foxminded.schoolapp.dto.StudentRequest;
+import ua.foxminded.schoolapp.dto.StudentSummary;
+import ua.foxminded.schoolapp.dto.StudentValidation;
 import ua.foxminded.schoolapp.dto.mapper.CourseMapper;
 import ua.foxminded.schoolapp.dto.mapper.GroupMapper;
 import ua.foxminded.schoolapp.dto.mapper.StudentMapper;
 import ua.foxminded.schoolapp.model.Course;
 import ua.foxminded.schoolapp.model.Group;
 import ua.foxminded.schoolapp.model.Student;
+import ua.foxminded.schoolapp.service.load.BulkLoader;
+import ua.foxminded.schoolapp.service.load.CsvImporter;
+import ua.foxminded.schoolapp.service.load.EnrollmentLoader;
 import ua.foxminded.schoolapp.service.logic.CourseService;
 import ua.foxminded.schoolapp.service.logic.GroupService;
 import ua.foxminded.schoolapp.service.logic.StudentService;
@@ -47,27 +60,38 @@ class ServiceFacadeImplTest {
     @MockBean
     private UserInputValidator validatorMock;
 
+    @MockBean
+    private BulkLoader bulkLoaderMock;
+
+    @MockBean
+    private EnrollmentLoader enrollmentLoaderMock;
+
+    @MockBean
+    private CsvImporter csvImporterMock;
+
     @Autowired
     private ServiceFacadeImpl serviceFacade;
 
     @Test
     void initSchema_shouldInitializedGroupsStudentsCoursesTables_whenTheyWereAllEmptyBeforeThat() {
-        when(groupServiceMock.getAllGroups()).thenReturn(new ArrayList<Group>());
-        when(studentServiceMock.getAllStudents()).thenReturn(new ArrayList<Student>());
-        when(courseServiceMock.getAllCourses()).thenReturn(new ArrayList<Course>());
+        when(groupServiceMock.hasGroups()).thenReturn(false);
+        when(studentServiceMock.hasStudents()).thenReturn(false);
+        when(courseServiceMock.hasCourses()).thenReturn(false);
 
         serviceFacade.initSchema();
 
         verify(groupServiceMock, times(1)).initGroups();
         verify(studentServiceMock, times(1)).initStudents(new ArrayList<Group>());
         verify(courseServiceMock, times(1)).initCourses();
+        verify(enrollmentLoaderMock, times(1)).enrollStudents();
+        verify(bulkLoaderMock, never()).loadSchema();
     }
 
     @Test
     void initSchema_shouldNotInitializedGroupsStudentsCoursesTables_whenGroupsTableNotEmpty() {
-        when(groupServiceMock.getAllGroups()).thenReturn(Collections.singletonList(new Group()));
-        when(studentServiceMock.getAllStudents()).thenReturn(new ArrayList<Student>());
-        when(courseServiceMock.getAllCourses()).thenReturn(new ArrayList<Course>());
+        when(groupServiceMock.hasGroups()).thenReturn(true);
+        when(studentServiceMock.hasStudents()).thenReturn(false);
+        when(courseServiceMock.hasCourses()).thenReturn(false);
 
         serviceFacade.initSchema();
 
@@ -78,9 +102,9 @@ class ServiceFacadeImplTest {
 
     @Test
     void initSchema_shouldNotInitializedGroupsStudentsCoursesTables_whenStudentsTableNotEmpty() {
-        when(groupServiceMock.getAllGroups()).thenReturn(new ArrayList<Group>());
-        when(studentServiceMock.getAllStudents()).thenReturn(Collections.singletonList(new Student()));
-        when(courseServiceMock.getAllCourses()).thenReturn(new ArrayList<Course>());
+        when(groupServiceMock.hasGroups()).thenReturn(false);
+        when(studentServiceMock.hasStudents()).thenReturn(true);
+        when(courseServiceMock.hasCourses()).thenReturn(false);
 
         serviceFacade.initSchema();
 
@@ -91,9 +115,9 @@ class ServiceFacadeImplTest {
 
     @Test
     void initSchema_shouldNotInitializedGroupsStudentsCoursesTables_whenCoursesTableNotEmpty() {
-        when(groupServiceMock.getAllGroups()).thenReturn(new ArrayList<Group>());
-        when(studentServiceMock.getAllStudents()).thenReturn(new ArrayList<Student>());
-        when(courseServiceMock.getAllCourses()).thenReturn(Collections.singletonList(new Course()));
+        when(groupServiceMock.hasGroups()).thenReturn(false);
+        when(studentServiceMock.hasStudents()).thenReturn(false);
+        when(courseServiceMock.hasCourses()).thenReturn(true);
 
         serviceFacade.initSchema();
 
@@ -106,8 +130,8 @@ class ServiceFacadeImplTest {
     void addNewGroup_shouldAddedNewGroup_whenNoGroupWithGivenNewNameAndGroupNameMatchesPattern() {
         String groupName = "FL-23";
         GroupDto newGroup = new GroupDto(groupName);
-        when(validatorMock.validateGroupNameExistence(groupName)).thenReturn(false);
         when(validatorMock.validateGroupNamePattern(groupName)).thenReturn(true);
+        when(groupServiceMock.addGroup(newGroup)).thenReturn(Optional.of(new Group(groupName)));
 
         boolean expectedResult = serviceFacade.addNewGroup(groupName);
 
@@ -119,12 +143,12 @@ class ServiceFacadeImplTest {
     void addNewGroup_shouldNotAddedNewGroup_whenGroupWithGivenNewNameAlreadyExistAndGroupNameMatchesPattern() {
         String groupName = "FL-23";
         GroupDto newGroup = new GroupDto(groupName);
-        when(validatorMock.validateGroupNameExistence(groupName)).thenReturn(true);
         when(validatorMock.validateGroupNamePattern(groupName)).thenReturn(true);
+        when(groupServiceMock.addGroup(newGroup)).thenThrow(new DataIntegrityViolationException("groups_group_name_key"));
 
         boolean expectedResult = serviceFacade.addNewGroup(groupName);
 
-        verify(groupServiceMock, never()).addGroup(newGroup);
+        verify(groupServiceMock, times(1)).addGroup(newGroup);
         assertFalse(expectedResult);
     }
 
@@ -132,7 +156,6 @@ class ServiceFacadeImplTest {
     void addNewGroup_shouldNotAddedNewGroup_whenNoGroupWithGivenNewNameAndGroupNameNotMatchesPattern() {
         String groupName = "NotMatchesPattern";
         GroupDto newGroup = new GroupDto(groupName);
-        when(validatorMock.validateGroupNameExistence(groupName)).thenReturn(false);
         when(validatorMock.validateGroupNamePattern(groupName)).thenReturn(false);
 
         boolean expectedResult = serviceFacade.addNewGroup(groupName);
@@ -167,136 +190,122 @@ class ServiceFacadeImplTest {
     }
 
     @Test
-    void getAllGroups_shouldReturnedGroupsDtoList_whenGroupServiceReturnSeveralGroups() {
-        List<Group> allGroups = new ArrayList<Group>();
-        Group firstGroup = new Group();
-        Group secondGroup = new Group();
-        Group thirdtGroup = new Group();
-        allGroups.add(firstGroup);
-        allGroups.add(secondGroup);
-        allGroups.add(thirdtGroup);
-        List<GroupDto> expectedAllGroups = allGroups.stream().map(GroupMapper::mapGroupToDto).toList();
-        when(groupServiceMock.getAllGroups()).thenReturn(allGroups);
+    void getAllGroups_shouldReturnedGroupsSummariesList_whenGroupServiceReturnSeveralGroupsSummaries() {
+        List<GroupSummary> expectedAllGroups = List.of(new GroupSummary(1, "GH-23"), new GroupSummary(2, "KL-91"),
+                new GroupSummary(3, "SG-62"));
+        when(groupServiceMock.getAllGroupSummaries()).thenReturn(expectedAllGroups);
 
-        List<GroupDto> actualdAllGroups = serviceFacade.getAllGroups();
+        List<GroupSummary> actualdAllGroups = serviceFacade.getAllGroups();
 
-        verify(groupServiceMock, times(1)).getAllGroups();
+        verify(groupServiceMock, times(1)).getAllGroupSummaries();
+        verify(groupServiceMock, never()).getAllGroups();
         assertEquals(expectedAllGroups, actualdAllGroups);
     }
 
     @Test
-    void getAllGroups_shouldReturnedEmptyGroupsDtoList_whenGroupServiceReturnEmptyGroupsList() {
-        List<Group> allGroups = new ArrayList<Group>();
-        List<GroupDto> expectedAllGroups = new ArrayList<GroupDto>();
-        when(groupServiceMock.getAllGroups()).thenReturn(allGroups);
+    void getAllGroups_shouldReturnedEmptyGroupsSummariesList_whenGroupServiceReturnEmptyGroupsSummariesList() {
+        List<GroupSummary> expectedAllGroups = new ArrayList<GroupSummary>();
+        when(groupServiceMock.getAllGroupSummaries()).thenReturn(expectedAllGroups);
 
-        List<GroupDto> actualdAllGroups = serviceFacade.getAllGroups();
+        List<GroupSummary> actualdAllGroups = serviceFacade.getAllGroups();
 
-        verify(groupServiceMock, times(1)).getAllGroups();
+        verify(groupServiceMock, times(1)).getAllGroupSummaries();
         assertEquals(expectedAllGroups, actualdAllGroups);
     }
 
     @Test
-    void updateGroup_shouldUpdatedGroup_whenGroupToUpdateExistAndNoGroupWithGivenNewNameAndNewGroupNameMatchesPattern() {
+    void updateGroup_shouldUpdatedGroup_whenGroupToUpdateExistAndNewGroupNameMatchesPattern() {
         String groupNameToUpdate = "FL-23";
         String newGroupName = "KS-32";
-        Group groupToUpdate = new Group(groupNameToUpdate);
-        Group updatedgroup = new Group(newGroupName);
-        when(validatorMock.validateGroupNameExistence(newGroupName)).thenReturn(false);
         when(validatorMock.validateGroupNamePattern(newGroupName)).thenReturn(true);
-        when(groupServiceMock.getGroupByName(groupNameToUpdate)).thenReturn(Optional.of(groupToUpdate));
+        when(groupServiceMock.updateGroup(groupNameToUpdate, newGroupName)).thenReturn(true);
 
         boolean expectedResult = serviceFacade.updateGroup(groupNameToUpdate, newGroupName);
 
-        verify(groupServiceMock, times(1)).updateGroup(updatedgroup);
+        verify(groupServiceMock, times(1)).updateGroup(groupNameToUpdate, newGroupName);
+        verify(groupServiceMock, never()).getGroupByName(groupNameToUpdate);
+        verify(validatorMock, never()).validateGroupNameExistence(newGroupName);
         assertTrue(expectedResult);
     }
 
     @Test
-    void updateGroup_shouldNothingUpdated_whenNoGroupToUpdateAndNoGroupWithGivenNewNameAndNewGroupNameMatchesPattern() {
+    void updateGroup_shouldNothingUpdated_whenNoGroupToUpdateAndNewGroupNameMatchesPattern() {
         String groupNameToUpdate = "FL-23";
         String newGroupName = "KS-32";
-        Group updatedgroup = new Group(newGroupName);
-        when(validatorMock.validateGroupNameExistence(newGroupName)).thenReturn(false);
         when(validatorMock.validateGroupNamePattern(newGroupName)).thenReturn(true);
-        when(groupServiceMock.getGroupByName(groupNameToUpdate)).thenReturn(Optional.empty());
+        when(groupServiceMock.updateGroup(groupNameToUpdate, newGroupName)).thenReturn(false);
 
         boolean expectedResult = serviceFacade.updateGroup(groupNameToUpdate, newGroupName);
 
-        verify(groupServiceMock, never()).updateGroup(updatedgroup);
+        verify(groupServiceMock, times(1)).updateGroup(groupNameToUpdate, newGroupName);
         assertFalse(expectedResult);
     }
 
     @Test
-    void updateGroup_shouldNothingUpdated_whenGroupToUpdateExistAndGroupWithGivenNewNameAlreadyExistAndNewGroupNameMatchesPattern() {
+    void updateGroup_shouldNothingUpdated_whenGroupWithGivenNewNameAlreadyExistAndNewGroupNameMatchesPattern() {
         String groupNameToUpdate = "FL-23";
         String newGroupName = "KS-32";
-        Group groupToUpdate = new Group(groupNameToUpdate);
-        Group updatedgroup = new Group(newGroupName);
-        when(validatorMock.validateGroupNameExistence(newGroupName)).thenReturn(true);
         when(validatorMock.validateGroupNamePattern(newGroupName)).thenReturn(true);
-        when(groupServiceMock.getGroupByName(groupNameToUpdate)).thenReturn(Optional.of(groupToUpdate));
+        when(groupServiceMock.updateGroup(groupNameToUpdate, newGroupName))
+                .thenThrow(new DataIntegrityViolationException("groups_group_name_key"));
 
         boolean expectedResult = serviceFacade.updateGroup(groupNameToUpdate, newGroupName);
 
-        verify(groupServiceMock, never()).updateGroup(updatedgroup);
+        verify(groupServiceMock, times(1)).updateGroup(groupNameToUpdate, newGroupName);
         assertFalse(expectedResult);
     }
 
     @Test
-    void updateGroup_shouldNothingUpdated_whenGroupToUpdateExistAndNoGroupWithGivenNewNameAndNewGroupNameNotMatchesPattern() {
+    void updateGroup_shouldNothingUpdated_whenNewGroupNameNotMatchesPattern() {
         String groupNameToUpdate = "FL-23";
         String newGroupName = "KS-32";
-        Group groupToUpdate = new Group(groupNameToUpdate);
-        Group updatedgroup = new Group(newGroupName);
-        when(validatorMock.validateGroupNameExistence(newGroupName)).thenReturn(false);
         when(validatorMock.validateGroupNamePattern(newGroupName)).thenReturn(false);
-        when(groupServiceMock.getGroupByName(groupNameToUpdate)).thenReturn(Optional.of(groupToUpdate));
 
         boolean expectedResult = serviceFacade.updateGroup(groupNameToUpdate, newGroupName);
 
-        verify(groupServiceMock, never()).updateGroup(updatedgroup);
+        verify(groupServiceMock, never()).updateGroup(groupNameToUpdate, newGroupName);
         assertFalse(expectedResult);
     }
 
     @Test
     void deleteGroupByName_shouldDeletedGroup_whenGroupWithGivenNameExist() {
         String groupNameToDelete = "FL-23";
-        when(validatorMock.validateGroupNameExistence(groupNameToDelete)).thenReturn(true);
+        when(groupServiceMock.deleteGroupByName(groupNameToDelete)).thenReturn(true);
 
         boolean expectedResult = serviceFacade.deleteGroupByName(groupNameToDelete);
 
         verify(groupServiceMock, times(1)).deleteGroupByName(groupNameToDelete);
+        verify(validatorMock, never()).validateGroupNameExistence(groupNameToDelete);
         assertTrue(expectedResult);
     }
 
     @Test
     void deleteGroupByName_shouldNothingDeleted_whenNoGroupWithGivenName() {
         String groupNameToDelete = "FL-23";
-        when(validatorMock.validateGroupNameExistence(groupNameToDelete)).thenReturn(false);
+        when(groupServiceMock.deleteGroupByName(groupNameToDelete)).thenReturn(false);
 
         boolean expectedResult = serviceFacade.deleteGroupByName(groupNameToDelete);
 
-        verify(groupServiceMock, never()).deleteGroupByName(groupNameToDelete);
+        verify(groupServiceMock, times(1)).deleteGroupByName(groupNameToDelete);
         assertFalse(expectedResult);
     }
 
     @Test
-    void addNewStudent_shouldAddedNewStudent_whenNoStudnentWithGivenNewFullNameAndFirstNameIsValidAndLastNameIsValidAndGroupWithGivenNameExist() {
+    void addNewStudent_shouldAddedNewStudent_whenFirstNameIsValidAndLastNameIsValidAndGroupWithGivenNameExist() {
         String firstName = "FirstName";
         String lastName = "LastName";
         String groupName = "FL-23";
         Group groupForStudent = new Group(groupName);
         StudentDto student = new StudentDto(firstName, lastName, groupForStudent);
-        when(validatorMock.validateStudentFullName(firstName, lastName)).thenReturn(false);
-        when(validatorMock.validateNameLength(firstName)).thenReturn(true);
-        when(validatorMock.validateNameLength(lastName)).thenReturn(true);
-        when(validatorMock.validateGroupNameExistence(groupName)).thenReturn(true);
-        when(groupServiceMock.getGroupByName(groupName)).thenReturn(Optional.of(groupForStudent));
+        when(validatorMock.validateStudent(firstName, lastName, groupName))
+                .thenReturn(new StudentValidation(true, true, groupForStudent));
+        when(studentServiceMock.addStudent(student))
+                .thenReturn(Optional.of(new Student(firstName, lastName, groupForStudent)));
 
         boolean expectedResult = serviceFacade.addNewStudent(firstName, lastName, groupName);
 
         verify(studentServiceMock, times(1)).addStudent(student);
+        verify(validatorMock, never()).validateStudentFullName(firstName, lastName);
         assertTrue(expectedResult);
     }
 
@@ -307,28 +316,25 @@ class ServiceFacadeImplTest {
         String groupName = "FL-23";
         Group groupForStudent = new Group(groupName);
         StudentDto student = new StudentDto(firstName, lastName, groupForStudent);
-        when(validatorMock.validateStudentFullName(firstName, lastName)).thenReturn(true);
-        when(validatorMock.validateNameLength(firstName)).thenReturn(true);
-        when(validatorMock.validateNameLength(lastName)).thenReturn(true);
-        when(validatorMock.validateGroupNameExistence(groupName)).thenReturn(true);
+        when(validatorMock.validateStudent(firstName, lastName, groupName))
+                .thenReturn(new StudentValidation(true, true, groupForStudent));
+        when(studentServiceMock.addStudent(student)).thenThrow(new DataIntegrityViolationException("students_full_name_key"));
 
         boolean expectedResult = serviceFacade.addNewStudent(firstName, lastName, groupName);
 
-        verify(studentServiceMock, never()).addStudent(student);
+        verify(studentServiceMock, times(1)).addStudent(student);
         assertFalse(expectedResult);
     }
 
     @Test
-    void addNewStudent_shouldNotAddenNewStudent_whenNoStudnentWithGivenNewFullNameAndFirstNameIsNotValidAndLastNameIsValidAndGroupWithGivenNameExist() {
-        String firstName = "FffiiirrrssstttNnnaaammmeeeTttoooLong";
+    void addNewStudent_shouldNotAddenNewStudent_whenFirstNameIsNotValidAndLastNameIsValidAndGroupWithGivenNameExist() {
+        String firstName = "FirstName";
         String lastName = "LastName";
         String groupName = "FL-23";
         Group groupForStudent = new Group(groupName);
         StudentDto student = new StudentDto(firstName, lastName, groupForStudent);
-        when(validatorMock.validateStudentFullName(firstName, lastName)).thenReturn(false);
-        when(validatorMock.validateNameLength(firstName)).thenReturn(false);
-        when(validatorMock.validateNameLength(lastName)).thenReturn(true);
-        when(validatorMock.validateGroupNameExistence(groupName)).thenReturn(true);
+        when(validatorMock.validateStudent(firstName, lastName, groupName))
+                .thenReturn(new StudentValidation(false, true, groupForStudent));
 
         boolean expectedResult = serviceFacade.addNewStudent(firstName, lastName, groupName);
 
@@ -337,16 +343,14 @@ class ServiceFacadeImplTest {
     }
 
     @Test
-    void addNewStudent_shouldNotAddenNewStudent_whenNoStudnentWithGivenNewFullNameAndFirstNameIsValidAndLastNameIsNotValidAndGroupWithGivenNameExist() {
+    void addNewStudent_shouldNotAddenNewStudent_whenFirstNameIsValidAndLastNameIsNotValidAndGroupWithGivenNameExist() {
         String firstName = "FirstName";
-        String lastName = "LlllaaaasssstttNnnaaammmeeeTttooLong";
+        String lastName = "LastName";
         String groupName = "FL-23";
         Group groupForStudent = new Group(groupName);
         StudentDto student = new StudentDto(firstName, lastName, groupForStudent);
-        when(validatorMock.validateStudentFullName(firstName, lastName)).thenReturn(false);
-        when(validatorMock.validateNameLength(firstName)).thenReturn(true);
-        when(validatorMock.validateNameLength(lastName)).thenReturn(false);
-        when(validatorMock.validateGroupNameExistence(groupName)).thenReturn(true);
+        when(validatorMock.validateStudent(firstName, lastName, groupName))
+                .thenReturn(new StudentValidation(true, false, groupForStudent));
 
         boolean expectedResult = serviceFacade.addNewStudent(firstName, lastName, groupName);
 
@@ -355,16 +359,14 @@ class ServiceFacadeImplTest {
     }
 
     @Test
-    void addNewStudent_shouldNotAddenNewStudent_whenNoStudnentWithGivenNewFullNameAndFirstNameIsValidAndLastNameIsValidAndNoGroupWithGivenName() {
+    void addNewStudent_shouldNotAddenNewStudent_whenFirstNameIsValidAndLastNameIsValidAndNoGroupWithGivenName() {
         String firstName = "FirstName";
-        String lastName = "LasrName";
+        String lastName = "LastName";
         String groupName = "FL-23";
         Group groupForStudent = new Group(groupName);
         StudentDto student = new StudentDto(firstName, lastName, groupForStudent);
-        when(validatorMock.validateStudentFullName(firstName, lastName)).thenReturn(false);
-        when(validatorMock.validateNameLength(firstName)).thenReturn(true);
-        when(validatorMock.validateNameLength(lastName)).thenReturn(true);
-        when(validatorMock.validateGroupNameExistence(groupName)).thenReturn(false);
+        when(validatorMock.validateStudent(firstName, lastName, groupName))
+                .thenReturn(new StudentValidation(true, true, null));
 
         boolean expectedResult = serviceFacade.addNewStudent(firstName, lastName, groupName);
 
@@ -398,215 +400,165 @@ class ServiceFacadeImplTest {
     }
 
     @Test
-    void updateStudent_shouldUpdatedStudent_whenStudnentToUpdateExistAndNewStudentFullNameNotAlreadyExistAndNewFirstNameIsValidAndNewLastNameIsValidAndGroupWithGivenNameExist() {
+    void updateStudent_shouldUpdatedStudent_whenStudnentToUpdateExistAndNewFirstNameIsValidAndNewLastNameIsValidAndGroupWithGivenNameExist() {
         String studentFirstNameToUpdate = "OldFirstName";
         String studentLastNameToUpdate = "OldLastName";
-        Student oldStudent = new Student(studentFirstNameToUpdate, studentLastNameToUpdate, new Group());
         String newFirstName = "NewFirstName";
         String newLastName = "NewLastName";
         String newGroupName = "JS-59";
         Group group = new Group(newGroupName);
-        Student updatedStudent = new Student(newFirstName, newLastName, group);
-        when(validatorMock.validateStudentFullName(newFirstName, newLastName)).thenReturn(false);
-        when(validatorMock.validateNameLength(newFirstName)).thenReturn(true);
-        when(validatorMock.validateNameLength(newLastName)).thenReturn(true);
-        when(studentServiceMock.getStudentByFullName(studentFirstNameToUpdate, studentLastNameToUpdate))
-                .thenReturn(Optional.of(oldStudent));
-        when(groupServiceMock.getGroupByName(newGroupName)).thenReturn(Optional.of(group));
+        when(validatorMock.validateStudent(newFirstName, newLastName, newGroupName))
+                .thenReturn(new StudentValidation(true, true, group));
+        when(studentServiceMock.updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate, newFirstName,
+                newLastName, group)).thenReturn(true);
 
         boolean actualResult = serviceFacade.updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate,
                 newFirstName, newLastName, newGroupName);
 
-        verify(studentServiceMock, times(1)).updateStudent(updatedStudent);
+        verify(studentServiceMock, times(1)).updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate,
+                newFirstName, newLastName, group);
+        verify(studentServiceMock, never()).getStudentByFullName(studentFirstNameToUpdate, studentLastNameToUpdate);
         assertTrue(actualResult);
     }
 
     @Test
-    void updateStudent_shouldUpdatedStudent_whenStudnentToUpdateExistAndNewFirstNameEqualsOldFirstNameAndNewLastNameEqualsOldLastNameAndGroupWithGivenNameExist() {
+    void updateStudent_shouldUpdatedStudent_whenNewFirstNameEqualsOldFirstNameAndNewLastNameEqualsOldLastNameAndGroupWithGivenNameExist() {
         String studentFirstNameToUpdate = "OldFirstName";
         String studentLastNameToUpdate = "OldLastName";
-        Student oldStudent = new Student(studentFirstNameToUpdate, studentLastNameToUpdate, new Group());
         String newFirstName = "OldFirstName";
         String newLastName = "OldLastName";
         String newGroupName = "JS-59";
         Group group = new Group(newGroupName);
-        Student updatedStudent = new Student(newFirstName, newLastName, group);
-        when(validatorMock.validateStudentFullName(newFirstName, newLastName)).thenReturn(true);
-        when(validatorMock.validateNameLength(newFirstName)).thenReturn(true);
-        when(validatorMock.validateNameLength(newLastName)).thenReturn(true);
-        when(studentServiceMock.getStudentByFullName(studentFirstNameToUpdate, studentLastNameToUpdate))
-                .thenReturn(Optional.of(oldStudent));
-        when(groupServiceMock.getGroupByName(newGroupName)).thenReturn(Optional.of(group));
+        when(validatorMock.validateStudent(newFirstName, newLastName, newGroupName))
+                .thenReturn(new StudentValidation(true, true, group));
+        when(studentServiceMock.updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate, newFirstName,
+                newLastName, group)).thenReturn(true);
 
         boolean actualResult = serviceFacade.updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate,
                 newFirstName, newLastName, newGroupName);
 
-        verify(studentServiceMock, times(1)).updateStudent(updatedStudent);
+        verify(studentServiceMock, times(1)).updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate,
+                newFirstName, newLastName, group);
+        verify(studentServiceMock, never()).getStudentByFullName(studentFirstNameToUpdate, studentLastNameToUpdate);
         assertTrue(actualResult);
     }
 
     @Test
-    void updateStudent_shouldUpdatedStudent_whenStudnentToUpdateExistAndNewFirstNameEqualsOldFirstNameAndNewLastNameNotEqualsOldLastNameAndGroupWithGivenNameExist() {
+    void updateStudent_shouldNotUpdatedStudent_whenNoStudnentToUpdateAndNewFirstNameIsValidAndNewLastNameIsValidAndGroupWithGivenNameExist() {
         String studentFirstNameToUpdate = "OldFirstName";
         String studentLastNameToUpdate = "OldLastName";
-        Student oldStudent = new Student(studentFirstNameToUpdate, studentLastNameToUpdate, new Group());
-        String newFirstName = "OldFirstName";
-        String newLastName = "NewLastName";
-        String newGroupName = "JS-59";
-        Group group = new Group(newGroupName);
-        Student updatedStudent = new Student(newFirstName, newLastName, group);
-        when(validatorMock.validateStudentFullName(newFirstName, newLastName)).thenReturn(false);
-        when(validatorMock.validateNameLength(newFirstName)).thenReturn(true);
-        when(validatorMock.validateNameLength(newLastName)).thenReturn(true);
-        when(studentServiceMock.getStudentByFullName(studentFirstNameToUpdate, studentLastNameToUpdate))
-                .thenReturn(Optional.of(oldStudent));
-        when(groupServiceMock.getGroupByName(newGroupName)).thenReturn(Optional.of(group));
-
-        boolean actualResult = serviceFacade.updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate,
-                newFirstName, newLastName, newGroupName);
-
-        verify(studentServiceMock, times(1)).updateStudent(updatedStudent);
-        assertTrue(actualResult);
-    }
-
-    @Test
-    void updateStudent_shouldNotUpdatedStudent_whenNoStudnentToUpdateAndNewStudentFullNameNotAlreadyExistAndNewFirstNameIsValidAndNewLastNameIsValidAndGroupWithGivenNameExist() {
-        String studentFirstNameToUpdate = "NotExistent";
-        String studentLastNameToUpdate = "NotExistent";
         String newFirstName = "NewFirstName";
         String newLastName = "NewLastName";
         String newGroupName = "JS-59";
         Group group = new Group(newGroupName);
-        Student updatedStudent = new Student(newFirstName, newLastName, group);
-        when(validatorMock.validateStudentFullName(newFirstName, newLastName)).thenReturn(false);
-        when(validatorMock.validateNameLength(newFirstName)).thenReturn(true);
-        when(validatorMock.validateNameLength(newLastName)).thenReturn(true);
-        when(studentServiceMock.getStudentByFullName(studentFirstNameToUpdate, studentLastNameToUpdate))
-                .thenReturn(Optional.empty());
-        when(groupServiceMock.getGroupByName(newGroupName)).thenReturn(Optional.of(group));
+        when(validatorMock.validateStudent(newFirstName, newLastName, newGroupName))
+                .thenReturn(new StudentValidation(true, true, group));
+        when(studentServiceMock.updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate, newFirstName,
+                newLastName, group)).thenReturn(false);
 
         boolean actualResult = serviceFacade.updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate,
                 newFirstName, newLastName, newGroupName);
 
-        verify(studentServiceMock, never()).updateStudent(updatedStudent);
+        verify(studentServiceMock, times(1)).updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate,
+                newFirstName, newLastName, group);
         assertFalse(actualResult);
     }
 
     @Test
-    void updateStudent_shouldNotUpdatedStudent_whenStudnentToUpdateExistAndNewStudentFullNameAlreadyExistAndNewFirstNameIsValidAndNewLastNameIsValidAndGroupWithGivenNameExist() {
+    void updateStudent_shouldNotUpdatedStudent_whenNewStudentFullNameAlreadyExistAndNewFirstNameIsValidAndNewLastNameIsValidAndGroupWithGivenNameExist() {
         String studentFirstNameToUpdate = "OldFirstName";
         String studentLastNameToUpdate = "OldLastName";
-        Student oldStudent = new Student(studentFirstNameToUpdate, studentLastNameToUpdate, new Group());
         String newFirstName = "NewFirstName";
         String newLastName = "NewLastName";
         String newGroupName = "JS-59";
         Group group = new Group(newGroupName);
-        Student updatedStudent = new Student(newFirstName, newLastName, group);
-        when(validatorMock.validateStudentFullName(newFirstName, newLastName)).thenReturn(true);
-        when(validatorMock.validateNameLength(newFirstName)).thenReturn(true);
-        when(validatorMock.validateNameLength(newLastName)).thenReturn(true);
-        when(studentServiceMock.getStudentByFullName(studentFirstNameToUpdate, studentLastNameToUpdate))
-                .thenReturn(Optional.of(oldStudent));
-        when(groupServiceMock.getGroupByName(newGroupName)).thenReturn(Optional.of(group));
+        when(validatorMock.validateStudent(newFirstName, newLastName, newGroupName))
+                .thenReturn(new StudentValidation(true, true, group));
+        when(studentServiceMock.updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate, newFirstName,
+                newLastName, group)).thenThrow(new DataIntegrityViolationException("students_full_name_key"));
 
         boolean actualResult = serviceFacade.updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate,
                 newFirstName, newLastName, newGroupName);
 
-        verify(studentServiceMock, never()).updateStudent(updatedStudent);
+        verify(studentServiceMock, times(1)).updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate,
+                newFirstName, newLastName, group);
         assertFalse(actualResult);
     }
 
     @Test
-    void updateStudent_shouldNotUpdatedStudent_whenStudnentToUpdateExistAndNewStudentFullNameNotAlreadyExistAndNewFirstNameIsNotValidAndNewLastNameIsValidAndGroupWithGivenNameExist() {
+    void updateStudent_shouldNotUpdatedStudent_whenNewFirstNameIsNotValidAndNewLastNameIsValidAndGroupWithGivenNameExist() {
         String studentFirstNameToUpdate = "OldFirstName";
         String studentLastNameToUpdate = "OldLastName";
-        Student oldStudent = new Student(studentFirstNameToUpdate, studentLastNameToUpdate, new Group());
-        String newFirstName = "NnnneeewwwwFffiiirrrsssttNameToLong";
+        String newFirstName = "NewFirstName";
         String newLastName = "NewLastName";
         String newGroupName = "JS-59";
         Group group = new Group(newGroupName);
-        Student updatedStudent = new Student(newFirstName, newLastName, group);
-        when(validatorMock.validateStudentFullName(newFirstName, newLastName)).thenReturn(false);
-        when(validatorMock.validateNameLength(newFirstName)).thenReturn(false);
-        when(validatorMock.validateNameLength(newLastName)).thenReturn(true);
-        when(studentServiceMock.getStudentByFullName(studentFirstNameToUpdate, studentLastNameToUpdate))
-                .thenReturn(Optional.of(oldStudent));
-        when(groupServiceMock.getGroupByName(newGroupName)).thenReturn(Optional.of(group));
+        when(validatorMock.validateStudent(newFirstName, newLastName, newGroupName))
+                .thenReturn(new StudentValidation(false, true, group));
 
         boolean actualResult = serviceFacade.updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate,
                 newFirstName, newLastName, newGroupName);
 
-        verify(studentServiceMock, never()).updateStudent(updatedStudent);
+        verify(studentServiceMock, never()).updateStudent(any(), any(), any(), any(), any());
         assertFalse(actualResult);
     }
 
     @Test
-    void updateStudent_shouldNotUpdatedStudent_whenStudnentToUpdateExistAndNewStudentFullNameNotAlreadyExistAndNewFirstNameIsValidAndNewLastNameIsNotValidAndGroupWithGivenNameExist() {
+    void updateStudent_shouldNotUpdatedStudent_whenNewFirstNameIsValidAndNewLastNameIsNotValidAndGroupWithGivenNameExist() {
         String studentFirstNameToUpdate = "OldFirstName";
         String studentLastNameToUpdate = "OldLastName";
-        Student oldStudent = new Student(studentFirstNameToUpdate, studentLastNameToUpdate, new Group());
         String newFirstName = "NewFirstName";
-        String newLastName = "NnneeewwwLllaaassstttNnnaaammmeeeToLong";
+        String newLastName = "NewLastName";
         String newGroupName = "JS-59";
         Group group = new Group(newGroupName);
-        Student updatedStudent = new Student(newFirstName, newLastName, group);
-        when(validatorMock.validateStudentFullName(newFirstName, newLastName)).thenReturn(false);
-        when(validatorMock.validateNameLength(newFirstName)).thenReturn(true);
-        when(validatorMock.validateNameLength(newLastName)).thenReturn(false);
-        when(studentServiceMock.getStudentByFullName(studentFirstNameToUpdate, studentLastNameToUpdate))
-                .thenReturn(Optional.of(oldStudent));
-        when(groupServiceMock.getGroupByName(newGroupName)).thenReturn(Optional.of(group));
+        when(validatorMock.validateStudent(newFirstName, newLastName, newGroupName))
+                .thenReturn(new StudentValidation(true, false, group));
 
         boolean actualResult = serviceFacade.updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate,
                 newFirstName, newLastName, newGroupName);
 
-        verify(studentServiceMock, never()).updateStudent(updatedStudent);
+        verify(studentServiceMock, never()).updateStudent(any(), any(), any(), any(), any());
         assertFalse(actualResult);
     }
 
     @Test
-    void updateStudent_shouldUpdatedStudent_whenStudnentToUpdateExistAndNewStudentFullNameNotAlreadyExistAndNewFirstNameIsValidAndNewLastNameIsValidAndNoGroupWithGivenName() {
+    void updateStudent_shouldNotUpdatedStudent_whenNewFirstNameIsValidAndNewLastNameIsValidAndNoGroupWithGivenName() {
         String studentFirstNameToUpdate = "OldFirstName";
         String studentLastNameToUpdate = "OldLastName";
-        Student oldStudent = new Student(studentFirstNameToUpdate, studentLastNameToUpdate, new Group());
         String newFirstName = "NewFirstName";
         String newLastName = "NewLastName";
         String newGroupName = "JS-59";
         Group group = new Group(newGroupName);
-        Student updatedStudent = new Student(newFirstName, newLastName, group);
-        when(validatorMock.validateStudentFullName(newFirstName, newLastName)).thenReturn(false);
-        when(validatorMock.validateNameLength(newFirstName)).thenReturn(true);
-        when(validatorMock.validateNameLength(newLastName)).thenReturn(true);
-        when(studentServiceMock.getStudentByFullName(studentFirstNameToUpdate, studentLastNameToUpdate))
-                .thenReturn(Optional.of(oldStudent));
-        when(groupServiceMock.getGroupByName(newGroupName)).thenReturn(Optional.empty());
+        when(validatorMock.validateStudent(newFirstName, newLastName, newGroupName))
+                .thenReturn(new StudentValidation(true, true, null));
 
         boolean actualResult = serviceFacade.updateStudent(studentFirstNameToUpdate, studentLastNameToUpdate,
                 newFirstName, newLastName, newGroupName);
 
-        verify(studentServiceMock, never()).updateStudent(updatedStudent);
+        verify(studentServiceMock, never()).updateStudent(any(), any(), any(), any(), any());
         assertFalse(actualResult);
     }
 
     @Test
     void deleteStudentById_shouldDeletedStudent_whenGivenStudentIdCorrect() {
         int studentId = 1;
-        when(validatorMock.validateStudentId(studentId)).thenReturn(true);
+        when(studentServiceMock.deleteStudentById(studentId)).thenReturn(true);
 
         boolean studentDeleted = serviceFacade.deleteStudentById(studentId);
 
         verify(studentServiceMock, times(1)).deleteStudentById(studentId);
+        verify(validatorMock, never()).validateStudentId(studentId);
         assertTrue(studentDeleted);
     }
 
     @Test
     void deleteStudentById_shouldNotDeletedStudent_whenGivenStudentIdIsNotCorrect() {
         int studentId = 1;
-        when(validatorMock.validateStudentId(studentId)).thenReturn(false);
+        when(studentServiceMock.deleteStudentById(studentId)).thenReturn(false);
 
         boolean studentDeleted = serviceFacade.deleteStudentById(studentId);
 
-        verify(studentServiceMock, never()).deleteStudentById(studentId);
+        verify(studentServiceMock, times(1)).deleteStudentById(studentId);
         assertFalse(studentDeleted);
     }
 
@@ -615,9 +567,8 @@ class ServiceFacadeImplTest {
         String courseName = "CourseName";
         String description = "Description";
         CourseDto newCourse = new CourseDto(courseName, description);
-        when(validatorMock.validateCourseName(courseName)).thenReturn(false);
         when(validatorMock.validateNameLength(courseName)).thenReturn(true);
-        when(validatorMock.validateDescription(description)).thenReturn(false);
+        when(courseServiceMock.addCourse(newCourse)).thenReturn(Optional.of(new Course(courseName, description)));
 
         boolean actualResult = serviceFacade.addNewCourse(courseName, description);
 
@@ -630,13 +581,12 @@ class ServiceFacadeImplTest {
         String courseName = "AlreadyExist";
         String description = "Description";
         CourseDto newCourse = new CourseDto(courseName, description);
-        when(validatorMock.validateCourseName(courseName)).thenReturn(true);
         when(validatorMock.validateNameLength(courseName)).thenReturn(true);
-        when(validatorMock.validateDescription(description)).thenReturn(false);
+        when(courseServiceMock.addCourse(newCourse)).thenThrow(new DataIntegrityViolationException("courses_course_name_key"));
 
         boolean actualResult = serviceFacade.addNewCourse(courseName, description);
 
-        verify(courseServiceMock, never()).addCourse(newCourse);
+        verify(courseServiceMock, times(1)).addCourse(newCourse);
         assertFalse(actualResult);
     }
 
@@ -645,9 +595,7 @@ class ServiceFacadeImplTest {
         String courseName = "CccooouuurrrrssseeeNnnaaammmeTttooLong";
         String description = "Description";
         CourseDto newCourse = new CourseDto(courseName, description);
-        when(validatorMock.validateCourseName(courseName)).thenReturn(false);
         when(validatorMock.validateNameLength(courseName)).thenReturn(false);
-        when(validatorMock.validateDescription(description)).thenReturn(false);
 
         boolean actualResult = serviceFacade.addNewCourse(courseName, description);
 
@@ -660,13 +608,12 @@ class ServiceFacadeImplTest {
         String courseName = "CourseName";
         String description = "AlreadyExist";
         CourseDto newCourse = new CourseDto(courseName, description);
-        when(validatorMock.validateCourseName(courseName)).thenReturn(false);
         when(validatorMock.validateNameLength(courseName)).thenReturn(true);
-        when(validatorMock.validateDescription(description)).thenReturn(true);
+        when(courseServiceMock.addCourse(newCourse)).thenThrow(new DataIntegrityViolationException("courses_course_description_md5_idx"));
 
         boolean actualResult = serviceFacade.addNewCourse(courseName, description);
 
-        verify(courseServiceMock, never()).addCourse(newCourse);
+        verify(courseServiceMock, times(1)).addCourse(newCourse);
         assertFalse(actualResult);
     }
 
@@ -675,13 +622,12 @@ class ServiceFacadeImplTest {
         String courseName = "AlreadyExist";
         String description = "AlreadyExist";
         CourseDto newCourse = new CourseDto(courseName, description);
-        when(validatorMock.validateCourseName(courseName)).thenReturn(true);
         when(validatorMock.validateNameLength(courseName)).thenReturn(true);
-        when(validatorMock.validateDescription(description)).thenReturn(true);
+        when(courseServiceMock.addCourse(newCourse)).thenThrow(new DataIntegrityViolationException("courses_course_description_md5_idx"));
 
         boolean actualResult = serviceFacade.addNewCourse(courseName, description);
 
-        verify(courseServiceMock, never()).addCourse(newCourse);
+        verify(courseServiceMock, times(1)).addCourse(newCourse);
         assertFalse(actualResult);
     }
 
@@ -712,234 +658,158 @@ class ServiceFacadeImplTest {
     }
 
     @Test
-    void getAllCourses_shouldCoursesDtosList_whenCourseServiceReturnCoursesList() {
-        Course firstCourse = new Course();
-        Course secondCourse = new Course();
-        Course thirdCourse = new Course();
-        List<Course> allCourses = new ArrayList<Course>();
-        allCourses.add(firstCourse);
-        allCourses.add(secondCourse);
-        allCourses.add(thirdCourse);
-        when(courseServiceMock.getAllCourses()).thenReturn(allCourses);
+    void getAllCourses_shouldCoursesSummariesList_whenCourseServiceReturnCoursesSummariesList() {
+        List<CourseSummary> allCourses = List.of(new CourseSummary(1, "Mathematics", "Mathematics course"),
+                new CourseSummary(2, "Biology", "Biology course"), new CourseSummary(3, "History", "History course"));
+        when(courseServiceMock.getAllCourseSummaries()).thenReturn(allCourses);
 
-        List<CourseDto> allCoursesDtos = serviceFacade.getAllCourses();
+        List<CourseSummary> allCoursesSummaries = serviceFacade.getAllCourses();
 
-        verify(courseServiceMock, times(1)).getAllCourses();
-        assertEquals(3, allCoursesDtos.size());
+        verify(courseServiceMock, times(1)).getAllCourseSummaries();
+        verify(courseServiceMock, never()).getAllCourses();
+        assertEquals(allCourses, allCoursesSummaries);
     }
 
     @Test
-    void getAllCourses_shouldEmptyList_whenCourseServiceReturnEmptyCoursesList() {
-        List<Course> allCourses = new ArrayList<Course>();
-        when(courseServiceMock.getAllCourses()).thenReturn(allCourses);
+    void getAllCourses_shouldEmptyList_whenCourseServiceReturnEmptyCoursesSummariesList() {
+        List<CourseSummary> allCourses = new ArrayList<CourseSummary>();
+        when(courseServiceMock.getAllCourseSummaries()).thenReturn(allCourses);
 
-        List<CourseDto> allCoursesDtos = serviceFacade.getAllCourses();
+        List<CourseSummary> allCoursesSummaries = serviceFacade.getAllCourses();
 
-        verify(courseServiceMock, times(1)).getAllCourses();
-        assertTrue(allCoursesDtos.isEmpty());
+        verify(courseServiceMock, times(1)).getAllCourseSummaries();
+        assertTrue(allCoursesSummaries.isEmpty());
     }
 
     @Test
-    void updateCourse_shouldUpdatedCourse_whenCourseToUpdateExistAndNewCourseNameNotAlreadyExistAndNewCourseNameLengthIsValidAndNewDescriptionNotAlreadyExist() {
+    void updateCourse_shouldUpdatedCourse_whenCourseToUpdateExistAndNewCourseNameLengthIsValid() {
         String courseNameToUpdate = "OldCourseName";
-        Course oldCourse = new Course(courseNameToUpdate, "OldDescription");
         String newCourseName = "NewCourseName";
         String newDescription = "NewDescription";
-        Course updatedCourse = new Course(newCourseName, newDescription);
-        when(courseServiceMock.getCourseByName(courseNameToUpdate)).thenReturn(Optional.of(oldCourse));
-        when(validatorMock.validateCourseName(newCourseName)).thenReturn(false);
         when(validatorMock.validateNameLength(newCourseName)).thenReturn(true);
-        when(validatorMock.validateDescription(newDescription)).thenReturn(false);
+        when(courseServiceMock.updateCourse(courseNameToUpdate, newCourseName, newDescription)).thenReturn(true);
 
-        boolean expectedResut = serviceFacade.updateCourse(courseNameToUpdate, newCourseName, newDescription);
+        boolean actualResult = serviceFacade.updateCourse(courseNameToUpdate, newCourseName, newDescription);
 
-        verify(courseServiceMock, times(1)).updateCourse(updatedCourse);
-        assertTrue(expectedResut);
+        verify(courseServiceMock, times(1)).updateCourse(courseNameToUpdate, newCourseName, newDescription);
+        verify(courseServiceMock, never()).getCourseByName(courseNameToUpdate);
+        verify(validatorMock, never()).validateCourseName(newCourseName);
+        assertTrue(actualResult);
     }
 
     @Test
-    void updateCourse_shouldUpdatedCourse_whenCourseToUpdateExistAndNewCourseNameEqualsOldCouseNameAndNewCourseNameLengthIsValidAndNewDescriptionNotAlreadyExist() {
-        String courseNameToUpdate = "OldCourseName";
-        Course oldCourse = new Course(courseNameToUpdate, "OldDescription");
-        String newCourseName = "OldCourseName";
-        String newDescription = "NewDescription";
-        Course updatedCourse = new Course(newCourseName, newDescription);
-        when(courseServiceMock.getCourseByName(courseNameToUpdate)).thenReturn(Optional.of(oldCourse));
-        when(validatorMock.validateCourseName(newCourseName)).thenReturn(true);
-        when(validatorMock.validateNameLength(newCourseName)).thenReturn(true);
-        when(validatorMock.validateDescription(newDescription)).thenReturn(false);
+    void updateCourse_shouldUpdatedCourse_whenNewCourseNameAndDescriptionEqualsOldOnesAndNewCourseNameLengthIsValid() {
+        String courseName = "CourseName";
+        String description = "Description";
+        when(validatorMock.validateNameLength(courseName)).thenReturn(true);
+        when(courseServiceMock.updateCourse(courseName, courseName, description)).thenReturn(true);
 
-        boolean expectedResut = serviceFacade.updateCourse(courseNameToUpdate, newCourseName, newDescription);
+        boolean actualResult = serviceFacade.updateCourse(courseName, courseName, description);
 
-        verify(courseServiceMock, times(1)).updateCourse(updatedCourse);
-        assertTrue(expectedResut);
+        assertTrue(actualResult);
     }
 
     @Test
-    void updateCourse_shouldUpdatedCourse_whenCourseToUpdateExistAndNewCourseNameNotAlreadyExistAndNewCourseNameLengthIsValidAndNewDescriptionEqualsOldDescription() {
-        String courseNameToUpdate = "OldCourseName";
-        Course oldCourse = new Course(courseNameToUpdate, "OldDescription");
+    void updateCourse_shouldNotUpdatedCourse_whenNoCourseToUpdateAndNewCourseNameLengthIsValid() {
+        String courseNameToUpdate = "NotExistent";
         String newCourseName = "NewCourseName";
-        String newDescription = "OldDescription";
-        Course updatedCourse = new Course(newCourseName, newDescription);
-        when(courseServiceMock.getCourseByName(courseNameToUpdate)).thenReturn(Optional.of(oldCourse));
-        when(validatorMock.validateCourseName(newCourseName)).thenReturn(false);
-        when(validatorMock.validateNameLength(newCourseName)).thenReturn(true);
-        when(validatorMock.validateDescription(newDescription)).thenReturn(true);
-
-        boolean expectedResut = serviceFacade.updateCourse(courseNameToUpdate, newCourseName, newDescription);
-
-        verify(courseServiceMock, times(1)).updateCourse(updatedCourse);
-        assertTrue(expectedResut);
-    }
-
-    @Test
-    void updateCourse_shouldUpdatedCourse_whenCourseToUpdateExistAndNewCourseNameEqualsOldCouseNameAndNewCourseNameLengthIsValidAndNewDescriptionEqualsOldDescription() {
-        String courseNameToUpdate = "OldCourseName";
-        Course oldCourse = new Course(courseNameToUpdate, "OldDescription");
-        String newCourseName = "OldCourseName";
-        String newDescription = "OldDescription";
-        Course updatedCourse = new Course(newCourseName, newDescription);
-        when(courseServiceMock.getCourseByName(courseNameToUpdate)).thenReturn(Optional.of(oldCourse));
-        when(validatorMock.validateCourseName(newCourseName)).thenReturn(true);
+        String newDescription = "NewDescription";
         when(validatorMock.validateNameLength(newCourseName)).thenReturn(true);
-        when(validatorMock.validateDescription(newDescription)).thenReturn(true);
+        when(courseServiceMock.updateCourse(courseNameToUpdate, newCourseName, newDescription)).thenReturn(false);
 
-        boolean expectedResut = serviceFacade.updateCourse(courseNameToUpdate, newCourseName, newDescription);
+        boolean actualResult = serviceFacade.updateCourse(courseNameToUpdate, newCourseName, newDescription);
 
-        verify(courseServiceMock, times(1)).updateCourse(updatedCourse);
-        assertTrue(expectedResut);
+        assertFalse(actualResult);
     }
 
     @Test
-    void updateCourse_shouldNotUpdatedCourse_whenNoCourseToUpdateAndNewCourseNameNotAlreadyExistAndNewCourseNameLengthIsValidAndNewDescriptionNotAlreadyExist() {
+    void updateCourse_shouldNotUpdatedCourse_whenNewCourseNameAlreadyExistAndNewCourseNameLengthIsValid() {
         String courseNameToUpdate = "OldCourseName";
-        String newCourseName = "NewCourseName";
+        String newCourseName = "AlreadyExist";
         String newDescription = "NewDescription";
-        Course updatedCourse = new Course(newCourseName, newDescription);
-        when(courseServiceMock.getCourseByName(courseNameToUpdate)).thenReturn(Optional.empty());
-        when(validatorMock.validateCourseName(newCourseName)).thenReturn(false);
         when(validatorMock.validateNameLength(newCourseName)).thenReturn(true);
-        when(validatorMock.validateDescription(newDescription)).thenReturn(false);
+        when(courseServiceMock.updateCourse(courseNameToUpdate, newCourseName, newDescription))
+                .thenThrow(new DataIntegrityViolationException("courses_course_name_key"));
 
-        boolean expectedResut = serviceFacade.updateCourse(courseNameToUpdate, newCourseName, newDescription);
+        boolean actualResult = serviceFacade.updateCourse(courseNameToUpdate, newCourseName, newDescription);
 
-        verify(courseServiceMock, never()).updateCourse(updatedCourse);
-        assertFalse(expectedResut);
+        verify(courseServiceMock, times(1)).updateCourse(courseNameToUpdate, newCourseName, newDescription);
+        assertFalse(actualResult);
     }
 
     @Test
-    void updateCourse_shouldNotUpdatedCourse_whenCourseToUpdateExistAndNewCourseNameAlreadyExistAndNewCourseNameLengthIsValidAndNewDescriptionNotAlreadyExist() {
+    void updateCourse_shouldNotUpdatedCourse_whenNewDescriptionAlreadyExistAndNewCourseNameLengthIsValid() {
         String courseNameToUpdate = "OldCourseName";
-        Course oldCourse = new Course(courseNameToUpdate, "OldDescription");
         String newCourseName = "NewCourseName";
-        String newDescription = "NewDescription";
-        Course updatedCourse = new Course(newCourseName, newDescription);
-        when(courseServiceMock.getCourseByName(courseNameToUpdate)).thenReturn(Optional.of(oldCourse));
-        when(validatorMock.validateCourseName(newCourseName)).thenReturn(true);
+        String newDescription = "AlreadyExist";
         when(validatorMock.validateNameLength(newCourseName)).thenReturn(true);
-        when(validatorMock.validateDescription(newDescription)).thenReturn(false);
+        when(courseServiceMock.updateCourse(courseNameToUpdate, newCourseName, newDescription))
+                .thenThrow(new DataIntegrityViolationException("courses_course_description_md5_idx"));
 
-        boolean expectedResut = serviceFacade.updateCourse(courseNameToUpdate, newCourseName, newDescription);
+        boolean actualResult = serviceFacade.updateCourse(courseNameToUpdate, newCourseName, newDescription);
 
-        verify(courseServiceMock, never()).updateCourse(updatedCourse);
-        assertFalse(expectedResut);
+        assertFalse(actualResult);
     }
 
     @Test
-    void updateCourse_shouldNotUpdatedCourse_whenCourseToUpdateExistAndNewCourseNameNotAlreadyExistAndNewCourseNameLengthIsNotValidAndNewDescriptionNotAlreadyExist() {
+    void updateCourse_shouldNotUpdatedCourse_whenNewCourseNameLengthIsNotValid() {
         String courseNameToUpdate = "OldCourseName";
-        Course oldCourse = new Course(courseNameToUpdate, "OldDescription");
         String newCourseName = "CccooouuurrrrssseeeNnnaaammmeTttooLong";
         String newDescription = "NewDescription";
-        Course updatedCourse = new Course(newCourseName, newDescription);
-        when(courseServiceMock.getCourseByName(courseNameToUpdate)).thenReturn(Optional.of(oldCourse));
-        when(validatorMock.validateCourseName(newCourseName)).thenReturn(false);
         when(validatorMock.validateNameLength(newCourseName)).thenReturn(false);
-        when(validatorMock.validateDescription(newDescription)).thenReturn(false);
-
-        boolean expectedResut = serviceFacade.updateCourse(courseNameToUpdate, newCourseName, newDescription);
-
-        verify(courseServiceMock, never()).updateCourse(updatedCourse);
-        assertFalse(expectedResut);
-    }
-
-    @Test
-    void updateCourse_shouldNotUpdatedCourse_whenCourseToUpdateExistAndNewCourseNameNotAlreadyExistAndNewCourseNameLengthIsValidAndNewDescriptionAlreadyExist() {
-        String courseNameToUpdate = "OldCourseName";
-        Course oldCourse = new Course(courseNameToUpdate, "OldDescription");
-        String newCourseName = "NewCourseName";
-        String newDescription = "NewDescription";
-        Course updatedCourse = new Course(newCourseName, newDescription);
-        when(courseServiceMock.getCourseByName(courseNameToUpdate)).thenReturn(Optional.of(oldCourse));
-        when(validatorMock.validateCourseName(newCourseName)).thenReturn(false);
-        when(validatorMock.validateNameLength(newCourseName)).thenReturn(true);
-        when(validatorMock.validateDescription(newDescription)).thenReturn(true);
 
-        boolean expectedResut = serviceFacade.updateCourse(courseNameToUpdate, newCourseName, newDescription);
+        boolean actualResult = serviceFacade.updateCourse(courseNameToUpdate, newCourseName, newDescription);
 
-        verify(courseServiceMock, never()).updateCourse(updatedCourse);
-        assertFalse(expectedResut);
+        verify(courseServiceMock, never()).updateCourse(courseNameToUpdate, newCourseName, newDescription);
+        assertFalse(actualResult);
     }
 
     @Test
     void deleteCourseByName_shouldDeletedCourse_whenCourseWithGivenNameExist() {
         String courseNameToDelete = "CourseName";
-        when(validatorMock.validateCourseName(courseNameToDelete)).thenReturn(true);
+        when(courseServiceMock.deleteCourseByName(courseNameToDelete)).thenReturn(true);
 
         boolean expectedResut = serviceFacade.deleteCourseByName(courseNameToDelete);
 
         verify(courseServiceMock, times(1)).deleteCourseByName(courseNameToDelete);
+        verify(validatorMock, never()).validateCourseName(courseNameToDelete);
         assertTrue(expectedResut);
     }
 
     @Test
     void deleteCourseByName_shouldNotDeletedCourse_whenCourseWithGivenNameNotExist() {
         String courseNameToDelete = "CourseName";
-        when(validatorMock.validateCourseName(courseNameToDelete)).thenReturn(false);
+        when(courseServiceMock.deleteCourseByName(courseNameToDelete)).thenReturn(false);
 
         boolean expectedResut = serviceFacade.deleteCourseByName(courseNameToDelete);
 
-        verify(courseServiceMock, never()).deleteCourseByName(courseNameToDelete);
+        verify(courseServiceMock, times(1)).deleteCourseByName(courseNameToDelete);
         assertFalse(expectedResut);
     }
 
     @Test
-    void getGroupsWithGivenNumberOfStudents_shouldMapGroupsWithTheirNumberOfStudents_whenGroupServiceReturnListOfTwoGroups() {
+    void getGroupsWithGivenNumberOfStudents_shouldReturnedGroupsWithTheirNumberOfStudents_whenGroupServiceReturnListOfThreeGroups() {
         Integer amountOfStudents = 3;
-        Group firstGroup = new Group("GD-43");
-        firstGroup.addStudent(new Student("FirstName_1", "LastName_1", firstGroup));
-        firstGroup.addStudent(new Student("FirstName_2", "LastName_2", firstGroup));
-        Group secondGroup = new Group("JF-96");
-        secondGroup.addStudent(new Student("FirstName_3", "LastName_3", secondGroup));
-        secondGroup.addStudent(new Student("FirstName_4", "LastName_4", secondGroup));
-        secondGroup.addStudent(new Student("FirstName_5", "LastName_5", secondGroup));
-        Group thirdGroup = new Group("BV-83");
-        List<Group> groups = new ArrayList<Group>();
-        groups.add(firstGroup);
-        groups.add(secondGroup);
-        groups.add(thirdGroup);
+        List<GroupStudentsCount> groups = List.of(new GroupStudentsCount(3, "BV-83", 0),
+                new GroupStudentsCount(1, "GD-43", 2), new GroupStudentsCount(2, "JF-96", 3));
         when(validatorMock.validateAmountOfStudents(amountOfStudents)).thenReturn(true);
         when(groupServiceMock.getGroupsWithGivenNumberOfStudents(amountOfStudents)).thenReturn(groups);
 
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = serviceFacade
+        List<GroupStudentsCount> groupsWithTheirNumberOfStudents = serviceFacade
                 .getGroupsWithGivenNumberOfStudents(amountOfStudents);
 
         verify(groupServiceMock, times(1)).getGroupsWithGivenNumberOfStudents(amountOfStudents);
-        assertEquals(3, groupsWithTheirNumberOfStudents.size());
-        assertEquals(2, groupsWithTheirNumberOfStudents.get(GroupMapper.mapGroupToDto(firstGroup)));
-        assertEquals(3, groupsWithTheirNumberOfStudents.get(GroupMapper.mapGroupToDto(secondGroup)));
-        assertEquals(0, groupsWithTheirNumberOfStudents.get(GroupMapper.mapGroupToDto(thirdGroup)));
+        assertEquals(groups, groupsWithTheirNumberOfStudents);
     }
 
     @Test
-    void getGroupsWithGivenNumberOfStudents_shouldEmptyMap_whenGroupServiceReturnEmptyGroupList() {
+    void getGroupsWithGivenNumberOfStudents_shouldEmptyList_whenGroupServiceReturnEmptyGroupList() {
         Integer amountOfStudents = 3;
-        List<Group> groups = new ArrayList<Group>();
+        List<GroupStudentsCount> groups = new ArrayList<GroupStudentsCount>();
         when(validatorMock.validateAmountOfStudents(amountOfStudents)).thenReturn(true);
         when(groupServiceMock.getGroupsWithGivenNumberOfStudents(amountOfStudents)).thenReturn(groups);
 
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = serviceFacade
+        List<GroupStudentsCount> groupsWithTheirNumberOfStudents = serviceFacade
                 .getGroupsWithGivenNumberOfStudents(amountOfStudents);
 
         verify(groupServiceMock, times(1)).getGroupsWithGivenNumberOfStudents(amountOfStudents);
@@ -951,7 +821,7 @@ class ServiceFacadeImplTest {
         Integer amountOfStudents = -1;
         when(validatorMock.validateAmountOfStudents(amountOfStudents)).thenReturn(false);
 
-        Map<GroupDto, Integer> groupsWithTheirNumberOfStudents = serviceFacade
+        List<GroupStudentsCount> groupsWithTheirNumberOfStudents = serviceFacade
                 .getGroupsWithGivenNumberOfStudents(amountOfStudents);
 
         verify(groupServiceMock, never()).getGroupsWithGivenNumberOfStudents(amountOfStudents);
@@ -959,7 +829,7 @@ class ServiceFacadeImplTest {
     }
 
     @Test
-    void getStudentsWithCoursesByCourseName_shouldMapStudentsWithTheirCourses_whenCourseServiceReturnCourseWithGivenName() {
+    void getStudentsWithCoursesByCourseName_shouldReturnedStudentsWithTheirCoursesOrderedByName_whenCourseServiceReturnCourseWithGivenName() {
         String courseName = "CourseName_1";
         Course course = new Course(courseName, "Description_1");
         Student firstStudent = new Student("FirstName_1", "LastName_1", new Group());
@@ -968,28 +838,31 @@ class ServiceFacadeImplTest {
         Student secondStudent = new Student("FirstName_2", "LastName_2", new Group());
         secondStudent.addCourse(course);
         when(validatorMock.validateCourseName(courseName)).thenReturn(true);
-        when(courseServiceMock.getCourseByName(courseName)).thenReturn(Optional.of(course));
+        when(studentServiceMock.getStudentsWithCoursesByCourseName(courseName))
+                .thenReturn(List.of(firstStudent, secondStudent));
 
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = serviceFacade
+        List<StudentCoursesSummary> studentsWithTheirCourses = serviceFacade
                 .getStudentsWithCoursesByCourseName(courseName);
 
-        verify(courseServiceMock, times(1)).getCourseByName(courseName);
+        verify(studentServiceMock, times(1)).getStudentsWithCoursesByCourseName(courseName);
+        verify(courseServiceMock, never()).getCourseByName(courseName);
         assertEquals(2, studentsWithTheirCourses.size());
-        assertEquals(2, studentsWithTheirCourses.get(StudentMapper.mapStudentToDto(firstStudent)).size());
-        assertEquals(1, studentsWithTheirCourses.get(StudentMapper.mapStudentToDto(secondStudent)).size());
+        assertEquals(List.of("CourseName_1", "CourseName_2"), studentsWithTheirCourses.get(0).courses().stream()
+                .map(CourseSummary::courseName)
+                .toList());
+        assertEquals(1, studentsWithTheirCourses.get(1).courses().size());
     }
 
     @Test
-    void getStudentsWithCoursesByCourseName_shouldEmptyMap_whenCourseServiceReturnCourseWithGivenNameAndThisCourseNotNaveAnyStudent() {
+    void getStudentsWithCoursesByCourseName_shouldEmptyList_whenCourseServiceReturnCourseWithGivenNameAndThisCourseNotNaveAnyStudent() {
         String courseName = "CourseName_1";
-        Course course = new Course(courseName, "Description_1");
         when(validatorMock.validateCourseName(courseName)).thenReturn(true);
-        when(courseServiceMock.getCourseByName(courseName)).thenReturn(Optional.of(course));
+        when(studentServiceMock.getStudentsWithCoursesByCourseName(courseName)).thenReturn(new ArrayList<Student>());
 
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = serviceFacade
+        List<StudentCoursesSummary> studentsWithTheirCourses = serviceFacade
                 .getStudentsWithCoursesByCourseName(courseName);
 
-        verify(courseServiceMock, times(1)).getCourseByName(courseName);
+        verify(studentServiceMock, times(1)).getStudentsWithCoursesByCourseName(courseName);
         assertTrue(studentsWithTheirCourses.isEmpty());
     }
 
@@ -998,69 +871,53 @@ class ServiceFacadeImplTest {
         String courseName = "CourseName_1";
         when(validatorMock.validateCourseName(courseName)).thenReturn(false);
 
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = serviceFacade
+        List<StudentCoursesSummary> studentsWithTheirCourses = serviceFacade
                 .getStudentsWithCoursesByCourseName(courseName);
 
-        verify(courseServiceMock, never()).getCourseByName(courseName);
+        verify(studentServiceMock, never()).getStudentsWithCoursesByCourseName(courseName);
         assertNull(studentsWithTheirCourses);
     }
 
     @Test
-    void getAllStudentsWithTheirGroups_shouldStudentsWithTheirGroupsMap_whenStudentServiceReturnStudentsList() {
-        String firstGroupName = "HD-63";
-        String secondGroupName = "SG-62";
-        String thirdGroupName = "KS-63";
-        Student firstStudent = new Student("FirstName_1", "LastName_1", new Group(firstGroupName));
-        Student secondStudent = new Student("FirstName_2", "LastName_2", new Group(secondGroupName));
-        Student thirdStudent = new Student("FirstName_3", "LastName_3", new Group(thirdGroupName));
-        List<Student> allStudents = new ArrayList<Student>();
-        allStudents.add(firstStudent);
-        allStudents.add(secondStudent);
-        allStudents.add(thirdStudent);
-        when(studentServiceMock.getAllStudents()).thenReturn(allStudents);
+    void getAllStudentsWithTheirGroups_shouldStudentsWithTheirGroupsList_whenStudentServiceReturnStudentsSummariesList() {
+        List<StudentSummary> allStudents = List.of(new StudentSummary(1, "FirstName_1", "LastName_1", 1, "HD-63"),
+                new StudentSummary(2, "FirstName_2", "LastName_2", 2, "SG-62"),
+                new StudentSummary(3, "FirstName_3", "LastName_3", null, null));
+        when(studentServiceMock.getAllStudentSummaries()).thenReturn(allStudents);
 
-        Map<StudentDto, GroupDto> studentsWithTheirCourses = serviceFacade.getAllStudentsWithTheirGroups();
+        List<StudentSummary> studentsWithTheirGroups = serviceFacade.getAllStudentsWithTheirGroups();
 
-        verify(studentServiceMock, times(1)).getAllStudents();
-        assertEquals(3, studentsWithTheirCourses.size());
-        assertEquals(firstGroupName,
-                studentsWithTheirCourses.get(StudentMapper.mapStudentToDto(firstStudent)).getGroupName());
-        assertEquals(secondGroupName,
-                studentsWithTheirCourses.get(StudentMapper.mapStudentToDto(secondStudent)).getGroupName());
-        assertEquals(thirdGroupName,
-                studentsWithTheirCourses.get(StudentMapper.mapStudentToDto(thirdStudent)).getGroupName());
+        verify(studentServiceMock, times(1)).getAllStudentSummaries();
+        verify(studentServiceMock, never()).getAllStudents();
+        assertEquals(allStudents, studentsWithTheirGroups);
     }
 
     @Test
-    void getAllStudentsWithTheirGroups_shouldEmptyMap_whenStudentServiceReturnEmptyStudentsList() {
-        List<Student> allStudents = new ArrayList<Student>();
-        when(studentServiceMock.getAllStudents()).thenReturn(allStudents);
+    void getAllStudentsWithTheirGroups_shouldEmptyList_whenStudentServiceReturnEmptyStudentsSummariesList() {
+        List<StudentSummary> allStudents = new ArrayList<StudentSummary>();
+        when(studentServiceMock.getAllStudentSummaries()).thenReturn(allStudents);
 
-        Map<StudentDto, GroupDto> studentsWithTheirCourses = serviceFacade.getAllStudentsWithTheirGroups();
+        List<StudentSummary> studentsWithTheirGroups = serviceFacade.getAllStudentsWithTheirGroups();
 
-        verify(studentServiceMock, times(1)).getAllStudents();
-        assertTrue(studentsWithTheirCourses.isEmpty());
+        verify(studentServiceMock, times(1)).getAllStudentSummaries();
+        assertTrue(studentsWithTheirGroups.isEmpty());
     }
 
     @Test
     void addStudentToCourse_shouldAddedStudentToCourse_whenStudentWithGivenNameExistAndCourseWithGivenNameExistAndStudentNotAlreadyRegisteredOnCourse() {
         String studentFirstName = "FirstName";
         String studentLastName = "LastName";
-        Student student = new Student(studentFirstName, studentLastName, new Group());
         String courseName = "CourseName";
-        Course course = new Course(courseName, "Description");
-        when(validatorMock.validateStudentFullName(studentFirstName, studentLastName)).thenReturn(true);
-        when(validatorMock.validateCourseName(courseName)).thenReturn(true);
-        when(validatorMock.isStudentOnCourse(studentFirstName, studentLastName, courseName)).thenReturn(false);
-        when(studentServiceMock.getStudentByFullName(studentFirstName, studentLastName))
-                .thenReturn(Optional.of(student));
-        when(courseServiceMock.getCourseByName(courseName)).thenReturn(Optional.of(course));
+        when(validatorMock.validateEnrollment(studentFirstName, studentLastName, courseName))
+                .thenReturn(new EnrollmentValidation(1, 2, false));
+        when(studentServiceMock.addStudentToCourse(1, 2)).thenReturn(true);
 
-        boolean studentAddedToCourse = serviceFacade.addStudentToCourse(studentFirstName, studentLastName, courseName);
+        boolean actualResult = serviceFacade.addStudentToCourse(studentFirstName, studentLastName, courseName);
 
-        verify(studentServiceMock, times(1)).getStudentByFullName(studentFirstName, studentLastName);
-        verify(courseServiceMock, times(1)).getCourseByName(courseName);
-        assertTrue(studentAddedToCourse);
+        verify(studentServiceMock, times(1)).addStudentToCourse(1, 2);
+        verify(studentServiceMock, never()).getStudentByFullName(studentFirstName, studentLastName);
+        verify(courseServiceMock, never()).getCourseByName(courseName);
+        assertTrue(actualResult);
     }
 
     @Test
@@ -1068,15 +925,13 @@ class ServiceFacadeImplTest {
         String studentFirstName = "FirstName";
         String studentLastName = "LastName";
         String courseName = "CourseName";
-        when(validatorMock.validateStudentFullName(studentFirstName, studentLastName)).thenReturn(false);
-        when(validatorMock.validateCourseName(courseName)).thenReturn(true);
-        when(validatorMock.isStudentOnCourse(studentFirstName, studentLastName, courseName)).thenReturn(false);
+        when(validatorMock.validateEnrollment(studentFirstName, studentLastName, courseName))
+                .thenReturn(new EnrollmentValidation(null, 2, false));
 
-        boolean studentAddedToCourse = serviceFacade.addStudentToCourse(studentFirstName, studentLastName, courseName);
+        boolean actualResult = serviceFacade.addStudentToCourse(studentFirstName, studentLastName, courseName);
 
-        verify(studentServiceMock, never()).getStudentByFullName(studentFirstName, studentLastName);
-        verify(courseServiceMock, never()).getCourseByName(courseName);
-        assertFalse(studentAddedToCourse);
+        verify(studentServiceMock, never()).addStudentToCourse(any(), any());
+        assertFalse(actualResult);
     }
 
     @Test
@@ -1084,15 +939,13 @@ class ServiceFacadeImplTest {
         String studentFirstName = "FirstName";
         String studentLastName = "LastName";
         String courseName = "CourseName";
-        when(validatorMock.validateStudentFullName(studentFirstName, studentLastName)).thenReturn(true);
-        when(validatorMock.validateCourseName(courseName)).thenReturn(false);
-        when(validatorMock.isStudentOnCourse(studentFirstName, studentLastName, courseName)).thenReturn(false);
+        when(validatorMock.validateEnrollment(studentFirstName, studentLastName, courseName))
+                .thenReturn(new EnrollmentValidation(1, null, false));
 
-        boolean studentAddedToCourse = serviceFacade.addStudentToCourse(studentFirstName, studentLastName, courseName);
+        boolean actualResult = serviceFacade.addStudentToCourse(studentFirstName, studentLastName, courseName);
 
-        verify(studentServiceMock, never()).getStudentByFullName(studentFirstName, studentLastName);
-        verify(courseServiceMock, never()).getCourseByName(courseName);
-        assertFalse(studentAddedToCourse);
+        verify(studentServiceMock, never()).addStudentToCourse(any(), any());
+        assertFalse(actualResult);
     }
 
     @Test
@@ -1100,55 +953,44 @@ class ServiceFacadeImplTest {
         String studentFirstName = "FirstName";
         String studentLastName = "LastName";
         String courseName = "CourseName";
-        when(validatorMock.validateStudentFullName(studentFirstName, studentLastName)).thenReturn(true);
-        when(validatorMock.validateCourseName(courseName)).thenReturn(true);
-        when(validatorMock.isStudentOnCourse(studentFirstName, studentLastName, courseName)).thenReturn(true);
+        when(validatorMock.validateEnrollment(studentFirstName, studentLastName, courseName))
+                .thenReturn(new EnrollmentValidation(1, 2, true));
 
-        boolean studentAddedToCourse = serviceFacade.addStudentToCourse(studentFirstName, studentLastName, courseName);
+        boolean actualResult = serviceFacade.addStudentToCourse(studentFirstName, studentLastName, courseName);
 
-        verify(studentServiceMock, never()).getStudentByFullName(studentFirstName, studentLastName);
-        verify(courseServiceMock, never()).getCourseByName(courseName);
-        assertFalse(studentAddedToCourse);
+        verify(studentServiceMock, never()).addStudentToCourse(any(), any());
+        assertFalse(actualResult);
     }
 
     @Test
     void deleteStudentFromCourse_shouldDeletedStudentFromCourse_whenStudentWithGivenNameExistAndCourseWithGivenNameExistAndStudentAlreadyRegisteredOnCourse() {
         String studentFirstName = "FirstName";
         String studentLastName = "LastName";
-        Student student = new Student(studentFirstName, studentLastName, new Group());
         String courseName = "CourseName";
-        Course course = new Course(courseName, "Description");
-        when(validatorMock.validateStudentFullName(studentFirstName, studentLastName)).thenReturn(true);
-        when(validatorMock.validateCourseName(courseName)).thenReturn(true);
-        when(validatorMock.isStudentOnCourse(studentFirstName, studentLastName, courseName)).thenReturn(true);
-        when(studentServiceMock.getStudentByFullName(studentFirstName, studentLastName))
-                .thenReturn(Optional.of(student));
-        when(courseServiceMock.getCourseByName(courseName)).thenReturn(Optional.of(course));
+        when(validatorMock.validateEnrollment(studentFirstName, studentLastName, courseName))
+                .thenReturn(new EnrollmentValidation(1, 2, true));
+        when(studentServiceMock.deleteStudentFromCourse(1, 2)).thenReturn(true);
 
-        boolean studentDeletedFromCourse = serviceFacade.deleteStudentFromCourse(studentFirstName, studentLastName,
-                courseName);
+        boolean actualResult = serviceFacade.deleteStudentFromCourse(studentFirstName, studentLastName, courseName);
 
-        verify(studentServiceMock, times(1)).getStudentByFullName(studentFirstName, studentLastName);
-        verify(courseServiceMock, times(1)).getCourseByName(courseName);
-        assertTrue(studentDeletedFromCourse);
+        verify(studentServiceMock, times(1)).deleteStudentFromCourse(1, 2);
+        verify(studentServiceMock, never()).getStudentByFullName(studentFirstName, studentLastName);
+        verify(courseServiceMock, never()).getCourseByName(courseName);
+        assertTrue(actualResult);
     }
 
     @Test
     void deleteStudentFromCourse_shouldNotDeletedStudentFromCourse_whenNoStudentWithGivenName() {
-        serviceFacade = new ServiceFacadeImpl(groupServiceMock, studentServiceMock, courseServiceMock, validatorMock);
         String studentFirstName = "FirstName";
         String studentLastName = "LastName";
         String courseName = "CourseName";
-        when(validatorMock.validateStudentFullName(studentFirstName, studentLastName)).thenReturn(false);
-        when(validatorMock.validateCourseName(courseName)).thenReturn(true);
-        when(validatorMock.isStudentOnCourse(studentFirstName, studentLastName, courseName)).thenReturn(false);
+        when(validatorMock.validateEnrollment(studentFirstName, studentLastName, courseName))
+                .thenReturn(new EnrollmentValidation(null, 2, false));
 
-        boolean studentDeletedFromCourse = serviceFacade.deleteStudentFromCourse(studentFirstName, studentLastName,
-                courseName);
+        boolean actualResult = serviceFacade.deleteStudentFromCourse(studentFirstName, studentLastName, courseName);
 
-        verify(studentServiceMock, never()).getStudentByFullName(studentFirstName, studentLastName);
-        verify(courseServiceMock, never()).getCourseByName(courseName);
-        assertFalse(studentDeletedFromCourse);
+        verify(studentServiceMock, never()).deleteStudentFromCourse(any(), any());
+        assertFalse(actualResult);
     }
 
     @Test
@@ -1156,16 +998,13 @@ class ServiceFacadeImplTest {
         String studentFirstName = "FirstName";
         String studentLastName = "LastName";
         String courseName = "CourseName";
-        when(validatorMock.validateStudentFullName(studentFirstName, studentLastName)).thenReturn(true);
-        when(validatorMock.validateCourseName(courseName)).thenReturn(false);
-        when(validatorMock.isStudentOnCourse(studentFirstName, studentLastName, courseName)).thenReturn(false);
+        when(validatorMock.validateEnrollment(studentFirstName, studentLastName, courseName))
+                .thenReturn(new EnrollmentValidation(1, null, false));
 
-        boolean studentDeletedFromCourse = serviceFacade.deleteStudentFromCourse(studentFirstName, studentLastName,
-                courseName);
+        boolean actualResult = serviceFacade.deleteStudentFromCourse(studentFirstName, studentLastName, courseName);
 
-        verify(studentServiceMock, never()).getStudentByFullName(studentFirstName, studentLastName);
-        verify(courseServiceMock, never()).getCourseByName(courseName);
-        assertFalse(studentDeletedFromCourse);
+        verify(studentServiceMock, never()).deleteStudentFromCourse(any(), any());
+        assertFalse(actualResult);
     }
 
     @Test
@@ -1173,16 +1012,122 @@ class ServiceFacadeImplTest {
         String studentFirstName = "FirstName";
         String studentLastName = "LastName";
         String courseName = "CourseName";
-        when(validatorMock.validateStudentFullName(studentFirstName, studentLastName)).thenReturn(true);
-        when(validatorMock.validateCourseName(courseName)).thenReturn(true);
-        when(validatorMock.isStudentOnCourse(studentFirstName, studentLastName, courseName)).thenReturn(false);
+        when(validatorMock.validateEnrollment(studentFirstName, studentLastName, courseName))
+                .thenReturn(new EnrollmentValidation(1, 2, false));
 
-        boolean studentDeletedFromCourse = serviceFacade.deleteStudentFromCourse(studentFirstName, studentLastName,
-                courseName);
+        boolean actualResult = serviceFacade.deleteStudentFromCourse(studentFirstName, studentLastName, courseName);
 
-        verify(studentServiceMock, never()).getStudentByFullName(studentFirstName, studentLastName);
-        verify(courseServiceMock, never()).getCourseByName(courseName);
-        assertFalse(studentDeletedFromCourse);
+        verify(studentServiceMock, never()).deleteStudentFromCourse(any(), any());
+        assertFalse(actualResult);
+    }
+
+    @Test
+    void addNewStudents_shouldAddValidStudentsWithOneBatch_whenSomeStudentsAreInvalid() {
+        Group group = new Group("AB-12");
+        List<StudentRequest> newStudents = List.of(
+                new StudentRequest("FirstName", "LastName", "AB-12"),
+                new StudentRequest("FirstName", "LastName", "AB-12"),
+                new StudentRequest("Taken", "Name", "AB-12"),
+                new StudentRequest("NoGroup", "Name", "CD-34"),
+                new StudentRequest("Other", "Name", "AB-12"));
+        when(validatorMock.validateStudents(newStudents)).thenReturn(List.of(
+                new StudentValidation(true, true, group),
+                new StudentValidation(true, true, group),
+                new StudentValidation(true, true, group),
+                new StudentValidation(true, true, null),
+                new StudentValidation(true, true, group)));
+        List<StudentRequest> studentsToAdd = List.of(newStudents.get(0), newStudents.get(2), newStudents.get(4));
+        when(studentServiceMock.addStudents(studentsToAdd))
+                .thenReturn(List.of(new StudentName("FirstName", "LastName"), new StudentName("Other", "Name")));
+
+        List<Boolean> actualResults = serviceFacade.addNewStudents(newStudents);
+
+        verify(studentServiceMock, times(1)).addStudents(studentsToAdd);
+        verify(studentServiceMock, never()).addStudent(any());
+        assertEquals(List.of(true, false, false, false, true), actualResults);
+    }
+
+    @Test
+    void addNewStudents_shouldFalseWithoutException_whenConcurrentCommandHasAddedSameNameAfterValidation() {
+        Group group = new Group("AB-12");
+        List<StudentRequest> newStudents = List.of(
+                new StudentRequest("FirstName", "LastName", "AB-12"),
+                new StudentRequest("Other", "Name", "AB-12"));
+        when(validatorMock.validateStudents(newStudents)).thenReturn(List.of(
+                new StudentValidation(true, true, group),
+                new StudentValidation(true, true, group)));
+        when(studentServiceMock.addStudents(newStudents)).thenReturn(List.of(new StudentName("Other", "Name")));
+
+        List<Boolean> actualResults = serviceFacade.addNewStudents(newStudents);
+
+        assertEquals(List.of(false, true), actualResults);
+    }
+
+    @Test
+    void addNewStudents_shouldNotAddStudents_whenNoStudentIsValid() {
+        List<StudentRequest> newStudents = List.of(new StudentRequest("FirstName", "LastName", "CD-34"));
+        when(validatorMock.validateStudents(newStudents))
+                .thenReturn(List.of(new StudentValidation(true, true, null)));
+
+        List<Boolean> actualResults = serviceFacade.addNewStudents(newStudents);
+
+        verify(studentServiceMock, never()).addStudents(any());
+        assertEquals(List.of(false), actualResults);
+    }
+
+    @Test
+    void addStudentsToCourses_shouldAddValidEnrollmentsWithOneBatch_whenSomeEnrollmentsAreInvalid() {
+        List<EnrollmentRequest> enrollments = List.of(
+                new EnrollmentRequest("FirstName", "LastName", "Math"),
+                new EnrollmentRequest("FirstName", "LastName", "Math"),
+                new EnrollmentRequest("FirstName", "LastName", "Art"),
+                new EnrollmentRequest("Unknown", "Student", "Math"),
+                new EnrollmentRequest("FirstName", "LastName", "Unknown"),
+                new EnrollmentRequest("Other", "Student", "Math"));
+        when(validatorMock.validateEnrollments(enrollments)).thenReturn(List.of(
+                new EnrollmentValidation(1, 2, false),
+                new EnrollmentValidation(1, 2, false),
+                new EnrollmentValidation(1, 3, true),
+                new EnrollmentValidation(null, 2, false),
+                new EnrollmentValidation(1, null, false),
+                new EnrollmentValidation(4, 2, false)));
+        when(studentServiceMock.addStudentsToCourses(Set.of(new Enrollment(1, 2), new Enrollment(4, 2))))
+                .thenReturn(List.of(new Enrollment(1, 2), new Enrollment(4, 2)));
+
+        List<Boolean> actualResults = serviceFacade.addStudentsToCourses(enrollments);
+
+        verify(studentServiceMock, times(1))
+                .addStudentsToCourses(Set.of(new Enrollment(1, 2), new Enrollment(4, 2)));
+        verify(studentServiceMock, never()).addStudentToCourse(any(), any());
+        assertEquals(List.of(true, false, false, false, false, true), actualResults);
+    }
+
+    @Test
+    void addStudentsToCourses_shouldFalse_whenConcurrentCommandHasAddedEnrollmentFirst() {
+        List<EnrollmentRequest> enrollments = List.of(
+                new EnrollmentRequest("FirstName", "LastName", "Math"),
+                new EnrollmentRequest("Other", "Student", "Math"));
+        when(validatorMock.validateEnrollments(enrollments)).thenReturn(List.of(
+                new EnrollmentValidation(1, 2, false),
+                new EnrollmentValidation(4, 2, false)));
+        when(studentServiceMock.addStudentsToCourses(Set.of(new Enrollment(1, 2), new Enrollment(4, 2))))
+                .thenReturn(List.of(new Enrollment(4, 2)));
+
+        List<Boolean> actualResults = serviceFacade.addStudentsToCourses(enrollments);
+
+        assertEquals(List.of(false, true), actualResults);
+    }
+
+    @Test
+    void addStudentsToCourses_shouldNotAddEnrollments_whenNoEnrollmentIsValid() {
+        List<EnrollmentRequest> enrollments = List.of(new EnrollmentRequest("FirstName", "LastName", "Math"));
+        when(validatorMock.validateEnrollments(enrollments))
+                .thenReturn(List.of(new EnrollmentValidation(1, 2, true)));
+
+        List<Boolean> actualResults = serviceFacade.addStudentsToCourses(enrollments);
+
+        verify(studentServiceMock, never()).addStudentsToCourses(any());
+        assertEquals(List.of(false), actualResults);
     }
 
     @Test
@@ -1195,49 +1140,208 @@ class ServiceFacadeImplTest {
         List<Student> allStudents = new ArrayList<Student>();
         allStudents.add(firstStudent);
         allStudents.add(secondStudent);
-        when(studentServiceMock.getAllStudents()).thenReturn(allStudents);
+        when(studentServiceMock.getAllStudentsWithCourses()).thenReturn(allStudents);
 
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = serviceFacade.getAllStudentsWithTheirCourses();
+        List<StudentCoursesSummary> studentsWithTheirCourses = serviceFacade.getAllStudentsWithTheirCourses();
 
-        verify(studentServiceMock, times(1)).getAllStudents();
+        verify(studentServiceMock, times(1)).getAllStudentsWithCourses();
         assertEquals(2, studentsWithTheirCourses.size());
-        assertEquals(2, studentsWithTheirCourses.get(StudentMapper.mapStudentToDto(firstStudent)).size());
-        assertEquals(1, studentsWithTheirCourses.get(StudentMapper.mapStudentToDto(secondStudent)).size());
+        assertEquals(2, studentsWithTheirCourses.get(0).courses().size());
+        assertEquals(1, studentsWithTheirCourses.get(1).courses().size());
     }
 
     @Test
-    void getAllStudentsWithTheirCourses_shouldEmptyMap_whenStudentServiceReturnEmptyStudentsList() {
+    void getAllStudentsWithTheirCourses_shouldEmptyList_whenStudentServiceReturnEmptyStudentsList() {
         List<Student> allStudents = new ArrayList<Student>();
-        when(studentServiceMock.getAllStudents()).thenReturn(allStudents);
+        when(studentServiceMock.getAllStudentsWithCourses()).thenReturn(allStudents);
 
-        Map<StudentDto, Set<CourseDto>> studentsWithTheirCourses = serviceFacade.getAllStudentsWithTheirCourses();
+        List<StudentCoursesSummary> studentsWithTheirCourses = serviceFacade.getAllStudentsWithTheirCourses();
 
-        verify(studentServiceMock, times(1)).getAllStudents();
+        verify(studentServiceMock, times(1)).getAllStudentsWithCourses();
         assertTrue(studentsWithTheirCourses.isEmpty());
     }
 
     @Test
-    void addStudentsToCourses_shouldStudentAddedToCourses_whenStudentServiceReturnStudentsList() throws Exception {
-        Method method = ServiceFacadeImpl.class.getDeclaredMethod("addStudentsToCourses");
-        method.setAccessible(true);
-        when(studentServiceMock.getAllStudents()).thenReturn(Arrays.asList(new Student()));
-        when(courseServiceMock.getCourseById(anyInt())).thenReturn(Optional.of(new Course()));
+    void initSchema_shouldLoadedSchemaWithBulkLoader_whenCopyLoaderSelectedAndAllTablesEmpty() {
+        serviceFacade = new ServiceFacadeImpl(groupServiceMock, studentServiceMock, courseServiceMock, validatorMock,
+                bulkLoaderMock, enrollmentLoaderMock, csvImporterMock, "copy");
+        when(groupServiceMock.hasGroups()).thenReturn(false);
+        when(studentServiceMock.hasStudents()).thenReturn(false);
+        when(courseServiceMock.hasCourses()).thenReturn(false);
 
-        method.invoke(serviceFacade);
+        serviceFacade.initSchema();
 
-        verify(studentServiceMock, times(1)).getAllStudents();
+        verify(bulkLoaderMock, times(1)).loadSchema();
+        verify(groupServiceMock, never()).initGroups();
+        verify(studentServiceMock, never()).initStudents(new ArrayList<Group>());
+        verify(courseServiceMock, never()).initCourses();
     }
 
     @Test
-    void addStudentsToCourses_shouldNoOneAddedToCourse_whenStudentServiceReturnEmptyStudentsList() throws Exception {
-        Method method = ServiceFacadeImpl.class.getDeclaredMethod("addStudentsToCourses");
-        method.setAccessible(true);
-        when(studentServiceMock.getAllStudents()).thenReturn(new ArrayList<Student>());
+    void initSchema_shouldNotLoadedSchemaWithBulkLoader_whenCopyLoaderSelectedAndGroupsTableNotEmpty() {
+        serviceFacade = new ServiceFacadeImpl(groupServiceMock, studentServiceMock, courseServiceMock, validatorMock,
+                bulkLoaderMock, enrollmentLoaderMock, csvImporterMock, "copy");
+        when(groupServiceMock.hasGroups()).thenReturn(true);
+        when(studentServiceMock.hasStudents()).thenReturn(false);
+        when(courseServiceMock.hasCourses()).thenReturn(false);
 
-        method.invoke(serviceFacade);
+        serviceFacade.initSchema();
+
+        verify(bulkLoaderMock, never()).loadSchema();
+    }
+
+    @Test
+    void initSchema_shouldNotEnrolledStudents_whenCopyLoaderSelectedAndAllTablesEmpty() {
+        serviceFacade = new ServiceFacadeImpl(groupServiceMock, studentServiceMock, courseServiceMock, validatorMock,
+                bulkLoaderMock, enrollmentLoaderMock, csvImporterMock, "copy");
+        when(groupServiceMock.hasGroups()).thenReturn(false);
+        when(studentServiceMock.hasStudents()).thenReturn(false);
+        when(courseServiceMock.hasCourses()).thenReturn(false);
+
+        serviceFacade.initSchema();
+
+        verify(enrollmentLoaderMock, never()).enrollStudents();
+    }
+
+    @Test
+    void initSchema_shouldImportedSchemaWithCsvImporter_whenCsvLoaderSelectedAndAllTablesEmpty() {
+        serviceFacade = new ServiceFacadeImpl(groupServiceMock, studentServiceMock, courseServiceMock, validatorMock,
+                bulkLoaderMock, enrollmentLoaderMock, csvImporterMock, "csv");
+        when(groupServiceMock.hasGroups()).thenReturn(false);
+        when(studentServiceMock.hasStudents()).thenReturn(false);
+        when(courseServiceMock.hasCourses()).thenReturn(false);
+
+        serviceFacade.initSchema();
+
+        verify(csvImporterMock, times(1)).importSchema();
+        verify(bulkLoaderMock, never()).loadSchema();
+        verify(groupServiceMock, never()).initGroups();
+        verify(enrollmentLoaderMock, never()).enrollStudents();
+    }
+
+    @Test
+    void initSchema_shouldNotImportedSchema_whenCsvLoaderSelectedAndCoursesTableNotEmpty() {
+        serviceFacade = new ServiceFacadeImpl(groupServiceMock, studentServiceMock, courseServiceMock, validatorMock,
+                bulkLoaderMock, enrollmentLoaderMock, csvImporterMock, "csv");
+        when(groupServiceMock.hasGroups()).thenReturn(false);
+        when(studentServiceMock.hasStudents()).thenReturn(false);
+        when(courseServiceMock.hasCourses()).thenReturn(true);
+
+        serviceFacade.initSchema();
+
+        verify(csvImporterMock, never()).importSchema();
+    }
+
+    @Test
+    void initSchema_shouldNotLoadedAllRows_whenCheckingWhetherTablesAreEmpty() {
+        when(groupServiceMock.hasGroups()).thenReturn(true);
+
+        serviceFacade.initSchema();
+
+        verify(groupServiceMock, never()).getAllGroups();
+        verify(studentServiceMock, never()).getAllStudents();
+        verify(courseServiceMock, never()).getAllCourses();
+    }
+
+    @Test
+    void getStudentsWithTheirGroupsPage_shouldFirstPageWithNextPage_whenMoreStudentsThanPageSizeExist() {
+        KeysetPageRequest pageRequest = KeysetPageRequest.first(2);
+        List<StudentSummary> students = List.of(new StudentSummary(1, "FirstName_1", "LastName", 1, "GH-23"),
+                new StudentSummary(2, "FirstName_2", "LastName", 1, "GH-23"),
+                new StudentSummary(3, "FirstName_3", "LastName", 2, "KL-91"));
+        when(studentServiceMock.getStudentSummariesAfter(null, 3)).thenReturn(students);
+
+        KeysetPage<StudentSummary> page = serviceFacade.getStudentsWithTheirGroupsPage(pageRequest);
+
+        assertEquals(List.of(1, 2), page.items().stream().map(StudentSummary::id).toList());
+        assertEquals("GH-23", page.items().get(0).groupName());
+        assertFalse(page.hasPrevious());
+        assertTrue(page.hasNext());
+        assertEquals(new KeysetPageRequest(2, false, 2), page.nextPageRequest());
+        verify(studentServiceMock, never()).getStudentsAfter(null, 3);
+    }
+
+    @Test
+    void getStudentsWithTheirGroupsPage_shouldLastPageWithoutNextPage_whenFewerStudentsThanPageSizeRemain() {
+        KeysetPageRequest pageRequest = new KeysetPageRequest(2, false, 2);
+        when(studentServiceMock.getStudentSummariesAfter(2, 3))
+                .thenReturn(List.of(new StudentSummary(3, "FirstName_3", "LastName", 2, "KL-91")));
+
+        KeysetPage<StudentSummary> page = serviceFacade.getStudentsWithTheirGroupsPage(pageRequest);
+
+        assertEquals(1, page.items().size());
+        assertTrue(page.hasPrevious());
+        assertFalse(page.hasNext());
+        assertEquals(new KeysetPageRequest(3, true, 2), page.previousPageRequest());
+    }
+
+    @Test
+    void getStudentsWithTheirCoursesPage_shouldPreviousPageClosestToGivenStudent_whenBackwardRequestGiven() {
+        KeysetPageRequest pageRequest = new KeysetPageRequest(4, true, 2);
+        Student firstStudent = getStudent(1, "FirstName_1", "GH-23");
+        Student secondStudent = getStudent(2, "FirstName_2", "GH-23");
+        secondStudent.addCourse(new Course("CourseName_1", "Description_1"));
+        Student thirdStudent = getStudent(3, "FirstName_3", "KL-91");
+        when(studentServiceMock.getStudentsBefore(4, 3)).thenReturn(List.of(firstStudent, secondStudent, thirdStudent));
+
+        KeysetPage<StudentCoursesSummary> page = serviceFacade.getStudentsWithTheirCoursesPage(pageRequest);
+
+        assertEquals(List.of(2, 3), page.items().stream().map(StudentCoursesSummary::id).toList());
+        assertEquals(1, page.items().get(0).courses().size());
+        assertEquals(new KeysetPageRequest(2, true, 2), page.previousPageRequest());
+        assertTrue(page.hasPrevious());
+        assertTrue(page.hasNext());
+        verify(studentServiceMock, never()).getAllStudentsWithCourses();
+    }
+
+    @Test
+    void getStudentsWithTheirCoursesPage_shouldEmptyPage_whenNoStudentsExist() {
+        when(studentServiceMock.getStudentsAfter(null, 21)).thenReturn(new ArrayList<Student>());
+
+        KeysetPage<StudentCoursesSummary> page = serviceFacade
+                .getStudentsWithTheirCoursesPage(KeysetPageRequest.first(20));
+
+        assertTrue(page.items().isEmpty());
+        assertFalse(page.hasPrevious());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void getGroupsPage_shouldFirstPageWithNextPage_whenMoreGroupsThanPageSizeExist() {
+        KeysetPageRequest pageRequest = KeysetPageRequest.first(2);
+        when(groupServiceMock.getGroupSummariesAfter(null, 3)).thenReturn(List.of(new GroupSummary(1, "GH-23"),
+                new GroupSummary(2, "KL-91"), new GroupSummary(3, "AB-12")));
+
+        KeysetPage<GroupSummary> page = serviceFacade.getGroupsPage(pageRequest);
+
+        assertEquals(List.of(new GroupSummary(1, "GH-23"), new GroupSummary(2, "KL-91")), page.items());
+        assertFalse(page.hasPrevious());
+        assertTrue(page.hasNext());
+        assertEquals(new KeysetPageRequest(2, false, 2), page.nextPageRequest());
+        verify(groupServiceMock, never()).getAllGroupSummaries();
+    }
+
+    @Test
+    void getCoursesPage_shouldPreviousPageClosestToGivenCourse_whenBackwardRequestGiven() {
+        KeysetPageRequest pageRequest = new KeysetPageRequest(4, true, 2);
+        when(courseServiceMock.getCourseSummariesBefore(4, 3)).thenReturn(List.of(
+                new CourseSummary(1, "CourseName_1", "Description_1"),
+                new CourseSummary(2, "CourseName_2", "Description_2"),
+                new CourseSummary(3, "CourseName_3", "Description_3")));
+
+        KeysetPage<CourseSummary> page = serviceFacade.getCoursesPage(pageRequest);
+
+        assertEquals(List.of(2, 3), page.items().stream().map(CourseSummary::id).toList());
+        assertTrue(page.hasPrevious());
+        assertTrue(page.hasNext());
+        assertEquals(new KeysetPageRequest(2, true, 2), page.previousPageRequest());
+        verify(courseServiceMock, never()).getAllCourseSummaries();
+    }
 
-        verify(studentServiceMock, times(1)).getAllStudents();
-        verify(courseServiceMock, never()).getCourseById(anyInt());
+    private Student getStudent(Integer id, String firstName, String groupName) {
+        Student student = new Student(firstName, "LastName", new Group(groupName));
+        student.setId(id);
+        return student;
     }
 
 }
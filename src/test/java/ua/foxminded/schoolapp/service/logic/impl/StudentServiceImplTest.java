@@ -2,6 +2,8 @@ package ua.foxminded.schoolapp.service.logic.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -9,12 +11,20 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import jakarta.persistence.EntityManager;
+import ua.foxminded.schoolapp.dto.Enrollment;
 import ua.foxminded.schoolapp.dto.StudentDto;
+import ua.foxminded.schoolapp.dto.StudentName;
+import ua.foxminded.schoolapp.dto.StudentRequest;
+import ua.foxminded.schoolapp.dto.StudentSummary;
 import ua.foxminded.schoolapp.dto.mapper.StudentMapper;
+import ua.foxminded.schoolapp.exception.DataGenerationException;
 import ua.foxminded.schoolapp.model.Group;
 import ua.foxminded.schoolapp.model.Student;
 import ua.foxminded.schoolapp.repository.StudentRepository;
@@ -29,6 +39,9 @@ class StudentServiceImplTest {
     @MockBean
     private StudentRepository studentRepositoryMock;
 
+    @MockBean
+    private EntityManager entityManagerMock;
+
     @Autowired
     private StudentServiceImpl studentService;
 
@@ -39,12 +52,12 @@ class StudentServiceImplTest {
         generatedStudents.add(new StudentDto());
         generatedStudents.add(new StudentDto());
         List<Group> groups = new ArrayList<Group>();
-        when(studentsGeneratorMock.toGenerate()).thenReturn(generatedStudents);
+        when(studentsGeneratorMock.toGenerateStream()).thenReturn(generatedStudents.stream());
 
         studentService.initStudents(groups);
 
-        verify(studentsGeneratorMock, times(1)).toGenerate();
-        verify(studentRepositoryMock, never()).save(any(Student.class));
+        verify(studentsGeneratorMock, times(1)).toGenerateStream();
+        verify(studentRepositoryMock, never()).saveAll(anyList());
     }
 
     @Test
@@ -54,12 +67,12 @@ class StudentServiceImplTest {
         groups.add(new Group());
         groups.add(new Group());
         groups.add(new Group());
-        when(studentsGeneratorMock.toGenerate()).thenReturn(generatedStudents);
+        when(studentsGeneratorMock.toGenerateStream()).thenReturn(generatedStudents.stream());
 
         studentService.initStudents(groups);
 
-        verify(studentsGeneratorMock, times(1)).toGenerate();
-        verify(studentRepositoryMock, never()).save(any(Student.class));
+        verify(studentsGeneratorMock, times(1)).toGenerateStream();
+        verify(studentRepositoryMock, never()).saveAll(anyList());
     }
 
     @Test
@@ -72,12 +85,13 @@ class StudentServiceImplTest {
         groups.add(new Group());
         groups.add(new Group());
         groups.add(new Group());
-        when(studentsGeneratorMock.toGenerate()).thenReturn(generatedStudents);
+        when(studentsGeneratorMock.toGenerateStream()).thenReturn(generatedStudents.stream());
 
         studentService.initStudents(groups);
 
-        verify(studentsGeneratorMock, times(1)).toGenerate();
-        verify(studentRepositoryMock, times(generatedStudents.size())).save(any(Student.class));
+        verify(studentsGeneratorMock, times(1)).toGenerateStream();
+        verify(studentRepositoryMock, times(1))
+                .saveAll(argThat((List<Student> students) -> students.size() == generatedStudents.size()));
     }
 
     @Test
@@ -88,12 +102,13 @@ class StudentServiceImplTest {
         generatedStudents.add(new StudentDto());
         List<Group> groups = new ArrayList<Group>();
         groups.add(new Group());
-        when(studentsGeneratorMock.toGenerate()).thenReturn(generatedStudents);
+        when(studentsGeneratorMock.toGenerateStream()).thenReturn(generatedStudents.stream());
 
         studentService.initStudents(groups);
 
-        verify(studentsGeneratorMock, times(1)).toGenerate();
-        verify(studentRepositoryMock, times(generatedStudents.size())).save(any(Student.class));
+        verify(studentsGeneratorMock, times(1)).toGenerateStream();
+        verify(studentRepositoryMock, times(1))
+                .saveAll(argThat((List<Student> students) -> students.size() == generatedStudents.size()));
     }
 
     @Test
@@ -104,12 +119,13 @@ class StudentServiceImplTest {
         groups.add(new Group());
         groups.add(new Group());
         groups.add(new Group());
-        when(studentsGeneratorMock.toGenerate()).thenReturn(generatedStudents);
+        when(studentsGeneratorMock.toGenerateStream()).thenReturn(generatedStudents.stream());
 
         studentService.initStudents(groups);
 
-        verify(studentsGeneratorMock, times(1)).toGenerate();
-        verify(studentRepositoryMock, times(generatedStudents.size())).save(any(Student.class));
+        verify(studentsGeneratorMock, times(1)).toGenerateStream();
+        verify(studentRepositoryMock, times(1))
+                .saveAll(argThat((List<Student> students) -> students.size() == generatedStudents.size()));
     }
 
     @Test
@@ -117,10 +133,20 @@ class StudentServiceImplTest {
         List<StudentDto> generatedStudents = new ArrayList<>();
         generatedStudents.add(new StudentDto());
         List<Group> groups = null;
-        when(studentsGeneratorMock.toGenerate()).thenReturn(generatedStudents);
+        when(studentsGeneratorMock.toGenerateStream()).thenReturn(generatedStudents.stream());
 
         assertThrows(NullPointerException.class, () -> studentService.initStudents(groups));
-        verify(studentsGeneratorMock, times(1)).toGenerate();
+        verify(studentsGeneratorMock, times(1)).toGenerateStream();
+    }
+
+    @Test
+    void initStudents_shouldDataGenerationException_whenStudentsGeneratorDoesNotReportNumberOfStudents() {
+        List<Group> groups = new ArrayList<Group>();
+        groups.add(new Group());
+        when(studentsGeneratorMock.toGenerateStream()).thenReturn(Stream.generate(StudentDto::new).limit(3));
+
+        assertThrows(DataGenerationException.class, () -> studentService.initStudents(groups));
+        verify(studentRepositoryMock, never()).saveAll(anyList());
     }
 
     @Test
@@ -134,11 +160,11 @@ class StudentServiceImplTest {
     void addStudent_shouldAddedNewStudentAndReturnedStudentOptional_whenStudentRepositorySuccessfulSaveNewStudent() {
         StudentDto studentDto = new StudentDto("FirstName", "LastName", new Group());
         Student expectedNewStudent = StudentMapper.mapDtoToStudent(studentDto);
-        when(studentRepositoryMock.save(expectedNewStudent)).thenReturn(expectedNewStudent);
+        when(studentRepositoryMock.saveAndFlush(expectedNewStudent)).thenReturn(expectedNewStudent);
 
         Optional<Student> actualStudent = studentService.addStudent(studentDto);
 
-        verify(studentRepositoryMock, times(1)).save(expectedNewStudent);
+        verify(studentRepositoryMock, times(1)).saveAndFlush(expectedNewStudent);
         assertTrue(actualStudent.isPresent());
         assertEquals(expectedNewStudent, actualStudent.get());
     }
@@ -233,37 +259,200 @@ class StudentServiceImplTest {
     }
 
     @Test
-    void updateStudent_shouldReturnedUpdatedStudentOptional_whenStudentRepositorySuccessfullyUpdateStudent() {
-        Student updatedStudent = new Student("NewFirstName", "NewLastName", new Group());
-        when(studentRepositoryMock.save(updatedStudent)).thenReturn(updatedStudent);
+    void updateStudent_shouldTrue_whenStudentRepositoryUpdatedStudent() {
+        Group newGroup = new Group("AS-84");
+        when(studentRepositoryMock.updateByFullName("FirstName", "LastName", "NewFirstName", "NewLastName", newGroup))
+                .thenReturn(1);
 
-        Optional<Student> actualStudent = studentService.updateStudent(updatedStudent);
+        boolean studentIsUpdated = studentService.updateStudent("FirstName", "LastName", "NewFirstName",
+                "NewLastName", newGroup);
 
-        verify(studentRepositoryMock, times(1)).save(updatedStudent);
-        assertTrue(actualStudent.isPresent());
-        assertEquals(updatedStudent, actualStudent.get());
+        assertTrue(studentIsUpdated);
+        verify(studentRepositoryMock, never()).save(any(Student.class));
+    }
+
+    @Test
+    void updateStudent_shouldFalse_whenNoStudentWithGivenFullName() {
+        Group newGroup = new Group("AS-84");
+        when(studentRepositoryMock.updateByFullName("NotExistent", "NotExistent", "NewFirstName", "NewLastName",
+                newGroup)).thenReturn(0);
+
+        assertFalse(studentService.updateStudent("NotExistent", "NotExistent", "NewFirstName", "NewLastName",
+                newGroup));
     }
 
     @Test
     void deleteStudentById_shouldDeletedStudent_whenStudentWithGivenIdExist() {
         Integer studentId = 1;
-        Student studentToDelete = new Student("FirstName", "LastName", new Group());
-        studentToDelete.setId(studentId);
-        when(studentService.getStudentById(studentId)).thenReturn(Optional.of(studentToDelete));
+        when(studentRepositoryMock.deleteStudentById(studentId)).thenReturn(1);
 
-        studentService.deleteStudentById(studentId);
+        boolean studentIsDeleted = studentService.deleteStudentById(studentId);
 
-        verify(studentRepositoryMock, times(1)).delete(studentToDelete);
+        assertTrue(studentIsDeleted);
+        verify(studentRepositoryMock, never()).findById(studentId);
+        verify(studentRepositoryMock, never()).delete(any(Student.class));
     }
 
     @Test
     void deleteStudentById_shouldNothingDeleted_whenNoStudentWithGivenId() {
         Integer studentId = 5;
-        when(studentService.getStudentById(studentId)).thenReturn(Optional.empty());
+        when(studentRepositoryMock.deleteStudentById(studentId)).thenReturn(0);
 
-        studentService.deleteStudentById(studentId);
+        assertFalse(studentService.deleteStudentById(studentId));
+    }
 
-        verify(studentRepositoryMock, never()).delete(any(Student.class));
+    @Test
+    void hasStudents_shouldTrue_whenStudentRepositoryFindsAnyStudent() {
+        when(studentRepositoryMock.existsAnyStudent()).thenReturn(true);
+
+        assertTrue(studentService.hasStudents());
+        verify(studentRepositoryMock, never()).findAll();
+    }
+
+    @Test
+    void hasStudents_shouldFalse_whenStudentRepositoryFindsNoStudents() {
+        when(studentRepositoryMock.existsAnyStudent()).thenReturn(false);
+
+        assertFalse(studentService.hasStudents());
+    }
+
+    @Test
+    void getAllStudentsWithCourses_shouldStudentsList_whenStudentRepositoryReturnsStudentsWithCourses() {
+        List<Student> expectedStudents = List.of(new Student("FirstName_1", "LastName_1", new Group()));
+        when(studentRepositoryMock.findAllWithGroupAndCourses()).thenReturn(expectedStudents);
+
+        List<Student> actualStudents = studentService.getAllStudentsWithCourses();
+
+        verify(studentRepositoryMock, times(1)).findAllWithGroupAndCourses();
+        verify(studentRepositoryMock, never()).findAll();
+        assertEquals(expectedStudents, actualStudents);
+    }
+
+    @Test
+    void getStudentsWithCoursesByCourseName_shouldStudentsList_whenStudentRepositoryReturnsStudentsOfCourse() {
+        String courseName = "CourseName_1";
+        List<Student> expectedStudents = List.of(new Student("FirstName_1", "LastName_1", new Group()));
+        when(studentRepositoryMock.findAllWithGroupAndCoursesByCourseName(courseName)).thenReturn(expectedStudents);
+
+        List<Student> actualStudents = studentService.getStudentsWithCoursesByCourseName(courseName);
+
+        verify(studentRepositoryMock, times(1)).findAllWithGroupAndCoursesByCourseName(courseName);
+        assertEquals(expectedStudents, actualStudents);
+    }
+
+    @Test
+    void getStudentsAfter_shouldStudentsFromFirstStudent_whenStudentIdIsNull() {
+        List<Student> expectedStudents = List.of(new Student("FirstName_1", "LastName_1", new Group()));
+        when(studentRepositoryMock.findByIdGreaterThanOrderByIdAsc(0, Limit.of(21))).thenReturn(expectedStudents);
+
+        List<Student> actualStudents = studentService.getStudentsAfter(null, 21);
+
+        verify(studentRepositoryMock, never()).findAll();
+        assertEquals(expectedStudents, actualStudents);
+    }
+
+    @Test
+    void getStudentsBefore_shouldStudentsInAscendingOrderOfIds_whenStudentRepositoryReturnsDescendingOrder() {
+        Student firstStudent = new Student("FirstName_1", "LastName_1", new Group());
+        firstStudent.setId(1);
+        Student secondStudent = new Student("FirstName_2", "LastName_2", new Group());
+        secondStudent.setId(2);
+        when(studentRepositoryMock.findByIdLessThanOrderByIdDesc(3, Limit.of(2)))
+                .thenReturn(List.of(secondStudent, firstStudent));
+
+        List<Student> actualStudents = studentService.getStudentsBefore(3, 2);
+
+        assertEquals(List.of(firstStudent, secondStudent), actualStudents);
+    }
+
+    @Test
+    void getStudentsBefore_shouldLastStudents_whenStudentIdIsNull() {
+        when(studentRepositoryMock.findByIdLessThanOrderByIdDesc(Integer.MAX_VALUE, Limit.of(2)))
+                .thenReturn(new ArrayList<Student>());
+
+        assertTrue(studentService.getStudentsBefore(null, 2).isEmpty());
+        verify(studentRepositoryMock, times(1)).findByIdLessThanOrderByIdDesc(Integer.MAX_VALUE, Limit.of(2));
+    }
+
+    @Test
+    void getAllStudentSummaries_shouldStudentsSummariesList_whenStudentRepositoryReturnsStudentsSummaries() {
+        List<StudentSummary> expectedStudents = List.of(new StudentSummary(1, "FirstName_1", "LastName_1", 1, "GH-23"),
+                new StudentSummary(2, "FirstName_2", "LastName_2", null, null));
+        when(studentRepositoryMock.findAllSummaries()).thenReturn(expectedStudents);
+
+        List<StudentSummary> actualStudents = studentService.getAllStudentSummaries();
+
+        verify(studentRepositoryMock, never()).findAll();
+        assertEquals(expectedStudents, actualStudents);
+    }
+
+    @Test
+    void getStudentSummariesAfter_shouldSummariesFromFirstStudent_whenStudentIdIsNull() {
+        List<StudentSummary> expectedStudents = List.of(new StudentSummary(1, "FirstName_1", "LastName_1", 1, "GH-23"));
+        when(studentRepositoryMock.findSummariesByIdGreaterThan(0, Limit.of(21))).thenReturn(expectedStudents);
+
+        List<StudentSummary> actualStudents = studentService.getStudentSummariesAfter(null, 21);
+
+        assertEquals(expectedStudents, actualStudents);
+    }
+
+    @Test
+    void getStudentSummariesBefore_shouldSummariesInAscendingOrderOfIds_whenStudentRepositoryReturnsDescendingOrder() {
+        StudentSummary firstStudent = new StudentSummary(1, "FirstName_1", "LastName_1", 1, "GH-23");
+        StudentSummary secondStudent = new StudentSummary(2, "FirstName_2", "LastName_2", 1, "GH-23");
+        when(studentRepositoryMock.findSummariesByIdLessThan(3, Limit.of(2)))
+                .thenReturn(List.of(secondStudent, firstStudent));
+
+        List<StudentSummary> actualStudents = studentService.getStudentSummariesBefore(3, 2);
+
+        assertEquals(List.of(firstStudent, secondStudent), actualStudents);
+    }
+
+    @Test
+    void addStudentToCourse_shouldTrue_whenStudentRepositoryAddedEnrollment() {
+        when(studentRepositoryMock.addEnrollment(1, 2)).thenReturn(1);
+
+        assertTrue(studentService.addStudentToCourse(1, 2));
+        verify(studentRepositoryMock, never()).findById(1);
+    }
+
+    @Test
+    void addStudentToCourse_shouldFalse_whenEnrollmentAlreadyExists() {
+        when(studentRepositoryMock.addEnrollment(1, 2)).thenReturn(0);
+
+        assertFalse(studentService.addStudentToCourse(1, 2));
+    }
+
+    @Test
+    void deleteStudentFromCourse_shouldFalse_whenStudentRepositoryDeletedNoEnrollment() {
+        when(studentRepositoryMock.deleteEnrollment(1, 2)).thenReturn(0);
+
+        assertFalse(studentService.deleteStudentFromCourse(1, 2));
+    }
+
+    @Test
+    void addStudents_shouldAddStudentsWithOneStatement_whenStudentsAreGiven() {
+        List<StudentRequest> newStudents = List.of(new StudentRequest("FirstName", "LastName", "FL-23"),
+                new StudentRequest("Other", "Name", "FL-23"));
+        when(studentRepositoryMock.addStudents(newStudents)).thenReturn(List.of(new StudentName("Other", "Name")));
+
+        List<StudentName> addedNames = studentService.addStudents(newStudents);
+
+        verify(studentRepositoryMock, times(1)).addStudents(newStudents);
+        verify(studentRepositoryMock, never()).saveAll(any());
+        assertEquals(List.of(new StudentName("Other", "Name")), addedNames);
+    }
+
+    @Test
+    void addStudentsToCourses_shouldAddEnrollmentsWithOneBatch_whenEnrollmentsAreGiven() {
+        List<Enrollment> enrollments = List.of(new Enrollment(1, 2), new Enrollment(3, 2));
+        when(studentRepositoryMock.addEnrollments(enrollments)).thenReturn(List.of(new Enrollment(3, 2)));
+
+        List<Enrollment> addedEnrollments = studentService.addStudentsToCourses(enrollments);
+
+        verify(studentRepositoryMock, times(1)).addEnrollments(enrollments);
+        verify(studentRepositoryMock, never()).addEnrollment(any(), any());
+        assertEquals(List.of(new Enrollment(3, 2)), addedEnrollments);
     }
 
 }
@@ -1,10 +1,11 @@
 package ua.foxminded.schoolapp.service.logic.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -13,6 +14,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import ua.foxminded.schoolapp.model.Course;
+import ua.foxminded.schoolapp.dto.Enrollment;
+import ua.foxminded.schoolapp.dto.EnrollmentRequest;
+import ua.foxminded.schoolapp.dto.EnrollmentValidation;
+import ua.foxminded.schoolapp.dto.StudentName;
+import ua.foxminded.schoolapp.dto.StudentRequest;
+import ua.foxminded.schoolapp.dto.StudentValidation;
 import ua.foxminded.schoolapp.model.Group;
 import ua.foxminded.schoolapp.model.Student;
 import ua.foxminded.schoolapp.repository.CourseRepository;
@@ -71,17 +78,7 @@ class UserInputValidatorImplTest {
 
     @Test
     void validateGroupId_shouldTrue_whenGrouWithGivenGroupIdExist() {
-        List<Group> groupsThatExist = new ArrayList<>();
-        Group firstGroup = new Group();
-        Group secondGroup = new Group();
-        Group thirdGroup = new Group();
-        firstGroup.setId(1);
-        secondGroup.setId(2);
-        thirdGroup.setId(3);
-        groupsThatExist.add(firstGroup);
-        groupsThatExist.add(secondGroup);
-        groupsThatExist.add(thirdGroup);
-        when(groupRepositoryMock.findAll()).thenReturn(groupsThatExist);
+        when(groupRepositoryMock.existsById(3)).thenReturn(true);
 
         boolean expectedResult = validator.validateGroupId(3);
 
@@ -90,17 +87,7 @@ class UserInputValidatorImplTest {
 
     @Test
     void validateGroupId_shouldFalse_whenNoGrouWithGivenGroupId() {
-        List<Group> groupsThatExist = new ArrayList<>();
-        Group firstGroup = new Group();
-        Group secondGroup = new Group();
-        Group thirdGroup = new Group();
-        firstGroup.setId(1);
-        secondGroup.setId(2);
-        thirdGroup.setId(3);
-        groupsThatExist.add(firstGroup);
-        groupsThatExist.add(secondGroup);
-        groupsThatExist.add(thirdGroup);
-        when(groupRepositoryMock.findAll()).thenReturn(groupsThatExist);
+        when(groupRepositoryMock.existsById(-8)).thenReturn(false);
 
         boolean expectedResult = validator.validateGroupId(-8);
 
@@ -110,33 +97,16 @@ class UserInputValidatorImplTest {
     @Test
     void validateGroupId_shouldFalse_whenGroupIdIsNull() {
         Integer groupId = null;
-        List<Group> groupsThatExist = new ArrayList<>();
-        Group firstGroup = new Group();
-        Group secondGroup = new Group();
-        Group thirdGroup = new Group();
-        firstGroup.setId(1);
-        secondGroup.setId(2);
-        thirdGroup.setId(3);
-        groupsThatExist.add(firstGroup);
-        groupsThatExist.add(secondGroup);
-        groupsThatExist.add(thirdGroup);
-        when(groupRepositoryMock.findAll()).thenReturn(groupsThatExist);
 
         boolean expectedResult = validator.validateGroupId(groupId);
 
         assertFalse(expectedResult);
+        verify(groupRepositoryMock, never()).existsById(any());
     }
 
     @Test
     void validateGroupNameExistence_shouldTrue_whenGrouWithGivenNameExist() {
-        List<Group> groupsThatExist = new ArrayList<>();
-        Group firstGroup = new Group("WD-73");
-        Group secondGroup = new Group("MQ-44");
-        Group thirdGroup = new Group("SA-49");
-        groupsThatExist.add(firstGroup);
-        groupsThatExist.add(secondGroup);
-        groupsThatExist.add(thirdGroup);
-        when(groupRepositoryMock.findAll()).thenReturn(groupsThatExist);
+        when(groupRepositoryMock.findByGroupName("MQ-44")).thenReturn(Optional.of(new Group("MQ-44")));
 
         boolean expectedResult = validator.validateGroupNameExistence("MQ-44");
 
@@ -145,14 +115,7 @@ class UserInputValidatorImplTest {
 
     @Test
     void validateGroupNameExistence_shouldFalse_whenNoGrouWithGivenName() {
-        List<Group> groupsThatExist = new ArrayList<>();
-        Group firstGroup = new Group("WD-73");
-        Group secondGroup = new Group("MQ-44");
-        Group thirdGroup = new Group("SA-49");
-        groupsThatExist.add(firstGroup);
-        groupsThatExist.add(secondGroup);
-        groupsThatExist.add(thirdGroup);
-        when(groupRepositoryMock.findAll()).thenReturn(groupsThatExist);
+        when(groupRepositoryMock.findByGroupName("BG-00")).thenReturn(Optional.empty());
 
         boolean expectedResult = validator.validateGroupNameExistence("BG-00");
 
@@ -161,20 +124,21 @@ class UserInputValidatorImplTest {
 
     @Test
     void validateGroupNameExistence_shouldFalse_whenGrouNameIsNull() {
-        List<Group> groupsThatExist = new ArrayList<>();
-        Group firstGroup = new Group("WD-73");
-        Group secondGroup = new Group("MQ-44");
-        Group thirdGroup = new Group("SA-49");
-        groupsThatExist.add(firstGroup);
-        groupsThatExist.add(secondGroup);
-        groupsThatExist.add(thirdGroup);
-        when(groupRepositoryMock.findAll()).thenReturn(groupsThatExist);
+        when(groupRepositoryMock.findByGroupName(null)).thenReturn(Optional.empty());
 
         boolean expectedResult = validator.validateGroupNameExistence(null);
 
         assertFalse(expectedResult);
     }
 
+    @Test
+    void validateGroupNameExistence_shouldNotLoadAllGroups_whenGroupNameIsChecked() {
+        validator.validateGroupNameExistence("MQ-44");
+
+        verify(groupRepositoryMock, times(1)).findByGroupName("MQ-44");
+        verify(groupRepositoryMock, never()).findAll();
+    }
+
     @Test
     void validateGroupNamePattern_shouldTrue_whenGroupNameMatchesPattern() {
         String groupName = "FL-43";
@@ -202,24 +166,17 @@ class UserInputValidatorImplTest {
 
     @Test
     void validateCourseName_shouldFalse_whenGivenCourseNameIsNull() {
-        List<Course> coursesThatExist = new ArrayList<>();
-        coursesThatExist.add(new Course("CourseName_1", "Description_1"));
-        coursesThatExist.add(new Course("CourseName_2", "Description_2"));
-        coursesThatExist.add(new Course("CourseName_3", "Description_3"));
-        when(courseRepositoryMock.findAll()).thenReturn(coursesThatExist);
+        when(courseRepositoryMock.findByCourseName(null)).thenReturn(Optional.empty());
 
         boolean expectedResult = validator.validateCourseName(null);
 
         assertFalse(expectedResult);
+        verify(courseRepositoryMock, never()).findAll();
     }
 
     @Test
     void validateCourseName_shouldTrue_whenCourseWithGivenNameExist() {
-        List<Course> coursesThatExist = new ArrayList<>();
-        coursesThatExist.add(new Course("CourseName_1", "Description_1"));
-        coursesThatExist.add(new Course("CourseName_2", "Description_2"));
-        coursesThatExist.add(new Course("CourseName_3", "Description_3"));
-        when(courseRepositoryMock.findAll()).thenReturn(coursesThatExist);
+        when(courseRepositoryMock.findByCourseName("CourseName_1")).thenReturn(Optional.of(new Course("CourseName_1", "Description")));
 
         boolean expectedResult = validator.validateCourseName("CourseName_1");
 
@@ -228,11 +185,7 @@ class UserInputValidatorImplTest {
 
     @Test
     void validateCourseName_shouldFalse_whenNoCourseWithGivenName() {
-        List<Course> coursesThatExist = new ArrayList<>();
-        coursesThatExist.add(new Course("CourseName_1", "Description_1"));
-        coursesThatExist.add(new Course("CourseName_2", "Description_2"));
-        coursesThatExist.add(new Course("CourseName_3", "Description_3"));
-        when(courseRepositoryMock.findAll()).thenReturn(coursesThatExist);
+        when(courseRepositoryMock.findByCourseName("CourseName_4")).thenReturn(Optional.empty());
 
         boolean expectedResult = validator.validateCourseName("CourseName_4");
 
@@ -241,69 +194,16 @@ class UserInputValidatorImplTest {
 
     @Test
     void validateCourseName_shouldFalse_whenCourseNameIsNull() {
-        List<Course> coursesThatExist = new ArrayList<>();
-        coursesThatExist.add(new Course("CourseName_1", "Description_1"));
-        coursesThatExist.add(new Course("CourseName_2", "Description_2"));
-        coursesThatExist.add(new Course("CourseName_3", "Description_3"));
-        when(courseRepositoryMock.findAll()).thenReturn(coursesThatExist);
+        when(courseRepositoryMock.findByCourseName(null)).thenReturn(Optional.empty());
 
         boolean expectedResult = validator.validateCourseName(null);
 
         assertFalse(expectedResult);
     }
 
-    @Test
-    void validateDescription_shouldTrue_whenCourseWithGivenDescriptionExist() {
-        List<Course> coursesThatExist = new ArrayList<>();
-        coursesThatExist.add(new Course("CourseName_1", "Description_1"));
-        coursesThatExist.add(new Course("CourseName_2", "Description_2"));
-        coursesThatExist.add(new Course("CourseName_3", "Description_3"));
-        when(courseRepositoryMock.findAll()).thenReturn(coursesThatExist);
-
-        boolean expectedResult = validator.validateDescription("Description_1");
-
-        assertTrue(expectedResult);
-    }
-
-    @Test
-    void validateDescription_shouldFalse_whenNoCourseWithGivenDescription() {
-        List<Course> coursesThatExist = new ArrayList<>();
-        coursesThatExist.add(new Course("CourseName_1", "Description_1"));
-        coursesThatExist.add(new Course("CourseName_2", "Description_2"));
-        coursesThatExist.add(new Course("CourseName_3", "Description_3"));
-        when(courseRepositoryMock.findAll()).thenReturn(coursesThatExist);
-
-        boolean expectedResult = validator.validateDescription("NotExistentDescription");
-
-        assertFalse(expectedResult);
-    }
-
-    @Test
-    void validateDescription_shouldFalse_whenDescriptionIsNull() {
-        List<Course> coursesThatExist = new ArrayList<>();
-        coursesThatExist.add(new Course("CourseName_1", "Description_1"));
-        coursesThatExist.add(new Course("CourseName_2", "Description_2"));
-        coursesThatExist.add(new Course("CourseName_3", "Description_3"));
-        when(courseRepositoryMock.findAll()).thenReturn(coursesThatExist);
-
-        boolean expectedResult = validator.validateDescription(null);
-
-        assertFalse(expectedResult);
-    }
-
     @Test
     void validateStudntId_shouldTrue_whenStudnetWithGivenIdExist() {
-        List<Student> studentsThatExist = new ArrayList<>();
-        Student firstStudent = new Student();
-        Student secondStudent = new Student();
-        Student thirdStudent = new Student();
-        firstStudent.setId(1);
-        secondStudent.setId(2);
-        thirdStudent.setId(3);
-        studentsThatExist.add(firstStudent);
-        studentsThatExist.add(secondStudent);
-        studentsThatExist.add(thirdStudent);
-        when(studentRepositoryMock.findAll()).thenReturn(studentsThatExist);
+        when(studentRepositoryMock.existsById(1)).thenReturn(true);
 
         boolean expectedResult = validator.validateStudentId(1);
 
@@ -312,17 +212,7 @@ class UserInputValidatorImplTest {
 
     @Test
     void validateStudntId_shouldFalse_whenNoStudnetWithGivenId() {
-        List<Student> studentsThatExist = new ArrayList<>();
-        Student firstStudent = new Student();
-        Student secondStudent = new Student();
-        Student thirdStudent = new Student();
-        firstStudent.setId(1);
-        secondStudent.setId(2);
-        thirdStudent.setId(3);
-        studentsThatExist.add(firstStudent);
-        studentsThatExist.add(secondStudent);
-        studentsThatExist.add(thirdStudent);
-        when(studentRepositoryMock.findAll()).thenReturn(studentsThatExist);
+        when(studentRepositoryMock.existsById(100)).thenReturn(false);
 
         boolean expectedResult = validator.validateStudentId(100);
 
@@ -332,30 +222,16 @@ class UserInputValidatorImplTest {
     @Test
     void validateStudntId_shouldFalse_whenStudnetIdIsNull() {
         Integer studentId = null;
-        List<Student> studentsThatExist = new ArrayList<>();
-        Student firstStudent = new Student();
-        Student secondStudent = new Student();
-        Student thirdStudent = new Student();
-        firstStudent.setId(1);
-        secondStudent.setId(2);
-        thirdStudent.setId(3);
-        studentsThatExist.add(firstStudent);
-        studentsThatExist.add(secondStudent);
-        studentsThatExist.add(thirdStudent);
-        when(studentRepositoryMock.findAll()).thenReturn(studentsThatExist);
 
         boolean expectedResult = validator.validateStudentId(studentId);
 
         assertFalse(expectedResult);
+        verify(studentRepositoryMock, never()).existsById(any());
     }
 
     @Test
     void validateStudentFullName_shouldFalse_whenGivenStudentFirstNameIsNull() {
-        List<Student> studentsThatExist = new ArrayList<>();
-        studentsThatExist.add(new Student("FirstName_1", "LastName_1", new Group()));
-        studentsThatExist.add(new Student("FirstName_2", "LastName_2", new Group()));
-        studentsThatExist.add(new Student("FirstName_3", "LastName_3", new Group()));
-        when(studentRepositoryMock.findAll()).thenReturn(studentsThatExist);
+        when(studentRepositoryMock.existsByFirstNameAndLastName(null, "LastName_1")).thenReturn(false);
 
         boolean expectedResult = validator.validateStudentFullName(null, "LastName_1");
 
@@ -364,11 +240,7 @@ class UserInputValidatorImplTest {
 
     @Test
     void validateStudentFullName_shouldFalse_whenGivenStudentLastNameIsNull() {
-        List<Student> studentsThatExist = new ArrayList<>();
-        studentsThatExist.add(new Student("FirstName_1", "LastName_1", new Group()));
-        studentsThatExist.add(new Student("FirstName_2", "LastName_2", new Group()));
-        studentsThatExist.add(new Student("FirstName_3", "LastName_3", new Group()));
-        when(studentRepositoryMock.findAll()).thenReturn(studentsThatExist);
+        when(studentRepositoryMock.existsByFirstNameAndLastName("FirstName_3", null)).thenReturn(false);
 
         boolean expectedResult = validator.validateStudentFullName("FirstName_3", null);
 
@@ -377,11 +249,7 @@ class UserInputValidatorImplTest {
 
     @Test
     void validateStudentFullName_shouldTrue_whenStudnetWithGivenFullNameExist() {
-        List<Student> studentsThatExist = new ArrayList<>();
-        studentsThatExist.add(new Student("FirstName_1", "LastName_1", new Group()));
-        studentsThatExist.add(new Student("FirstName_2", "LastName_2", new Group()));
-        studentsThatExist.add(new Student("FirstName_3", "LastName_3", new Group()));
-        when(studentRepositoryMock.findAll()).thenReturn(studentsThatExist);
+        when(studentRepositoryMock.existsByFirstNameAndLastName("FirstName_2", "LastName_2")).thenReturn(true);
 
         boolean expectedResult = validator.validateStudentFullName("FirstName_2", "LastName_2");
 
@@ -390,79 +258,30 @@ class UserInputValidatorImplTest {
 
     @Test
     void validateStudentFullName_shouldFalse_whenNoStudnetWithGivenFullName() {
-        List<Student> studentsThatExist = new ArrayList<>();
-        studentsThatExist.add(new Student("FirstName_1", "LastName_1", new Group()));
-        studentsThatExist.add(new Student("FirstName_2", "LastName_2", new Group()));
-        studentsThatExist.add(new Student("FirstName_3", "LastName_3", new Group()));
-        when(studentRepositoryMock.findAll()).thenReturn(studentsThatExist);
+        when(studentRepositoryMock.existsByFirstNameAndLastName("FirstName_5", "LastName_2")).thenReturn(false);
 
         boolean expectedResult = validator.validateStudentFullName("FirstName_5", "LastName_2");
 
         assertFalse(expectedResult);
+        verify(studentRepositoryMock, never()).findAll();
     }
 
     @Test
-    void isStudentOnCourse_shouldTrue_whenStudentCoursesSetContainsCourse() {
-        String studentFirstName = "FirstName";
-        String studentLastName = "LastName";
-        String courseName = "CourseName";
-        Student studentMock = mock(Student.class);
-        Course courseMock = mock(Course.class);
-        Set<Course> coursesForStudent = new HashSet<>();
-        coursesForStudent.add(courseMock);
-        when(studentRepositoryMock.findByFirstNameAndLastName(studentFirstName, studentLastName))
-                .thenReturn(Optional.of(studentMock));
-        when(courseRepositoryMock.findByCourseName(courseName)).thenReturn(Optional.of(courseMock));
-        when(studentMock.getCourses()).thenReturn(coursesForStudent);
+    void isStudentOnCourse_shouldTrue_whenStudentIsEnrolledInCourse() {
+        when(studentRepositoryMock.existsOnCourse("FirstName", "LastName", "CourseName")).thenReturn(true);
 
-        boolean expectedResult = validator.isStudentOnCourse(studentFirstName, studentLastName, courseName);
+        boolean expectedResult = validator.isStudentOnCourse("FirstName", "LastName", "CourseName");
 
         assertTrue(expectedResult);
+        verify(studentRepositoryMock, never()).findByFirstNameAndLastName("FirstName", "LastName");
+        verify(courseRepositoryMock, never()).findByCourseName("CourseName");
     }
 
     @Test
-    void isStudentOnCourse_shouldFalse_whenStudentCoursesSetNotContainsCourse() {
-        String studentFirstName = "FirstName";
-        String studentLastName = "LastName";
-        String courseName = "CourseName";
-        Student studentMock = mock(Student.class);
-        Course courseMock = mock(Course.class);
-        Set<Course> coursesForStudent = new HashSet<>();
-        when(studentRepositoryMock.findByFirstNameAndLastName(studentFirstName, studentLastName))
-                .thenReturn(Optional.of(studentMock));
-        when(courseRepositoryMock.findByCourseName(courseName)).thenReturn(Optional.of(courseMock));
-        when(studentMock.getCourses()).thenReturn(coursesForStudent);
-
-        boolean expectedResult = validator.isStudentOnCourse(studentFirstName, studentLastName, courseName);
-
-        assertFalse(expectedResult);
-    }
-
-    @Test
-    void isStudentOnCourse_shouldFalse_whenNoStudentWithGivenFullName() {
-        String studentFirstName = "NotExistent";
-        String studentLastName = "NotExistent";
-        String courseName = "CourseName";
-        Course courseMock = mock(Course.class);
-        when(studentRepositoryMock.findByFirstNameAndLastName(studentFirstName, studentLastName)).thenReturn(Optional.empty());
-        when(courseRepositoryMock.findByCourseName(courseName)).thenReturn(Optional.of(courseMock));
+    void isStudentOnCourse_shouldFalse_whenStudentIsNotEnrolledInCourse() {
+        when(studentRepositoryMock.existsOnCourse("FirstName", "LastName", "CourseName")).thenReturn(false);
 
-        boolean expectedResult = validator.isStudentOnCourse(studentFirstName, studentLastName, courseName);
-
-        assertFalse(expectedResult);
-    }
-
-    @Test
-    void isStudentOnCourse_shouldFalse_whenNoCourseWithGivenName() {
-        String studentFirstName = "FirstName";
-        String studentLastName = "LastName";
-        String courseName = "NotExistent";
-        Student studentMock = mock(Student.class);
-        when(studentRepositoryMock.findByFirstNameAndLastName(studentFirstName, studentLastName))
-                .thenReturn(Optional.of(studentMock));
-        when(courseRepositoryMock.findByCourseName(courseName)).thenReturn(Optional.empty());
-
-        boolean expectedResult = validator.isStudentOnCourse(studentFirstName, studentLastName, courseName);
+        boolean expectedResult = validator.isStudentOnCourse("FirstName", "LastName", "CourseName");
 
         assertFalse(expectedResult);
     }
@@ -501,4 +320,108 @@ class UserInputValidatorImplTest {
         assertThrows(NullPointerException.class, () -> validator.validateNameLength(name));
     }
 
+    @Test
+    void validateStudent_shouldValidWithGroup_whenNamesAreValidAndGroupWithGivenNameExist() {
+        Group group = new Group("FL-23");
+        when(groupRepositoryMock.findByGroupName("FL-23")).thenReturn(Optional.of(group));
+
+        StudentValidation validation = validator.validateStudent("FirstName", "LastName", "FL-23");
+
+        assertTrue(validation.isValid());
+        assertEquals(group, validation.group());
+        verify(studentRepositoryMock, never()).existsByFirstNameAndLastName("FirstName", "LastName");
+    }
+
+    @Test
+    void validateStudent_shouldNotValid_whenFirstNameIsTooLongAndGroupWithGivenNameExist() {
+        when(groupRepositoryMock.findByGroupName("FL-23")).thenReturn(Optional.of(new Group("FL-23")));
+
+        StudentValidation validation = validator.validateStudent("FirstNameThatIsFarTooLongToBeValid", "LastName",
+                "FL-23");
+
+        assertFalse(validation.firstNameLengthIsValid());
+        assertTrue(validation.lastNameLengthIsValid());
+        assertFalse(validation.isValid());
+    }
+
+    @Test
+    void validateStudent_shouldNotValid_whenNoGroupWithGivenName() {
+        when(groupRepositoryMock.findByGroupName("FL-23")).thenReturn(Optional.empty());
+
+        StudentValidation validation = validator.validateStudent("FirstName", "LastName", "FL-23");
+
+        assertFalse(validation.groupExists());
+        assertFalse(validation.isValid());
+    }
+
+    @Test
+    void validateEnrollment_shouldRepositoryValidation_whenStudentRepositoryValidatedEnrollment() {
+        EnrollmentValidation expectedValidation = new EnrollmentValidation(1, 2, false);
+        when(studentRepositoryMock.validateEnrollment("FirstName", "LastName", "CourseName"))
+                .thenReturn(expectedValidation);
+
+        EnrollmentValidation actualValidation = validator.validateEnrollment("FirstName", "LastName", "CourseName");
+
+        assertEquals(expectedValidation, actualValidation);
+        assertTrue(actualValidation.canAddStudentToCourse());
+        assertFalse(actualValidation.canDeleteStudentFromCourse());
+    }
+
+    @Test
+    void validateGroupNamePatterns_shouldResultForEveryGroupName_whenSomeGroupNamesMatchPattern() {
+        boolean[] groupNamesMatchPattern = validator.validateGroupNamePatterns(
+                List.of("FL-23", "fl-23", "FL-234", "", "AB-12"));
+
+        assertArrayEquals(new boolean[] { true, false, false, false, true }, groupNamesMatchPattern);
+    }
+
+    @Test
+    void validateNameLengths_shouldResultForEveryName_whenSomeNamesAreTooLong() {
+        boolean[] lengthsAreValid = validator.validateNameLengths(
+                List.of("FirstName", "FirstNameThatIsFarTooLongToBeValid", "", "NameOfExactlyTwentyFiveCh"));
+
+        assertArrayEquals(new boolean[] { true, false, true, true }, lengthsAreValid);
+    }
+
+    @Test
+    void validateStudents_shouldValidateEveryStudent_whenGroupsAreLookedUpTogether() {
+        Group group = new Group("FL-23");
+        when(groupRepositoryMock.findAllByGroupNames(Set.of("FL-23", "AB-12"))).thenReturn(List.of(group));
+
+        List<StudentValidation> validations = validator.validateStudents(List.of(
+                new StudentRequest("FirstName", "LastName", "FL-23"),
+                new StudentRequest("FirstNameThatIsFarTooLongToBeValid", "LastName", "FL-23"),
+                new StudentRequest("FirstName", "LastName", "AB-12")));
+
+        assertEquals(List.of(new StudentValidation(true, true, group), new StudentValidation(false, true, group),
+                new StudentValidation(true, true, null)), validations);
+        verify(groupRepositoryMock, never()).findByGroupName(any());
+    }
+
+    @Test
+    void validateEnrollments_shouldValidateEveryEnrollment_whenStudentsCoursesAndEnrollmentsAreFoundTogether() {
+        Student student = new Student("FirstName", "LastName", new Group("FL-23"));
+        student.setId(1);
+        Course math = new Course("Math", "Description");
+        math.setId(2);
+        Course art = new Course("Art", "Description");
+        art.setId(3);
+        when(studentRepositoryMock.findAllByFullNames(
+                Set.of(new StudentName("FirstName", "LastName"), new StudentName("Unknown", "Student"))))
+                .thenReturn(List.of(student));
+        when(courseRepositoryMock.findAllByCourseNames(Set.of("Math", "Art", "Unknown")))
+                .thenReturn(List.of(math, art));
+        when(studentRepositoryMock.findEnrollments(any(), any())).thenReturn(List.of(new Enrollment(1, 3)));
+
+        List<EnrollmentValidation> validations = validator.validateEnrollments(List.of(
+                new EnrollmentRequest("FirstName", "LastName", "Math"),
+                new EnrollmentRequest("FirstName", "LastName", "Art"),
+                new EnrollmentRequest("Unknown", "Student", "Math"),
+                new EnrollmentRequest("FirstName", "LastName", "Unknown")));
+
+        assertEquals(List.of(new EnrollmentValidation(1, 2, false), new EnrollmentValidation(1, 3, true),
+                new EnrollmentValidation(null, 2, false), new EnrollmentValidation(1, null, false)), validations);
+        verify(studentRepositoryMock, never()).validateEnrollment(any(), any(), any());
+    }
+
 }
@@ -1,4 +1,5 @@
-INSERT INTO courses (course_name, course_description)
-VALUES ('CourseName_1', 'Description_1'),
-       ('CourseName_2', 'Description_2'),
-       ('CourseName_3', 'Description_3');
+INSERT INTO courses (course_id, course_name, course_description)
+VALUES (1, 'CourseName_1', 'Description_1'),
+       (2, 'CourseName_2', 'Description_2'),
+       (3, 'CourseName_3', 'Description_3');
+SELECT setval('courses_course_id_seq', 100);
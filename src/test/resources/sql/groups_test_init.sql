@@ -1,4 +1,5 @@
-INSERT INTO groups (group_name)
-VALUES ('FD-74'),
-       ('KL-91'),
-       ('CZ-03');
+INSERT INTO groups (group_id, group_name)
+VALUES (1, 'FD-74'),
+       (2, 'KL-91'),
+       (3, 'CZ-03');
+SELECT setval('groups_group_id_seq', 100);
@@ -0,0 +1,20 @@
+INSERT INTO groups (group_id, group_name)
+SELECT i, chr(65 + i % 26) || chr(65 + i / 26 % 26) || '-' || lpad((i / 676)::text, 2, '0')
+FROM generate_series(1, 10000) AS i;
+
+INSERT INTO courses (course_id, course_name, course_description)
+SELECT i, 'CourseName_' || i, 'Description_' || i
+FROM generate_series(1, 10000) AS i;
+
+INSERT INTO students (student_id, first_name, last_name, group_id)
+SELECT i, 'FirstName_' || i, 'LastName_' || i, i % 10000 + 1
+FROM generate_series(1, 1000000) AS i;
+
+INSERT INTO students_courses (student_id, course_id)
+SELECT i, i % 10000 + 1
+FROM generate_series(1, 1000000) AS i;
+
+ANALYZE groups;
+ANALYZE courses;
+ANALYZE students;
+ANALYZE students_courses;
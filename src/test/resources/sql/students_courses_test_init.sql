@@ -0,0 +1,5 @@
+INSERT INTO students_courses (student_id, course_id)
+VALUES (1, 1),
+       (1, 2),
+       (2, 1),
+       (3, 3);
@@ -1,7 +1,9 @@
-INSERT INTO groups (group_name)
-VALUES ('MQ-90');
+INSERT INTO groups (group_id, group_name)
+VALUES (1, 'MQ-90');
+SELECT setval('groups_group_id_seq', 100);
 
-INSERT INTO students (first_name, last_name, group_id)
-VALUES ('FirstName_1', 'LastName_1', 1),
-       ('FirstName_2', 'LastName_2', 1),
-       ('FirstName_3', 'LastName_3', 1);
+INSERT INTO students (student_id, first_name, last_name, group_id)
+VALUES (1, 'FirstName_1', 'LastName_1', 1),
+       (2, 'FirstName_2', 'LastName_2', 1),
+       (3, 'FirstName_3', 'LastName_3', 1);
+SELECT setval('students_student_id_seq', 100);